@@ -26,7 +26,7 @@ import project.interfaces.EnumerableButtonFactory;
 import project.interfaces.ModuleSelectButtonInterface;
 import project.screens.ModuleSelectScreen;
 import project.tools.ContentPane;
-import project.tools.ImageLoader;
+import project.tools.ImageAtlas;
 import project.tools.UnfinishedButtonWarning;
 
 /**
@@ -73,7 +73,7 @@ public class Grade1ModuleSelectPracticeButtons implements EnumerableButtonFactor
 	 * @throws IOException Thrown if the button's image file can not be read.
 	 */
 	private ContentPane makeButton(String imagePath, String name) throws IOException{
-		BufferedImage image = ImageLoader.getBufferedImage(imagePath);
+		BufferedImage image = ImageAtlas.getBufferedImage(imagePath);
 		ContentPane   panel = new ContentPane(image, true, false); 
 		panel.setName(name);
 		return panel;
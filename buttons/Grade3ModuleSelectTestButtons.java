@@ -26,7 +26,7 @@ import project.interfaces.EnumerableButtonFactory;
 import project.interfaces.ModuleSelectButtonInterface;
 import project.screens.ModuleSelectScreen;
 import project.tools.ContentPane;
-import project.tools.ImageLoader;
+import project.tools.ImageAtlas;
 import project.tools.UnfinishedButtonWarning;
 
 /**
@@ -93,7 +93,7 @@ public class Grade3ModuleSelectTestButtons implements EnumerableButtonFactory{
 	 * @throws IOException Thrown if any of the button's image files can not be read.
 	 */
 	private ContentPane makeButton(String imagePath, String name, boolean clickable) throws IOException{
-		BufferedImage image = ImageLoader.getBufferedImage(imagePath);
+		BufferedImage image = ImageAtlas.getBufferedImage(imagePath);
 		ContentPane   panel = new ContentPane(image, clickable, false); 
 		panel.setName(name);
 		return panel;
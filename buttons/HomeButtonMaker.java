@@ -23,7 +23,7 @@ import java.awt.image.BufferedImage;
 import java.io.IOException;
 
 import project.tools.ContentPane;
-import project.tools.ImageLoader;
+import project.tools.ImageAtlas;
 
 /**
  * This class is a convenience class, used to define and create a "Home" button ContentPane.
@@ -49,7 +49,7 @@ public final class HomeButtonMaker{
 	 * @throws IOException Thrown if the button's image file can not be read.
 	 */
 	public static ContentPane getContentPane() throws IOException{
-		BufferedImage image = ImageLoader.getBufferedImage(filePath);
+		BufferedImage image = ImageAtlas.getBufferedImage(filePath);
 		ContentPane   panel = new ContentPane(image, true, false); 
 		panel.setName(name);
 		return panel;
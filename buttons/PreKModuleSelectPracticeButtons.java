@@ -37,7 +37,7 @@ import project.tests.PreKTestFractions;
 import project.tests.PreKTestMatching;
 import project.tests.PreKTestSequences;
 import project.tools.ContentPane;
-import project.tools.ImageLoader;
+import project.tools.ImageAtlas;
 
 /**
  * This class is used to describe the set of Practice module buttons available to a PreK-K student.
@@ -83,7 +83,7 @@ public class PreKModuleSelectPracticeButtons implements EnumerableButtonFactory{
 	 * @throws IOException Thrown if the button's image file can not be read.
 	 */
 	private ContentPane makeButton(String imagePath, String name) throws IOException{
-		BufferedImage image = ImageLoader.getBufferedImage(imagePath);
+		BufferedImage image = ImageAtlas.getBufferedImage(imagePath);
 		ContentPane   panel = new ContentPane(image, true, false); 
 		panel.setName(name);
 		return panel;
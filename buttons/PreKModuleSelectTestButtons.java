@@ -37,7 +37,7 @@ import project.tests.PreKTestFractions;
 import project.tests.PreKTestMatching;
 import project.tests.PreKTestSequences;
 import project.tools.ContentPane;
-import project.tools.ImageLoader;
+import project.tools.ImageAtlas;
 
 /**
  * This class is used to describe the set of Test module buttons available to a PreK-K student.
@@ -103,7 +103,7 @@ public class PreKModuleSelectTestButtons implements EnumerableButtonFactory{
 	 * @throws IOException Thrown if any of the button's image files can not be read.
 	 */
 	private ContentPane makeButton(String imagePath, String name, boolean clickable) throws IOException{
-		BufferedImage image = ImageLoader.getBufferedImage(imagePath);
+		BufferedImage image = ImageAtlas.getBufferedImage(imagePath);
 		ContentPane   panel = new ContentPane(image, clickable, false); 
 		panel.setName(name);
 		return panel;
@@ -30,7 +30,7 @@ import project.run.GUIManager;
 import project.screens.TutorialPlayerScreen;
 import project.screens.ModuleSelectScreen;
 import project.tools.ContentPane;
-import project.tools.ImageLoader;
+import project.tools.ImageAtlas;
 
 /**
  * This class is used to describe the set of Tutorial module buttons available to a PreK-K student.
@@ -76,7 +76,7 @@ public class PreKModuleSelectTutorialButtons implements EnumerableButtonFactory{
 	 * @throws IOException Thrown if the button's image file can not be read.
 	 */
 	private ContentPane makeButton(String imagePath, String name) throws IOException{
-		BufferedImage image = ImageLoader.getBufferedImage(imagePath);
+		BufferedImage image = ImageAtlas.getBufferedImage(imagePath);
 		ContentPane   panel = new ContentPane(image, true, false); 
 		panel.setName(name);
 		return panel;
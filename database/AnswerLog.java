@@ -0,0 +1,440 @@
+/**
+ * Name:         Math Helper
+ * Version:      1.0.0
+ * Version Date: 04/30/2015
+ * Team:         "Cool Math" - Consists of Kenneth Chin, Chris Moraal, Elena Eroshkina, and Austin Clark
+ * Purpose:      The "Math Helper" software is used to aid parents and teachers with the teaching and testing
+ *                 of students, grades PreK through Grade 4, in the subject of Mathematics. The lessons and
+ *                 tests provided cover a subset of skills as specified by the Massachusetts Department of
+ *                 Education's (DOE) website, found at:
+ *                              http://www.doe.mass.edu/frameworks/math/2000/toc.html
+ *                 The DOE category, Number Sense and Operations for Grades Pre-K through Grade 4,
+ *                 is the subset that the "Math Helper" software covers.
+ *                 
+ *               Features and services of the "Math Helper" software include, Login/Logout mechanics,
+ *                 practice and formal testing, and tutorials of the above-specified skills. Additional
+ *                 features include test completion results, test completion summaries, and test
+ *                 completion rewards.
+ */
+package project.database;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import project.constants.DifficultyLevel;
+import project.interfaces.ModuleSelectButtonInterface;
+
+/**
+ * This class records every answer a student gives during a test. Each answer is a fixed-size record of
+ *  primitive values: the Test Module, DifficultyLevel, question number, operands, expected answer, given
+ *  answer, whether it was correct, and the response time in nanoseconds.
+ * Records are written into preallocated arrays used as a ring buffer, so record() does not allocate and
+ *  does no I/O. When FLUSH_THRESHOLD records are waiting, or when flush() is called, the records are
+ *  appended to the student's answer file by a background thread. If the background thread falls so far
+ *  behind that the ring buffer is full, new records are dropped and counted rather than blocking the
+ *  caller. See getDroppedCount().
+ * record() must only be called from one thread (the Event Dispatch Thread).
+ * The answer file starts with the bytes "MHAL" and a format version, followed by one chunk per flush:
+ *  recordCount, then for each record: time (difference from the previous record, in milliseconds),
+ *  gradeLevel, moduleOrdinal, difficulty, question, operand1, operand2, expected, given, correct (0 or 1),
+ *  and responseNanos. See read(File).
+ * @author Kenneth Chin
+ */
+public final class AnswerLog {
+	
+	/**
+	 * The number of records that may wait in the ring buffer. A power of two.
+	 */
+	public static final int CAPACITY = 1024;
+	
+	/**
+	 * The number of waiting records that causes a background flush.
+	 */
+	public static final int FLUSH_THRESHOLD = 64;
+	
+	private static final byte[] MAGIC   = {'M', 'H', 'A', 'L'}; //The first bytes of every answer file.
+	private static final int    VERSION = 1;                    //The format version of the answer file.
+	private static final int    MASK    = CAPACITY - 1;         //Converts a record number to an array index.
+	
+	//The ring buffer. Record number n is stored at index (n & MASK) of every array.
+	private final long[]    times         = new long[CAPACITY]; //The time of each answer, in milliseconds.
+	private final long[]    responseNanos = new long[CAPACITY]; //The time taken to answer, in nanoseconds.
+	private final byte[]    gradeLevels   = new byte[CAPACITY]; //The grade level of each Test Module.
+	private final byte[]    modules       = new byte[CAPACITY]; //The getOrdinal() of each Test Module.
+	private final byte[]    difficulties  = new byte[CAPACITY]; //The ordinal of each DifficultyLevel.
+	private final int[]     questions     = new int[CAPACITY];  //The question number.
+	private final int[]     operands1     = new int[CAPACITY];  //The first operand, or 0 if there is none.
+	private final int[]     operands2     = new int[CAPACITY];  //The second operand, or 0 if there is none.
+	private final int[]     expected      = new int[CAPACITY];  //The correct answer.
+	private final int[]     given         = new int[CAPACITY];  //The student's answer.
+	private final boolean[] correct       = new boolean[CAPACITY]; //True if the student's answer was correct.
+	
+	private volatile long head = 0; //The number of records written by record(). Only changed by the recording thread.
+	private volatile long tail = 0; //The number of records written to the file. Only changed by drain().
+	private long dropped = 0;       //The number of records dropped because the ring buffer was full.
+	private long fileLength = -1;   //The length of the file's complete chunks, or -1 until the first drain().
+	
+	private final File            file;     //The student's answer file.
+	private final ExecutorService flusher;  //The background thread that writes to file.
+	private final AtomicBoolean   pending  = new AtomicBoolean(); //True if a flush has been requested but not started.
+	private final Runnable        drainer  = new Runnable(){      //Reused, so requesting a flush does not allocate a task.
+		@Override
+		public void run(){
+			pending.set(false);
+			drain();
+		}
+	};
+	private IOException error = null; //The first error that occurred while writing file. Reported by close().
+	
+	/**
+	 * Creates an AnswerLog that appends to the specified file. The file is created when the first
+	 *  records are flushed.
+	 * @param file The student's answer file.
+	 */
+	public AnswerLog(File file){
+		this.file    = file;
+		this.flusher = Executors.newSingleThreadExecutor(new ThreadFactory(){
+			@Override
+			public Thread newThread(Runnable task){
+				Thread thread = new Thread(task, "AnswerLog");
+				thread.setDaemon(true);
+				return thread;
+			}
+		});
+	}
+	
+	/**
+	 * Used to record one answer. Does not allocate, and does not wait for the answer file.
+	 * @param test The ModuleSelectButtonInterface of the Test Module that asked the question.
+	 * @param difficulty The DifficultyLevel of the test.
+	 * @param question An int indicating the question number, starting at 1.
+	 * @param operand1 An int indicating the question's first operand, or 0 if it has none.
+	 * @param operand2 An int indicating the question's second operand, or 0 if it has none.
+	 * @param expectedAnswer An int indicating the correct answer. Questions that are answered by choosing
+	 *  a panel use the ordinal of the panel's QuestionPanelSelect.Answer.
+	 * @param givenAnswer An int indicating the student's answer, in the same form as expectedAnswer.
+	 * @param isCorrect A boolean indicating true if the student's answer was correct.
+	 * @param responseNanos A long indicating how long the student took to answer, in nanoseconds.
+	 * @return A boolean indicating true if the answer was recorded; false if the ring buffer was full,
+	 *  or test is not a Test Module.
+	 */
+	public boolean record(ModuleSelectButtonInterface test, DifficultyLevel difficulty, int question,
+			int operand1, int operand2, int expectedAnswer, int givenAnswer, boolean isCorrect, long responseNanos){
+		int gradeLevel = ReportCard.getGradeLevel(test);
+		if(gradeLevel < 0)
+			return false;
+		long next = head;
+		if(next - tail >= CAPACITY){
+			dropped++;
+			return false;
+		}
+		int i = (int)(next & MASK);
+		times[i]              = System.currentTimeMillis();
+		this.responseNanos[i] = responseNanos;
+		gradeLevels[i]        = (byte)gradeLevel;
+		modules[i]            = (byte)test.getOrdinal();
+		difficulties[i]       = (byte)difficulty.ordinal();
+		questions[i]          = question;
+		operands1[i]          = operand1;
+		operands2[i]          = operand2;
+		expected[i]           = expectedAnswer;
+		given[i]              = givenAnswer;
+		correct[i]            = isCorrect;
+		head = next + 1;
+		if(next + 1 - tail >= FLUSH_THRESHOLD)
+			flush();
+		return true;
+	}
+	
+	/**
+	 * Used to convert a student's typed answer to the int recorded by record(), without allocating.
+	 * @param answer A String representing the student's answer.
+	 * @return An int indicating the student's answer, or -1 if it is not a non-negative number.
+	 */
+	public static int parseAnswer(String answer){
+		if(answer.isEmpty() || answer.length() > 9)
+			return -1;
+		int value = 0;
+		for(int i = 0; i < answer.length(); i++){
+			char digit = answer.charAt(i);
+			if(digit < '0' || digit > '9')
+				return -1;
+			value = value * 10 + (digit - '0');
+		}
+		return value;
+	}
+	
+	/**
+	 * Used to write every waiting record to the answer file on the background thread. Returns immediately.
+	 */
+	public void flush(){
+		if(pending.compareAndSet(false, true))
+			flusher.execute(drainer);
+	}
+	
+	/**
+	 * Used to write every waiting record to the answer file, and stop the background thread. Waits up to
+	 *  five seconds for the records to be written. This AnswerLog can not be used afterwards.
+	 * @throws IOException Thrown if any record could not be written, or the records were not written in time.
+	 */
+	public void close() throws IOException{
+		flusher.execute(drainer);
+		flusher.shutdown();
+		try{
+			if(!flusher.awaitTermination(5, TimeUnit.SECONDS))
+				throw new IOException("The answer file \"" + file + "\" was not written in time.");
+		}catch(InterruptedException e){
+			Thread.currentThread().interrupt();
+			throw new IOException("Interrupted while writing the answer file \"" + file + "\".", e);
+		}
+		synchronized(this){
+			if(error != null)
+				throw error;
+		}
+	}
+	
+	/**
+	 * Used to obtain the number of records that are waiting to be written to the answer file.
+	 * @return An int indicating the number of waiting records.
+	 */
+	public int getPendingCount(){
+		return (int)(head - tail);
+	}
+	
+	/**
+	 * Used to obtain the number of records that were dropped because the ring buffer was full.
+	 * @return A long indicating the number of dropped records.
+	 */
+	public long getDroppedCount(){
+		return dropped;
+	}
+	
+	/**
+	 * A helper method, run on the background thread, used to append every waiting record to the
+	 *  answer file as one chunk. If the file can not be written, the records are kept and written
+	 *  by the next flush. Any part of the chunk that was written is removed first, so the file never
+	 *  holds a partial chunk followed by a second copy of it.
+	 */
+	private synchronized void drain(){
+		long first = tail;
+		long last  = head;
+		if(first == last)
+			return;
+		VarIntBuffer out = new VarIntBuffer(16 + (int)(last - first) * 24);
+		if(fileLength < 0)
+			fileLength = file.length();
+		if(fileLength == 0){
+			out.write(MAGIC);
+			out.writeVarInt(VERSION);
+		}
+		out.writeVarInt((int)(last - first));
+		long previousTime = 0;
+		for(long n = first; n < last; n++){
+			int i = (int)(n & MASK);
+			out.writeSignedVarLong(times[i] - previousTime);
+			previousTime = times[i];
+			out.writeVarInt(gradeLevels[i]);
+			out.writeVarInt(modules[i]);
+			out.writeVarInt(difficulties[i]);
+			out.writeSignedVarInt(questions[i]);
+			out.writeSignedVarInt(operands1[i]);
+			out.writeSignedVarInt(operands2[i]);
+			out.writeSignedVarInt(expected[i]);
+			out.writeSignedVarInt(given[i]);
+			out.write(correct[i] ? 1 : 0);
+			out.writeVarLong(Math.max(0, responseNanos[i]));
+		}
+		try{
+			RandomAccessFile stream = new RandomAccessFile(file, "rw");
+			try{
+				//Remove the part of an earlier chunk that failed to be written.
+				if(stream.length() != fileLength)
+					stream.setLength(fileLength);
+				stream.seek(fileLength);
+				stream.write(out.getBytes(), 0, out.getPosition());
+			}finally{
+				stream.close();
+			}
+			//The records are only marked as written once the whole chunk is in the file.
+			fileLength += out.getPosition();
+			tail = last;
+		}catch(IOException e){
+			if(error == null)
+				error = e;
+		}
+	}
+	
+	/**
+	 * Used to read every record from an answer file, such as to render a test detail file.
+	 * @param file The answer file.
+	 * @return A List of every Record in the file, oldest first. Empty if the file does not exist.
+	 * @throws IOException Thrown if the file can not be read, or is not an answer file.
+	 */
+	public static List<Record> read(File file) throws IOException{
+		List<Record> records = new ArrayList<Record>();
+		if(!file.exists())
+			return records;
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream((int)file.length());
+		InputStream stream = new FileInputStream(file);
+		try{
+			byte[] chunk = new byte[8 * 1024];
+			int count;
+			while((count = stream.read(chunk)) >= 0)
+				bytes.write(chunk, 0, count);
+		}finally{
+			stream.close();
+		}
+		VarIntBuffer in = new VarIntBuffer(bytes.toByteArray());
+		for(int i = 0; i < MAGIC.length; i++){
+			if(in.readByte() != MAGIC[i])
+				throw new IOException("The file \"" + file + "\" is not an answer file.");
+		}
+		int version = in.readVarInt();
+		if(version != VERSION)
+			throw new IOException("The answer file version " + version + " is not supported.");
+		DifficultyLevel[] levels = DifficultyLevel.values();
+		while(!in.isAtEnd()){
+			int count = in.readVarInt();
+			long time = 0;
+			for(int n = 0; n < count; n++){
+				time += in.readSignedVarLong();
+				int gradeLevel = in.readVarInt();
+				int ordinal    = in.readVarInt();
+				int difficulty = in.readVarInt();
+				if(gradeLevel > 2 || ordinal >= ReportCard.getTests(gradeLevel).length || difficulty >= levels.length)
+					throw new IOException("The answer file \"" + file + "\" has an unknown Test Module.");
+				records.add(new Record(time, ReportCard.getTests(gradeLevel)[ordinal], levels[difficulty],
+						in.readSignedVarInt(), in.readSignedVarInt(), in.readSignedVarInt(),
+						in.readSignedVarInt(), in.readSignedVarInt(), in.readByte() != 0, in.readVarLong()));
+			}
+		}
+		return records;
+	}
+	
+	/**
+	 * One answer, as read from an answer file.
+	 * @author Kenneth Chin
+	 */
+	public static final class Record{
+		
+		private final long                        timeMillis;    //The time of the answer.
+		private final ModuleSelectButtonInterface test;          //The Test Module that asked the question.
+		private final DifficultyLevel             difficulty;    //The difficulty level of the test.
+		private final int                         question;      //The question number.
+		private final int                         operand1;      //The first operand, or 0.
+		private final int                         operand2;      //The second operand, or 0.
+		private final int                         expected;      //The correct answer.
+		private final int                         given;         //The student's answer.
+		private final boolean                     isCorrect;     //True if the answer was correct.
+		private final long                        responseNanos; //The time taken to answer.
+		
+		/**
+		 * Creates a Record. See each getter for the meaning of its parameter.
+		 */
+		private Record(long timeMillis, ModuleSelectButtonInterface test, DifficultyLevel difficulty, int question,
+				int operand1, int operand2, int expected, int given, boolean isCorrect, long responseNanos){
+			this.timeMillis    = timeMillis;
+			this.test          = test;
+			this.difficulty    = difficulty;
+			this.question      = question;
+			this.operand1      = operand1;
+			this.operand2      = operand2;
+			this.expected      = expected;
+			this.given         = given;
+			this.isCorrect     = isCorrect;
+			this.responseNanos = responseNanos;
+		}
+		
+		/**
+		 * @return A long indicating the time of the answer, in milliseconds since January 1, 1970 UTC.
+		 */
+		public long getTime(){
+			return timeMillis;
+		}
+		
+		/**
+		 * @return The ModuleSelectButtonInterface of the Test Module that asked the question.
+		 */
+		public ModuleSelectButtonInterface getTest(){
+			return test;
+		}
+		
+		/**
+		 * @return The DifficultyLevel of the test.
+		 */
+		public DifficultyLevel getDifficulty(){
+			return difficulty;
+		}
+		
+		/**
+		 * @return An int indicating the question number, starting at 1.
+		 */
+		public int getQuestion(){
+			return question;
+		}
+		
+		/**
+		 * @return An int indicating the question's first operand, or 0 if it has none.
+		 */
+		public int getOperand1(){
+			return operand1;
+		}
+		
+		/**
+		 * @return An int indicating the question's second operand, or 0 if it has none.
+		 */
+		public int getOperand2(){
+			return operand2;
+		}
+		
+		/**
+		 * @return An int indicating the correct answer.
+		 */
+		public int getExpected(){
+			return expected;
+		}
+		
+		/**
+		 * @return An int indicating the student's answer.
+		 */
+		public int getGiven(){
+			return given;
+		}
+		
+		/**
+		 * @return A boolean indicating true if the student's answer was correct.
+		 */
+		public boolean isCorrect(){
+			return isCorrect;
+		}
+		
+		/**
+		 * @return A long indicating how long the student took to answer, in nanoseconds.
+		 */
+		public long getResponseNanos(){
+			return responseNanos;
+		}
+		
+		/**
+		 * Used to render this Record as a line of a test detail file.
+		 * @return A String in the form "Question #: (operand1, operand2) Student Answer: (given)
+		 *  Correct Answer: (expected)."
+		 */
+		@Override
+		public String toString(){
+			return "Question " + question + ": (" + operand1 + ", " + operand2 + ") Student Answer: (" + given
+					+ ") Correct Answer: (" + expected + ").";
+		}
+	}
+}
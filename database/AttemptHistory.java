@@ -0,0 +1,537 @@
+/**
+ * Name:         Math Helper
+ * Version:      1.0.0
+ * Version Date: 04/30/2015
+ * Team:         "Cool Math" - Consists of Kenneth Chin, Chris Moraal, Elena Eroshkina, and Austin Clark
+ * Purpose:      The "Math Helper" software is used to aid parents and teachers with the teaching and testing
+ *                 of students, grades PreK through Grade 4, in the subject of Mathematics. The lessons and
+ *                 tests provided cover a subset of skills as specified by the Massachusetts Department of
+ *                 Education's (DOE) website, found at:
+ *                              http://www.doe.mass.edu/frameworks/math/2000/toc.html
+ *                 The DOE category, Number Sense and Operations for Grades Pre-K through Grade 4,
+ *                 is the subset that the "Math Helper" software covers.
+ *                 
+ *               Features and services of the "Math Helper" software include, Login/Logout mechanics,
+ *                 practice and formal testing, and tutorials of the above-specified skills. Additional
+ *                 features include test completion results, test completion summaries, and test
+ *                 completion rewards.
+ */
+package project.database;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import project.constants.DifficultyLevel;
+import project.interfaces.ModuleSelectButtonInterface;
+
+/**
+ * This class records every completed test of one student, including tests that did not improve the
+ *  student's report card. Each attempt has a time, a Test Module, a DifficultyLevel, a grade, a maximum
+ *  achievable grade, and a duration. Times and durations are kept to the nearest second.
+ * Attempts are kept in columns of primitive values (one array per field) rather than as objects. Every
+ *  BLOCK_SIZE attempts are sealed into a block: each column is delta-encoded as varints (see VarIntBuffer),
+ *  and the block is then compressed with Deflater if that makes it smaller. Each block's first and last
+ *  time, and the set of Test Modules it contains, are kept uncompressed, so a range query only decodes
+ *  the blocks that may contain a matching attempt. A year of daily tests costs a few kilobytes.
+ * @author Kenneth Chin
+ */
+public final class AttemptHistory implements Serializable{
+	
+	/**
+	 * The serialVersionUID for this Serializable class.
+	 */
+	private static final long serialVersionUID = 1L;
+	
+	/**
+	 * The number of attempts in a sealed block.
+	 */
+	public static final int BLOCK_SIZE = 128;
+	
+	//Block encodings.
+	private static final int RAW      = 0;
+	private static final int DEFLATED = 1;
+	
+	private byte[][] blocks       = new byte[0][]; //The encoded bytes of each sealed block.
+	private int[]    blockSizes   = new int[0];    //The number of attempts in each sealed block.
+	private long[]   blockFirst   = new long[0];   //The earliest time in each sealed block, in seconds.
+	private long[]   blockLast    = new long[0];   //The latest time in each sealed block, in seconds.
+	private long[]   blockModules = new long[0];   //A bit for each Test Module in each sealed block. See getModuleBit().
+	private int      blockCount   = 0;             //The number of sealed blocks.
+	
+	private Columns open = new Columns(8); //The attempts that have not yet been sealed into a block.
+	
+	private transient int decodedBlocks; //The number of blocks decoded by queries. Used for testing.
+	
+	/**
+	 * Creates an empty AttemptHistory.
+	 */
+	public AttemptHistory(){}
+	
+	/**
+	 * Used to record a completed test.
+	 * @param timeMillis A long indicating the time the test was completed, in milliseconds since
+	 *  January 1, 1970 UTC (see System.currentTimeMillis()).
+	 * @param test The ModuleSelectButtonInterface of the Test Module that was taken.
+	 * @param difficulty The DifficultyLevel of the test.
+	 * @param grade An int indicating the number of correct answers.
+	 * @param maxGrade An int indicating the maximum achievable grade.
+	 * @param durationMillis A long indicating how long the test took, in milliseconds.
+	 * @throws IllegalArgumentException Thrown if test is not a Test Module, or difficulty is null.
+	 */
+	public void add(long timeMillis, ModuleSelectButtonInterface test, DifficultyLevel difficulty,
+			int grade, int maxGrade, long durationMillis){
+		int gradeLevel = ReportCard.getGradeLevel(test);
+		if(gradeLevel < 0 || difficulty == null)
+			throw new IllegalArgumentException("The test \"" + test + "\" is not a Test Module.");
+		int duration = (int)Math.min(Integer.MAX_VALUE, Math.max(0, (durationMillis + 500) / 1000));
+		open.add(Math.floorDiv(timeMillis, 1000L), gradeLevel, test.getOrdinal(), difficulty.ordinal(),
+				grade, maxGrade, duration);
+		if(open.count == BLOCK_SIZE)
+			seal();
+	}
+	
+	/**
+	 * Used to obtain the number of recorded attempts.
+	 * @return An int indicating the number of attempts in this AttemptHistory.
+	 */
+	public int size(){
+		int size = open.count;
+		for(int i = 0; i < blockCount; i++)
+			size += blockSizes[i];
+		return size;
+	}
+	
+	/**
+	 * Used to obtain every attempt, in the order they were recorded.
+	 * @return A List of every Attempt.
+	 */
+	public List<Attempt> getAttempts(){
+		return getAttempts(Long.MIN_VALUE, Long.MAX_VALUE, null);
+	}
+	
+	/**
+	 * Used to obtain the attempts that were completed within a time range, in the order they were
+	 *  recorded. Only the blocks who's times overlap the range, and who contain test (if specified),
+	 *  are decoded.
+	 * @param fromMillis A long indicating the start of the range (inclusive), in milliseconds since
+	 *  January 1, 1970 UTC.
+	 * @param toMillis A long indicating the end of the range (exclusive), in milliseconds since
+	 *  January 1, 1970 UTC.
+	 * @param test The ModuleSelectButtonInterface of the Test Module to be matched, or null to match
+	 *  every Test Module.
+	 * @return A List of the matching Attempts.
+	 */
+	public List<Attempt> getAttempts(long fromMillis, long toMillis, ModuleSelectButtonInterface test){
+		List<Attempt> attempts = new ArrayList<Attempt>();
+		long from = Math.floorDiv(fromMillis, 1000L) + ((Math.floorMod(fromMillis, 1000L) == 0) ? 0 : 1);
+		long to   = Math.floorDiv(toMillis, 1000L)   + ((Math.floorMod(toMillis, 1000L) == 0)   ? 0 : 1);
+		long moduleBit = 0;
+		if(test != null){
+			int gradeLevel = ReportCard.getGradeLevel(test);
+			if(gradeLevel < 0)
+				return attempts;
+			moduleBit = getModuleBit(gradeLevel, test.getOrdinal());
+		}
+		for(int i = 0; i < blockCount; i++){
+			if(blockLast[i] < from || blockFirst[i] >= to || (moduleBit != 0 && (blockModules[i] & moduleBit) == 0))
+				continue;
+			decodedBlocks++;
+			decode(blocks[i]).collect(attempts, from, to, moduleBit);
+		}
+		open.collect(attempts, from, to, moduleBit);
+		return attempts;
+	}
+	
+	/**
+	 * Used to obtain the number of blocks that have been decoded by queries since this AttemptHistory
+	 *  was created or read. Useful for checking that a range query skipped unrelated blocks.
+	 * @return An int indicating the number of decoded blocks.
+	 */
+	public int getDecodedBlockCount(){
+		return decodedBlocks;
+	}
+	
+	/**
+	 * Used to obtain the number of bytes used to store this AttemptHistory in the database file.
+	 * @return An int indicating the encoded size, in bytes.
+	 */
+	public int getEncodedSize(){
+		VarIntBuffer out = new VarIntBuffer(64);
+		write(out);
+		return out.getPosition();
+	}
+	
+	/**
+	 * Used by UserDatabaseCodec to write this AttemptHistory. The sealed blocks are written as they
+	 *  are; the unsealed attempts are written as one more block.
+	 * @param out The VarIntBuffer to be written to.
+	 */
+	void write(VarIntBuffer out){
+		out.writeVarInt(blockCount);
+		for(int i = 0; i < blockCount; i++){
+			out.writeVarInt(blockSizes[i]);
+			out.writeSignedVarLong(blockFirst[i]);
+			out.writeVarLong(blockLast[i] - blockFirst[i]);
+			out.writeVarLong(blockModules[i]);
+			out.writeVarInt(blocks[i].length);
+			out.write(blocks[i]);
+		}
+		byte[] tail = open.encode();
+		out.writeVarInt(tail.length);
+		out.write(tail);
+	}
+	
+	/**
+	 * Used by UserDatabaseCodec to read an AttemptHistory written by write(VarIntBuffer).
+	 * @param in The VarIntBuffer to be read from.
+	 * @return The AttemptHistory that was read.
+	 * @throws IOException Thrown if the VarIntBuffer ends early, or a block can not be decoded.
+	 */
+	static AttemptHistory read(VarIntBuffer in) throws IOException{
+		AttemptHistory history = new AttemptHistory();
+		int count = in.readVarInt();
+		history.grow(count);
+		for(int i = 0; i < count; i++){
+			history.blockSizes[i]   = in.readVarInt();
+			history.blockFirst[i]   = in.readSignedVarLong();
+			history.blockLast[i]    = history.blockFirst[i] + in.readVarLong();
+			history.blockModules[i] = in.readVarLong();
+			history.blocks[i]       = in.readBytes(in.readVarInt());
+		}
+		history.blockCount = count;
+		history.open = decode(in.readBytes(in.readVarInt()));
+		return history;
+	}
+	
+	/**
+	 * A helper method used to seal the unsealed attempts into a new block.
+	 */
+	private void seal(){
+		grow(blockCount + 1);
+		long first  = Long.MAX_VALUE;
+		long last   = Long.MIN_VALUE;
+		long modules = 0;
+		for(int i = 0; i < open.count; i++){
+			first = Math.min(first, open.times[i]);
+			last  = Math.max(last,  open.times[i]);
+			modules |= getModuleBit(open.gradeLevels[i], open.modules[i]);
+		}
+		blocks[blockCount]       = open.encode();
+		blockSizes[blockCount]   = open.count;
+		blockFirst[blockCount]   = first;
+		blockLast[blockCount]    = last;
+		blockModules[blockCount] = modules;
+		blockCount++;
+		open = new Columns(8);
+	}
+	
+	/**
+	 * A helper method used to make room for the specified number of sealed blocks.
+	 * @param capacity An int indicating the number of blocks that must fit.
+	 */
+	private void grow(int capacity){
+		if(capacity <= blocks.length)
+			return;
+		int length = Math.max(capacity, blocks.length * 2);
+		blocks       = Arrays.copyOf(blocks, length);
+		blockSizes   = Arrays.copyOf(blockSizes, length);
+		blockFirst   = Arrays.copyOf(blockFirst, length);
+		blockLast    = Arrays.copyOf(blockLast, length);
+		blockModules = Arrays.copyOf(blockModules, length);
+	}
+	
+	/**
+	 * A helper method used to decode a block written by Columns.encode().
+	 * @param block The encoded block.
+	 * @return The decoded Columns.
+	 * @throws IllegalStateException Thrown if a sealed block can not be decoded. Sealed blocks are
+	 *  only created by this class, so this indicates a damaged database.
+	 */
+	private static Columns decode(byte[] block){
+		try{
+			VarIntBuffer in = new VarIntBuffer(block);
+			if(in.readByte() == DEFLATED){
+				byte[] raw = new byte[in.readVarInt()];
+				Inflater inflater = new Inflater(true);
+				try{
+					inflater.setInput(block, in.getPosition(), block.length - in.getPosition());
+					inflater.inflate(raw);
+				}finally{
+					inflater.end();
+				}
+				in = new VarIntBuffer(raw);
+			}
+			return Columns.read(in);
+		}catch(IOException | DataFormatException e){
+			throw new IllegalStateException("An attempt history block is damaged.", e);
+		}
+	}
+	
+	/**
+	 * A helper method used to obtain the bit of a Test Module in a block's set of Test Modules.
+	 * @param gradeLevel An int indicating the Test Module's grade level.
+	 * @param ordinal An int indicating the Test Module's getOrdinal().
+	 * @return A long with one bit set.
+	 */
+	private static long getModuleBit(int gradeLevel, int ordinal){
+		return 1L << ((gradeLevel * 16 + ordinal) & 63);
+	}
+	
+	/**
+	 * A completed test, as recorded by an AttemptHistory.
+	 * @author Kenneth Chin
+	 */
+	public static final class Attempt{
+		
+		private final long            timeMillis;     //The time the test was completed.
+		private final int             gradeLevel;     //The grade level of the Test Module.
+		private final int             ordinal;        //The getOrdinal() of the Test Module.
+		private final DifficultyLevel difficulty;     //The difficulty level of the test.
+		private final int             grade;          //The number of correct answers.
+		private final int             maxGrade;       //The maximum achievable grade.
+		private final long            durationMillis; //How long the test took.
+		
+		/**
+		 * Creates an Attempt. See each getter for the meaning of its parameter.
+		 */
+		private Attempt(long timeMillis, int gradeLevel, int ordinal, DifficultyLevel difficulty,
+				int grade, int maxGrade, long durationMillis){
+			this.timeMillis     = timeMillis;
+			this.gradeLevel     = gradeLevel;
+			this.ordinal        = ordinal;
+			this.difficulty     = difficulty;
+			this.grade          = grade;
+			this.maxGrade       = maxGrade;
+			this.durationMillis = durationMillis;
+		}
+		
+		/**
+		 * @return A long indicating the time the test was completed, in milliseconds since
+		 *  January 1, 1970 UTC, to the nearest second.
+		 */
+		public long getTime(){
+			return timeMillis;
+		}
+		
+		/**
+		 * @return The ModuleSelectButtonInterface of the Test Module that was taken.
+		 */
+		public ModuleSelectButtonInterface getTest(){
+			return ReportCard.getTests(gradeLevel)[ordinal];
+		}
+		
+		/**
+		 * @return The DifficultyLevel of the test.
+		 */
+		public DifficultyLevel getDifficulty(){
+			return difficulty;
+		}
+		
+		/**
+		 * @return An int indicating the number of correct answers.
+		 */
+		public int getGrade(){
+			return grade;
+		}
+		
+		/**
+		 * @return An int indicating the maximum achievable grade.
+		 */
+		public int getMaxGrade(){
+			return maxGrade;
+		}
+		
+		/**
+		 * @return A long indicating how long the test took, in milliseconds, to the nearest second.
+		 */
+		public long getDuration(){
+			return durationMillis;
+		}
+	}
+	
+	/**
+	 * The attempts of one block, kept as one array per field.
+	 * @author Kenneth Chin
+	 */
+	private static final class Columns implements Serializable{
+		
+		/**
+		 * The serialVersionUID for this Serializable class.
+		 */
+		private static final long serialVersionUID = 1L;
+		
+		private long[] times;        //The completion times, in seconds.
+		private byte[] gradeLevels;  //The grade level of each Test Module.
+		private byte[] modules;      //The getOrdinal() of each Test Module.
+		private byte[] difficulties; //The ordinal of each DifficultyLevel.
+		private int[]  grades;       //The number of correct answers.
+		private int[]  maxGrades;    //The maximum achievable grades.
+		private int[]  durations;    //The durations, in seconds.
+		private int    count;        //The number of attempts.
+		
+		/**
+		 * Creates empty Columns.
+		 * @param capacity An int indicating the initial length of each array. Must be greater than 0.
+		 */
+		private Columns(int capacity){
+			times        = new long[capacity];
+			gradeLevels  = new byte[capacity];
+			modules      = new byte[capacity];
+			difficulties = new byte[capacity];
+			grades       = new int[capacity];
+			maxGrades    = new int[capacity];
+			durations    = new int[capacity];
+		}
+		
+		/**
+		 * Used to add an attempt, growing the arrays as needed.
+		 */
+		private void add(long time, int gradeLevel, int module, int difficulty, int grade, int maxGrade, int duration){
+			if(count == times.length){
+				int length = Math.min(BLOCK_SIZE, count * 2);
+				times        = Arrays.copyOf(times, length);
+				gradeLevels  = Arrays.copyOf(gradeLevels, length);
+				modules      = Arrays.copyOf(modules, length);
+				difficulties = Arrays.copyOf(difficulties, length);
+				grades       = Arrays.copyOf(grades, length);
+				maxGrades    = Arrays.copyOf(maxGrades, length);
+				durations    = Arrays.copyOf(durations, length);
+			}
+			times[count]        = time;
+			gradeLevels[count]  = (byte)gradeLevel;
+			modules[count]      = (byte)module;
+			difficulties[count] = (byte)difficulty;
+			grades[count]       = grade;
+			maxGrades[count]    = maxGrade;
+			durations[count]    = duration;
+			count++;
+		}
+		
+		/**
+		 * Used to add every attempt that matches a range query to the specified List.
+		 * @param attempts The List to be added to.
+		 * @param from A long indicating the start of the range (inclusive), in seconds.
+		 * @param to A long indicating the end of the range (exclusive), in seconds.
+		 * @param moduleBit The getModuleBit() of the Test Module to be matched, or 0 to match every Test Module.
+		 */
+		private void collect(List<Attempt> attempts, long from, long to, long moduleBit){
+			DifficultyLevel[] levels = DifficultyLevel.values();
+			for(int i = 0; i < count; i++){
+				if(times[i] < from || times[i] >= to
+						|| (moduleBit != 0 && getModuleBit(gradeLevels[i], modules[i]) != moduleBit))
+					continue;
+				attempts.add(new Attempt(times[i] * 1000L, gradeLevels[i], modules[i], levels[difficulties[i]],
+										 grades[i], maxGrades[i], durations[i] * 1000L));
+			}
+		}
+		
+		/**
+		 * Used to encode these Columns. Each column is written in turn. Times and maximum grades are
+		 *  written as the difference from the previous attempt, since they rarely change by much. The
+		 *  result is compressed if that makes it smaller.
+		 * @return The encoded bytes, starting with RAW or DEFLATED.
+		 */
+		private byte[] encode(){
+			VarIntBuffer raw = new VarIntBuffer(count * 8 + 8);
+			raw.writeVarInt(count);
+			long previousTime = 0;
+			for(int i = 0; i < count; i++){
+				raw.writeSignedVarLong(times[i] - previousTime);
+				previousTime = times[i];
+			}
+			for(int i = 0; i < count; i++)
+				raw.write(gradeLevels[i]);
+			for(int i = 0; i < count; i++)
+				raw.write(modules[i]);
+			for(int i = 0; i < count; i++)
+				raw.write(difficulties[i]);
+			for(int i = 0; i < count; i++)
+				raw.writeSignedVarInt(grades[i]);
+			int previousMax = 0;
+			for(int i = 0; i < count; i++){
+				raw.writeSignedVarInt(maxGrades[i] - previousMax);
+				previousMax = maxGrades[i];
+			}
+			for(int i = 0; i < count; i++)
+				raw.writeVarInt(durations[i]);
+			
+			VarIntBuffer block = new VarIntBuffer(raw.getPosition() + 8);
+			byte[] compressed = new byte[raw.getPosition()];
+			Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION, true);
+			int length;
+			try{
+				deflater.setInput(raw.getBytes(), 0, raw.getPosition());
+				deflater.finish();
+				length = deflater.deflate(compressed);
+				if(!deflater.finished())
+					length = -1;
+			}finally{
+				deflater.end();
+			}
+			if(length >= 0 && length + 4 < raw.getPosition()){
+				block.write(DEFLATED);
+				block.writeVarInt(raw.getPosition());
+				block.write(compressed, 0, length);
+			}else{
+				block.write(RAW);
+				block.write(raw.getBytes(), 0, raw.getPosition());
+			}
+			return block.toByteArray();
+		}
+		
+		/**
+		 * Used to read Columns written by encode(), after any compression has been undone.
+		 * @param in The VarIntBuffer to be read from.
+		 * @return The Columns that were read.
+		 * @throws IOException Thrown if the VarIntBuffer ends early.
+		 */
+		private static Columns read(VarIntBuffer in) throws IOException{
+			int count = in.readVarInt();
+			if(count < 0 || count > BLOCK_SIZE)
+				throw new IOException("An attempt history block has " + count + " attempts.");
+			Columns columns = new Columns(Math.max(8, count));
+			long time = 0;
+			for(int i = 0; i < count; i++){
+				time += in.readSignedVarLong();
+				columns.times[i] = time;
+			}
+			for(int i = 0; i < count; i++)
+				columns.gradeLevels[i] = (byte)checkRange(in.readByte(), 3);
+			for(int i = 0; i < count; i++)
+				columns.modules[i] = (byte)checkRange(in.readByte(), ReportCard.getTests(columns.gradeLevels[i]).length);
+			int levelCount = DifficultyLevel.values().length;
+			for(int i = 0; i < count; i++)
+				columns.difficulties[i] = (byte)checkRange(in.readByte(), levelCount);
+			for(int i = 0; i < count; i++)
+				columns.grades[i] = in.readSignedVarInt();
+			int max = 0;
+			for(int i = 0; i < count; i++){
+				max += in.readSignedVarInt();
+				columns.maxGrades[i] = max;
+			}
+			for(int i = 0; i < count; i++)
+				columns.durations[i] = in.readVarInt();
+			columns.count = count;
+			return columns;
+		}
+		
+		/**
+		 * A helper method used to check that a value that was read is in range.
+		 * @param value The value that was read.
+		 * @param limit The number of allowed values, starting at 0.
+		 * @return The unchanged value.
+		 * @throws IOException Thrown if value is not less than limit.
+		 */
+		private static int checkRange(int value, int limit) throws IOException{
+			if(value >= limit)
+				throw new IOException("An attempt history block has an unknown value " + value + ".");
+			return value;
+		}
+	}
+}
@@ -21,11 +21,8 @@ package project.database;
  * This class auto populates database with the fake users
  * @author Elena Eroshkina
  */
-import java.util.HashMap;
-
 import project.buttons.Grade1ModuleSelectTestButtons;
 import project.buttons.Grade3ModuleSelectTestButtons;
-import project.interfaces.ModuleSelectButtonInterface;
 
 
 public class DefaulPhonyUsers {
@@ -65,21 +62,11 @@ public class DefaulPhonyUsers {
 		int    lastTest   = 1;
 		
 		//this will create a fake report card for user Jane
-		HashMap<ModuleSelectButtonInterface, ModuleReportSummary> reportMap = 
-				new HashMap<ModuleSelectButtonInterface, ModuleReportSummary>();
-		reportMap.put(Grade1ModuleSelectTestButtons.Button.EXPANSION,  new ModuleReportSummary(10, 10,  9, 10, -1, 10));
-		reportMap.put(Grade1ModuleSelectTestButtons.Button.MEASURE,    new ModuleReportSummary(-1, 10, -1, 10, -1, 10));
-		reportMap.put(Grade1ModuleSelectTestButtons.Button.FRACTIONS,  new ModuleReportSummary(-1, 10, -1, 10, -1, 10));
-		reportMap.put(Grade1ModuleSelectTestButtons.Button.COMPARISON, new ModuleReportSummary(-1, 10, -1, 10, -1, 10));
-		reportMap.put(Grade1ModuleSelectTestButtons.Button.ODD_EVEN,   new ModuleReportSummary(-1, 10, -1, 10, -1, 10));
-		reportMap.put(Grade1ModuleSelectTestButtons.Button.MONEY,      new ModuleReportSummary(-1, 10, -1, 10, -1, 10));
-		reportMap.put(Grade1ModuleSelectTestButtons.Button.WORD_PROB,  new ModuleReportSummary(-1, 10, -1, 10, -1, 10));
-		reportMap.put(Grade1ModuleSelectTestButtons.Button.ARITHMETIC, new ModuleReportSummary(-1, 10, -1, 10, -1, 10));
-		reportMap.put(Grade1ModuleSelectTestButtons.Button.ESTIMATION, new ModuleReportSummary(-1, 10, -1, 10, -1, 10));
-		reportMap.put(Grade1ModuleSelectTestButtons.Button.FINAL,      new ModuleReportSummary(-1, 10, -1, 10, -1, 10));
+		//tests that are not set have not been taken
+		StudentReportCard reportCard = ReportCard.getReportCard(gradeLevel);
+		reportCard.set(Grade1ModuleSelectTestButtons.Button.EXPANSION.getOrdinal(), new ModuleReportSummary(10, 10,  9, 10, -1, 10));
 		
-
-		database.addUser(userName, password, firstName, lastName, gradeLevel, reportMap);
+		database.addUser(userName, password, firstName, lastName, gradeLevel, reportCard);
 	}
 	
 	// creating fake user Isaac
@@ -92,21 +79,10 @@ public class DefaulPhonyUsers {
 		int    lastTest   = 1;
 		
 		//fake report card for user Issaac 
-		HashMap<ModuleSelectButtonInterface, ModuleReportSummary> reportMap = 
-				new HashMap<ModuleSelectButtonInterface, ModuleReportSummary>();
-		reportMap.put(Grade3ModuleSelectTestButtons.Button.COMPARISON, new ModuleReportSummary(10, 10, 10, 10, 10, 10));
-		reportMap.put(Grade3ModuleSelectTestButtons.Button.EXPANSION,  new ModuleReportSummary(-1, 10, -1, 10, -1, 10));
-		reportMap.put(Grade3ModuleSelectTestButtons.Button.FRACTIONS,  new ModuleReportSummary(-1, 10, -1, 10, -1, 10));
-		reportMap.put(Grade3ModuleSelectTestButtons.Button.DECIMALS,   new ModuleReportSummary(-1, 10, -1, 10, -1, 10));
-		reportMap.put(Grade3ModuleSelectTestButtons.Button.NUM_CLASS,  new ModuleReportSummary(-1, 10, -1, 10, -1, 10));
-		reportMap.put(Grade3ModuleSelectTestButtons.Button.WORD_PROB,  new ModuleReportSummary(-1, 10, -1, 10, -1, 10));
-		reportMap.put(Grade3ModuleSelectTestButtons.Button.PROPERTIES, new ModuleReportSummary(-1, 10, -1, 10, -1, 10));
-		reportMap.put(Grade3ModuleSelectTestButtons.Button.RELATIONS,  new ModuleReportSummary(-1, 10, -1, 10, -1, 10));
-		reportMap.put(Grade3ModuleSelectTestButtons.Button.ARITHMETIC, new ModuleReportSummary(-1, 10, -1, 10, -1, 10));
-		reportMap.put(Grade3ModuleSelectTestButtons.Button.ESTIMATE,   new ModuleReportSummary(-1, 10, -1, 10, -1, 10));
-		reportMap.put(Grade3ModuleSelectTestButtons.Button.FINAL,      new ModuleReportSummary(-1, 10, -1, 10, -1, 10));
+		StudentReportCard reportCard = ReportCard.getReportCard(gradeLevel);
+		reportCard.set(Grade3ModuleSelectTestButtons.Button.COMPARISON.getOrdinal(), new ModuleReportSummary(10, 10, 10, 10, 10, 10));
 		
-		database.addUser(userName, password, firstName, lastName, gradeLevel, reportMap);
+		database.addUser(userName, password, firstName, lastName, gradeLevel, reportCard);
 
 	}
 }
@@ -0,0 +1,156 @@
+/**
+ * Name:         Math Helper
+ * Version:      1.0.0
+ * Version Date: 04/30/2015
+ * Team:         "Cool Math" - Consists of Kenneth Chin, Chris Moraal, Elena Eroshkina, and Austin Clark
+ * Purpose:      The "Math Helper" software is used to aid parents and teachers with the teaching and testing
+ *                 of students, grades PreK through Grade 4, in the subject of Mathematics. The lessons and
+ *                 tests provided cover a subset of skills as specified by the Massachusetts Department of
+ *                 Education's (DOE) website, found at:
+ *                              http://www.doe.mass.edu/frameworks/math/2000/toc.html
+ *                 The DOE category, Number Sense and Operations for Grades Pre-K through Grade 4,
+ *                 is the subset that the "Math Helper" software covers.
+ *                 
+ *               Features and services of the "Math Helper" software include, Login/Logout mechanics,
+ *                 practice and formal testing, and tutorials of the above-specified skills. Additional
+ *                 features include test completion results, test completion summaries, and test
+ *                 completion rewards.
+ */
+package project.database;
+
+/**
+ * This class is used to summarize every student's grade for one grade level, Test Module, and
+ *  DifficultyLevel. Only tests that have been taken are included. A GradeAggregate is kept up to
+ *  date by its UserDatabase as grades are recorded, so reading it never requires scanning the
+ *  database. It may only be changed by the classes of this package.
+ * @author Kenneth Chin
+ */
+public final class GradeAggregate {
+	
+	private int  count    = 0;  //The number of students who have taken the test.
+	private long sum      = 0;  //The sum of those students' grades.
+	private long maxSum   = 0;  //The sum of those students' maximum achievable grades.
+	private int  min      = -1; //The lowest grade, or -1 if no student has taken the test.
+	private int  max      = -1; //The highest grade, or -1 if no student has taken the test.
+	
+	//The number of students who have each grade, indexed by grade. Used to find the next min or max
+	// when the last student with the current min or max is removed. Grades are small, so this is short.
+	private int[] gradeCounts = new int[16];
+	
+	/**
+	 * Package-private constructor. GradeAggregates are only created by UserDatabase.
+	 */
+	GradeAggregate(){}
+	
+	/**
+	 * Used to obtain the number of students who have taken the test.
+	 * @return An int indicating the number of students who have taken the test.
+	 */
+	public int getCount(){
+		return count;
+	}
+	
+	/**
+	 * Used to obtain the sum of every grade.
+	 * @return A long indicating the sum of every student's grade.
+	 */
+	public long getSum(){
+		return sum;
+	}
+	
+	/**
+	 * Used to obtain the sum of every maximum achievable grade.
+	 * @return A long indicating the sum of every student's maximum achievable grade.
+	 */
+	public long getMaxSum(){
+		return maxSum;
+	}
+	
+	/**
+	 * Used to obtain the lowest grade.
+	 * @return An int indicating the lowest grade, or -1 if no student has taken the test.
+	 */
+	public int getMin(){
+		return min;
+	}
+	
+	/**
+	 * Used to obtain the highest grade.
+	 * @return An int indicating the highest grade, or -1 if no student has taken the test.
+	 */
+	public int getMax(){
+		return max;
+	}
+	
+	/**
+	 * Used to obtain the average grade.
+	 * @return A double indicating the average grade, or 0 if no student has taken the test.
+	 */
+	public double getAverage(){
+		return (count == 0) ? 0 : (double)sum / count;
+	}
+	
+	/**
+	 * Used to obtain the average grade as a fraction of the maximum achievable grade.
+	 * @return A double between 0 and 1 (inclusive) indicating the average score, or 0 if no student
+	 *  has taken the test.
+	 */
+	public double getAverageScore(){
+		return (maxSum == 0) ? 0 : (double)sum / maxSum;
+	}
+	
+	/**
+	 * Used to add a student's grade.
+	 * @param grade An int indicating the student's grade. Grades less than 0 are not taken, and are ignored.
+	 * @param maxGrade An int indicating the maximum achievable grade.
+	 */
+	void add(int grade, int maxGrade){
+		if(grade < 0)
+			return;
+		if(grade >= gradeCounts.length){
+			int[] larger = new int[Math.max(grade + 1, gradeCounts.length * 2)];
+			System.arraycopy(gradeCounts, 0, larger, 0, gradeCounts.length);
+			gradeCounts = larger;
+		}
+		gradeCounts[grade]++;
+		count++;
+		sum    += grade;
+		maxSum += Math.max(maxGrade, 0);
+		if(min < 0 || grade < min)
+			min = grade;
+		if(grade > max)
+			max = grade;
+	}
+	
+	/**
+	 * Used to remove a student's grade that was previously added.
+	 * @param grade An int indicating the student's grade. Grades less than 0 are not taken, and are ignored.
+	 * @param maxGrade An int indicating the maximum achievable grade.
+	 */
+	void remove(int grade, int maxGrade){
+		if(grade < 0 || grade >= gradeCounts.length || gradeCounts[grade] == 0)
+			return;
+		gradeCounts[grade]--;
+		count--;
+		sum    -= grade;
+		maxSum -= Math.max(maxGrade, 0);
+		if(count == 0){
+			min = -1;
+			max = -1;
+			return;
+		}
+		if(grade == min && gradeCounts[grade] == 0){
+			while(gradeCounts[min] == 0)
+				min++;
+		}
+		if(grade == max && gradeCounts[grade] == 0){
+			while(gradeCounts[max] == 0)
+				max--;
+		}
+	}
+	
+	@Override
+	public String toString(){
+		return "count=" + count + ", sum=" + sum + ", maxSum=" + maxSum + ", min=" + min + ", max=" + max;
+	}
+}
@@ -0,0 +1,209 @@
+/**
+ * Name:         Math Helper
+ * Version:      1.0.0
+ * Version Date: 04/30/2015
+ * Team:         "Cool Math" - Consists of Kenneth Chin, Chris Moraal, Elena Eroshkina, and Austin Clark
+ * Purpose:      The "Math Helper" software is used to aid parents and teachers with the teaching and testing
+ *                 of students, grades PreK through Grade 4, in the subject of Mathematics. The lessons and
+ *                 tests provided cover a subset of skills as specified by the Massachusetts Department of
+ *                 Education's (DOE) website, found at:
+ *                              http://www.doe.mass.edu/frameworks/math/2000/toc.html
+ *                 The DOE category, Number Sense and Operations for Grades Pre-K through Grade 4,
+ *                 is the subset that the "Math Helper" software covers.
+ *                 
+ *               Features and services of the "Math Helper" software include, Login/Logout mechanics,
+ *                 practice and formal testing, and tutorials of the above-specified skills. Additional
+ *                 features include test completion results, test completion summaries, and test
+ *                 completion rewards.
+ */
+package project.database;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Iterator;
+import java.util.Map;
+
+import project.constants.DifficultyLevel;
+import project.interfaces.ModuleSelectButtonInterface;
+
+/**
+ * An uninstantiable class, used to export every student's grades from a UserDatabase, without
+ *  displaying them. One row is written for each student, Test Module, and DifficultyLevel. Each row
+ *  contains the student's user name, first name, last name, grade level, the module's name, the
+ *  difficulty level's name, the grade, the maximum achievable grade, and whether the test was taken.
+ * Rows are written as they are read from UserDatabase.cursor(), so only one row is held in memory at
+ *  a time, regardless of the number of students.
+ * @author Kenneth Chin
+ */
+public final class GradeExporter {
+	
+	//The CSV header row. Each row's fields are written in this order.
+	private static final String CSV_HEADER = "userName,firstName,lastName,gradeLevel,module,difficulty,grade,maxGrade,taken";
+	private static final String LINE_END   = "\r\n"; //The line separator used by both formats.
+
+	/**
+	 * Private constructor prevents instantiation.
+	 */
+	private GradeExporter(){}
+	
+	/**
+	 * Used to write every student's grades to the specified Writer.
+	 * @param database The UserDatabase who's grades are to be exported.
+	 * @param out The Writer that rows are written to. It is recommended that this is a BufferedWriter.
+	 *  The Writer is flushed, but not closed, by this method.
+	 * @param format The Format of the written rows.
+	 * @return An int indicating the number of rows written, not including any header.
+	 * @throws IOException Thrown if a row can not be written.
+	 */
+	public static int export(UserDatabase database, Writer out, Format format) throws IOException{
+		int rows = 0;
+		if(format == Format.CSV)
+			out.write(CSV_HEADER + LINE_END);
+		
+		Iterator<Map.Entry<String, UserEntry>> cursor = database.cursor();
+		while(cursor.hasNext()){
+			Map.Entry<String, UserEntry> user = cursor.next();
+			UserEntry entry = user.getValue();
+			StudentReportCard reportCard = entry.getReportCard();
+			if(reportCard == null || reportCard.getGradeLevel() != entry.getGradeLevel())
+				continue;
+			
+			//Walk the grade level's modules in their menu order, so every student's rows are in the same order.
+			for(int i = 0; i < reportCard.size(); i++){
+				ModuleSelectButtonInterface test = reportCard.getTest(i);
+				ModuleReportSummary summary = reportCard.getSummary(i);
+				for(DifficultyLevel difficulty: DifficultyLevel.values()){
+					writeRow(out, format, user.getKey(), entry, test, difficulty, summary);
+					rows++;
+				}
+			}
+		}
+		out.flush();
+		return rows;
+	}
+	
+	/**
+	 * A helper method used to write a single row.
+	 * @param out The Writer that the row is written to.
+	 * @param format The Format of the row.
+	 * @param userName The student's user name.
+	 * @param entry The student's UserEntry.
+	 * @param test The ModuleSelectButtonInterface that describes the row's Test Module.
+	 * @param difficulty The row's DifficultyLevel.
+	 * @param summary The student's ModuleReportSummary for test.
+	 * @throws IOException Thrown if the row can not be written.
+	 */
+	private static void writeRow(Writer out, Format format, String userName, UserEntry entry,
+			ModuleSelectButtonInterface test, DifficultyLevel difficulty, ModuleReportSummary summary)
+			throws IOException{
+		int grade;
+		int maxGrade;
+		boolean isTaken;
+		switch(difficulty){
+			case EASY:   grade = summary.getEasyGrade();   maxGrade = summary.getEasyMax();   isTaken = summary.isEasyTaken();   break;
+			case NORMAL: grade = summary.getNormalGrade(); maxGrade = summary.getNormalMax(); isTaken = summary.isNormalTaken(); break;
+			default:     grade = summary.getHardGrade();   maxGrade = summary.getHardMax();   isTaken = summary.isHardTaken();   break;
+		}
+		
+		StringBuilder row = new StringBuilder(128);
+		if(format == Format.CSV){
+			row.append(csv(userName)).append(',')
+			   .append(csv(entry.getFirstName())).append(',')
+			   .append(csv(entry.getLastName())).append(',')
+			   .append(entry.getGradeLevel()).append(',')
+			   .append(csv(test.getName())).append(',')
+			   .append(difficulty.getName()).append(',')
+			   .append(grade).append(',')
+			   .append(maxGrade).append(',')
+			   .append(isTaken);
+		}else{
+			row.append("{\"userName\":").append(json(userName))
+			   .append(",\"firstName\":").append(json(entry.getFirstName()))
+			   .append(",\"lastName\":").append(json(entry.getLastName()))
+			   .append(",\"gradeLevel\":").append(entry.getGradeLevel())
+			   .append(",\"module\":").append(json(test.getName()))
+			   .append(",\"difficulty\":").append(json(difficulty.getName()))
+			   .append(",\"grade\":").append(grade)
+			   .append(",\"maxGrade\":").append(maxGrade)
+			   .append(",\"taken\":").append(isTaken)
+			   .append('}');
+		}
+		row.append(LINE_END);
+		out.write(row.toString());
+	}
+	
+	/**
+	 * A helper method used to make a String safe to write as a CSV field. Fields that contain a comma,
+	 *  double-quote, or line break are enclosed in double-quotes, and their double-quotes are doubled.
+	 * @param value The String to be written. A null value is written as an empty field.
+	 * @return The CSV field.
+	 */
+	private static String csv(String value){
+		if(value == null)
+			return "";
+		if(value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0)
+			return value;
+		return "\"" + value.replace("\"", "\"\"") + "\"";
+	}
+	
+	/**
+	 * A helper method used to write a String as a JSON string value.
+	 * @param value The String to be written. A null value is written as the JSON null literal.
+	 * @return The JSON string value, including its enclosing double-quotes.
+	 */
+	private static String json(String value){
+		if(value == null)
+			return "null";
+		StringBuilder json = new StringBuilder(value.length() + 2);
+		json.append('"');
+		for(int i = 0; i < value.length(); i++){
+			char c = value.charAt(i);
+			switch(c){
+				case '"':  json.append("\\\""); break;
+				case '\\': json.append("\\\\"); break;
+				case '\n': json.append("\\n");  break;
+				case '\r': json.append("\\r");  break;
+				case '\t': json.append("\\t");  break;
+				default:
+					if(c < 0x20)
+						json.append(String.format("\\u%04x", (int)c));
+					else
+						json.append(c);
+			}
+		}
+		return json.append('"').toString();
+	}
+	
+	/**
+	 * An enum of the formats that grades may be exported as.
+	 * @author Kenneth Chin
+	 */
+	public enum Format{
+		/**
+		 * Comma-separated values, with a header row.
+		 */
+		CSV("csv"),
+		/**
+		 * JSON-lines; one JSON object per row, with no header.
+		 */
+		JSON_LINES("jsonl");
+		
+		private String extension;
+		
+		/**
+		 * The private constructor for the Format enum.
+		 * @param extension The file extension usually used for this Format.
+		 */
+		private Format(String extension){
+			this.extension = extension;
+		}
+		
+		/**
+		 * Used to obtain the file extension usually used for this Format.
+		 * @return A String describing this Format's file extension, without a leading ".".
+		 */
+		public String getExtension(){
+			return extension;
+		}
+	}
+}
@@ -18,7 +18,7 @@
  */
 package project.database;
 
-import java.util.HashMap;
+import java.util.Map;
 
 import project.buttons.Grade1ModuleSelectTestButtons;
 import project.buttons.Grade3ModuleSelectTestButtons;
@@ -27,14 +27,32 @@ import project.constants.DifficultyLevel;
 import project.interfaces.ModuleSelectButtonInterface;
 
 /**
- * This class is a convenience class used to obtain read, alter, or initialize a HashMap that
+ * This class is a convenience class used to obtain read, alter, or initialize a StudentReportCard that
  *  may be used to track a user's grades. More specifically, it is used to "bridge the gap"
  *  between the program's database and its implementation.
- * The public methods of this class can be used to get an initialized HashMap for a specified
+ * The public methods of this class can be used to get an initialized StudentReportCard for a specified
  *  grade level, or get/set a particular test's grades.
+ * Report cards for students who have not taken any test may share a single, read-only, "empty"
+ *  report card per grade level. See getEmptyReportCard(int). setGrade() replaces a shared report
+ *  card with a private copy before changing it.
+ * Older database files stored each report card as a HashMap<ModuleSelectButtonInterface,
+ *  ModuleReportSummary>. These are converted to a StudentReportCard when read. See upgrade(Object).
  * @author Kenneth Chin
  */
 public final class ReportCard {
+	
+	//The shared, read-only, empty report card of each grade level. Created when first requested.
+	private static final StudentReportCard[] EMPTY_REPORT_CARDS = new StudentReportCard[3];
+	
+	//The read-only ModuleReportSummary used by every shared report card.
+	private static final ModuleReportSummary EMPTY_SUMMARY = new EmptySummary();
+	
+	//The Test Modules of each grade level, indexed by ordinal. Copied from each enum's values() once.
+	private static final ModuleSelectButtonInterface[][] TESTS = {
+		PreKModuleSelectTestButtons.Button.values(),
+		Grade1ModuleSelectTestButtons.Button.values(),
+		Grade3ModuleSelectTestButtons.Button.values()
+	};
 
 	/**
 	 * Private constructor prevents instantiation.
@@ -42,35 +60,105 @@ public final class ReportCard {
 	private ReportCard(){}
 	
 	/**
-	 * Used to obtain a new HashMap<ModuleSelectButtonInterface, ModuleReportSummary> for the
-	 *  selected gradeLevel. Each "test" available to the specified gradeLevel will ensure that
-	 *  its ModuleReportSummary will indicate that no tests have been taken.
+	 * Used to obtain a new StudentReportCard for the selected gradeLevel. Each "test" available
+	 *  to the specified gradeLevel will ensure that its ModuleReportSummary will indicate that
+	 *  no tests have been taken.
 	 * Throws an IndexOutOfBoundsException if gradeLevel is not 0, 1, or 2.
 	 *  
 	 *Specifics on the state of the returned object:
-	 * The HashMap will have a size equal to the number of tests available to the
+	 * The StudentReportCard will have a size equal to the number of tests available to the
 	 *  specified gradeLevel. The number of tests available is specified by the number of enums
 	 *  in the gradeLevel's EnumerableButtonFactory's ModuleSelectButtonInterface object. Each
-	 *  key value is an element in the aforementioned ModuleSelectButtonInterface object. Each
 	 *  ModuleReportSummary is initialized with its grade and maxGrade set to -1. This setting
 	 *  ensures that the all ModuleReportSummary classes will indicate that no tests have been taken.
-	 * @param gradeLevel An int indicating the grade level for this HashMap. This value must be
+	 * @param gradeLevel An int indicating the grade level for this report card. This value must be
 	 *  "0" for the PreK-K grades, "1" for the 1-2 grades, or "2" for the 3-4 grades. Any other
 	 *  value will cause an IndexOutOfBoundsException.
-	 * @return A newly initialized HashMap<ModuleSelectButtonInterface, ModuleReportSummary>
-	 *  for the specified gradeLevel. See the method details for specific state of the returned
-	 *  object.
+	 * @return A newly initialized StudentReportCard for the specified gradeLevel. See the method
+	 *  details for specific state of the returned object.
 	 */
-	public static HashMap<ModuleSelectButtonInterface, ModuleReportSummary> getHashMap(int gradeLevel){
-		HashMap<ModuleSelectButtonInterface, ModuleReportSummary> map
-						= new HashMap<ModuleSelectButtonInterface, ModuleReportSummary>();
+	public static StudentReportCard getReportCard(int gradeLevel){
+		return new StudentReportCard(gradeLevel);
+	}
+	
+	/**
+	 * Used to obtain the shared, read-only, empty report card for the specified gradeLevel. Every call
+	 *  with the same gradeLevel returns the same object, so any number of students who have not taken a
+	 *  test can share one report card. Its ModuleReportSummary values can not be changed; doing so throws
+	 *  an UnsupportedOperationException. Use setGrade(), which copies the report card before changing it.
+	 * Throws an IndexOutOfBoundsException if gradeLevel is not 0, 1, or 2.
+	 * @param gradeLevel An int indicating the grade level for this report card. This value must be
+	 *  "0" for the PreK-K grades, "1" for the 1-2 grades, or "2" for the 3-4 grades.
+	 * @return The shared StudentReportCard for the specified gradeLevel, who's ModuleReportSummary
+	 *  values indicate that no tests have been taken.
+	 */
+	public static synchronized StudentReportCard getEmptyReportCard(int gradeLevel){
 		if(gradeLevel > 2 || gradeLevel < 0)
 			throw new IndexOutOfBoundsException("The gradeLevel \"" + gradeLevel + "\" does not exist.");
-		ModuleSelectButtonInterface[] tests = getTests(gradeLevel);
-		for(int i = 0; i < tests.length; i++){
-			map.put(tests[i], new ModuleReportSummary());
+		if(EMPTY_REPORT_CARDS[gradeLevel] == null)
+			EMPTY_REPORT_CARDS[gradeLevel] = new StudentReportCard(gradeLevel, EMPTY_SUMMARY);
+		return EMPTY_REPORT_CARDS[gradeLevel];
+	}
+	
+	/**
+	 * Used to determine if the specified report card is a shared, read-only, empty report card.
+	 * @param reportCard A StudentReportCard.
+	 * @return A boolean indicating true if reportCard was obtained from getEmptyReportCard(int)
+	 *  (including after it was read from the database file); false otherwise.
+	 */
+	public static boolean isEmptyReportCard(StudentReportCard reportCard){
+		return (reportCard != null && reportCard.isShared());
+	}
+	
+	/**
+	 * Used to convert a report card read from an older database file, which stored a
+	 *  HashMap<ModuleSelectButtonInterface, ModuleReportSummary>, to a StudentReportCard. The grade
+	 *  level is that of the map's keys. Any key that is not a Test Module of that grade level is
+	 *  ignored, and any Test Module without a key indicates that no tests have been taken.
+	 * @param reportCard The report card that was read. May be a StudentReportCard, a Map, or null.
+	 * @return A StudentReportCard with the same grades, or null if reportCard is null, is an empty
+	 *  Map, or is not a report card.
+	 */
+	static StudentReportCard upgrade(Object reportCard){
+		if(reportCard instanceof StudentReportCard || !(reportCard instanceof Map))
+			return (reportCard instanceof StudentReportCard) ? (StudentReportCard)reportCard : null;
+		Map<?, ?> map = (Map<?, ?>)reportCard;
+		int gradeLevel = -1;
+		for(Object key: map.keySet()){
+			if(key instanceof ModuleSelectButtonInterface)
+				gradeLevel = getGradeLevel((ModuleSelectButtonInterface)key);
+			if(gradeLevel >= 0)
+				break;
+		}
+		if(gradeLevel < 0)
+			return null;
+		
+		StudentReportCard upgraded = new StudentReportCard(gradeLevel);
+		for(Map.Entry<?, ?> entry: map.entrySet()){
+			if(!(entry.getKey() instanceof ModuleSelectButtonInterface) || !(entry.getValue() instanceof ModuleReportSummary))
+				continue;
+			int index = upgraded.indexOf((ModuleSelectButtonInterface)entry.getKey());
+			ModuleReportSummary summary = (ModuleReportSummary)entry.getValue();
+			if(index >= 0)
+				upgraded.set(index, summary);
 		}
-		return map;
+		return upgraded;
+	}
+	
+	/**
+	 * Used to find the grade level of the specified Test Module.
+	 * @param test The ModuleSelectButtonInterface of a Test Module.
+	 * @return An int indicating the grade level of test's enum; "0" for the PreK-K grades, "1" for
+	 *  the 1-2 grades, or "2" for the 3-4 grades. Returns -1 if test is not a Test Module.
+	 */
+	public static int getGradeLevel(ModuleSelectButtonInterface test){
+		if(test instanceof PreKModuleSelectTestButtons.Button)
+			return 0;
+		if(test instanceof Grade1ModuleSelectTestButtons.Button)
+			return 1;
+		if(test instanceof Grade3ModuleSelectTestButtons.Button)
+			return 2;
+		return -1;
 	}
 	
 	/**
@@ -81,33 +169,36 @@ public final class ReportCard {
 	 *  PreK-K grades, "1" for the 1-2 grades, or "2" for the 3-4 grades.
 	 * @return An array of ModuleSelectButtonInterface objects who's elements are defined
 	 *  by the gradeLevel's EnumeratedButtonInterface's ModuleSelectButtonInterface enum.
+	 *  NOTE: The same array is returned by every call, so it must not be changed.
 	 */
-	private static ModuleSelectButtonInterface[] getTests(int gradeLevel){
-		switch(gradeLevel){
-			case 0:  return PreKModuleSelectTestButtons.Button.values();
-			case 1:  return Grade1ModuleSelectTestButtons.Button.values();
-			case 2:  return Grade3ModuleSelectTestButtons.Button.values();
-			default: return PreKModuleSelectTestButtons.Button.values();
-		}
+	static ModuleSelectButtonInterface[] getTests(int gradeLevel){
+		if(gradeLevel < 0 || gradeLevel >= TESTS.length)
+			return TESTS[0];
+		return TESTS[gradeLevel];
 	}
 	
 	/**
 	 * Used to set the grade for the specified test and difficulty level.
-	 * @param reportMap A HashMap<ModuleSelectButtonInterface, ModuleReportSummary> who's
-	 *  ModuleSelectButtonInterface key values describe a test, and who's ModuleReportSummary value
-	 *  properties describe the grades for each key.
+	 * @param reportCard A StudentReportCard who's ModuleReportSummary values describe the grades
+	 *  for each test.
 	 * @param test A ModuleSelectButtonInterface that describes the test who's grades are to be changed.
 	 * @param grade An int describing the grade to be assigned to this test.
 	 * @param maxGrade An int describing the maximum achievable test grade for the specified test.
 	 * @param difficulty A DifficultyLevel object that describes the test's difficulty level who's grade
 	 *  is to be set.
-	 * @return A HashMap<ModuleSelectButtonInterface, ModuleReportSummary> who's ModuleReportSummary for
-	 *  the specified "test" and "difficulty" has been modified to reflect "grade" and "maxGrade".
+	 * @return A StudentReportCard who's ModuleReportSummary for the specified "test" and "difficulty"
+	 *  has been modified to reflect "grade" and "maxGrade".
+	 *  NOTE: If reportCard is a shared empty report card, the returned StudentReportCard is a new copy.
+	 *  The returned StudentReportCard must be stored in place of reportCard.
+	 * @throws IllegalArgumentException Thrown if test is not one of reportCard's tests.
 	 */
-	public static HashMap<ModuleSelectButtonInterface, ModuleReportSummary> setGrade
-				(HashMap<ModuleSelectButtonInterface, ModuleReportSummary> reportMap,
-				ModuleSelectButtonInterface test, int grade, int maxGrade, DifficultyLevel difficulty){
-		ModuleReportSummary summary = reportMap.get(test);
+	public static StudentReportCard setGrade(StudentReportCard reportCard,
+			ModuleSelectButtonInterface test, int grade, int maxGrade, DifficultyLevel difficulty){
+		if(isEmptyReportCard(reportCard))
+			reportCard = new StudentReportCard(reportCard);
+		ModuleReportSummary summary = reportCard.get(test);
+		if(summary == null)
+			throw new IllegalArgumentException("The test \"" + test + "\" is not on this report card.");
 		if(difficulty == DifficultyLevel.EASY){
 			summary.setEasyGrade(grade);
 			summary.setEasyMax(maxGrade);
@@ -117,24 +208,25 @@ public final class ReportCard {
 		}else if(difficulty == DifficultyLevel.HARD){
 			summary.setHardGrade(grade);
 			summary.setHardMax(maxGrade);
-		}else
-			return reportMap;
-		return reportMap;
+		}
+		return reportCard;
 	}
 	
 	/**
 	 * Used to obtain the grade for the specified test and difficulty level.
-	 * @param reportMap A HashMap<ModuleSelectButtonInterface, ModuleReportSummary> who's
-	 *  ModuleSelectButtonInterface key values describe a test, and who's ModuleReportSummary value
-	 *  properties describe the grades for each key.
+	 * @param reportCard A StudentReportCard who's ModuleReportSummary values describe the grades
+	 *  for each test.
 	 * @param test A ModuleSelectButtonInterface that describes the test who's grades are to be retrieved.
 	 * @param difficulty A DifficultyLevel object that describes the test's difficulty level who's grade
 	 *  is to be retrieved.
-	 * @return An int indicating the grade for the specified "test" and "difficulty".
+	 * @return An int indicating the grade for the specified "test" and "difficulty", or -1 if test
+	 *  is not one of reportCard's tests.
 	 */
-	public static int getGrade(HashMap<ModuleSelectButtonInterface, ModuleReportSummary> reportMap,
+	public static int getGrade(StudentReportCard reportCard,
 			ModuleSelectButtonInterface test, DifficultyLevel difficulty){
-		ModuleReportSummary summary = reportMap.get(test);
+		ModuleReportSummary summary = reportCard.get(test);
+		if(summary == null)
+			return -1;
 		if(difficulty == DifficultyLevel.EASY)
 			return summary.getEasyGrade();
 		else if(difficulty == DifficultyLevel.NORMAL)
@@ -144,4 +236,46 @@ public final class ReportCard {
 		else
 			return -1;
 	}
+	
+	/**
+	 * A ModuleReportSummary that indicates no tests have been taken, and can not be changed.
+	 * @author Kenneth Chin
+	 */
+	private static final class EmptySummary extends ModuleReportSummary{
+		
+		/**
+		 * The serialVersionUID for this Serializable class.
+		 */
+		private static final long serialVersionUID = 1L;
+		
+		@Override
+		public void setEasyGrade(int grade){
+			throw new UnsupportedOperationException("A shared empty report card can not be changed.");
+		}
+		
+		@Override
+		public void setEasyMax(int max){
+			throw new UnsupportedOperationException("A shared empty report card can not be changed.");
+		}
+		
+		@Override
+		public void setNormalGrade(int grade){
+			throw new UnsupportedOperationException("A shared empty report card can not be changed.");
+		}
+		
+		@Override
+		public void setNormalMax(int max){
+			throw new UnsupportedOperationException("A shared empty report card can not be changed.");
+		}
+		
+		@Override
+		public void setHardGrade(int grade){
+			throw new UnsupportedOperationException("A shared empty report card can not be changed.");
+		}
+		
+		@Override
+		public void setHardMax(int max){
+			throw new UnsupportedOperationException("A shared empty report card can not be changed.");
+		}
+	}
 }
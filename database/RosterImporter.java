@@ -0,0 +1,255 @@
+/**
+ * Name:         Math Helper
+ * Version:      1.0.0
+ * Version Date: 04/30/2015
+ * Team:         "Cool Math" - Consists of Kenneth Chin, Chris Moraal, Elena Eroshkina, and Austin Clark
+ * Purpose:      The "Math Helper" software is used to aid parents and teachers with the teaching and testing
+ *                 of students, grades PreK through Grade 4, in the subject of Mathematics. The lessons and
+ *                 tests provided cover a subset of skills as specified by the Massachusetts Department of
+ *                 Education's (DOE) website, found at:
+ *                              http://www.doe.mass.edu/frameworks/math/2000/toc.html
+ *                 The DOE category, Number Sense and Operations for Grades Pre-K through Grade 4,
+ *                 is the subset that the "Math Helper" software covers.
+ *                 
+ *               Features and services of the "Math Helper" software include, Login/Logout mechanics,
+ *                 practice and formal testing, and tutorials of the above-specified skills. Additional
+ *                 features include test completion results, test completion summaries, and test
+ *                 completion rewards.
+ */
+package project.database;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+
+/**
+ * An uninstantiable class, used to add a roster of students to a UserDatabase. The roster is read one
+ *  line at a time, so its size is not limited by memory. Each line describes one student with five
+ *  fields, in this order: user name, password, first name, last name, and grade level (0 for PreK-K,
+ *  1 for Grades 1-2, or 2 for Grades 3-4). Fields are separated by tabs (TSV) if the first line
+ *  contains a tab; otherwise they are separated by commas (CSV). CSV fields may be enclosed in
+ *  double-quotes. A first line who's first field is "username" or "user name" is treated as a header
+ *  and skipped. Blank lines are ignored.
+ * Valid students are added to the database in batches of BATCH_SIZE. Lines that can not be added are
+ *  rejected, and described in the returned Result. Every student is given their grade level's shared
+ *  empty report card. See ReportCard.getEmptyReportCard(int).
+ * NOTE: This class does not write the database to disk. The caller should write it once, after
+ *  importRoster() returns.
+ * @author Kenneth Chin
+ */
+public final class RosterImporter {
+	
+	private static final int BATCH_SIZE   = 250; //The number of students added to the database at once.
+	private static final int FIELD_COUNT  = 5;   //The number of fields on each roster line.
+	private static final char TAB         = '\t';
+	private static final char COMMA       = ',';
+	private static final char QUOTE       = '"';
+
+	/**
+	 * Private constructor prevents instantiation.
+	 */
+	private RosterImporter(){}
+	
+	/**
+	 * Used to read a roster and add each valid student to the specified database.
+	 * @param database The UserDatabase that students are to be added to.
+	 * @param roster A Reader of CSV or TSV roster text. See the class description for its format.
+	 *  The Reader is not closed by this method.
+	 * @return A Result describing the number of students added, the lines rejected, and the import rate.
+	 * @throws IOException Thrown if the roster can not be read.
+	 */
+	public static Result importRoster(UserDatabase database, Reader roster) throws IOException{
+		long startTime = System.nanoTime();
+		BufferedReader reader = (roster instanceof BufferedReader) ? (BufferedReader)roster : new BufferedReader(roster);
+		Result result = new Result();
+		HashMap<String, UserEntry> batch = new HashMap<String, UserEntry>();
+		
+		char delimiter = COMMA;
+		int lineNumber = 0;
+		String line;
+		while((line = reader.readLine()) != null){
+			lineNumber++;
+			//Spreadsheet programs may begin a UTF-8 file with a byte order mark.
+			if(lineNumber == 1 && line.startsWith("\uFEFF"))
+				line = line.substring(1);
+			if(lineNumber == 1 && line.indexOf(TAB) >= 0)
+				delimiter = TAB;
+			if(line.trim().isEmpty())
+				continue;
+			
+			List<String> fields = split(line, delimiter);
+			if(lineNumber == 1 && isHeader(fields.get(0)))
+				continue;
+			result.rowsRead++;
+			
+			String reason = validate(database, batch, fields);
+			if(reason != null){
+				result.rejects.add("Line " + lineNumber + ": " + reason);
+				continue;
+			}
+			batch.put(fields.get(0), makeEntry(fields));
+			if(batch.size() >= BATCH_SIZE){
+				database.addUsers(batch);
+				result.imported += batch.size();
+				batch.clear();
+			}
+		}
+		if(batch.size() > 0){
+			database.addUsers(batch);
+			result.imported += batch.size();
+		}
+		
+		result.elapsedNanos = System.nanoTime() - startTime;
+		return result;
+	}
+	
+	/**
+	 * A helper method used to determine if a roster's first field is a header.
+	 * @param firstField The first field of the roster's first line.
+	 * @return A boolean indicating true if firstField is a header; false otherwise.
+	 */
+	private static boolean isHeader(String firstField){
+		String field = firstField.replace(" ", "").replace("_", "");
+		return field.equalsIgnoreCase("username");
+	}
+	
+	/**
+	 * A helper method used to determine if the specified roster line describes a student that can be added.
+	 * @param database The UserDatabase that students are to be added to.
+	 * @param batch The students that have been validated, but not yet added to database.
+	 * @param fields The fields of one roster line.
+	 * @return A String describing why the line is rejected, or null if the line is valid.
+	 */
+	private static String validate(UserDatabase database, HashMap<String, UserEntry> batch, List<String> fields){
+		if(fields.size() != FIELD_COUNT)
+			return "Expected " + FIELD_COUNT + " fields, but found " + fields.size() + ".";
+		for(int i = 0; i < FIELD_COUNT; i++){
+			if(fields.get(i).isEmpty())
+				return "Field " + (i + 1) + " is empty.";
+		}
+		String userName = fields.get(0);
+		if(database.containsUser(userName) || batch.containsKey(userName))
+			return "The user name \"" + userName + "\" is already used.";
+		int gradeLevel;
+		try{
+			gradeLevel = Integer.parseInt(fields.get(4));
+		}catch(NumberFormatException e){
+			return "The grade level \"" + fields.get(4) + "\" is not a number.";
+		}
+		if(gradeLevel < 0 || gradeLevel > 2)
+			return "The grade level \"" + gradeLevel + "\" must be 0, 1, or 2.";
+		return null;
+	}
+	
+	/**
+	 * A helper method used to create a UserEntry from a valid roster line.
+	 * @param fields The fields of one valid roster line.
+	 * @return A UserEntry for the student described by fields.
+	 */
+	private static UserEntry makeEntry(List<String> fields){
+		int gradeLevel = Integer.parseInt(fields.get(4));
+		UserEntry entry = new UserEntry();
+		entry.setPassword(fields.get(1));
+		entry.setFirstName(fields.get(2));
+		entry.setLastName(fields.get(3));
+		entry.setGradeLevel(gradeLevel);
+		entry.setLastActiveTest(1);
+		entry.setReportCard(ReportCard.getEmptyReportCard(gradeLevel));
+		return entry;
+	}
+	
+	/**
+	 * A helper method used to split a roster line into its fields. Leading and trailing spaces are
+	 *  removed from each field. If delimiter is a comma, a field may be enclosed in double-quotes,
+	 *  and a double-quote inside such a field is written as two double-quotes.
+	 * @param line A line of roster text.
+	 * @param delimiter The char that separates fields.
+	 * @return A List of the line's fields.
+	 */
+	private static List<String> split(String line, char delimiter){
+		List<String> fields = new ArrayList<String>(FIELD_COUNT);
+		StringBuilder field = new StringBuilder();
+		boolean isQuoted = false;
+		for(int i = 0; i < line.length(); i++){
+			char c = line.charAt(i);
+			if(isQuoted){
+				if(c == QUOTE && i + 1 < line.length() && line.charAt(i + 1) == QUOTE){
+					field.append(QUOTE);
+					i++;
+				}else if(c == QUOTE)
+					isQuoted = false;
+				else
+					field.append(c);
+			}else if(c == QUOTE && delimiter == COMMA && field.toString().trim().isEmpty()){
+				field.setLength(0);
+				isQuoted = true;
+			}else if(c == delimiter){
+				fields.add(field.toString().trim());
+				field.setLength(0);
+			}else
+				field.append(c);
+		}
+		fields.add(field.toString().trim());
+		return fields;
+	}
+	
+	/**
+	 * A data class that describes the outcome of a roster import.
+	 * @author Kenneth Chin
+	 */
+	public static final class Result{
+		private int rowsRead     = 0;  //The number of non-blank, non-header roster lines read.
+		private int imported     = 0;  //The number of students added to the database.
+		private long elapsedNanos = 0; //The time taken to read and add the roster.
+		private List<String> rejects = new ArrayList<String>(); //A description of each rejected line.
+		
+		/**
+		 * The private Result constructor. Results are only created by RosterImporter.
+		 */
+		private Result(){}
+		
+		/**
+		 * Used to obtain the number of student lines read from the roster.
+		 * @return An int indicating the number of non-blank, non-header roster lines read.
+		 */
+		public int getRowsRead(){
+			return rowsRead;
+		}
+		
+		/**
+		 * Used to obtain the number of students added to the database.
+		 * @return An int indicating the number of students added to the database.
+		 */
+		public int getImported(){
+			return imported;
+		}
+		
+		/**
+		 * Used to obtain a description of each rejected roster line.
+		 * @return A read-only List of Strings, each describing a rejected line and the reason it was rejected.
+		 */
+		public List<String> getRejects(){
+			return Collections.unmodifiableList(rejects);
+		}
+		
+		/**
+		 * Used to obtain the rate at which roster lines were processed.
+		 * @return A double indicating the number of roster lines read per second.
+		 */
+		public double getRowsPerSecond(){
+			if(elapsedNanos <= 0)
+				return 0;
+			return rowsRead / (elapsedNanos / 1000000000.0);
+		}
+		
+		@Override
+		public String toString(){
+			return String.format("Imported %d of %d students (%d rejected) at %.0f rows/sec.",
+					imported, rowsRead, rejects.size(), getRowsPerSecond());
+		}
+	}
+}
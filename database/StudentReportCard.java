@@ -0,0 +1,195 @@
+/**
+ * Name:         Math Helper
+ * Version:      1.0.0
+ * Version Date: 04/30/2015
+ * Team:         "Cool Math" - Consists of Kenneth Chin, Chris Moraal, Elena Eroshkina, and Austin Clark
+ * Purpose:      The "Math Helper" software is used to aid parents and teachers with the teaching and testing
+ *                 of students, grades PreK through Grade 4, in the subject of Mathematics. The lessons and
+ *                 tests provided cover a subset of skills as specified by the Massachusetts Department of
+ *                 Education's (DOE) website, found at:
+ *                              http://www.doe.mass.edu/frameworks/math/2000/toc.html
+ *                 The DOE category, Number Sense and Operations for Grades Pre-K through Grade 4,
+ *                 is the subset that the "Math Helper" software covers.
+ *                 
+ *               Features and services of the "Math Helper" software include, Login/Logout mechanics,
+ *                 practice and formal testing, and tutorials of the above-specified skills. Additional
+ *                 features include test completion results, test completion summaries, and test
+ *                 completion rewards.
+ */
+package project.database;
+
+import java.io.Serializable;
+
+import project.interfaces.ModuleSelectButtonInterface;
+
+/**
+ * A student's grades for every Test Module of one grade level. Each module's ModuleReportSummary is
+ *  stored in an array at the module's getOrdinal(), so finding a module's grades is a single array
+ *  lookup, and iterating from index 0 to size() - 1 visits the modules in the order that their buttons
+ *  are shown on the ModuleSelectScreen.
+ * Report cards are created, read, and changed using the ReportCard class. A shared report card (see
+ *  ReportCard.getEmptyReportCard(int)) can not be changed; ReportCard.setGrade() copies it first.
+ * @author Kenneth Chin
+ */
+public final class StudentReportCard implements Serializable{
+	
+	/**
+	 * The serialVersionUID for this Serializable class.
+	 */
+	private static final long serialVersionUID = 1L;
+	
+	private final int                   gradeLevel; //The grade level who's Test Modules are graded.
+	private final ModuleReportSummary[] summaries;  //Each Test Module's grades, indexed by getOrdinal().
+	private final boolean               shared;     //True if this is a grade level's shared empty report card.
+	
+	//The Test Modules of gradeLevel, indexed by getOrdinal(). Not written; restored when first used.
+	private transient ModuleSelectButtonInterface[] tests;
+	
+	/**
+	 * Creates a report card, for the specified gradeLevel, who's ModuleReportSummary values indicate
+	 *  that no tests have been taken.
+	 * @param gradeLevel An int indicating the grade level of this report card. This value must be
+	 *  "0" for the PreK-K grades, "1" for the 1-2 grades, or "2" for the 3-4 grades.
+	 * @throws IndexOutOfBoundsException Thrown if gradeLevel is not 0, 1, or 2.
+	 */
+	StudentReportCard(int gradeLevel){
+		this(gradeLevel, null);
+	}
+	
+	/**
+	 * Creates a shared report card, for the specified gradeLevel, who's every Test Module uses the
+	 *  specified ModuleReportSummary. If emptySummary is null, each Test Module gets its own new
+	 *  ModuleReportSummary, and the report card is not shared.
+	 * @param gradeLevel An int indicating the grade level of this report card.
+	 * @param emptySummary The read-only ModuleReportSummary shared by every Test Module, or null.
+	 * @throws IndexOutOfBoundsException Thrown if gradeLevel is not 0, 1, or 2.
+	 */
+	StudentReportCard(int gradeLevel, ModuleReportSummary emptySummary){
+		if(gradeLevel > 2 || gradeLevel < 0)
+			throw new IndexOutOfBoundsException("The gradeLevel \"" + gradeLevel + "\" does not exist.");
+		this.gradeLevel = gradeLevel;
+		this.tests      = ReportCard.getTests(gradeLevel);
+		this.summaries  = new ModuleReportSummary[tests.length];
+		this.shared     = (emptySummary != null);
+		for(int i = 0; i < summaries.length; i++)
+			summaries[i] = shared ? emptySummary : new ModuleReportSummary();
+	}
+	
+	/**
+	 * Creates a private, writable, copy of the specified report card.
+	 * @param reportCard The StudentReportCard to be copied. Each of its ModuleReportSummary values
+	 *  is copied.
+	 */
+	StudentReportCard(StudentReportCard reportCard){
+		this.gradeLevel = reportCard.gradeLevel;
+		this.tests      = reportCard.getTests();
+		this.summaries  = new ModuleReportSummary[reportCard.summaries.length];
+		this.shared     = false;
+		for(int i = 0; i < summaries.length; i++){
+			ModuleReportSummary summary = reportCard.summaries[i];
+			summaries[i] = new ModuleReportSummary(summary.getEasyGrade(),   summary.getEasyMax(),
+												   summary.getNormalGrade(), summary.getNormalMax(),
+												   summary.getHardGrade(),   summary.getHardMax());
+		}
+	}
+	
+	/**
+	 * Used to obtain the grade level of this report card.
+	 * @return An int indicating the grade level; "0" for the PreK-K grades, "1" for the 1-2 grades,
+	 *  or "2" for the 3-4 grades.
+	 */
+	public int getGradeLevel(){
+		return gradeLevel;
+	}
+	
+	/**
+	 * Used to obtain the number of Test Modules on this report card.
+	 * @return An int indicating the number of Test Modules available to this report card's grade level.
+	 */
+	public int size(){
+		return summaries.length;
+	}
+	
+	/**
+	 * Used to obtain the Test Module at the specified index.
+	 * @param index An int from 0 to size() - 1, which is also the Test Module's getOrdinal().
+	 * @return The ModuleSelectButtonInterface of the Test Module at index.
+	 */
+	public ModuleSelectButtonInterface getTest(int index){
+		return getTests()[index];
+	}
+	
+	/**
+	 * Used to obtain the grades of the Test Module at the specified index.
+	 * @param index An int from 0 to size() - 1, which is also the Test Module's getOrdinal().
+	 * @return The ModuleReportSummary of the Test Module at index.
+	 */
+	public ModuleReportSummary getSummary(int index){
+		return summaries[index];
+	}
+	
+	/**
+	 * Used to obtain the grades of the specified Test Module.
+	 * @param test The ModuleSelectButtonInterface of a Test Module.
+	 * @return The ModuleReportSummary of test, or null if test is not one of this report card's
+	 *  Test Modules.
+	 */
+	public ModuleReportSummary get(ModuleSelectButtonInterface test){
+		int index = indexOf(test);
+		return (index < 0) ? null : summaries[index];
+	}
+	
+	/**
+	 * Used to find the index of the specified Test Module.
+	 * @param test The ModuleSelectButtonInterface of a Test Module.
+	 * @return An int indicating the index of test, or -1 if test is not one of this report card's
+	 *  Test Modules.
+	 */
+	public int indexOf(ModuleSelectButtonInterface test){
+		if(test == null)
+			return -1;
+		int ordinal = test.getOrdinal();
+		ModuleSelectButtonInterface[] tests = getTests();
+		return (ordinal >= 0 && ordinal < tests.length && tests[ordinal] == test) ? ordinal : -1;
+	}
+	
+	/**
+	 * Used to determine if this is a shared, read-only, report card.
+	 * @return A boolean indicating true if this report card was obtained from
+	 *  ReportCard.getEmptyReportCard(int); false otherwise.
+	 */
+	public boolean isShared(){
+		return shared;
+	}
+	
+	/**
+	 * Used to replace the grades of the Test Module at the specified index.
+	 * @param index An int from 0 to size() - 1, which is also the Test Module's getOrdinal().
+	 * @param summary The Test Module's new ModuleReportSummary.
+	 * @throws UnsupportedOperationException Thrown if this is a shared report card.
+	 */
+	void set(int index, ModuleReportSummary summary){
+		if(shared)
+			throw new UnsupportedOperationException("A shared empty report card can not be changed.");
+		summaries[index] = summary;
+	}
+	
+	/**
+	 * A helper method used to obtain the Test Modules of this report card's grade level.
+	 * @return An array of ModuleSelectButtonInterface, indexed by getOrdinal().
+	 */
+	private ModuleSelectButtonInterface[] getTests(){
+		if(tests == null)
+			tests = ReportCard.getTests(gradeLevel);
+		return tests;
+	}
+	
+	/**
+	 * Used by Java serialization to replace a shared report card that was read with the grade
+	 *  level's shared report card, so it is shared again.
+	 * @return This StudentReportCard, or the shared empty report card of its grade level.
+	 */
+	private Object readResolve(){
+		return shared ? ReportCard.getEmptyReportCard(gradeLevel) : this;
+	}
+}
@@ -19,10 +19,19 @@
 package project.database;
 
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
 
 import project.buttons.Grade1ModuleSelectTestButtons;
 import project.buttons.Grade3ModuleSelectTestButtons;
+import project.constants.DifficultyLevel;
 import project.interfaces.ModuleSelectButtonInterface;
 
 /**This class implements Users Database
@@ -39,11 +48,33 @@ public class UserDatabase implements Serializable{
 	
 	private HashMap<String, UserEntry> database;
 	
+	//Running grade totals, indexed by [gradeLevel][module ordinal][difficulty ordinal]. These are
+	// not stored with the database; they are built by the first call to getAggregate() or
+	// getStudentCount() and are then kept up to date by every method that changes a grade, grade
+	// level, or report card. Until then, changing a grade does not build them.
+	private transient GradeAggregate[][][] aggregates;
+	private transient int[]                studentCounts; //The number of students in each grade level.
+	
+	//Secondary indexes. Like the running totals, these are built by the first query that needs
+	// them and are then kept up to date by every setter.
+	private transient ArrayList<HashSet<String>> gradeIndex;      //The user names in each grade level.
+	private transient TreeMap<String, String>    lastNameIndex;   //Lower-case "lastName\0userName" to user name.
+	private transient HashMap<String, Integer>   completionIndex; //User name to module-completion bitmask.
+	
 	/**initialization of DB. It will be populated with the values stored in Hash table*/
 	public UserDatabase(){
+		this(true);
+	}
+	
+	/**initialization of DB. If populate is false, the database starts empty; this is used when
+	 *the users are read from a file.
+	 */
+	UserDatabase(boolean populate){
 		database = new HashMap<String, UserEntry>();
-	DefaulPhonyUsers defaultUser = new DefaulPhonyUsers(this);  
-		defaultUser.populatePhonyUsers();
+		if(populate){
+			DefaulPhonyUsers defaultUser = new DefaulPhonyUsers(this);  
+			defaultUser.populatePhonyUsers();
+		}
 	}
 	
 	/**this method will add users to the database. It will pass all needed values 
@@ -61,10 +92,13 @@ public class UserDatabase implements Serializable{
 		entry.setLastName(lastName);
 		entry.setGradeLevel(gradeLevel);
 		entry.setLastActiveTest(1);
-		entry.setReportCard(ReportCard.getHashMap(gradeLevel));
+		//Students start with their grade level's shared empty report card. ReportCard.setGrade()
+		// gives them their own copy when their first grade is recorded.
+		entry.setReportCard(ReportCard.getEmptyReportCard(gradeLevel));
 		
 		//at this point system will save all needed information into the database
-		database.put(userName, entry);
+		track(userName, database.put(userName, entry), -1);
+		track(userName, entry, 1);
 	};
 	/**method to add user*/
 	public void addUser(String userName, 
@@ -72,7 +106,7 @@ public class UserDatabase implements Serializable{
 			String firstName, 
 			String lastName,
 			int gradeLevel,
-			HashMap<ModuleSelectButtonInterface, ModuleReportSummary> reportCard){
+			StudentReportCard reportCard){
 		//class that stores information about user
 		UserEntry entry = new UserEntry();
 		entry.setFirstName(firstName);
@@ -82,10 +116,43 @@ public class UserDatabase implements Serializable{
 		entry.setLastActiveTest(1);
 		entry.setReportCard(reportCard);
 		
-		database.put(userName, entry);
+		track(userName, database.put(userName, entry), -1);
+		track(userName, entry, 1);
 	};
 	
 	
+	/**this method adds a batch of users to the database at once. Each key is a user name and
+	 *each value is that user's UserEntry. Existing users with the same user name are replaced,
+	 *so callers should check containsUser() first.
+	 */
+	public void addUsers(Map<String, UserEntry> entries){
+		if(aggregates != null || gradeIndex != null){
+			for(Map.Entry<String, UserEntry> entry: entries.entrySet()){
+				track(entry.getKey(), database.get(entry.getKey()), -1);
+				track(entry.getKey(), entry.getValue(), 1);
+			}
+		}
+		database.putAll(entries);
+	}
+	
+	/**method returns the number of users in the database*/
+	public int size(){
+		return database.size();
+	}
+	
+	/**method returns true if the user name is already in the database*/
+	public boolean containsUser(String userName){
+		return database.containsKey(userName);
+	}
+	
+	/**this method returns a read-only cursor over every user in the database. Each element is a
+	 *user name and that user's UserEntry. The cursor walks the database in place, so nothing is
+	 *copied; the database must not be changed while the cursor is in use.
+	 */
+	public Iterator<Map.Entry<String, UserEntry>> cursor(){
+		return Collections.unmodifiableMap(database).entrySet().iterator();
+	}
+	
 	/** method returns password value*/
 	public String getPassword(String userName){
 		if(database.get(userName)==null)
@@ -121,7 +188,7 @@ public class UserDatabase implements Serializable{
 		return database.get(userName).getLastActiveTest();
 	}
 	
-	public HashMap<ModuleSelectButtonInterface, ModuleReportSummary> getReportCard(String userName){
+	public StudentReportCard getReportCard(String userName){
 		if(database.get(userName)==null)
 			return null;
 		return database.get(userName).getReportCard();
@@ -139,12 +206,18 @@ public class UserDatabase implements Serializable{
 	
 	/**method sets Last name value*/
 	public void setLastName(String userName, String lastName){
-		database.get(userName).setLastName(lastName);
+		UserEntry entry = database.get(userName);
+		track(userName, entry, -1);
+		entry.setLastName(lastName);
+		track(userName, entry, 1);
 	}
 	
 	/**method sets Grade level value*/
 	public void setGradeLevel(String userName, int gradeLevel){
-		database.get(userName).setGradeLevel(gradeLevel);
+		UserEntry entry = database.get(userName);
+		track(userName, entry, -1);
+		entry.setGradeLevel(gradeLevel);
+		track(userName, entry, 1);
 	}
 	
 	/**method sets last taken test value*/
@@ -153,7 +226,261 @@ public class UserDatabase implements Serializable{
 	}
 	
 	/**method sets report card values*/
-	public void setReportCard(String userName, HashMap<ModuleSelectButtonInterface, ModuleReportSummary> reportCard){
-		database.get(userName).setReportCard(reportCard);
+	public void setReportCard(String userName, StudentReportCard reportCard){
+		UserEntry entry = database.get(userName);
+		track(userName, entry, -1);
+		entry.setReportCard(reportCard);
+		track(userName, entry, 1);
+	}
+	
+	/**method records one grade on a user's report card. Only the running totals of that module
+	 *and difficulty level are changed, and only if they have been built, so this costs the same no
+	 *matter how many users there are.
+	 *Grades should be recorded using this method, rather than changing the report card directly.
+	 */
+	public void setGrade(String userName, ModuleSelectButtonInterface test, DifficultyLevel difficulty,
+			int grade, int maxGrade){
+		UserEntry entry = database.get(userName);
+		GradeAggregate aggregate = (aggregates == null) ? null : getAggregate(entry.getGradeLevel(), test, difficulty);
+		ModuleReportSummary summary = entry.getReportCard().get(test);
+		int oldGrade = getGrade(summary, difficulty);
+		int oldMax   = getMax(summary, difficulty);
+		entry.setReportCard(ReportCard.setGrade(entry.getReportCard(), test, grade, maxGrade, difficulty));
+		if(aggregate != null){
+			aggregate.remove(oldGrade, oldMax);
+			aggregate.add(grade, maxGrade);
+		}
+		if(completionIndex != null)
+			completionIndex.put(userName, getCompletionMask(entry));
+	}
+	
+	/**method records one completed test in a user's attempt history, whether or not it improved
+	 *their report card. Times are in milliseconds since January 1, 1970 UTC, and are kept to the
+	 *nearest second.
+	 */
+	public void recordAttempt(String userName, long timeMillis, ModuleSelectButtonInterface test,
+			DifficultyLevel difficulty, int grade, int maxGrade, long durationMillis){
+		UserEntry entry = database.get(userName);
+		if(entry.getHistory() == null)
+			entry.setHistory(new AttemptHistory());
+		entry.getHistory().add(timeMillis, test, difficulty, grade, maxGrade, durationMillis);
+	}
+	
+	/**method returns a user's completed tests from fromMillis (inclusive) to toMillis (exclusive),
+	 *oldest first. If test is null, the tests of every module are returned. Returns an empty list
+	 *if the user does not exist or has not completed a test.
+	 */
+	public List<AttemptHistory.Attempt> getAttempts(String userName, ModuleSelectButtonInterface test,
+			long fromMillis, long toMillis){
+		UserEntry entry = database.get(userName);
+		if(entry == null || entry.getHistory() == null)
+			return new ArrayList<AttemptHistory.Attempt>();
+		return entry.getHistory().getAttempts(fromMillis, toMillis, test);
+	}
+	
+	/**method returns the running grade totals of every user in a grade level, for one module and
+	 *difficulty level. The first call scans the database once; every later call is a lookup.
+	 *Returns null if the grade level does not exist, or the module is not one of its modules.
+	 */
+	public GradeAggregate getAggregate(int gradeLevel, ModuleSelectButtonInterface test, DifficultyLevel difficulty){
+		if(aggregates == null)
+			buildAggregates();
+		if(gradeLevel < 0 || gradeLevel >= aggregates.length || test == null || difficulty == null)
+			return null;
+		GradeAggregate[][] modules = aggregates[gradeLevel];
+		int ordinal = test.getOrdinal();
+		if(ordinal < 0 || ordinal >= modules.length || ReportCard.getTests(gradeLevel)[ordinal] != test)
+			return null;
+		return modules[ordinal][difficulty.ordinal()];
+	}
+	
+	/**method returns the number of users in a grade level, which can be used with getAggregate()
+	 *to find the fraction of a class that has taken a test. Returns 0 if the grade level does not exist.
+	 */
+	public int getStudentCount(int gradeLevel){
+		if(aggregates == null)
+			buildAggregates();
+		if(gradeLevel < 0 || gradeLevel >= studentCounts.length)
+			return 0;
+		return studentCounts[gradeLevel];
+	}
+	
+	/**method returns the user names of every user in a grade level. The returned set is
+	 *read-only, and changes as the database changes. Returns an empty set if the grade level
+	 *does not exist.
+	 */
+	public Set<String> getUsersInGrade(int gradeLevel){
+		if(gradeIndex == null)
+			buildIndexes();
+		if(gradeLevel < 0 || gradeLevel >= gradeIndex.size())
+			return Collections.<String>emptySet();
+		return Collections.unmodifiableSet(gradeIndex.get(gradeLevel));
+	}
+	
+	/**method returns the user names of every user who's last name starts with the prefix,
+	 *ignoring case, in order of last name. An empty prefix returns every user.
+	 */
+	public List<String> findByLastNamePrefix(String prefix){
+		if(gradeIndex == null)
+			buildIndexes();
+		String from = prefix.toLowerCase();
+		//'\uffff' sorts after every character that can follow the prefix.
+		return new ArrayList<String>(lastNameIndex.subMap(from, from + '\uffff').values());
+	}
+	
+	/**method returns the user names of every user in a grade level who has not taken the
+	 *module at any difficulty level.
+	 */
+	public List<String> getUsersNotStarted(int gradeLevel, ModuleSelectButtonInterface test){
+		List<String> users = new ArrayList<String>();
+		int bit = 1 << test.getOrdinal();
+		for(String userName: getUsersInGrade(gradeLevel)){
+			if((completionIndex.get(userName) & bit) == 0)
+				users.add(userName);
+		}
+		return users;
+	}
+	
+	/**method returns a bitmask of the modules a user has started. Bit n is set if the module
+	 *with ordinal n has been taken at any difficulty level. Returns 0 if the user does not exist.
+	 */
+	public int getCompletionMask(String userName){
+		if(gradeIndex == null)
+			buildIndexes();
+		Integer mask = completionIndex.get(userName);
+		return (mask == null) ? 0 : mask;
+	}
+	
+	/*
+	 *build the secondary indexes by scanning every user once
+	 */
+	private void buildIndexes(){
+		gradeIndex      = new ArrayList<HashSet<String>>(3);
+		for(int i = 0; i < 3; i++)
+			gradeIndex.add(new HashSet<String>());
+		lastNameIndex   = new TreeMap<String, String>();
+		completionIndex = new HashMap<String, Integer>(database.size() * 2);
+		for(Map.Entry<String, UserEntry> entry: database.entrySet())
+			index(entry.getKey(), entry.getValue(), 1);
+	}
+	
+	/*
+	 *add (sign = 1) or remove (sign = -1) a user from the running totals and the secondary indexes
+	 */
+	private void track(String userName, UserEntry entry, int sign){
+		aggregate(entry, sign);
+		index(userName, entry, sign);
+	}
+	
+	/*
+	 *add (sign = 1) or remove (sign = -1) a user from the secondary indexes.
+	 *does nothing until the indexes have been built.
+	 */
+	private void index(String userName, UserEntry entry, int sign){
+		if(gradeIndex == null || entry == null)
+			return;
+		int gradeLevel = entry.getGradeLevel();
+		String lastNameKey = String.valueOf(entry.getLastName()).toLowerCase() + '\0' + userName;
+		if(sign > 0){
+			if(gradeLevel >= 0 && gradeLevel < gradeIndex.size())
+				gradeIndex.get(gradeLevel).add(userName);
+			lastNameIndex.put(lastNameKey, userName);
+			completionIndex.put(userName, getCompletionMask(entry));
+		}else{
+			if(gradeLevel >= 0 && gradeLevel < gradeIndex.size())
+				gradeIndex.get(gradeLevel).remove(userName);
+			lastNameIndex.remove(lastNameKey);
+			completionIndex.remove(userName);
+		}
+	}
+	
+	/*
+	 *calculate a user's module-completion bitmask from their report card
+	 */
+	private static int getCompletionMask(UserEntry entry){
+		int mask = 0;
+		StudentReportCard reportCard = entry.getReportCard();
+		if(reportCard == null || reportCard.isShared())
+			return mask;
+		for(int i = 0; i < reportCard.size(); i++){
+			ModuleReportSummary summary = reportCard.getSummary(i);
+			if(summary.isEasyTaken() || summary.isNormalTaken() || summary.isHardTaken())
+				mask |= 1 << i;
+		}
+		return mask;
+	}
+	
+	/*
+	 *build the running grade totals by scanning every user once
+	 */
+	private void buildAggregates(){
+		GradeAggregate[][][] built = new GradeAggregate[3][][];
+		for(int gradeLevel = 0; gradeLevel < built.length; gradeLevel++){
+			built[gradeLevel] = new GradeAggregate[ReportCard.getTests(gradeLevel).length][DifficultyLevel.values().length];
+			for(GradeAggregate[] difficulties: built[gradeLevel]){
+				for(int i = 0; i < difficulties.length; i++)
+					difficulties[i] = new GradeAggregate();
+			}
+		}
+		aggregates    = built;
+		studentCounts = new int[built.length];
+		for(UserEntry entry: database.values())
+			aggregate(entry, 1);
+	}
+	
+	/*
+	 *add (sign = 1) or remove (sign = -1) all of a user's grades from the running totals.
+	 *does nothing until the totals have been built.
+	 */
+	private void aggregate(UserEntry entry, int sign){
+		if(aggregates == null || entry == null)
+			return;
+		int gradeLevel = entry.getGradeLevel();
+		if(gradeLevel < 0 || gradeLevel >= aggregates.length)
+			return;
+		studentCounts[gradeLevel] += sign;
+		StudentReportCard reportCard = entry.getReportCard();
+		//Only a report card of the user's own grade level is counted.
+		if(reportCard == null || reportCard.getGradeLevel() != gradeLevel)
+			return;
+		GradeAggregate[][] modules = aggregates[gradeLevel];
+		for(int i = 0; i < reportCard.size(); i++){
+			ModuleReportSummary summary = reportCard.getSummary(i);
+			for(DifficultyLevel difficulty: DifficultyLevel.values()){
+				GradeAggregate aggregate = modules[i][difficulty.ordinal()];
+				int grade = getGrade(summary, difficulty);
+				int max   = getMax(summary, difficulty);
+				if(sign > 0)
+					aggregate.add(grade, max);
+				else
+					aggregate.remove(grade, max);
+			}
+		}
+	}
+	
+	/*
+	 *retrieve the grade of one difficulty level
+	 */
+	private static int getGrade(ModuleReportSummary summary, DifficultyLevel difficulty){
+		if(summary == null)
+			return -1;
+		switch(difficulty){
+			case EASY:   return summary.getEasyGrade();
+			case NORMAL: return summary.getNormalGrade();
+			default:     return summary.getHardGrade();
+		}
+	}
+	
+	/*
+	 *retrieve the maximum achievable grade of one difficulty level
+	 */
+	private static int getMax(ModuleReportSummary summary, DifficultyLevel difficulty){
+		if(summary == null)
+			return -1;
+		switch(difficulty){
+			case EASY:   return summary.getEasyMax();
+			case NORMAL: return summary.getNormalMax();
+			default:     return summary.getHardMax();
+		}
 	}
 }
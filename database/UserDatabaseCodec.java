@@ -0,0 +1,301 @@
+/**
+ * Name:         Math Helper
+ * Version:      1.0.0
+ * Version Date: 04/30/2015
+ * Team:         "Cool Math" - Consists of Kenneth Chin, Chris Moraal, Elena Eroshkina, and Austin Clark
+ * Purpose:      The "Math Helper" software is used to aid parents and teachers with the teaching and testing
+ *                 of students, grades PreK through Grade 4, in the subject of Mathematics. The lessons and
+ *                 tests provided cover a subset of skills as specified by the Massachusetts Department of
+ *                 Education's (DOE) website, found at:
+ *                              http://www.doe.mass.edu/frameworks/math/2000/toc.html
+ *                 The DOE category, Number Sense and Operations for Grades Pre-K through Grade 4,
+ *                 is the subset that the "Math Helper" software covers.
+ *                 
+ *               Features and services of the "Math Helper" software include, Login/Logout mechanics,
+ *                 practice and formal testing, and tutorials of the above-specified skills. Additional
+ *                 features include test completion results, test completion summaries, and test
+ *                 completion rewards.
+ */
+package project.database;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.OutputStream;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * An uninstantiable class, used to write a UserDatabase to a compact binary file, and to read it back.
+ *  Unlike Java serialization, no class descriptors are written, and the file does not depend on the
+ *  layout of UserDatabase, UserEntry, or ModuleReportSummary.
+ * The file starts with the bytes "MHDB" and a schema version. Every int is written as a varint (7 bits
+ *  per byte, low bits first); signed values, such as grades that are -1 when a test has not been taken,
+ *  are zig-zag encoded first. Strings are written as their UTF-8 length plus one (zero means null), then
+ *  their UTF-8 bytes. Each report card entry is written with the grade level of its Test Module enum and
+ *  its ordinal.
+ * Schema version 1 is laid out as:
+ *  userCount, then for each user: userName, password, firstName, lastName, gradeLevel, lastActiveTest,
+ *  reportCardType (0 = null, 1 = shared empty card, 2 = entries), then for type 1: the card's grade level;
+ *  for type 2: entryCount, then for each entry: keyGradeLevel, keyOrdinal, easyGrade, easyMax,
+ *  normalGrade, normalMax, hardGrade, hardMax.
+ * Schema version 2 adds, after each user's report card: hasHistory (0 or 1), then if 1: the user's
+ *  AttemptHistory, written as blockCount, then for each block: attemptCount, firstTime, lastTime - firstTime,
+ *  moduleBits, byteCount, and the block's bytes; then byteCount and the bytes of the unsealed attempts.
+ *  Version 1 files are still read; their users have no history.
+ * @author Kenneth Chin
+ */
+public final class UserDatabaseCodec {
+	
+	/**
+	 * The schema version written by this class. Increase it when the layout changes, and keep
+	 *  reading every older version.
+	 */
+	public static final int SCHEMA_VERSION = 2;
+	
+	private static final byte[] MAGIC = {'M', 'H', 'D', 'B'}; //The first bytes of every database file.
+	
+	//Report card types.
+	private static final int CARD_NULL    = 0;
+	private static final int CARD_EMPTY   = 1;
+	private static final int CARD_ENTRIES = 2;
+
+	/**
+	 * Private constructor prevents instantiation.
+	 */
+	private UserDatabaseCodec(){}
+	
+	/**
+	 * Used to write a UserDatabase to a file. The file is written to a temporary file first, then
+	 *  renamed, so an interrupted write does not destroy the previous file.
+	 * @param database The UserDatabase to be written.
+	 * @param file The File to be written.
+	 * @throws IOException Thrown if the file can not be written.
+	 */
+	public static void write(UserDatabase database, File file) throws IOException{
+		File temp = new File(file.getPath() + ".tmp");
+		OutputStream out = new FileOutputStream(temp);
+		try{
+			write(database, out);
+		}finally{
+			out.close();
+		}
+		if(file.exists() && !file.delete())
+			throw new IOException("The file \"" + file + "\" could not be replaced.");
+		if(!temp.renameTo(file))
+			throw new IOException("The file \"" + temp + "\" could not be renamed to \"" + file + "\".");
+	}
+	
+	/**
+	 * Used to read a UserDatabase from a file written by write(UserDatabase, File).
+	 * @param file The File to be read.
+	 * @return The UserDatabase that was read.
+	 * @throws IOException Thrown if the file can not be read, is not a database file, or has an
+	 *  unknown schema version.
+	 */
+	public static UserDatabase read(File file) throws IOException{
+		InputStream in = new FileInputStream(file);
+		try{
+			return read(in);
+		}finally{
+			in.close();
+		}
+	}
+	
+	/**
+	 * Used to convert a database file that was written by Java serialization (the "db.dat" file of
+	 *  previous versions) to a binary database file. The serialized file is not changed.
+	 * @param serializedFile The File written by ObjectOutputStream.
+	 * @param binaryFile The File to be written.
+	 * @return The UserDatabase that was converted.
+	 * @throws IOException Thrown if either file can not be read or written, or if the serialized file
+	 *  does not contain a UserDatabase.
+	 */
+	public static UserDatabase migrate(File serializedFile, File binaryFile) throws IOException{
+		UserDatabase database;
+		ObjectInputStream in = new ObjectInputStream(new BufferedInputStream(new FileInputStream(serializedFile)));
+		try{
+			database = (UserDatabase) in.readObject();
+		}catch(ClassNotFoundException | ClassCastException e){
+			throw new IOException("The file \"" + serializedFile + "\" does not contain a UserDatabase.", e);
+		}finally{
+			in.close();
+		}
+		write(database, binaryFile);
+		return database;
+	}
+	
+	/**
+	 * Used to write a UserDatabase to an OutputStream. The stream is not flushed or closed.
+	 * @param database The UserDatabase to be written.
+	 * @param out The OutputStream to be written to. The database is encoded in memory, then written
+	 *  with a single call.
+	 * @throws IOException Thrown if the stream can not be written.
+	 */
+	public static void write(UserDatabase database, OutputStream out) throws IOException{
+		VarIntBuffer buffer = new VarIntBuffer(Math.max(256, database.size() * 64));
+		encode(database, buffer);
+		out.write(buffer.getBytes(), 0, buffer.getPosition());
+	}
+	
+	/**
+	 * Used to read a UserDatabase from an InputStream. The stream is read to its end, but is not closed.
+	 * @param in The InputStream to be read from.
+	 * @return The UserDatabase that was read.
+	 * @throws IOException Thrown if the stream can not be read, is not a database, or has an
+	 *  unknown schema version.
+	 */
+	public static UserDatabase read(InputStream in) throws IOException{
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream(64 * 1024);
+		byte[] chunk = new byte[64 * 1024];
+		int count;
+		while((count = in.read(chunk)) >= 0)
+			bytes.write(chunk, 0, count);
+		return decode(new VarIntBuffer(bytes.toByteArray()));
+	}
+	
+	/**
+	 * A helper method used to encode a UserDatabase.
+	 * @param database The UserDatabase to be encoded.
+	 * @param out The VarIntBuffer to be written to.
+	 */
+	private static void encode(UserDatabase database, VarIntBuffer out){
+		out.write(MAGIC);
+		out.writeVarInt(SCHEMA_VERSION);
+		out.writeVarInt(database.size());
+		Iterator<Map.Entry<String, UserEntry>> cursor = database.cursor();
+		while(cursor.hasNext()){
+			Map.Entry<String, UserEntry> user = cursor.next();
+			UserEntry entry = user.getValue();
+			out.writeString(user.getKey());
+			out.writeString(entry.getPassword());
+			out.writeString(entry.getFirstName());
+			out.writeString(entry.getLastName());
+			out.writeSignedVarInt(entry.getGradeLevel());
+			out.writeSignedVarInt(entry.getLastActiveTest());
+			writeReportCard(out, entry.getReportCard());
+			if(entry.getHistory() == null){
+				out.writeVarInt(0);
+			}else{
+				out.writeVarInt(1);
+				entry.getHistory().write(out);
+			}
+		}
+	}
+	
+	/**
+	 * A helper method used to decode a UserDatabase.
+	 * @param in The VarIntBuffer to be read from.
+	 * @return The UserDatabase that was read.
+	 * @throws IOException Thrown if the VarIntBuffer ends early, is not a database, or has an unknown schema version.
+	 */
+	private static UserDatabase decode(VarIntBuffer in) throws IOException{
+		for(int i = 0; i < MAGIC.length; i++){
+			if(in.readByte() != MAGIC[i])
+				throw new IOException("The stream is not a Math Helper database.");
+		}
+		int version = in.readVarInt();
+		if(version < 1 || version > SCHEMA_VERSION)
+			throw new IOException("The database schema version " + version + " is not supported.");
+		
+		int userCount = in.readVarInt();
+		HashMap<String, UserEntry> entries = new HashMap<String, UserEntry>((userCount * 4 / 3) + 1);
+		for(int i = 0; i < userCount; i++){
+			String userName = in.readString();
+			UserEntry entry = new UserEntry();
+			entry.setPassword(in.readString());
+			entry.setFirstName(in.readString());
+			entry.setLastName(in.readString());
+			entry.setGradeLevel(in.readSignedVarInt());
+			entry.setLastActiveTest(in.readSignedVarInt());
+			entry.setReportCard(readReportCard(in));
+			if(version >= 2 && in.readVarInt() != 0)
+				entry.setHistory(AttemptHistory.read(in));
+			entries.put(userName, entry);
+		}
+		UserDatabase database = new UserDatabase(false);
+		database.addUsers(entries);
+		return database;
+	}
+	
+	/**
+	 * A helper method used to write a report card.
+	 * @param out The VarIntBuffer to be written to.
+	 * @param reportCard The report card to be written. May be null.
+	 */
+	private static void writeReportCard(VarIntBuffer out, StudentReportCard reportCard){
+		if(reportCard == null){
+			out.writeVarInt(CARD_NULL);
+		}else if(ReportCard.isEmptyReportCard(reportCard)){
+			//Shared empty cards are written as their grade level, so they are shared again when read.
+			out.writeVarInt(CARD_EMPTY);
+			out.writeVarInt(reportCard.getGradeLevel());
+		}else{
+			out.writeVarInt(CARD_ENTRIES);
+			out.writeVarInt(reportCard.size());
+			for(int i = 0; i < reportCard.size(); i++){
+				ModuleReportSummary summary = reportCard.getSummary(i);
+				out.writeVarInt(reportCard.getGradeLevel());
+				out.writeVarInt(i);
+				out.writeSignedVarInt(summary.getEasyGrade());
+				out.writeSignedVarInt(summary.getEasyMax());
+				out.writeSignedVarInt(summary.getNormalGrade());
+				out.writeSignedVarInt(summary.getNormalMax());
+				out.writeSignedVarInt(summary.getHardGrade());
+				out.writeSignedVarInt(summary.getHardMax());
+			}
+		}
+	}
+	
+	/**
+	 * A helper method used to read a report card. Every entry must belong to the same grade level.
+	 *  Test Modules without an entry have not been taken.
+	 * @param in The VarIntBuffer to be read from.
+	 * @return The report card that was read, or null.
+	 * @throws IOException Thrown if the VarIntBuffer ends early, or contains an unknown Test Module.
+	 */
+	private static StudentReportCard readReportCard(VarIntBuffer in) throws IOException{
+		int type = in.readVarInt();
+		if(type == CARD_NULL)
+			return null;
+		if(type == CARD_EMPTY)
+			return ReportCard.getEmptyReportCard(checkGradeLevel(in.readVarInt()));
+		if(type != CARD_ENTRIES)
+			throw new IOException("Unknown report card type " + type + ".");
+		
+		int size = in.readVarInt();
+		StudentReportCard reportCard = null;
+		for(int i = 0; i < size; i++){
+			int gradeLevel = checkGradeLevel(in.readVarInt());
+			if(reportCard == null)
+				reportCard = ReportCard.getReportCard(gradeLevel);
+			else if(reportCard.getGradeLevel() != gradeLevel)
+				throw new IOException("A report card has Test Modules of more than one grade level.");
+			int ordinal = in.readVarInt();
+			if(ordinal >= reportCard.size())
+				throw new IOException("Unknown Test Module ordinal " + ordinal + ".");
+			reportCard.set(ordinal, new ModuleReportSummary(in.readSignedVarInt(), in.readSignedVarInt(),
+															in.readSignedVarInt(), in.readSignedVarInt(),
+															in.readSignedVarInt(), in.readSignedVarInt()));
+		}
+		return reportCard;
+	}
+	
+	/**
+	 * A helper method used to check that a grade level that was read exists.
+	 * @param gradeLevel The grade level that was read.
+	 * @return The unchanged grade level.
+	 * @throws IOException Thrown if the grade level does not exist.
+	 */
+	private static int checkGradeLevel(int gradeLevel) throws IOException{
+		if(gradeLevel < 0 || gradeLevel > 2)
+			throw new IOException("Unknown Test Module grade level " + gradeLevel + ".");
+		return gradeLevel;
+	}
+}
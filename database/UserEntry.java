@@ -18,10 +18,9 @@
  */
 package project.database;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
-import java.util.HashMap;
-
-import project.interfaces.ModuleSelectButtonInterface;
 
 /**
  *
@@ -41,7 +40,8 @@ public class UserEntry implements Serializable{
 	private String lastName = null;
 	private int gradeLevel = 0;
 	private int lastActiveTest = 1;
-	private HashMap<ModuleSelectButtonInterface, ModuleReportSummary> reportCard = null;
+	private StudentReportCard reportCard = null;
+	private AttemptHistory history = null;
 	public UserEntry(){}
 	/*
 	 *retrieve the password value
@@ -74,11 +74,11 @@ public class UserEntry implements Serializable{
 		return lastActiveTest;
 	}
 	/*
-	 *takes Hash Map value from UserEntry()
+	 *takes report card value from UserEntry()
 	 * initially it is equals to null
-	 * after user take a set of tests it will return a Hash Map that stores students grades
+	 * after user take a set of tests it will return a StudentReportCard that stores students grades
 	 */
-	public HashMap<ModuleSelectButtonInterface, ModuleReportSummary> getReportCard(){
+	public StudentReportCard getReportCard(){
 		return reportCard;
 	}
 	/*
@@ -111,7 +111,34 @@ public class UserEntry implements Serializable{
 	public void setLastActiveTest(int lastActiveTest){
 		this.lastActiveTest = lastActiveTest;
 	}
-	public void setReportCard(HashMap<ModuleSelectButtonInterface, ModuleReportSummary> reportCard){
+	public void setReportCard(StudentReportCard reportCard){
 		this.reportCard = reportCard;
 	}
+	/*
+	 *takes every completed test of the user
+	 * initially it is equals to null, until the first test is completed
+	 */
+	public AttemptHistory getHistory(){
+		return history;
+	}
+	/*
+	 *sets the history of completed tests
+	 */
+	public void setHistory(AttemptHistory history){
+		this.history = history;
+	}
+	/*
+	 *reads the fields one by one, so that a report card stored as a Hash Map
+	 * by an older version is changed to a StudentReportCard
+	 */
+	private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException{
+		ObjectInputStream.GetField fields = in.readFields();
+		password       = (String)fields.get("password", null);
+		firstName      = (String)fields.get("firstName", null);
+		lastName       = (String)fields.get("lastName", null);
+		gradeLevel     = fields.get("gradeLevel", 0);
+		lastActiveTest = fields.get("lastActiveTest", 1);
+		reportCard     = ReportCard.upgrade(fields.get("reportCard", null));
+		history        = (AttemptHistory)fields.get("history", null);
+	}
 }
\ No newline at end of file
@@ -0,0 +1,274 @@
+/**
+ * Name:         Math Helper
+ * Version:      1.0.0
+ * Version Date: 04/30/2015
+ * Team:         "Cool Math" - Consists of Kenneth Chin, Chris Moraal, Elena Eroshkina, and Austin Clark
+ * Purpose:      The "Math Helper" software is used to aid parents and teachers with the teaching and testing
+ *                 of students, grades PreK through Grade 4, in the subject of Mathematics. The lessons and
+ *                 tests provided cover a subset of skills as specified by the Massachusetts Department of
+ *                 Education's (DOE) website, found at:
+ *                              http://www.doe.mass.edu/frameworks/math/2000/toc.html
+ *                 The DOE category, Number Sense and Operations for Grades Pre-K through Grade 4,
+ *                 is the subset that the "Math Helper" software covers.
+ *                 
+ *               Features and services of the "Math Helper" software include, Login/Logout mechanics,
+ *                 practice and formal testing, and tutorials of the above-specified skills. Additional
+ *                 features include test completion results, test completion summaries, and test
+ *                 completion rewards.
+ */
+package project.database;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * A byte array and a position, used to encode and decode the database file and attempt histories
+ *  without the per-byte locking of buffered streams. When writing, the array grows as needed.
+ * Every int and long is written as a varint (7 bits per byte, low bits first). The signed methods
+ *  zig-zag encode their value first, so small negative numbers (such as -1) take one byte. Strings
+ *  are written as their UTF-8 length plus one (zero means null), then their UTF-8 bytes.
+ * @author Kenneth Chin
+ *
+ */
+final class VarIntBuffer {
+	
+	private byte[] bytes;    //The encoded bytes.
+	private int    position; //The index of the next byte to be read or written.
+	
+	/**
+	 * Creates an empty VarIntBuffer to be written to.
+	 * @param capacity An int indicating the initial size of the array. Must be greater than 0.
+	 */
+	VarIntBuffer(int capacity){
+		this(new byte[capacity]);
+	}
+	
+	/**
+	 * Creates a VarIntBuffer that starts at the first byte of the specified array.
+	 * @param bytes The bytes to be read, or the initial array to be written to.
+	 */
+	VarIntBuffer(byte[] bytes){
+		this.bytes = bytes;
+	}
+	
+	/**
+	 * Used to obtain the array that backs this VarIntBuffer. Only the bytes before getPosition()
+	 *  have been written.
+	 * @return The backing byte array.
+	 */
+	byte[] getBytes(){
+		return bytes;
+	}
+	
+	/**
+	 * Used to obtain the position of the next byte to be read or written.
+	 * @return An int indicating the number of bytes that have been read or written.
+	 */
+	int getPosition(){
+		return position;
+	}
+	
+	/**
+	 * Used to obtain a copy of the bytes that have been written.
+	 * @return A new byte array of length getPosition().
+	 */
+	byte[] toByteArray(){
+		return Arrays.copyOf(bytes, position);
+	}
+	
+	/**
+	 * Used to determine if every byte has been read.
+	 * @return A boolean indicating true if the position is at the end of the array; false otherwise.
+	 */
+	boolean isAtEnd(){
+		return position >= bytes.length;
+	}
+	
+	/**
+	 * Used to write one byte.
+	 * @param b An int who's lowest 8 bits are written.
+	 */
+	void write(int b){
+		if(position == bytes.length)
+			bytes = Arrays.copyOf(bytes, bytes.length * 2);
+		bytes[position++] = (byte)b;
+	}
+	
+	/**
+	 * Used to write part of an array of bytes.
+	 * @param b The bytes to be written.
+	 * @param offset The index of the first byte to be written.
+	 * @param length The number of bytes to be written.
+	 */
+	void write(byte[] b, int offset, int length){
+		if(position + length > bytes.length)
+			bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, position + length));
+		System.arraycopy(b, offset, bytes, position, length);
+		position += length;
+	}
+	
+	/**
+	 * Used to write an array of bytes.
+	 * @param b The bytes to be written.
+	 */
+	void write(byte[] b){
+		write(b, 0, b.length);
+	}
+	
+	/**
+	 * Used to write a non-negative int as a varint.
+	 * @param value The int to be written.
+	 */
+	void writeVarInt(int value){
+		while((value & ~0x7F) != 0){
+			write((value & 0x7F) | 0x80);
+			value >>>= 7;
+		}
+		write(value);
+	}
+	
+	/**
+	 * Used to write a signed int as a zig-zag encoded varint.
+	 * @param value The int to be written.
+	 */
+	void writeSignedVarInt(int value){
+		writeVarInt((value << 1) ^ (value >> 31));
+	}
+	
+	/**
+	 * Used to write a non-negative long as a varint.
+	 * @param value The long to be written.
+	 */
+	void writeVarLong(long value){
+		while((value & ~0x7FL) != 0){
+			write((int)(value & 0x7F) | 0x80);
+			value >>>= 7;
+		}
+		write((int)value);
+	}
+	
+	/**
+	 * Used to write a signed long as a zig-zag encoded varint.
+	 * @param value The long to be written.
+	 */
+	void writeSignedVarLong(long value){
+		writeVarLong((value << 1) ^ (value >> 63));
+	}
+	
+	/**
+	 * Used to write a String as its UTF-8 length plus one, then its UTF-8 bytes.
+	 * @param text The String to be written. A null String is written as a length of zero.
+	 */
+	void writeString(String text){
+		if(text == null){
+			writeVarInt(0);
+			return;
+		}
+		byte[] utf8 = text.getBytes(StandardCharsets.UTF_8);
+		writeVarInt(utf8.length + 1);
+		write(utf8);
+	}
+	
+	/**
+	 * Used to read one byte.
+	 * @return An int between 0 and 255 (inclusive).
+	 * @throws EOFException Thrown if every byte has been read.
+	 */
+	int readByte() throws EOFException{
+		if(position >= bytes.length)
+			throw new EOFException();
+		return bytes[position++] & 0xFF;
+	}
+	
+	/**
+	 * Used to read a varint.
+	 * @return The int that was read.
+	 * @throws IOException Thrown if the array ends early, or the varint is too long.
+	 */
+	int readVarInt() throws IOException{
+		int value = 0;
+		for(int shift = 0; shift < 35; shift += 7){
+			int b = readByte();
+			value |= (b & 0x7F) << shift;
+			if((b & 0x80) == 0)
+				return value;
+		}
+		throw new IOException("A varint is longer than 5 bytes.");
+	}
+	
+	/**
+	 * Used to read a zig-zag encoded varint.
+	 * @return The int that was read.
+	 * @throws IOException Thrown if the array ends early, or the varint is too long.
+	 */
+	int readSignedVarInt() throws IOException{
+		int value = readVarInt();
+		return (value >>> 1) ^ -(value & 1);
+	}
+	
+	/**
+	 * Used to read a varint written by writeVarLong(long).
+	 * @return The long that was read.
+	 * @throws IOException Thrown if the array ends early, or the varint is too long.
+	 */
+	long readVarLong() throws IOException{
+		long value = 0;
+		for(int shift = 0; shift < 70; shift += 7){
+			int b = readByte();
+			value |= (long)(b & 0x7F) << shift;
+			if((b & 0x80) == 0)
+				return value;
+		}
+		throw new IOException("A varint is longer than 10 bytes.");
+	}
+	
+	/**
+	 * Used to read a zig-zag encoded varint written by writeSignedVarLong(long).
+	 * @return The long that was read.
+	 * @throws IOException Thrown if the array ends early, or the varint is too long.
+	 */
+	long readSignedVarLong() throws IOException{
+		long value = readVarLong();
+		return (value >>> 1) ^ -(value & 1);
+	}
+	
+	/**
+	 * Used to read a String written by writeString(String).
+	 * @return The String that was read, or null.
+	 * @throws IOException Thrown if the array ends early.
+	 */
+	String readString() throws IOException{
+		int length = readVarInt();
+		if(length == 0)
+			return null;
+		int start = skip(length - 1);
+		return new String(bytes, start, length - 1, StandardCharsets.UTF_8);
+	}
+	
+	/**
+	 * Used to read an array of bytes written by write(byte[]), who's length is known.
+	 * @param length The number of bytes to be read.
+	 * @return A new byte array of the bytes that were read.
+	 * @throws EOFException Thrown if fewer than length bytes remain.
+	 */
+	byte[] readBytes(int length) throws EOFException{
+		int start = skip(length);
+		return Arrays.copyOfRange(bytes, start, start + length);
+	}
+	
+	/**
+	 * Used to skip over bytes that are read directly from the array.
+	 * @param count An int indicating the number of bytes to skip.
+	 * @return An int indicating the index of the first skipped byte.
+	 * @throws EOFException Thrown if fewer than count bytes remain.
+	 */
+	int skip(int count) throws EOFException{
+		if(count < 0 || position + count > bytes.length)
+			throw new EOFException();
+		int start = position;
+		position += count;
+		return start;
+	}
+}
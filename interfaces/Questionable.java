@@ -45,4 +45,11 @@ public interface Questionable {
 	 */
 	public int getMaxQuestions();
 	
+	/**
+	 * Used to remove this Questionable's question panel from the MainWindow, and release the panel and
+	 *  any audio. Called by the QuestionableObserver once it has asked all of its questions, since a
+	 *  Questionable that reports to an observer only hides its panel after each answer.
+	 */
+	public void tearDown();
+	
 }
@@ -24,14 +24,17 @@ import java.awt.event.WindowAdapter;
 import java.awt.event.WindowEvent;
 import java.awt.image.BufferedImage;
 import java.io.File;
+import java.io.BufferedWriter;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
-import java.io.ObjectInputStream;
-import java.io.ObjectOutputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
 import java.util.Calendar;
-import java.util.HashMap;
 
+import javax.management.JMException;
 import javax.swing.JLabel;
 import javax.swing.JOptionPane;
 import javax.swing.SwingUtilities;
@@ -46,16 +49,24 @@ import project.buttons.PreKModuleSelectPracticeButtons;
 import project.buttons.PreKModuleSelectTestButtons;
 import project.buttons.PreKModuleSelectTutorialButtons;
 import project.constants.DifficultyLevel;
-import project.database.ModuleReportSummary;
+import project.database.AnswerLog;
+import project.database.GradeExporter;
 import project.database.ReportCard;
+import project.database.RosterImporter;
+import project.database.StudentReportCard;
 import project.database.UserDatabase;
+import project.database.UserDatabaseCodec;
+import project.interfaces.EnumerableButtonFactory;
 import project.interfaces.ModuleSelectButtonInterface;
 import project.screens.MathHelperLogin;
-import project.screens.PreKModuleSelect;
 import project.screens.ReportCardScreen;
-import project.screens.WelcomeScreen;
+import project.screens.ScreenCache;
+import project.tools.FlightEvents;
 import project.tools.ImageLoader;
 import project.tools.MainWindow;
+import project.tools.ResponseTimes;
+import project.tools.ScreenLifecycle;
+import project.tools.StallWatchdog;
 import project.tools.TextFileMaker;
 import project.tools.fxMediaPanel;
 
@@ -109,7 +120,13 @@ public final class GUIManager{
  *************************/
 	
 	//The file path of the serialized database object.
-	private static final String DB_FILEPATH = System.getProperty("user.dir") + "\\db.dat";
+	private static final String DB_FILEPATH = System.getProperty("user.dir") + "\\db.bin";
+	//The database file written by Java serialization in previous versions. Converted to DB_FILEPATH once.
+	private static final String LEGACY_DB_FILEPATH = System.getProperty("user.dir") + "\\db.dat";
+	
+	//The default time the Event Dispatch Thread may be busy before a stall is reported, in milliseconds.
+	// May be changed with the "mathhelper.stallMillis" system property.
+	private static final int DEFAULT_STALL_MILLIS = 250;
 	
 	private static GUIManager singleInstance = new GUIManager(); //The singleton instance of GUIManager.
 	
@@ -132,10 +149,13 @@ public final class GUIManager{
 	//The current user's data.
 	private static String userName   = "Johnny"; //The current user's username. Set to a known default.
 	private String studentFolderName = null;     //The current user's directory name. (lastname, firstname)
+	private AnswerLog answerLog = null;          //Records the current user's answers. Created by initStudent().
 	private int           gradeLevel = 0;        //An int describing the the current user's grade level.
 	private UserDatabase database;
 	
 	private MainWindow mainWindow; //The root container of the Main Window.
+	private ScreenCache screenCache = new ScreenCache(this); //Keeps the Welcome and module select screens.
+	private StallWatchdog stallWatchdog = null; //Reports Event Dispatch Thread stalls. Created by start().
 	
 	/**
 	 * Used to catch any Throwable exceptions not caught by GUIManager's constructor's try/catch.
@@ -167,7 +187,9 @@ public final class GUIManager{
 		setUncaughtExecptionHandler();
 		if(dbExists())
 			readDatabase();
-		else
+		else if(new File(LEGACY_DB_FILEPATH).exists())
+			migrateDatabase();
+		if(database == null)
 			database   = new UserDatabase();
 	}
 	
@@ -224,6 +246,9 @@ public final class GUIManager{
 	 * Used to initialize the current user's data and open a WelcomeScreen that is appropriate for the user.
 	 */
 	private void start(){
+		startStallWatchdog();
+		registerMetrics();
+		ScreenLifecycle.startTelemetry();
 		initStudent();
 		try{
 			buildMainWindow();
@@ -251,6 +276,7 @@ public final class GUIManager{
 							+ " (" + userName + ")";
 		gradeLevel        = database.getGradeLevel(userName);
 		checkFileStructure();
+		answerLog         = new AnswerLog(new File(getTestFolderPath() + "Answers.bin"));
 	}
 	
 	
@@ -370,6 +396,50 @@ public final class GUIManager{
 	    return true;
 	}
 	
+	/**
+	 * Used to add every valid student in a CSV or TSV roster file to the database. The roster is read
+	 *  one line at a time, and students are added in batches. If any student was added, the database
+	 *  is written to disk once, after the whole roster has been read.
+	 * Unlike the program's screens, this method does not report errors with handleException(), so it
+	 *  may be used without a window. The roster must be encoded in UTF-8.
+	 * {@link project.database.RosterImporter See RosterImporter for the roster's format.}
+	 * @param rosterPath A String describing the roster file's full path.
+	 * @return A RosterImporter.Result describing the number of students added, the rejected lines,
+	 *  and the import rate.
+	 * @throws IOException Thrown if the roster file can not be read, or the database can not be written.
+	 */
+	public RosterImporter.Result importRoster(String rosterPath) throws IOException{
+		RosterImporter.Result result;
+		Reader reader = new InputStreamReader(new FileInputStream(rosterPath), StandardCharsets.UTF_8);
+		try{
+			result = RosterImporter.importRoster(database, reader);
+		}finally{
+			reader.close();
+		}
+		if(result.getImported() > 0)
+			saveDatabase();
+		return result;
+	}
+	
+	/**
+	 * Used to write every student's grades, for all modules and difficulty levels, to a file.
+	 * The file is encoded in UTF-8. Like importRoster(String), errors are thrown to the caller.
+	 * {@link project.database.GradeExporter See GradeExporter for the exported rows.}
+	 * @param exportPath A String describing the full path of the file to be written.
+	 * @param format The GradeExporter.Format of the file.
+	 * @return An int indicating the number of rows written.
+	 * @throws IOException Thrown if the file can not be written.
+	 */
+	public int exportGrades(String exportPath, GradeExporter.Format format) throws IOException{
+		BufferedWriter writer = new BufferedWriter(
+				new OutputStreamWriter(new FileOutputStream(exportPath), StandardCharsets.UTF_8));
+		try{
+			return GradeExporter.export(database, writer, format);
+		}finally{
+			writer.close();
+		}
+	}
+	
 	/**
 	 * Used to obtain the current user's grade for the specified test and difficulty level.
 	 * @param button A ModuleSelectButtonInterface that describes the test who's grade is to be retrieved.
@@ -379,7 +449,8 @@ public final class GUIManager{
 	 *  and difficulty level.
 	 */
 	public int getPreviousGrade(ModuleSelectButtonInterface button, DifficultyLevel difficulty){
-		return ReportCard.getGrade(database.getReportCard(userName), button, difficulty);
+		StudentReportCard reportCard = database.getReportCard(userName);
+		return (reportCard == null) ? -1 : ReportCard.getGrade(reportCard, button, difficulty);
 	}
 	
 	/**
@@ -395,8 +466,43 @@ public final class GUIManager{
 	 *  which will also be set for the specified test and difficulty level.
 	 */
 	public void setGrade(ModuleSelectButtonInterface button, DifficultyLevel difficulty, int numCorrect, int maxGrade){
-		HashMap<ModuleSelectButtonInterface, ModuleReportSummary> reportCard = database.getReportCard(userName);
-		database.setReportCard(userName, ReportCard.setGrade(reportCard, button, numCorrect, maxGrade, difficulty));
+		database.setGrade(userName, button, difficulty, numCorrect, maxGrade);
+	}
+	
+	/**
+	 * Used to record a completed test in the current user's attempt history. Unlike setGrade(), every
+	 *  completed test should be recorded, whether or not it improved the user's grade.
+	 * @param button A ModuleSelectButtonInterface that describes the test that was completed.
+	 * @param difficulty A DifficultyLevel that describes the difficulty level of the test.
+	 * @param numCorrect An int describing the number of correct answers that the current user achieved.
+	 * @param maxGrade An int describing the maximum attainable grade for the test.
+	 * @param durationMillis A long describing how long the test took, in milliseconds.
+	 */
+	public void recordAttempt(ModuleSelectButtonInterface button, DifficultyLevel difficulty, int numCorrect,
+			int maxGrade, long durationMillis){
+		database.recordAttempt(userName, System.currentTimeMillis(), button, difficulty, numCorrect, maxGrade,
+				durationMillis);
+		if(answerLog != null)
+			answerLog.flush();
+	}
+	
+	/**
+	 * Used to record one of the current user's answers in their answer log. Does not allocate, and
+	 *  does not wait for the answer file to be written. See the AnswerLog class for details.
+	 * @param button A ModuleSelectButtonInterface that describes the test that asked the question.
+	 * @param difficulty A DifficultyLevel that describes the difficulty level of the test.
+	 * @param question An int describing the question number, starting at 1.
+	 * @param operand1 An int describing the question's first operand, or 0 if it has none.
+	 * @param operand2 An int describing the question's second operand, or 0 if it has none.
+	 * @param expected An int describing the correct answer.
+	 * @param given An int describing the user's answer.
+	 * @param isCorrect A boolean indicating true if the user's answer was correct.
+	 * @param responseNanos A long describing how long the user took to answer, in nanoseconds.
+	 */
+	public void recordAnswer(ModuleSelectButtonInterface button, DifficultyLevel difficulty, int question,
+			int operand1, int operand2, int expected, int given, boolean isCorrect, long responseNanos){
+		if(answerLog != null)
+			answerLog.record(button, difficulty, question, operand1, operand2, expected, given, isCorrect, responseNanos);
 	}
 	
 	/**
@@ -426,31 +532,152 @@ public final class GUIManager{
 	}
 	
 	/**
-	 * Used to write the database object to disk.
+	 * Used to write the current user's remaining answers to their answer file, and stop the answer
+	 *  log's background thread.
+	 */
+	private void closeAnswerLog(){
+		if(answerLog == null)
+			return;
+		//Cleared first, as handleException() closes the window again.
+		AnswerLog log = answerLog;
+		answerLog = null;
+		try{
+			log.close();
+		}catch(IOException e){
+			handleException(e);
+		}
+	}
+	
+	/**
+	 * Used to write the response time histograms of every test taken since the program started to a
+	 *  new file in the "Diagnostics" folder. Nothing is written if no question has been timed.
+	 *  See ResponseTimes.export().
+	 */
+	public void exportResponseTimes(){
+		if(ResponseTimes.getCount() == 0)
+			return;
+		try {
+			TextFileMaker.writeArray("Diagnostics\\", "ResponseTimes_" + TextFileMaker.getTimeStamp(),
+					ResponseTimes.export());
+		} catch (IOException e) {
+			handleException(e);
+		}
+	}
+	
+	/**
+	 * Used to stop screen telemetry, and write every screen leak and growing screen class reported since
+	 *  the program started to a new "Leaks_" file in the "ErrorLogs" folder. Nothing is written if
+	 *  nothing was reported. See ScreenLifecycle.
+	 */
+	public void exportScreenLeaks(){
+		ScreenLifecycle.stopTelemetry();
+		String[] report = ScreenLifecycle.getReport();
+		if(report.length == 0)
+			return;
+		try {
+			TextFileMaker.writeArray("ErrorLogs\\", "Leaks_" + TextFileMaker.getTimeStamp(), report);
+		} catch (IOException e) {
+			handleException(e);
+		}
+	}
+	
+	/**
+	 * Used to begin watching the Event Dispatch Thread for stalls. Stalls are reported in a new
+	 *  "Stalls_" file in the "ErrorLogs" folder. See StallWatchdog.
+	 */
+	private void startStallWatchdog(){
+		File report = new File("ErrorLogs\\", "Stalls_" + TextFileMaker.getTimeStamp() + ".txt");
+		for(int i = 1; report.exists(); i++)
+			report = new File("ErrorLogs\\", "Stalls_" + TextFileMaker.getTimeStamp() + "_" + i + ".txt");
+		stallWatchdog = new StallWatchdog(Integer.getInteger("mathhelper.stallMillis", DEFAULT_STALL_MILLIS), report);
+		stallWatchdog.start();
+	}
+	
+	/**
+	 * Used to obtain the number of Event Dispatch Thread stalls reported since the program started.
+	 * @return A long indicating the number of stalls, or 0 if the StallWatchdog is not running.
+	 */
+	public long getDispatchStallCount(){
+		StallWatchdog watchdog = stallWatchdog;
+		return (watchdog == null) ? 0 : watchdog.getStallCount();
+	}
+	
+	/**
+	 * Used to register the MathHelperMetrics management bean, so the program may be watched with jconsole.
+	 */
+	private void registerMetrics(){
+		try{
+			MathHelperMetrics.register(this);
+		}catch(JMException e){
+			handleException(e);
+		}
+	}
+	
+	/**
+	 * Used to stop watching the Event Dispatch Thread, and write the final stall report.
+	 */
+	private void stopStallWatchdog(){
+		if(stallWatchdog == null)
+			return;
+		//Cleared first, as handleException() closes the window again.
+		StallWatchdog watchdog = stallWatchdog;
+		stallWatchdog = null;
+		try{
+			watchdog.stop();
+		}catch(IOException e){
+			handleException(e);
+		}
+	}
+	
+	/**
+	 * Used to write the database object to disk. Errors are reported using handleException().
 	 */
 	public void writeDatabase(){
 		try {
-			FileOutputStream fout = new FileOutputStream(DB_FILEPATH);
-			ObjectOutputStream oos = new ObjectOutputStream(fout);
-			oos.writeObject(database);
-			oos.close();
-			fout.close();
+			saveDatabase();
 		} catch (IOException e) {
 			handleException(e);
 		}
 	}
 	
+	/**
+	 * A helper method, used to write the database object to disk.
+	 * @throws IOException Thrown if the database file can not be written.
+	 */
+	private void saveDatabase() throws IOException{
+		File file = new File(DB_FILEPATH);
+		FlightEvents.DatabaseWrite event = new FlightEvents.DatabaseWrite(DB_FILEPATH);
+		long startTime = System.nanoTime();
+		UserDatabaseCodec.write(database, file);
+		MathHelperMetrics.databaseSaved(System.nanoTime() - startTime);
+		event.commit(file.length(), database.size());
+	}
+	
 	/**
 	 * Used to retrieve the database object from a file.
 	 */
 	private void readDatabase(){
+		File file = new File(DB_FILEPATH);
+		FlightEvents.DatabaseRead event = new FlightEvents.DatabaseRead(DB_FILEPATH);
+		try {
+			database = UserDatabaseCodec.read(file);
+			event.commit(file.length(), database.size());
+		} catch (IOException e) {
+			handleException(e);
+		}
+	}
+	
+	/**
+	 * Used to convert the database file written by previous versions to the current format. The
+	 *  previous file is left in place, but is not read again once the new file exists.
+	 */
+	private void migrateDatabase(){
+		File legacyFile = new File(LEGACY_DB_FILEPATH);
+		FlightEvents.DatabaseRead event = new FlightEvents.DatabaseRead(LEGACY_DB_FILEPATH);
 		try {
-			FileInputStream fis = new FileInputStream(DB_FILEPATH);
-			ObjectInputStream ois = new ObjectInputStream(fis);
-			database = (UserDatabase)ois.readObject();
-			ois.close();
-			fis.close();
-		} catch (IOException | ClassNotFoundException e) {
+			database = UserDatabaseCodec.migrate(legacyFile, new File(DB_FILEPATH));
+			event.commit(legacyFile.length(), database.size());
+		} catch (IOException e) {
 			handleException(e);
 		}
 	}
@@ -480,7 +707,11 @@ public final class GUIManager{
 		mainWindow.addWindowListener( new WindowAdapter(){
 			public void windowClosing(WindowEvent e){
 				MainWindow frame = (MainWindow)e.getSource();
+				closeAnswerLog();
+				exportResponseTimes();
+				exportScreenLeaks();
 				writeDatabase();
+				stopStallWatchdog();
 				frame.setDefaultCloseOperation(MainWindow.EXIT_ON_CLOSE);
 			}
 		});
@@ -495,12 +726,13 @@ public final class GUIManager{
 	}
 	
 	/**
-	 * Creates a new WelcomeScreen that will change mainWindow's background and populate mainWindow
-	 *  with appropriate JComponents. All Exceptions are thrown to the caller method.
+	 * Displays the WelcomeScreen, which will change mainWindow's background and populate mainWindow
+	 *  with appropriate JComponents. The WelcomeScreen is only built once; see ScreenCache. All
+	 *  Exceptions are thrown to the caller method.
 	 * @throws IOException {@link project.screens.WelcomeScreen See the WelcomeScreen's constructor details}.
 	 */
 	public void buildWelcomeScreen() throws IOException{
-		new WelcomeScreen(this, database.getFirstName(userName));
+		screenCache.showWelcomeScreen(database.getFirstName(userName));
 	}
 	
 	/**
@@ -509,7 +741,7 @@ public final class GUIManager{
 	 */
 	public void buildReportCardScreen() throws IOException{
 		int size;
-		HashMap<ModuleSelectButtonInterface, ModuleReportSummary> reportMap = database.getReportCard(userName);
+		StudentReportCard reportMap = database.getReportCard(userName);
 		switch(gradeLevel){
 			case 0:  size = PreKModuleSelectTestButtons.Button.values().length;
 					 new ReportCardScreen(this, new PreKModuleSelectTestButtons(size), reportMap);
@@ -527,51 +759,65 @@ public final class GUIManager{
 	}
 	
 	/**
-	 * Creates a new ModuleSelect screen for the current gradeLevel when a user selects
+	 * Displays the ModuleSelect screen for the current gradeLevel when a user selects
 	 *  the "Test" option. Invoking this method will change mainWindow's background and
-	 *  populate mainWindow with appropriate JComponents. All Exceptions are thrown to
-	 *  the caller method.
+	 *  populate mainWindow with appropriate JComponents. The screen is cached, and its
+	 *  buttons are only rebuilt if the user's last active Test has changed; see ScreenCache.
+	 *  All Exceptions are thrown to the caller method.
 	 * @throws IOException {@link project.screens.PreKModuleSelect See the PreKModuleSelect constructor details.}
 	 */
 	public void buildTestModuleSelect() throws IOException{
 		int lastActiveButton = database.getLastActiveTest(userName);
+		if(screenCache.showModuleSelect(ScreenCache.ModuleSelect.TEST, lastActiveButton))
+			return;
+		EnumerableButtonFactory buttons;
 		switch(gradeLevel){
-			case 0:  new PreKModuleSelect(this, new PreKModuleSelectTestButtons(lastActiveButton)) ;  break;
-			case 1:  new PreKModuleSelect(this, new Grade1ModuleSelectTestButtons(lastActiveButton)); break;
-			case 2:  new PreKModuleSelect(this, new Grade3ModuleSelectTestButtons(lastActiveButton)); break;
-			default: new PreKModuleSelect(this, new PreKModuleSelectTestButtons(lastActiveButton))  ; break;
+			case 0:  buttons = new PreKModuleSelectTestButtons(lastActiveButton) ;  break;
+			case 1:  buttons = new Grade1ModuleSelectTestButtons(lastActiveButton); break;
+			case 2:  buttons = new Grade3ModuleSelectTestButtons(lastActiveButton); break;
+			default: buttons = new PreKModuleSelectTestButtons(lastActiveButton)  ; break;
 		}
+		screenCache.showModuleSelect(ScreenCache.ModuleSelect.TEST, lastActiveButton, buttons);
 	}
 	
 	/**
-	 * Creates a new ModuleSelect screen for the current gradeLevel when a user selects the
+	 * Displays the ModuleSelect screen for the current gradeLevel when a user selects the
 	 *  "Practice" option. Invoking this method will change mainWindow's background and populate
-	 *  mainWindow with appropriate JComponents. All Exceptions are thrown to the caller method.
+	 *  mainWindow with appropriate JComponents. The screen is only built once; see ScreenCache.
+	 *  All Exceptions are thrown to the caller method.
 	 * @throws IOException {@link project.screens.PreKModuleSelect See the PreKModuleSelect constructor details.}
 	 */
 	public void buildPracticeModuleSelect() throws IOException{
+		if(screenCache.showModuleSelect(ScreenCache.ModuleSelect.PRACTICE, 0))
+			return;
+		EnumerableButtonFactory buttons;
 		switch(gradeLevel){
-			case 0:  new PreKModuleSelect(this, new PreKModuleSelectPracticeButtons()) ;  break;
-			case 1:  new PreKModuleSelect(this, new Grade1ModuleSelectPracticeButtons()); break;
-			case 2:  new PreKModuleSelect(this, new Grade3ModuleSelectPracticeButtons()); break;
-			default: new PreKModuleSelect(this, new PreKModuleSelectPracticeButtons())  ; break;
+			case 0:  buttons = new PreKModuleSelectPracticeButtons() ;  break;
+			case 1:  buttons = new Grade1ModuleSelectPracticeButtons(); break;
+			case 2:  buttons = new Grade3ModuleSelectPracticeButtons(); break;
+			default: buttons = new PreKModuleSelectPracticeButtons()  ; break;
 		}
+		screenCache.showModuleSelect(ScreenCache.ModuleSelect.PRACTICE, 0, buttons);
 	}
 	
 	/**
-	 * Creates a new ModuleSelect screen for the current gradeLevel when a user selects
+	 * Displays the ModuleSelect screen for the current gradeLevel when a user selects
 	 *  the "Tutorial" option. Invoking this method will change mainWindow's background
-	 *  and populate mainWindow with appropriate JComponents. All Exceptions are thrown
-	 *  to the caller method.
+	 *  and populate mainWindow with appropriate JComponents. The screen is only built
+	 *  once; see ScreenCache. All Exceptions are thrown to the caller method.
 	 * @throws IOException {@link project.screens.PreKModuleSelect See the PreKModuleSelect constructor details.}
 	 */
 	public void buildTutorialModuleSelect() throws IOException{
+		if(screenCache.showModuleSelect(ScreenCache.ModuleSelect.TUTORIAL, 0))
+			return;
+		EnumerableButtonFactory buttons;
 		switch(gradeLevel){
-			case 0:  new PreKModuleSelect(this, new PreKModuleSelectTutorialButtons()) ;  break;
-			case 1:  new PreKModuleSelect(this, new Grade1ModuleSelectTutorialButtons()); break;
-			case 2:  new PreKModuleSelect(this, new Grade3ModuleSelectTutorialButtons()); break;
-			default: new PreKModuleSelect(this, new PreKModuleSelectTutorialButtons())  ; break;
+			case 0:  buttons = new PreKModuleSelectTutorialButtons() ;  break;
+			case 1:  buttons = new Grade1ModuleSelectTutorialButtons(); break;
+			case 2:  buttons = new Grade3ModuleSelectTutorialButtons(); break;
+			default: buttons = new PreKModuleSelectTutorialButtons()  ; break;
 		}
+		screenCache.showModuleSelect(ScreenCache.ModuleSelect.TUTORIAL, 0, buttons);
 	}
 	
 	/**
@@ -619,6 +865,22 @@ public final class GUIManager{
 	    Thread.currentThread().setUncaughtExceptionHandler(globalExceptionHandler);
 	}
 	
+	/**
+	 * Used to obtain the number of errors logged since the program started.
+	 * @return An int indicating the number of logged errors.
+	 */
+	public int getErrorCount(){
+		return errorNumber - 1;
+	}
+	
+	/**
+	 * Used to obtain the length of the error log that will be written when the program exits.
+	 * @return An int indicating the error log's length, in characters.
+	 */
+	public int getErrorLogLength(){
+		return errorLog.length();
+	}
+	
 	/**
 	 * This method is used as a catch-all for all Exceptions thrown by this thread. It aids in
 	 *  error reporting by creating an error log, and provides user feedback by using an pop-up
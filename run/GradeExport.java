@@ -0,0 +1,61 @@
+/**
+ * Name:         Math Helper
+ * Version:      1.0.0
+ * Version Date: 04/30/2015
+ * Team:         "Cool Math" - Consists of Kenneth Chin, Chris Moraal, Elena Eroshkina, and Austin Clark
+ * Purpose:      The "Math Helper" software is used to aid parents and teachers with the teaching and testing
+ *                 of students, grades PreK through Grade 4, in the subject of Mathematics. The lessons and
+ *                 tests provided cover a subset of skills as specified by the Massachusetts Department of
+ *                 Education's (DOE) website, found at:
+ *                              http://www.doe.mass.edu/frameworks/math/2000/toc.html
+ *                 The DOE category, Number Sense and Operations for Grades Pre-K through Grade 4,
+ *                 is the subset that the "Math Helper" software covers.
+ *                 
+ *               Features and services of the "Math Helper" software include, Login/Logout mechanics,
+ *                 practice and formal testing, and tutorials of the above-specified skills. Additional
+ *                 features include test completion results, test completion summaries, and test
+ *                 completion rewards.
+ */
+package project.run;
+
+import java.io.IOException;
+
+import project.database.GradeExporter;
+
+/**
+ * Exports every student's grades to a CSV or JSON-lines file, without opening the program's window.
+ *  The exported rows are described by {@link project.database.GradeExporter GradeExporter}.
+ * Usage: GradeExport &lt;csv|jsonl&gt; &lt;output file&gt;
+ * The file is written in UTF-8.
+ * @author Kenneth Chin
+ *
+ */
+public class GradeExport {
+	
+	/**
+	 * Run the grade export.
+	 * @param args The export format ("csv" or "jsonl"), followed by the output file's path.
+	 */
+	public static void main(String[] args){
+		GradeExporter.Format format = null;
+		if(args.length == 2){
+			for(GradeExporter.Format aFormat: GradeExporter.Format.values()){
+				if(aFormat.getExtension().equalsIgnoreCase(args[0]))
+					format = aFormat;
+			}
+		}
+		if(format == null){
+			System.err.println("Usage: GradeExport <csv|jsonl> <output file>");
+			System.exit(1);
+		}
+		try{
+			long startTime = System.nanoTime();
+			int rows = GUIManager.getInstance().exportGrades(args[1], format);
+			long elapsedMillis = (System.nanoTime() - startTime) / 1000000;
+			System.out.println("Exported " + rows + " rows to \"" + args[1] + "\" in " + elapsedMillis + " ms.");
+		}catch(IOException e){
+			System.err.println("The file \"" + args[1] + "\" could not be written: " + e.getMessage());
+			System.exit(1);
+		}
+	}
+}
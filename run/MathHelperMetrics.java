@@ -0,0 +1,283 @@
+/**
+ * Name:         Math Helper
+ * Version:      1.0.0
+ * Version Date: 04/30/2015
+ * Team:         "Cool Math" - Consists of Kenneth Chin, Chris Moraal, Elena Eroshkina, and Austin Clark
+ * Purpose:      The "Math Helper" software is used to aid parents and teachers with the teaching and testing
+ *                 of students, grades PreK through Grade 4, in the subject of Mathematics. The lessons and
+ *                 tests provided cover a subset of skills as specified by the Massachusetts Department of
+ *                 Education's (DOE) website, found at:
+ *                              http://www.doe.mass.edu/frameworks/math/2000/toc.html
+ *                 The DOE category, Number Sense and Operations for Grades Pre-K through Grade 4,
+ *                 is the subset that the "Math Helper" software covers.
+ *                 
+ *               Features and services of the "Math Helper" software include, Login/Logout mechanics,
+ *                 practice and formal testing, and tutorials of the above-specified skills. Additional
+ *                 features include test completion results, test completion summaries, and test
+ *                 completion rewards.
+ */
+package project.run;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.sound.sampled.Clip;
+import javax.sound.sampled.LineEvent;
+import javax.sound.sampled.LineListener;
+
+import project.tools.ContentPane;
+import project.tools.FontMaker;
+import project.tools.ImageAtlas;
+import project.tools.ImageLoader;
+import project.tools.ScreenLifecycle;
+import project.tools.TextCache;
+
+/**
+ * This class is the program's JMX management bean. It holds the counters that have no other home
+ *  (questions served, answers graded, database saves, and audio Clips), and reads every other counter
+ *  from the class that keeps it. Call register(GUIManager) once at startup.
+ * The counting methods are static, so tests and screens need no reference to the registered bean.
+ * @author Kenneth Chin
+ */
+public final class MathHelperMetrics implements MathHelperMetricsMXBean {
+	
+	/**
+	 * The ObjectName the bean is registered under.
+	 */
+	public static final String OBJECT_NAME = "project:type=MathHelperMetrics";
+	
+	private static final AtomicLong questionsServed  = new AtomicLong(); //The number of questions displayed.
+	private static final AtomicLong answersGraded    = new AtomicLong(); //The number of answers graded.
+	private static final AtomicLong databaseSaves    = new AtomicLong(); //The number of database saves.
+	private static final AtomicLong databaseNanos    = new AtomicLong(); //The total database save time.
+	private static final AtomicLong lastDatabaseNanos = new AtomicLong(); //The last database save's time.
+	private static final AtomicLong maxDatabaseNanos = new AtomicLong(); //The slowest database save's time.
+	private static final AtomicLong clipsOpened      = new AtomicLong(); //The number of Clips opened.
+	private static final AtomicInteger activeClips   = new AtomicInteger(); //The number of Clips open now.
+	
+	//Counts every tracked Clip's OPEN and CLOSE events. Shared by every Clip.
+	private static final LineListener clipListener = new LineListener(){
+		@Override
+		public void update(LineEvent event){
+			if(event.getType() == LineEvent.Type.OPEN){
+				clipsOpened.incrementAndGet();
+				activeClips.incrementAndGet();
+			}else if(event.getType() == LineEvent.Type.CLOSE){
+				activeClips.decrementAndGet();
+			}
+		}
+	};
+	
+	private final GUIManager manager; //The GUIManager whose error log and StallWatchdog are reported.
+	
+	/**
+	 * Creates a MathHelperMetrics bean. Use register(GUIManager) instead.
+	 * @param manager The GUIManager whose error log and StallWatchdog are reported.
+	 */
+	private MathHelperMetrics(GUIManager manager){
+		this.manager = manager;
+	}
+	
+	/**
+	 * Used to register a MathHelperMetrics bean with the platform MBeanServer, under OBJECT_NAME. If a
+	 *  bean is already registered, nothing is done.
+	 * @param manager The GUIManager whose error log and StallWatchdog are reported.
+	 * @throws JMException Thrown if the bean could not be registered.
+	 */
+	public static void register(GUIManager manager) throws JMException{
+		MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+		ObjectName name = new ObjectName(OBJECT_NAME);
+		if(!server.isRegistered(name))
+			server.registerMBean(new MathHelperMetrics(manager), name);
+	}
+	
+	/**
+	 * Used to count a displayed test question.
+	 */
+	public static void questionServed(){
+		questionsServed.incrementAndGet();
+	}
+	
+	/**
+	 * Used to count a graded test answer.
+	 */
+	public static void answerGraded(){
+		answersGraded.incrementAndGet();
+	}
+	
+	/**
+	 * Used to count a database save.
+	 * @param nanos A long describing how long the save took, in nanoseconds.
+	 */
+	public static void databaseSaved(long nanos){
+		databaseSaves.incrementAndGet();
+		databaseNanos.addAndGet(nanos);
+		lastDatabaseNanos.set(nanos);
+		long max = maxDatabaseNanos.get();
+		while(nanos > max && !maxDatabaseNanos.compareAndSet(max, nanos))
+			max = maxDatabaseNanos.get();
+	}
+	
+	/**
+	 * Used to count the specified Clip while it is open. Must be called before the Clip is opened.
+	 * @param clip The Clip to be counted.
+	 */
+	public static void trackClip(Clip clip){
+		clip.addLineListener(clipListener);
+	}
+	
+	@Override
+	public long getQuestionsServed(){
+		return questionsServed.get();
+	}
+	
+	@Override
+	public long getAnswersGraded(){
+		return answersGraded.get();
+	}
+	
+	@Override
+	public long getDatabaseSaveCount(){
+		return databaseSaves.get();
+	}
+	
+	@Override
+	public double getDatabaseSaveTotalMillis(){
+		return databaseNanos.get() / 1000000.0;
+	}
+	
+	@Override
+	public double getDatabaseSaveLastMillis(){
+		return lastDatabaseNanos.get() / 1000000.0;
+	}
+	
+	@Override
+	public double getDatabaseSaveMaxMillis(){
+		return maxDatabaseNanos.get() / 1000000.0;
+	}
+	
+	@Override
+	public long getImageAtlasHits(){
+		return ImageAtlas.getHitCount();
+	}
+	
+	@Override
+	public long getImageAtlasMisses(){
+		return ImageAtlas.getMissCount();
+	}
+	
+	@Override
+	public double getImageAtlasHitRate(){
+		return rate(ImageAtlas.getHitCount(), ImageAtlas.getMissCount());
+	}
+	
+	@Override
+	public long getImageFileReads(){
+		return ImageLoader.getReadCount();
+	}
+	
+	@Override
+	public long getFontMetricsHits(){
+		return FontMaker.getMetricsHitCount();
+	}
+	
+	@Override
+	public long getFontMetricsMisses(){
+		return FontMaker.getMetricsMissCount();
+	}
+	
+	@Override
+	public double getFontMetricsHitRate(){
+		return rate(FontMaker.getMetricsHitCount(), FontMaker.getMetricsMissCount());
+	}
+	
+	@Override
+	public long getFontFileReads(){
+		return FontMaker.getFontReadCount();
+	}
+	
+	@Override
+	public double getTextCacheHitRate(){
+		return rate(TextCache.getHitCount(), TextCache.getParseCount());
+	}
+	
+	@Override
+	public long getContentPanePaintCount(){
+		return ContentPane.getPaintCount();
+	}
+	
+	@Override
+	public double getContentPanePaintMillis(){
+		return ContentPane.getPaintNanos() / 1000000.0;
+	}
+	
+	@Override
+	public int getLiveContentPanes(){
+		return ContentPane.getLiveCount();
+	}
+	
+	@Override
+	public long getContentPanesCreated(){
+		return ContentPane.getCreatedCount();
+	}
+	
+	@Override
+	public int getActiveClips(){
+		return activeClips.get();
+	}
+	
+	@Override
+	public long getClipsOpened(){
+		return clipsOpened.get();
+	}
+	
+	@Override
+	public int getErrorCount(){
+		return manager.getErrorCount();
+	}
+	
+	@Override
+	public int getErrorLogLength(){
+		return manager.getErrorLogLength();
+	}
+	
+	@Override
+	public long getDispatchStallCount(){
+		return manager.getDispatchStallCount();
+	}
+	
+	@Override
+	public int getOpenScreens(){
+		return ScreenLifecycle.getOpenCount();
+	}
+	
+	@Override
+	public int getRetainedScreens(){
+		return ScreenLifecycle.getRetainedCount();
+	}
+	
+	@Override
+	public long getScreenLeaks(){
+		return ScreenLifecycle.getLeakCount();
+	}
+	
+	@Override
+	public int getGrowingScreenFlags(){
+		return ScreenLifecycle.getFlaggedCount();
+	}
+	
+	/**
+	 * Used to calculate a hit rate.
+	 * @param hits A long indicating the number of hits.
+	 * @param misses A long indicating the number of misses.
+	 * @return A double between 0 and 1 describing hits / (hits + misses), or 0 if both are 0.
+	 */
+	private static double rate(long hits, long misses){
+		long total = hits + misses;
+		return (total == 0) ? 0 : (double)hits / total;
+	}
+}
@@ -0,0 +1,173 @@
+/**
+ * Name:         Math Helper
+ * Version:      1.0.0
+ * Version Date: 04/30/2015
+ * Team:         "Cool Math" - Consists of Kenneth Chin, Chris Moraal, Elena Eroshkina, and Austin Clark
+ * Purpose:      The "Math Helper" software is used to aid parents and teachers with the teaching and testing
+ *                 of students, grades PreK through Grade 4, in the subject of Mathematics. The lessons and
+ *                 tests provided cover a subset of skills as specified by the Massachusetts Department of
+ *                 Education's (DOE) website, found at:
+ *                              http://www.doe.mass.edu/frameworks/math/2000/toc.html
+ *                 The DOE category, Number Sense and Operations for Grades Pre-K through Grade 4,
+ *                 is the subset that the "Math Helper" software covers.
+ *                 
+ *               Features and services of the "Math Helper" software include, Login/Logout mechanics,
+ *                 practice and formal testing, and tutorials of the above-specified skills. Additional
+ *                 features include test completion results, test completion summaries, and test
+ *                 completion rewards.
+ */
+package project.run;
+
+/**
+ * The management interface of MathHelperMetrics. Every attribute is read-only, and may be watched with
+ *  jconsole or any other JMX client, under the ObjectName "project:type=MathHelperMetrics".
+ * Counters count from the moment the program started. Gauges describe the program's current state.
+ * @author Kenneth Chin
+ */
+public interface MathHelperMetricsMXBean {
+	
+	/**
+	 * @return A long indicating the number of test questions displayed.
+	 */
+	public long getQuestionsServed();
+	
+	/**
+	 * @return A long indicating the number of test answers graded.
+	 */
+	public long getAnswersGraded();
+	
+	/**
+	 * @return A long indicating the number of times the user database was saved.
+	 */
+	public long getDatabaseSaveCount();
+	
+	/**
+	 * @return A double describing the total time spent saving the user database, in milliseconds.
+	 */
+	public double getDatabaseSaveTotalMillis();
+	
+	/**
+	 * @return A double describing the time the last user database save took, in milliseconds.
+	 */
+	public double getDatabaseSaveLastMillis();
+	
+	/**
+	 * @return A double describing the time the slowest user database save took, in milliseconds.
+	 */
+	public double getDatabaseSaveMaxMillis();
+	
+	/**
+	 * @return A long indicating the number of images returned from the image atlas.
+	 */
+	public long getImageAtlasHits();
+	
+	/**
+	 * @return A long indicating the number of images that were not in the image atlas.
+	 */
+	public long getImageAtlasMisses();
+	
+	/**
+	 * @return A double between 0 and 1 describing the fraction of atlas requests that were hits, or 0 if
+	 *  there were none.
+	 */
+	public double getImageAtlasHitRate();
+	
+	/**
+	 * @return A long indicating the number of image files read from disk.
+	 */
+	public long getImageFileReads();
+	
+	/**
+	 * @return A long indicating the number of cached FontMetrics returned.
+	 */
+	public long getFontMetricsHits();
+	
+	/**
+	 * @return A long indicating the number of FontMetrics created.
+	 */
+	public long getFontMetricsMisses();
+	
+	/**
+	 * @return A double between 0 and 1 describing the fraction of FontMetrics requests that were hits, or 0
+	 *  if there were none.
+	 */
+	public double getFontMetricsHitRate();
+	
+	/**
+	 * @return A long indicating the number of font files read from disk.
+	 */
+	public long getFontFileReads();
+	
+	/**
+	 * @return A double between 0 and 1 describing the fraction of HTML texts that did not need to be
+	 *  parsed again, or 0 if there were none.
+	 */
+	public double getTextCacheHitRate();
+	
+	/**
+	 * @return A long indicating the number of times any ContentPane has been painted.
+	 */
+	public long getContentPanePaintCount();
+	
+	/**
+	 * @return A double describing the total time spent painting ContentPanes, in milliseconds.
+	 */
+	public double getContentPanePaintMillis();
+	
+	/**
+	 * @return An int indicating the number of ContentPanes that have not been garbage collected.
+	 */
+	public int getLiveContentPanes();
+	
+	/**
+	 * @return A long indicating the number of ContentPanes created.
+	 */
+	public long getContentPanesCreated();
+	
+	/**
+	 * @return An int indicating the number of audio Clips that are open.
+	 */
+	public int getActiveClips();
+	
+	/**
+	 * @return A long indicating the number of audio Clips that have been opened.
+	 */
+	public long getClipsOpened();
+	
+	/**
+	 * @return An int indicating the number of errors logged.
+	 */
+	public int getErrorCount();
+	
+	/**
+	 * @return An int indicating the length of the error log that will be written when the program exits,
+	 *  in characters.
+	 */
+	public int getErrorLogLength();
+	
+	/**
+	 * @return A long indicating the number of Event Dispatch Thread stalls reported by the StallWatchdog.
+	 */
+	public long getDispatchStallCount();
+	
+	/**
+	 * @return An int indicating the number of screens that have been built, but not torn down.
+	 */
+	public int getOpenScreens();
+	
+	/**
+	 * @return An int indicating the number of torn down screens that had not been garbage collected
+	 *  at the last telemetry sample.
+	 */
+	public int getRetainedScreens();
+	
+	/**
+	 * @return A long indicating the number of layers, observers, Timers and Clips that screens did not release.
+	 */
+	public long getScreenLeaks();
+	
+	/**
+	 * @return An int indicating the number of times a class has been flagged for growing retention.
+	 */
+	public int getGrowingScreenFlags();
+}
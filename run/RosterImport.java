@@ -0,0 +1,54 @@
+/**
+ * Name:         Math Helper
+ * Version:      1.0.0
+ * Version Date: 04/30/2015
+ * Team:         "Cool Math" - Consists of Kenneth Chin, Chris Moraal, Elena Eroshkina, and Austin Clark
+ * Purpose:      The "Math Helper" software is used to aid parents and teachers with the teaching and testing
+ *                 of students, grades PreK through Grade 4, in the subject of Mathematics. The lessons and
+ *                 tests provided cover a subset of skills as specified by the Massachusetts Department of
+ *                 Education's (DOE) website, found at:
+ *                              http://www.doe.mass.edu/frameworks/math/2000/toc.html
+ *                 The DOE category, Number Sense and Operations for Grades Pre-K through Grade 4,
+ *                 is the subset that the "Math Helper" software covers.
+ *                 
+ *               Features and services of the "Math Helper" software include, Login/Logout mechanics,
+ *                 practice and formal testing, and tutorials of the above-specified skills. Additional
+ *                 features include test completion results, test completion summaries, and test
+ *                 completion rewards.
+ */
+package project.run;
+
+import java.io.IOException;
+
+import project.database.RosterImporter;
+
+/**
+ * Adds a roster of students to the database, without opening the program's window. The roster's
+ *  format is described by {@link project.database.RosterImporter RosterImporter}.
+ * Usage: RosterImport &lt;roster file&gt;
+ * The roster file must be encoded in UTF-8.
+ * @author Kenneth Chin
+ *
+ */
+public class RosterImport {
+	
+	/**
+	 * Run the roster import.
+	 * @param args The roster file's path.
+	 */
+	public static void main(String[] args){
+		if(args.length != 1){
+			System.err.println("Usage: RosterImport <roster file>");
+			System.exit(1);
+		}
+		try{
+			RosterImporter.Result result = GUIManager.getInstance().importRoster(args[0]);
+			System.out.println(result);
+			for(String reject: result.getRejects())
+				System.out.println(reject);
+		}catch(IOException e){
+			System.err.println("The roster \"" + args[0] + "\" could not be imported: " + e.getMessage());
+			System.exit(1);
+		}
+	}
+}
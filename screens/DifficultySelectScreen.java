@@ -33,9 +33,12 @@ import project.interfaces.ClickableObserver;
 import project.interfaces.ModuleSelectButtonInterface;
 import project.run.GUIManager;
 import project.tools.ContentPane;
+import project.tools.FlightEvents;
 import project.tools.FontMaker;
+import project.tools.ImageAtlas;
 import project.tools.ImageLoader;
 import project.tools.MainWindow;
+import project.tools.ScreenLifecycle;
 
 /**
  * This class is used by classes/enums that implement ModuleSelectButtonInterface to obtain
@@ -78,10 +81,13 @@ public class DifficultySelectScreen implements ClickableObserver{
 	 * @throws IOException Thrown if any DifficultySelectScreen image file can not be read.
 	 */
 	public DifficultySelectScreen(GUIManager manager, ModuleSelectButtonInterface observer) throws IOException{
+		FlightEvents.ScreenBuild event = new FlightEvents.ScreenBuild(getClass());
+		ScreenLifecycle.begin(this, true);
 		this.manager    = manager;
 		this.mainWindow = manager.getMainWindow();
 		this.observer   = observer;
 		init();
+		event.commit();
 	}
 	
 	/**
@@ -178,7 +184,7 @@ public class DifficultySelectScreen implements ClickableObserver{
 	 * @throws IOException Thrown if the specified image file can not be read.
 	 */
 	private ContentPane makeButton(String imagePath, String name) throws IOException{
-		BufferedImage image = ImageLoader.getBufferedImage(imagePath);
+		BufferedImage image = ImageAtlas.getBufferedImage(imagePath);
 		ContentPane   panel = new ContentPane(image, true, false); 
 		panel.setName(name);
 		return panel;
@@ -191,22 +197,25 @@ public class DifficultySelectScreen implements ClickableObserver{
 	 *  screen is needed, a new instance should be created.
 	 */
 	public void tearDown(){
+		FlightEvents.ScreenTeardown event = new FlightEvents.ScreenTeardown(getClass());
 		easyButton.removeObserver(this);
 		normalButton.removeObserver(this);
 		hardButton.removeObserver(this);
 		homeButton.removeObserver(this);
 		
-		mainWindow.getContainer().remove(easyButton);
-		mainWindow.getContainer().remove(normalButton);
-		mainWindow.getContainer().remove(hardButton);
-		mainWindow.getContainer().remove(homeButton);
-		mainWindow.getContainer().remove(instructionText);
+		mainWindow.removeLayer(easyButton);
+		mainWindow.removeLayer(normalButton);
+		mainWindow.removeLayer(hardButton);
+		mainWindow.removeLayer(homeButton);
+		mainWindow.removeLayer(instructionText);
 		
 		easyButton      = null;
 		normalButton    = null;
 		hardButton      = null;
 		homeButton      = null;
 		instructionText = null;
+		ScreenLifecycle.end(this);
+		event.commit();
 	}
 
 	@Override
@@ -95,7 +95,7 @@ public abstract class ModuleSelectScreen{
 	 * Used to set MainWindow's background image to ModuleSelectScreen default background.
 	 * @throws IOException Thrown if the file described by backgroundImagePath can not be read.
 	 */
-	private void setBackground() throws IOException{
+	protected void setBackground() throws IOException{
 		BufferedImage backgroundBufferedImage = ImageLoader.getBufferedImage(backgroundImagePath);
 		mainWindow.setBackgroundImage(backgroundBufferedImage);
 	}
@@ -34,9 +34,11 @@ import project.interfaces.EnumerableButtonFactory;
 import project.interfaces.ModuleSelectButtonInterface;
 import project.run.GUIManager;
 import project.tools.ContentPane;
+import project.tools.FlightEvents;
 import project.tools.FontMaker;
-import project.tools.ImageLoader;
+import project.tools.ImageAtlas;
 import project.tools.MainWindow;
+import project.tools.ScreenLifecycle;
 
 /**
  * This class is used as a concrete version of ModuleSelectScreen. It specifies
@@ -60,6 +62,7 @@ public class PreKModuleSelect extends ModuleSelectScreen implements ClickableObs
 	private int currentFirstButtonIndex = DEFAULT_FIRST_BUTTON_INDEX;
 	
 	private ModuleSelectButtonInterface[] buttonList; //An array of module selection buttons.
+	private ContentPane[] buttonPanes; //The ContentPane of each buttonList button, when buttonList was set.
 	private int numberOfButtons; //The number of buttons in buttonList.
 	private String titleText;    //The message to be displayed as a title.
 	
@@ -69,6 +72,8 @@ public class PreKModuleSelect extends ModuleSelectScreen implements ClickableObs
 	private boolean isLeftArrowShowing  = false;
 	//Used to determine if the RIGHT_ARROW ControlButton is showing.
 	private boolean isRightArrowShowing = false;
+	//Used to determine if this PreKModuleSelect's components are in mainWindow.
+	private boolean isShown = true;
 	
 	/**
 	 * Creates a ModuleSelectScreen that displays the buttons and title described by
@@ -81,12 +86,84 @@ public class PreKModuleSelect extends ModuleSelectScreen implements ClickableObs
 	public PreKModuleSelect(GUIManager manager, EnumerableButtonFactory buttonFactory)
 			throws IOException{
 		super(manager);
+		FlightEvents.ScreenBuild event = new FlightEvents.ScreenBuild(getClass());
+		ScreenLifecycle.begin(this, true);
 		
-		buttonList = buttonFactory.getButtons();
-		numberOfButtons = buttonList.length;
+		setButtons(buttonFactory);
 		titleText = buttonFactory.getTitleText();
 		
 		initGraphics();
+		event.commit();
+	}
+	
+	/**
+	 * Used to display a PreKModuleSelect that was removed from mainWindow using tearDown(). The first page
+	 *  of module buttons is shown. Every component is re-used, and all are added to mainWindow in one layer
+	 *  transaction. Does nothing if this PreKModuleSelect is already displayed.
+	 * @throws IOException Thrown if the background image file can not be read.
+	 */
+	public void show() throws IOException{
+		if(isShown)
+			return;
+		FlightEvents.ScreenBuild event = new FlightEvents.ScreenBuild(getClass());
+		ScreenLifecycle.begin(this, true);
+		isShown = true;
+		
+		MainWindow mainWindow = getMainWindow();
+		mainWindow.beginLayerTransaction();
+		try{
+			setBackground();
+			currentFirstButtonIndex = DEFAULT_FIRST_BUTTON_INDEX;
+			addButtons(currentFirstButtonIndex);
+			mainWindow.addLayer(titleLabel, TEXT_LAYER, 0, 70);
+			addHomeButton();
+			updatePageControls();
+		}finally{
+			mainWindow.commitLayerTransaction();
+		}
+		event.commit();
+	}
+	
+	/**
+	 * Used to display a PreKModuleSelect that was removed from mainWindow using tearDown(), with the module
+	 *  buttons described by the specified EnumerableButtonFactory. Used when the buttons have changed, such
+	 *  as when a Test module has been unlocked. The title and control buttons are re-used.
+	 * @param buttonFactory The EnumerableButtonFactory that describes the buttons that will
+	 *  be used to populate mainWindow. It must describe the same buttons as the factory this
+	 *  PreKModuleSelect was constructed with.
+	 * @throws IOException Thrown if the background image file can not be read.
+	 */
+	public void show(EnumerableButtonFactory buttonFactory) throws IOException{
+		if(!isShown)
+			setButtons(buttonFactory);
+		show();
+	}
+	
+	/**
+	 * Used to determine if this PreKModuleSelect's module buttons still use the ContentPanes that their
+	 *  EnumerableButtonFactory created. Constructing another factory for the same buttons (such as the one
+	 *  used by ReportCardScreen) replaces them.
+	 * @return A boolean indicating true if every module button still uses its original ContentPane;
+	 *  false otherwise.
+	 */
+	public boolean isCurrent(){
+		for(int i = 0; i < numberOfButtons; i++){
+			if(buttonList[i].getButton() != buttonPanes[i])
+				return false;
+		}
+		return true;
+	}
+	
+	/**
+	 * Used to set the module buttons described by the specified EnumerableButtonFactory.
+	 * @param buttonFactory The EnumerableButtonFactory that describes the module buttons.
+	 */
+	private void setButtons(EnumerableButtonFactory buttonFactory){
+		buttonList = buttonFactory.getButtons();
+		numberOfButtons = buttonList.length;
+		buttonPanes = new ContentPane[numberOfButtons];
+		for(int i = 0; i < numberOfButtons; i++)
+			buttonPanes[i] = buttonList[i].getButton();
 	}
 	
 	/**
@@ -109,11 +186,17 @@ public class PreKModuleSelect extends ModuleSelectScreen implements ClickableObs
 		for(ControlButton control:ControlButton.values()){
 			control.setButton(makeButton(control.getPath(), control.getName()));
 		}
-		MainWindow mainWindow = getMainWindow();
+		addHomeButton();
+		updatePageControls();
+	}
+	
+	/**
+	 * Used to display the HOME ControlButton.
+	 */
+	private void addHomeButton(){
 		ControlButton home = ControlButton.HOME;
 		home.getButton().registerObserver(this);
-		mainWindow.addLayer(home.getButton(), BUTTON_LAYER, home.getX(), home.getY());
-		updatePageControls();
+		getMainWindow().addLayer(home.getButton(), BUTTON_LAYER, home.getX(), home.getY());
 	}
 	
 	/**
@@ -126,7 +209,7 @@ public class PreKModuleSelect extends ModuleSelectScreen implements ClickableObs
 	 * @throws IOException Thrown if the specified image file can not be read.
 	 */
 	private ContentPane makeButton(String imagePath, String name) throws IOException{
-		BufferedImage image = ImageLoader.getBufferedImage(imagePath);
+		BufferedImage image = ImageAtlas.getBufferedImage(imagePath);
 		ContentPane   panel = new ContentPane(image, true, false); 
 		panel.setName(name);
 		return panel;
@@ -174,7 +257,7 @@ public class PreKModuleSelect extends ModuleSelectScreen implements ClickableObs
 		MainWindow mainWindow = getMainWindow();
 		ContentPane button = control.getButton();
 		button.removeObserver(this);
-		mainWindow.getContainer().remove(button);
+		mainWindow.removeLayer(button);
 	}
 	
 	/**
@@ -208,7 +291,7 @@ public class PreKModuleSelect extends ModuleSelectScreen implements ClickableObs
 		titleLabel.setFont(font);
 		titleLabel.setForeground(Color.YELLOW);
 		titleLabel.setPreferredSize(new Dimension(mainWindow.getPreferredSize().width,
-				FontMaker.getFontHeight(font, mainWindow.getGraphics())));
+				FontMaker.getFontHeight(font)));
 		mainWindow.addLayer(titleLabel, TEXT_LAYER, 0, 70);
 	}
 	
@@ -241,7 +324,7 @@ public class PreKModuleSelect extends ModuleSelectScreen implements ClickableObs
 		for(int i = currentFirstButtonIndex; i<=lastButtonIndex; i++){
 			ContentPane buttonPane = buttonList[i].getButton();
 			buttonPane.removeObserver(this);
-			getMainWindow().getContainer().remove(buttonPane);
+			getMainWindow().removeLayer(buttonPane);
 		}
 	}
 	
@@ -277,26 +360,35 @@ public class PreKModuleSelect extends ModuleSelectScreen implements ClickableObs
 	
 	/**
 	 * Used to remove all components that were created by this PreKModuleSelect from mainWindow.
-	 * WARNING: This method renders this instance of PreKModuleSelect inoperable. All references
-	 *  to this instance should be removed for garbage collection. If another PreKModuleSelect
-	 *  screen is needed, a new instance should be created.
+	 *  The components are kept, so that this PreKModuleSelect may be displayed again using show().
 	 */
 	@Override
 	public void tearDown(){
+		if(!isShown)
+			return;
+		isShown = false;
+		FlightEvents.ScreenTeardown event = new FlightEvents.ScreenTeardown(getClass());
 		MainWindow mainWindow = getMainWindow();
-		mainWindow.getContainer().remove(titleLabel);
-		titleLabel = null;
-		removeButtons();
-		buttonList = null;
-		for(ControlButton control:ControlButton.values()){
-			ContentPane button = control.getButton();
-			if((control == ControlButton.LEFT_ARROW && isLeftArrowShowing)
-					|| (control == ControlButton.RIGHT_ARROW && isRightArrowShowing)
-					|| (control == ControlButton.HOME)){
-				mainWindow.getContainer().remove(button);
+		mainWindow.beginLayerTransaction();
+		try{
+			mainWindow.removeLayer(titleLabel);
+			removeButtons();
+			for(ControlButton control:ControlButton.values()){
+				ContentPane button = control.getButton();
+				if((control == ControlButton.LEFT_ARROW && isLeftArrowShowing)
+						|| (control == ControlButton.RIGHT_ARROW && isRightArrowShowing)
+						|| (control == ControlButton.HOME)){
+					mainWindow.removeLayer(button);
+				}
+				button.removeObserver(this);
 			}
-			button.removeObserver(this);
+		}finally{
+			mainWindow.commitLayerTransaction();
 		}
+		isLeftArrowShowing  = false;
+		isRightArrowShowing = false;
+		ScreenLifecycle.end(this);
+		event.commit();
 	}
 	
 	@Override
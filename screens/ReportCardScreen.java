@@ -20,30 +20,31 @@ package project.screens;
 
 import java.awt.Color;
 import java.awt.Desktop;
-import java.awt.Dimension;
 import java.awt.Font;
 import java.awt.FontFormatException;
 import java.awt.image.BufferedImage;
 import java.io.File;
 import java.io.IOException;
-import java.util.ArrayList;
-import java.util.HashMap;
 
 import javax.swing.JComponent;
-import javax.swing.JLabel;
 import javax.swing.JOptionPane;
-import javax.swing.SwingConstants;
 
 import project.buttons.HomeButtonMaker;
 import project.database.ModuleReportSummary;
+import project.database.StudentReportCard;
 import project.interfaces.ClickableObserver;
 import project.interfaces.EnumerableButtonFactory;
 import project.interfaces.ModuleSelectButtonInterface;
 import project.run.GUIManager;
 import project.tools.ContentPane;
+import project.tools.FlightEvents;
 import project.tools.FontMaker;
+import project.tools.ImageAtlas;
 import project.tools.ImageLoader;
 import project.tools.MainWindow;
+import project.tools.RewardStore;
+import project.tools.ScreenLifecycle;
+import project.tools.TextTable;
 
 /**
  * This class is used to display a table of student grades for each Test Module and each DifficultyLevel
@@ -69,17 +70,14 @@ public class ReportCardScreen implements ClickableObserver{
 	
 	//The EnumerableButtonFactory that defines all tests who's grades are to be displayed.
 	private EnumerableButtonFactory buttons;
-	//A HashMap with a grade mapping to each ModuleSelectButtonInterface in buttons.
-	private HashMap<ModuleSelectButtonInterface, ModuleReportSummary> reportMap;
+	//A StudentReportCard with a grade for each ModuleSelectButtonInterface in buttons.
+	private StudentReportCard reportMap;
 	
-	private ArrayList<JLabel> reportTable; //An array of all text elements in the ReportCardScreen table.
+	private TextTable   reportTable;       //The custom-painted table of the student's grades.
 	private ContentPane detailsBtn;        //The "See Details" button.
 	private ContentPane rewardBtn;         //The "View Rewards" button.
 	private ContentPane homeBtn;           //The "Home" button.
 	
-	private ContentPane textArea;          //The ContentPane that is used as a container for reportTable elements.
-	
-	private ArrayList<ContentPane> lines;  //An array of lines that separate each row in the ReportCardScreen table.
 	private BufferedImage line;            //A BufferedImage of a line separator.
 	
 	private GUIManager manager;    //The GUIManager that manages mainWindow & all GUI screens.
@@ -90,21 +88,29 @@ public class ReportCardScreen implements ClickableObserver{
 	 * @param manager The GUIManager that manages the primary MainWindow & all GUI screens.
 	 * @param buttons An EnumerableButtonFactory that defines each ModuleSelectButtonInterface
 	 *  in reportMap.
-	 * @param reportMap A HashMap of each ModuleSelectButtonInterface in buttons, who's values
-	 *  are ModuleReportSummary that define a student's grade for the Test module specified by
-	 *  the ModuleSelectButtonInterface key.
+	 * @param reportMap A StudentReportCard of each ModuleSelectButtonInterface in buttons, who's
+	 *  ModuleReportSummary values define a student's grade for each Test module.
 	 * @throws IOException Thrown if any image file can not be read, or is missing.
 	 */
 	public ReportCardScreen(GUIManager manager, EnumerableButtonFactory buttons,
-			HashMap<ModuleSelectButtonInterface, ModuleReportSummary> reportMap) throws IOException{
+			StudentReportCard reportMap) throws IOException{
+		FlightEvents.ScreenBuild event = new FlightEvents.ScreenBuild(getClass());
+		ScreenLifecycle.begin(this, true);
 		
 		this.manager    = manager;
 		this.mainWindow = manager.getMainWindow();
 		this.buttons    = buttons;
 		this.reportMap  = reportMap;
 		
-		init();
-		makeTable();
+		//Add every layer in one transaction, so the window is repainted once.
+		mainWindow.beginLayerTransaction();
+		try{
+			init();
+			makeTable();
+		}finally{
+			mainWindow.commitLayerTransaction();
+		}
+		event.commit();
 	}
 	
 	/**
@@ -112,10 +118,7 @@ public class ReportCardScreen implements ClickableObserver{
 	 * @throws IOException Thrown if any image file can not be read, or is missing.
 	 */
 	private void init() throws IOException{
-		reportTable = new ArrayList<JLabel>();
-		lines       = new ArrayList<ContentPane>();
-		line        = ImageLoader.getBufferedImage(lineFilePath);
-		textArea    = new ContentPane(mainWindow.getWidth(), mainWindow.getHeight() - 150, false, false);
+		line        = ImageAtlas.getBufferedImage(lineFilePath);
 		mainWindow.setBackgroundImage(ImageLoader.getBufferedImage(backgroundFilePath));
 		initDetailsButton();
 		initRewardsButton();
@@ -162,7 +165,7 @@ public class ReportCardScreen implements ClickableObserver{
 	 * @throws IOException Thrown if the specified image file can not be read.
 	 */
 	private ContentPane makeButton(String imagePath, String name) throws IOException{
-		BufferedImage image = ImageLoader.getBufferedImage(imagePath);
+		BufferedImage image = ImageAtlas.getBufferedImage(imagePath);
 		ContentPane   panel = new ContentPane(image, true, false); 
 		panel.setName(name);
 		return panel;
@@ -181,7 +184,6 @@ public class ReportCardScreen implements ClickableObserver{
 		int normColumn  = 512;
 		int hardColumn  = 728;
 		
-		int textHeight;
 		int initialVerticalPadding = 70;
 		int verticalPadding = 12;
 		
@@ -193,78 +195,28 @@ public class ReportCardScreen implements ClickableObserver{
 			font = FontMaker.getDefaultFont(24);
 		}
 		
-		textHeight = FontMaker.getFontHeight(font, mainWindow.getGraphics());
-		
-		//Build the title data.
-		JLabel skillTitle = new JLabel("<HTML><div style=\"text-align:left\">Skill</div></HTML>)");
-		JLabel easyTitle  = new JLabel("<HTML><div style=\"text-align:center\">Easy</div></HTML>");
-		JLabel normTitle  = new JLabel("<HTML><div style=\"text-align:center\">Normal</div></HTML>");
-		JLabel hardTitle  = new JLabel("<HTML><div style=\"text-align:center\">Hard</div></HTML>");
-		
-		reportTable.add(skillTitle);
-		reportTable.add(easyTitle);
-		reportTable.add(normTitle);
-		reportTable.add(hardTitle);
+		reportTable = new TextTable(mainWindow.getWidth(), font, Color.WHITE, initialVerticalPadding, verticalPadding);
+		reportTable.addColumn(titleColumn, easyColumn - titleColumn, false);
+		reportTable.addColumn(easyColumn,  normColumn - easyColumn,  true);
+		reportTable.addColumn(normColumn,  hardColumn - normColumn,  true);
+		reportTable.addColumn(hardColumn,  mainWindow.getWidth() - hardColumn - titleColumn, true);
+		//Draw a line beneath each row. The multiplier of 1.35 was chosen via trial & error tests to find
+		// an esthetically pleasing location.
+		reportTable.setSeparator(line, titleColumn, (int)(initialVerticalPadding * 1.35) - initialVerticalPadding);
 		
 		ModuleSelectButtonInterface[] buttonList = buttons.getButtons();
 		
-		//Build the grade data.
+		//Build the title and grade data.
+		String[][] rows = new String[buttonList.length + 1][];
+		rows[0] = new String[]{"Skill", "Easy", "Normal", "Hard"};
 		for(int i = 0; i < buttonList.length; i++){
-			String[] grades  = getGradeStrings(buttonList[i]);
-			JLabel nameLabel = new JLabel("<HTML><div style=\"text-align:left\">" + buttonList[i].getName() + "</div></HTML>)");
-			JLabel easyLabel = new JLabel("<HTML><div style=\"text-align:center\">" + grades[0] + "</div></HTML>");
-			JLabel normLabel = new JLabel("<HTML><div style=\"text-align:center\">" + grades[1] + "</div></HTML>");
-			JLabel hardLabel = new JLabel("<HTML><div style=\"text-align:center\">" + grades[2] + "</div></HTML>");
-			
-			reportTable.add(nameLabel);
-			reportTable.add(easyLabel);
-			reportTable.add(normLabel);
-			reportTable.add(hardLabel);
+			String[] grades = getGradeStrings(buttonList[i]);
+			rows[i + 1] = new String[]{buttonList[i].getName(), grades[0], grades[1], grades[2]};
 		}
+		reportTable.setRows(rows);
 		
-		//TODO There's some odd behavior here when trying to center the text. (ColumnX - (label.getWidth() / 2))
-		// provides the x origin required to center a label. However, on implementation, there's some scalar
-		// effect that offsets the column as a whole, instead of on a per-label event. JLabel.setHorizontalPosition,
-		// JLabel.setHorizontalTextPosition (both with SwingConstants.CENTER), HTML tags, and CSS all have no
-		// effect on the text position. All System.out.println tests show the math is correctly implemented...
-		
-		//Find x/y coordinates for each component & set their size.
-		//Y origin is determined with the following information:
-		//  i = iteration, i%4 = column number, (i - i%4) / 4 = row number
-		for(int i = 0; i < reportTable.size(); i++){
-			boolean hasMore = ((i + 4) < reportTable.size());
-			JLabel label = reportTable.get(i);
-			label.setFont(font);
-			label.setForeground(Color.WHITE);
-			//First column (Names).
-			if((i%4) == 0){
-				int yOrigin = ((i / 4) * (textHeight + verticalPadding));
-				label.setSize(new Dimension(easyColumn, textHeight));
-				textArea.addComponent(label, titleColumn, initialVerticalPadding + yOrigin);
-				//Draw a line beneath the text.
-				if(hasMore){
-					ContentPane aLine = new ContentPane(line, false, false);
-					lines.add(aLine);
-					//The multiplier of 1.35 was chosen via trial & error tests to find an esthetically pleasing location.
-					mainWindow.addLayer(aLine, TEXT_LAYER, titleColumn, (int)(((initialVerticalPadding * 1.35) + yOrigin) + verticalShift));
-				}
-			//Second column (Easy Grades).
-			}else if(i%4 == 1){
-				label.setSize(new Dimension((normColumn - easyColumn), textHeight));
-				label.setHorizontalTextPosition(SwingConstants.CENTER);
-				textArea.addComponent(label, easyColumn, initialVerticalPadding + (((i - 1) / 4) * (textHeight + verticalPadding)));
-			//Third column (Normal Grades).
-			}else if(i%4 == 2){
-				label.setSize(new Dimension((hardColumn - normColumn), textHeight));
-				textArea.addComponent(label, normColumn, initialVerticalPadding + (((i - 2) / 4) * (textHeight + verticalPadding)));
-			//Fourth column (Hard Grades).
-			}else if(i%4 == 3){
-				label.setSize(new Dimension((textArea.getWidth() - hardColumn - titleColumn), textHeight));
-				textArea.addComponent(label, hardColumn, initialVerticalPadding + (((i - 3) / 4) * (textHeight + verticalPadding)));
-			}
-		}
 		//Show the table.
-		mainWindow.addLayer(textArea, TEXT_LAYER, 0, verticalShift);
+		mainWindow.addLayer(reportTable, TEXT_LAYER, 0, verticalShift);
 	}
 	
 	/**
@@ -283,6 +235,8 @@ public class ReportCardScreen implements ClickableObserver{
 		String maxGrade;
 		String[] grades = new String [3];
 		ModuleReportSummary report = reportMap.get(button);
+		if(report == null)
+			report = new ModuleReportSummary(); //The Test Module is not on the report card; show it as not taken.
 		grade     = (report.isEasyTaken())   ? new Integer(report.getEasyGrade()).toString()   : "-";
 		maxGrade  = (report.isEasyTaken())   ? new Integer(report.getEasyMax()).toString()     : "-";
 		grades[0] = grade + " / " + maxGrade;
@@ -326,33 +280,30 @@ public class ReportCardScreen implements ClickableObserver{
 	 *  screen is needed, a new instance should be created.
 	 */
 	public void tearDown(){
+		FlightEvents.ScreenTeardown event = new FlightEvents.ScreenTeardown(getClass());
 		detailsBtn.removeObserver(this);
 		rewardBtn.removeObserver(this);
 		homeBtn.removeObserver(this);
 		
-		for(JLabel label: reportTable){
-			textArea.remove(label);
-			label = null;
-		}
-		
-		for(ContentPane aLine: lines){
-			mainWindow.getContainer().remove(aLine);
-			aLine = null;
+		//Remove every layer in one transaction, so the window is repainted once.
+		mainWindow.beginLayerTransaction();
+		try{
+			mainWindow.removeLayer(reportTable);
+			mainWindow.removeLayer(detailsBtn);
+			mainWindow.removeLayer(rewardBtn);
+			mainWindow.removeLayer(homeBtn);
+		}finally{
+			mainWindow.commitLayerTransaction();
 		}
 		
-		mainWindow.getContainer().remove(textArea);
-		mainWindow.getContainer().remove(detailsBtn);
-		mainWindow.getContainer().remove(rewardBtn);
-		mainWindow.getContainer().remove(homeBtn);
-		
-		textArea    = null;
 		detailsBtn  = null;
 		rewardBtn   = null;
 		homeBtn     = null;
 		reportTable = null;
 		buttons     = null;
 		reportMap   = null;
-		lines       = null;
+		ScreenLifecycle.end(this);
+		event.commit();
 	}
 	
 	
@@ -361,6 +312,12 @@ public class ReportCardScreen implements ClickableObserver{
 		if(component == detailsBtn){
 			openFolder(manager.getTestFolderPath());
 		}else if(component == rewardBtn){
+			//Rewards are stored as descriptors. Draw any reward images that have not been drawn yet.
+			try {
+				RewardStore.renderPending(manager.getRewardsFolderPath());
+			} catch (IOException e) {
+				manager.handleException(e);
+			}
 			openFolder(manager.getRewardsFolderPath());
 		}else if(component == homeBtn){
 			tearDown();
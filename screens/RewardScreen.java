@@ -21,11 +21,9 @@ package project.screens;
 import java.awt.Color;
 import java.awt.Font;
 import java.awt.FontFormatException;
-import java.awt.image.BufferedImage;
 import java.io.File;
 import java.io.IOException;
 
-import javax.imageio.ImageIO;
 import javax.sound.sampled.AudioInputStream;
 import javax.sound.sampled.AudioSystem;
 import javax.sound.sampled.Clip;
@@ -37,17 +35,21 @@ import project.constants.DifficultyLevel;
 import project.interfaces.ClickableObserver;
 import project.interfaces.ModuleSelectButtonInterface;
 import project.run.GUIManager;
+import project.run.MathHelperMetrics;
 import project.tools.ContentPane;
+import project.tools.FlightEvents;
 import project.tools.FontMaker;
 import project.tools.ImageLoader;
 import project.tools.MainWindow;
+import project.tools.RewardStore;
+import project.tools.ScreenLifecycle;
 
 /**
  * This class is used to display a "Reward" image along with the percentage of correct answers
  *  a student achieved after taking a Test module. Before a "Home" button is added to the screen,
- *  a screen-capture is performed. The image is then saved as the format specified by IMAGE_FILE_TYPE.
- *  The image is written the name and directory as specified by the constructor at instantiation.
- *  Once the image has been written to the user's storage drive, the "Home" button is placed onto
+ *  a reward descriptor is written to the directory specified by the constructor at instantiation.
+ *  The full reward image is drawn from the descriptor later, by RewardStore, when the student's
+ *  rewards are viewed. Once the descriptor has been written, the "Home" button is placed onto
  *  the screen. If clicked, the "Home" button will tear down the RewardScreen and create a WelcomeScreen.
  *  Also enables the next available test, if the student's grade is passing. Lastly, forces the database
  *  to write to file. 
@@ -62,12 +64,13 @@ public class RewardScreen implements ClickableObserver{
 	private static final String FAILED_BACKGROUND = "\\images\\rewards\\Failed.png";
 	private static final String FAILED_SOUND      =  "audio\\Rewards\\awww.wav";
 	private static final int    FAILED_OFFSET     = -210;
-	private static final String IMAGE_FILE_TYPE   = "png";            //The image file format.
 	private static final int    PREFERRED_FONT    = FontMaker.ARIAL;  //Used to write the % correct answered.
 	private static final int    TEXT_LAYER        = 2;
 	private static final int    BUTTON_LAYER      = 3;
 	
 	private int yOffset = 0; //Used to offset the grade's y-origin, depending on reward.
+	private int gradeX;      //The grade's x-origin, relative to mainWindow.
+	private int gradeY;      //The grade's y-origin, relative to mainWindow.
 	
 	private String audioFilePath;  //Used to identify the audio file's path.
 	private String backgroundPath; //Used to identify the background image path.
@@ -77,9 +80,9 @@ public class RewardScreen implements ClickableObserver{
 	
 	private ContentPane homeBtn;    //Used to display the "Home" button.
 	private ContentPane gradePanel; //Used to display the % correct answered text.
-	private String pathFromRoot;    //The path from the program's directory, in which the screen-shot image is stored.
+	private String pathFromRoot;    //The path from the program's directory, in which the reward descriptor is stored.
 	private int grade;              //The % correct answers that a student received on a Test module.
-	private boolean isFileMade = false; //Used to determine if the screen shot should be written to file.
+	private boolean isFileMade = false; //Used to determine if the reward should be written to file.
 	//The ModuleSelectButtonInterface that describes the test that the student took.
 	private ModuleSelectButtonInterface button;
 	private DifficultyLevel difficulty;
@@ -89,9 +92,9 @@ public class RewardScreen implements ClickableObserver{
 	
 	/**
 	 * Creates a RewardScreen that displays a reward image, student grade (as a % correct), and a
-	 *  "Home" button. Additionally, a screen-capture is performed on mainWindw, prior to adding the
-	 *  "Home" button. The image is stored into the specified directory, with a name specified by
-	 *  testName. Also enables the next available test, if the student's grade is passing. Lastly,
+	 *  "Home" button. Additionally, a reward descriptor is written prior to adding the "Home" button.
+	 *  The descriptor is stored into the specified directory, with a name specified by the test's
+	 *  name and difficulty. Also enables the next available test, if the student's grade is passing. Lastly,
 	 *  forces the database to write to file. 
 	 * @param manager The GUIManager that manages the primary MainWindow and all GUI screens.
 	 * @param test The ModuleSelectButtonInterface that represents the test that was taken.
@@ -99,13 +102,15 @@ public class RewardScreen implements ClickableObserver{
 	 * @param difficulty The DifficultyLevel that describes the test's difficulty.
 	 * @param grade An int indicating the percentage of correct answers that a student received on
 	 *  the specified Test module.
-	 * @param isFileMade A boolean indicating true if the reward image should be written to file,
+	 * @param isFileMade A boolean indicating true if the reward should be written to file,
 	 *  false otherwise.
-	 * @param pathFromRoot A String indicating the path of the directory in which the screen-capture image
+	 * @param pathFromRoot A String indicating the path of the directory in which the reward descriptor
 	 *  is to be stored. The path should begin from the program's directory. 
 	 * @throws IOException Thrown if any image file can not be read.
 	 */
 	public RewardScreen(GUIManager manager, ModuleSelectButtonInterface test, DifficultyLevel difficulty, int grade, boolean isFileMade, String pathFromRoot) throws IOException{
+		FlightEvents.ScreenBuild event = new FlightEvents.ScreenBuild(getClass());
+		ScreenLifecycle.begin(this, true);
 		this.manager      = manager;
 		this.mainWindow   = manager.getMainWindow();
 		this.button       = test;
@@ -114,13 +119,14 @@ public class RewardScreen implements ClickableObserver{
 		this.isFileMade   = isFileMade;
 		this.pathFromRoot = pathFromRoot;
 		init();
+		event.commit();
 	}
 	
 	/**
-	 * Used to initialize the RewardScreen's display and obtain a screen capture before adding a "Home" button.
+	 * Used to initialize the RewardScreen's display and save the reward before adding a "Home" button.
 	 *  Also enables the next test if the student's grade is greater than or equal to PASSING_GRADE. Lastly,
 	 *  forces the database to be written to file.
-	 * @throws IOException Thrown if any image file can not be read, or the "Screen Shot" can not be written.
+	 * @throws IOException Thrown if any image file can not be read.
 	 */
 	private void init() throws IOException{
 		initRewards();
@@ -128,7 +134,7 @@ public class RewardScreen implements ClickableObserver{
 		playSound();
 		addGrade();
 		if(isFileMade)
-			makeScreenShot();
+			saveReward();
 		if(grade >= PASSING_GRADE)
 			manager.incrementHighestTest(button.getOrdinal() + 1);
 		manager.writeDatabase();
@@ -190,7 +196,9 @@ public class RewardScreen implements ClickableObserver{
 		int gradeX       = windowCenter - gradeCenter;
 		int xOffset      = 35;
 		
-		mainWindow.addLayer(gradePanel, TEXT_LAYER, (gradeX + xOffset), (355 + yOffset));
+		this.gradeX = gradeX + xOffset;
+		this.gradeY = 355 + yOffset;
+		mainWindow.addLayer(gradePanel, TEXT_LAYER, this.gradeX, this.gradeY);
 	}
 	
 	/**
@@ -204,21 +212,16 @@ public class RewardScreen implements ClickableObserver{
 	}
 	
 	/**
-	 * Used to obtain a screen-capture of mainWindow and create a file as specified by RewardScreen's
-	 *  constructor parameters.
+	 * Used to write a reward descriptor as specified by RewardScreen's constructor parameters. The
+	 *  full reward image is drawn by RewardStore when the student's rewards are viewed.
 	 */
-	private void makeScreenShot(){
-		int insetWidth  = mainWindow.getInsets().left +  mainWindow.getInsets().right;
-		int insetHeight = mainWindow.getInsets().top +  mainWindow.getInsets().bottom;
-		String fileName = button.getName() + "(" + difficulty.getName() + ")." + IMAGE_FILE_TYPE;
-		BufferedImage image = new BufferedImage(mainWindow.getWidth() - insetWidth,
-				                        mainWindow.getHeight() - insetHeight, BufferedImage.TYPE_INT_RGB);
-		mainWindow.getContentPane().paint( image.getGraphics() );
+	private void saveReward(){
 		try {
-            ImageIO.write(image, IMAGE_FILE_TYPE, new File(pathFromRoot, fileName));
-          } catch(Exception e){
-            manager.handleException(e);
-          }
+			RewardStore.saveReward(pathFromRoot, backgroundPath, grade, button.getName(), difficulty.getName(),
+					gradeX, gradeY);
+		} catch(IOException e){
+			manager.handleException(e);
+		}
 	}
 	
 	/**
@@ -228,6 +231,8 @@ public class RewardScreen implements ClickableObserver{
 	    try{
 	        AudioInputStream audioInputStream = AudioSystem.getAudioInputStream(new File(audioFilePath).getAbsoluteFile());
 	        Clip clip = AudioSystem.getClip();
+	        MathHelperMetrics.trackClip(clip);
+	        ScreenLifecycle.trackClip(clip);
 	        clip.open(audioInputStream);
 	        clip.start();
 	    }catch(Exception e) {
@@ -242,11 +247,14 @@ public class RewardScreen implements ClickableObserver{
 	 *  screen is needed, a new instance should be created.
 	 */
 	public void tearDown(){
-		mainWindow.getContainer().remove(gradePanel);
-		mainWindow.getContainer().remove(homeBtn);
+		FlightEvents.ScreenTeardown event = new FlightEvents.ScreenTeardown(getClass());
+		mainWindow.removeLayer(gradePanel);
+		mainWindow.removeLayer(homeBtn);
 		homeBtn.removeObserver(this);
 		gradePanel = null;
 		homeBtn    = null;
+		ScreenLifecycle.end(this);
+		event.commit();
 	}
 
 	@Override
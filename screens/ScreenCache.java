@@ -0,0 +1,122 @@
+/**
+ * Name:         Math Helper
+ * Version:      1.0.0
+ * Version Date: 04/30/2015
+ * Team:         "Cool Math" - Consists of Kenneth Chin, Chris Moraal, Elena Eroshkina, and Austin Clark
+ * Purpose:      The "Math Helper" software is used to aid parents and teachers with the teaching and testing
+ *                 of students, grades PreK through Grade 4, in the subject of Mathematics. The lessons and
+ *                 tests provided cover a subset of skills as specified by the Massachusetts Department of
+ *                 Education's (DOE) website, found at:
+ *                              http://www.doe.mass.edu/frameworks/math/2000/toc.html
+ *                 The DOE category, Number Sense and Operations for Grades Pre-K through Grade 4,
+ *                 is the subset that the "Math Helper" software covers.
+ *                 
+ *               Features and services of the "Math Helper" software include, Login/Logout mechanics,
+ *                 practice and formal testing, and tutorials of the above-specified skills. Additional
+ *                 features include test completion results, test completion summaries, and test
+ *                 completion rewards.
+ */
+package project.screens;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Map;
+
+import project.interfaces.EnumerableButtonFactory;
+import project.run.GUIManager;
+
+/**
+ * This class is used to keep the WelcomeScreen and PreKModuleSelect screens that have been built, so that
+ *  returning to them does not reload their images or rebuild their ContentPanes. A cached screen is
+ *  removed from the MainWindow by its own tearDown() method, and displayed again by this class. Only the
+ *  parts of a screen that may change are refreshed; the welcome message, and the module buttons of a
+ *  module select screen whose unlock state has changed.
+ * NOTE: These methods must only be called on the Event Dispatch Thread.
+ * @author Kenneth Chin
+ */
+public class ScreenCache {
+	
+	/**
+	 * The kinds of module select screen that may be cached.
+	 */
+	public enum ModuleSelect{
+		/**
+		 * The module select screen opened by the "Test" option.
+		 */
+		TEST,
+		/**
+		 * The module select screen opened by the "Practice" option.
+		 */
+		PRACTICE,
+		/**
+		 * The module select screen opened by the "Tutorial" option.
+		 */
+		TUTORIAL;
+	}
+	
+	private GUIManager manager;          //The GUIManager that manages the primary MainWindow & all GUI screens.
+	private WelcomeScreen welcomeScreen; //The cached WelcomeScreen, or null if none has been built.
+	
+	//The cached module select screens, and the unlock state that each was built with.
+	private Map<ModuleSelect, PreKModuleSelect> moduleSelects = new EnumMap<ModuleSelect, PreKModuleSelect>(ModuleSelect.class);
+	private Map<ModuleSelect, Integer>          moduleStates  = new EnumMap<ModuleSelect, Integer>(ModuleSelect.class);
+	
+	/**
+	 * Creates an empty ScreenCache.
+	 * @param manager The GUIManager that manages the primary MainWindow and all GUI screens.
+	 */
+	public ScreenCache(GUIManager manager){
+		this.manager = manager;
+	}
+	
+	/**
+	 * Used to display the cached WelcomeScreen for the specified student. A WelcomeScreen is built
+	 *  if none has been cached.
+	 * @param studentName A String describing a student's name, that will be displayed in
+	 *  the welcome message.
+	 * @throws IOException {@link project.screens.WelcomeScreen See the WelcomeScreen's constructor details}.
+	 */
+	public void showWelcomeScreen(String studentName) throws IOException{
+		if(welcomeScreen == null)
+			welcomeScreen = new WelcomeScreen(manager, studentName);
+		else
+			welcomeScreen.show(studentName);
+	}
+	
+	/**
+	 * Used to display a cached module select screen, if it can be displayed without changing its buttons.
+	 * @param kind The ModuleSelect describing the module select screen to be displayed.
+	 * @param state An int describing the screen's unlock state, such as the last active Test. Use 0 if
+	 *  the screen's buttons never change.
+	 * @return A boolean indicating true if the cached screen was displayed; false if it has not been
+	 *  cached, or its buttons must be rebuilt using showModuleSelect(ModuleSelect, int, EnumerableButtonFactory).
+	 * @throws IOException {@link project.screens.PreKModuleSelect See the PreKModuleSelect.show() details.}
+	 */
+	public boolean showModuleSelect(ModuleSelect kind, int state) throws IOException{
+		PreKModuleSelect screen = moduleSelects.get(kind);
+		if(screen == null || moduleStates.get(kind) != state || !screen.isCurrent())
+			return false;
+		screen.show();
+		return true;
+	}
+	
+	/**
+	 * Used to display a module select screen with the buttons described by the specified
+	 *  EnumerableButtonFactory. The cached screen's buttons are replaced, or a screen is built if none
+	 *  has been cached.
+	 * @param kind The ModuleSelect describing the module select screen to be displayed.
+	 * @param state An int describing the screen's unlock state, such as the last active Test. Use 0 if
+	 *  the screen's buttons never change.
+	 * @param buttonFactory The EnumerableButtonFactory that describes the screen's buttons.
+	 * @throws IOException {@link project.screens.PreKModuleSelect See the PreKModuleSelect constructor details.}
+	 */
+	public void showModuleSelect(ModuleSelect kind, int state, EnumerableButtonFactory buttonFactory)
+			throws IOException{
+		PreKModuleSelect screen = moduleSelects.get(kind);
+		if(screen == null)
+			moduleSelects.put(kind, new PreKModuleSelect(manager, buttonFactory));
+		else
+			screen.show(buttonFactory);
+		moduleStates.put(kind, state);
+	}
+}
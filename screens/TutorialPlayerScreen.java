@@ -36,9 +36,12 @@ import project.interfaces.ModuleSelectButtonInterface;
 import project.tools.fxMediaPanel;
 import project.run.GUIManager;
 import project.tools.ContentPane;
+import project.tools.FlightEvents;
 import project.tools.FontMaker;
+import project.tools.ImageAtlas;
 import project.tools.ImageLoader;
 import project.tools.MainWindow;
+import project.tools.ScreenLifecycle;
 import javafx.embed.swing.JFXPanel;
 
 //import javafx.scene.text.Font;
@@ -108,11 +111,14 @@ public class TutorialPlayerScreen implements ClickableObserver{
 	 * @throws IOException Thrown if any DifficultySelectScreen image file can not be read.
 	 */
 	public TutorialPlayerScreen(GUIManager manager, ModuleSelectButtonInterface observer) throws IOException, MediaException {
+		FlightEvents.ScreenBuild event = new FlightEvents.ScreenBuild(getClass());
+		ScreenLifecycle.begin(this, true);
 		this.manager    = manager;
 		this.mainWindow = manager.getMainWindow();
 		this.observer   = observer;
 		this.mediaPanel = manager.getMediaPanel();
 		init();
+		event.commit();
 	}
 	
 	/**
@@ -223,7 +229,7 @@ public class TutorialPlayerScreen implements ClickableObserver{
 	 * @throws IOException Thrown if the specified image file can not be read.
 	 */
 	private ContentPane makeButton(String imagePath, String name) throws IOException{
-		BufferedImage image = ImageLoader.getBufferedImage(imagePath);
+		BufferedImage image = ImageAtlas.getBufferedImage(imagePath);
 		ContentPane   panel = new ContentPane(image, true, false); 
 		panel.setName(name);
 		return panel;
@@ -236,16 +242,17 @@ public class TutorialPlayerScreen implements ClickableObserver{
 	 *  screen is needed, a new instance should be created.
 	 */
 	public void tearDown(){
+		FlightEvents.ScreenTeardown event = new FlightEvents.ScreenTeardown(getClass());
 		playButton.removeObserver(this);
 		pauseButton.removeObserver(this);
 		replayButton.removeObserver(this);
 		homeButton.removeObserver(this);
 		
-		mainWindow.getContainer().remove(playButton);
-		mainWindow.getContainer().remove(pauseButton);
-		mainWindow.getContainer().remove(replayButton);
-		mainWindow.getContainer().remove(homeButton);
-		//mainWindow.getContainer().remove(instructionText);
+		mainWindow.removeLayer(playButton);
+		mainWindow.removeLayer(pauseButton);
+		mainWindow.removeLayer(replayButton);
+		mainWindow.removeLayer(homeButton);
+		//mainWindow.removeLayer(instructionText);
 		
 		playButton      = null;
 		pauseButton		= null;
@@ -256,6 +263,8 @@ public class TutorialPlayerScreen implements ClickableObserver{
 		//Stop the JFX Player and Remove
 		this.mediaPanel.getMediaPanel().setVisible(false);
 		this.VideoPlayer.stop();
+		ScreenLifecycle.end(this);
+		event.commit();
 	}
 	
 	@Override
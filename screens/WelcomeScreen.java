@@ -28,9 +28,11 @@ import javax.swing.JLabel;
 import project.interfaces.ClickableObserver;
 import project.run.GUIManager;
 import project.tools.ContentPane;
+import project.tools.FlightEvents;
 import project.tools.FontMaker;
-import project.tools.ImageLoader;
+import project.tools.ImageAtlas;
 import project.tools.MainWindow;
+import project.tools.ScreenLifecycle;
 
 import java.awt.image.BufferedImage;
 
@@ -49,8 +51,12 @@ public class WelcomeScreen implements ClickableObserver{
 	private static final int BUTTON_LAYER = 2; //The default layer for button objects.
 	private static final int TEXT_LAYER   = 3; //The default layer for text objects.
 	
-	private String welcomeMsg   = "Welcome, "; //The text that will be displayed as a welcome message.
+	private static final String WELCOME_MSG = "Welcome, "; //The start of every welcome message.
+	
+	private String welcomeMsg;  //The text that will be displayed as a welcome message.
+	private String studentName; //The student's name, as displayed in welcomeMsg.
 	private JLabel welcomeText; //The JLabel that will display welcomeMsg.
+	private boolean isShown = true; //True if this WelcomeScreen's components are in mainWindow.
 	
 	private ContentPane exitButton;
 	
@@ -67,10 +73,52 @@ public class WelcomeScreen implements ClickableObserver{
 	 */
 	public WelcomeScreen(GUIManager manager, String studentName)
 			throws IOException{
+		FlightEvents.ScreenBuild event = new FlightEvents.ScreenBuild(getClass());
+		ScreenLifecycle.begin(this, true);
 		this.manager    = manager;
 		this.mainWindow = manager.getMainWindow();
-		welcomeMsg = welcomeMsg +"<br>&nbsp;&nbsp;&nbsp;&nbsp;"+ studentName + "!";
+		setWelcomeMsg(studentName);
 		init();
+		event.commit();
+	}
+	
+	/**
+	 * Used to display a WelcomeScreen that was removed from mainWindow using tearDown(). Only the
+	 *  welcome message is updated; every other component is re-used, and all are added to mainWindow
+	 *  in one layer transaction. Does nothing if this WelcomeScreen is already displayed.
+	 * @param studentName A String describing a student's name, that will be displayed in
+	 *  the welcome message.
+	 */
+	public void show(String studentName){
+		if(isShown)
+			return;
+		FlightEvents.ScreenBuild event = new FlightEvents.ScreenBuild(getClass());
+		ScreenLifecycle.begin(this, true);
+		isShown = true;
+		if(!studentName.equals(this.studentName)){
+			setWelcomeMsg(studentName);
+			welcomeText.setText("<HTML><i>" + welcomeMsg + "</i><HTML>");
+		}
+		
+		mainWindow.beginLayerTransaction();
+		try{
+			setBackground();
+			addButtons();
+			mainWindow.addLayer(welcomeText, TEXT_LAYER, 60, 100);
+		}finally{
+			mainWindow.commitLayerTransaction();
+		}
+		event.commit();
+	}
+	
+	/**
+	 * Used to set the welcome message for the specified student.
+	 * @param studentName A String describing a student's name, that will be displayed in
+	 *  the welcome message.
+	 */
+	private void setWelcomeMsg(String studentName){
+		this.studentName = studentName;
+		welcomeMsg = WELCOME_MSG +"<br>&nbsp;&nbsp;&nbsp;&nbsp;"+ studentName + "!";
 	}
 	
 	/**
@@ -120,7 +168,7 @@ public class WelcomeScreen implements ClickableObserver{
 	 * @throws IOException Thrown if a button's image file can not be read.
 	 */
 	private ContentPane makeButton(String imagePath, String name) throws IOException{
-		BufferedImage image = ImageLoader.getBufferedImage(imagePath);
+		BufferedImage image = ImageAtlas.getBufferedImage(imagePath);
 		ContentPane   panel = new ContentPane(image, true, false); 
 		panel.setName(name);
 		return panel;
@@ -301,18 +349,28 @@ public class WelcomeScreen implements ClickableObserver{
 	
 	/**
 	 * Used to remove all components that were created by this WelcomeSreen from mainWindow.
-	 * WARNING: This method renders this instance of WelcomeSreen inoperable. All references
-	 *  to this instance should be removed for garbage collection. If another WelcomeSreen
-	 *  screen is needed, a new instance should be created.
+	 *  The components are kept, so that this WelcomeScreen may be displayed again using show(String).
 	 */
 	public void tearDown(){
-		mainWindow.getContainer().remove(welcomeText);
-		mainWindow.getContainer().remove(exitButton);
-		for(Button button:Button.values()){
-			ContentPane thisButton= button.getButton();
-			thisButton.removeObserver(this);
-			mainWindow.getContainer().remove(thisButton);
+		if(!isShown)
+			return;
+		isShown = false;
+		FlightEvents.ScreenTeardown event = new FlightEvents.ScreenTeardown(getClass());
+		mainWindow.beginLayerTransaction();
+		try{
+			mainWindow.removeLayer(welcomeText);
+			exitButton.removeObserver(this);
+			mainWindow.removeLayer(exitButton);
+			for(Button button:Button.values()){
+				ContentPane thisButton= button.getButton();
+				thisButton.removeObserver(this);
+				mainWindow.removeLayer(thisButton);
+			}
+		}finally{
+			mainWindow.commitLayerTransaction();
 		}
+		ScreenLifecycle.end(this);
+		event.commit();
 	}
 	
 	@Override
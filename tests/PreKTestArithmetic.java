@@ -32,14 +32,18 @@ import javax.swing.JOptionPane;
 import project.buttons.PreKModuleSelectTestButtons;
 import project.constants.DifficultyLevel;
 import project.constants.Operator;
+import project.database.AnswerLog;
 import project.interfaces.ModuleSelectButtonInterface;
 import project.interfaces.Questionable;
 import project.interfaces.QuestionableObserver;
 import project.interfaces.TestableObserver;
 import project.run.GUIManager;
+import project.run.MathHelperMetrics;
 import project.screens.RewardScreen;
+import project.tools.FlightEvents;
 import project.tools.MainWindow;
 import project.tools.QuestionPanelText;
+import project.tools.ScreenLifecycle;
 import project.tools.TextFileMaker;
 
 /**
@@ -72,9 +76,13 @@ public class PreKTestArithmetic implements TestableObserver, Questionable{
 	
 	//The set of all possible questions that may be asked, associated with a boolean indicating if
 	// the question has been asked.
-	private boolean[][][] isNumberSetUsed = new boolean[(HIGHEST_INT + 2)][(HIGHEST_INT + 2)][NUM_OF_OPERATORS];
+	private boolean[][][] isNumberSetUsed; //Allocated by initArrays().
 	private int currentAnswer;  //The answer to the current question.
 	private int numCorrect = 0; //The number of correctly answered questions.
+	private long startTime = System.currentTimeMillis(); //The time this test was created, in milliseconds.
+	private long questionShownNanos;                     //The System.nanoTime() when the current question was shown.
+	private int currentOperand1;                         //The first operand of the current question.
+	private int currentOperand2;                         //The second operand of the current question.
 	private ArrayList<String> wrongAnswers = new ArrayList<String>(); //Used to track incorrect answers.
 	private String currentQuestion; //The current question in String form.
 	
@@ -106,8 +114,11 @@ public class PreKTestArithmetic implements TestableObserver, Questionable{
 		//TODO enable this if(NUM_OF_OPERATORS >= 4. May implement if Division is to be supported.
 		//if(NUM_OF_OPERATORS >= 4)
 		//	initSetUsed();
+		initArrays();
 		testPanel = new QuestionPanelText(mainWindow, maxNumberOfQuestions);
 		testPanel.registerObserver(this);
+		if(!isPractice)
+			testPanel.setTimedTest(TEST_BUTTON, difficulty);
 		playTutorial();
 		makeAndShowQuestion();
 	}
@@ -144,6 +155,14 @@ public class PreKTestArithmetic implements TestableObserver, Questionable{
 		isFinalTest = true;
 	}
 	
+	/**
+	 * Used to allocate the isNumberSetUsed array. A final exam calls this when its first question is
+	 *  asked, rather than when this test is created.
+	 */
+	private void initArrays(){
+		isNumberSetUsed = new boolean[(HIGHEST_INT + 2)][(HIGHEST_INT + 2)][NUM_OF_OPERATORS];
+	}
+	
 	/**
 	 * Used to play an audio tutorial, describing how to use this test.
 	 */
@@ -152,6 +171,8 @@ public class PreKTestArithmetic implements TestableObserver, Questionable{
 	    	String filePath = "audio\\Test Tutorials\\Arithmetic.wav";
 	        AudioInputStream audioInputStream = AudioSystem.getAudioInputStream(new File(filePath).getAbsoluteFile());
 	        clip = AudioSystem.getClip();
+	        MathHelperMetrics.trackClip(clip);
+	        ScreenLifecycle.trackClip(clip);
 	        clip.open(audioInputStream);
 	        clip.start();
 	    }catch(Exception e) {
@@ -206,6 +227,7 @@ public class PreKTestArithmetic implements TestableObserver, Questionable{
 	 *  operator (Addition or Subtraction), then displays the question.
 	 */
 	private void makeAndShowQuestion(){
+		FlightEvents.QuestionGenerate event = new FlightEvents.QuestionGenerate(TEST_BUTTON, difficulty, currentQuestionNum);
 		int operand1;
 		int operand2;
 		int operatorIndex;
@@ -225,7 +247,11 @@ public class PreKTestArithmetic implements TestableObserver, Questionable{
 		currentQuestion   = operand1 + " " + operator.getSymbol() + " " + operand2;
 		currentAnswer     = operator.doAction(operand1, operand2);
 		isNumberSetUsed[operand1][operand2][operatorIndex] = true;
+		currentOperand1   = operand1;
+		currentOperand2   = operand2;
 		showQuestion(operand1, operand2, operator);
+		MathHelperMetrics.questionServed();
+		event.commit();
 	}
 	
 	/**
@@ -237,6 +263,7 @@ public class PreKTestArithmetic implements TestableObserver, Questionable{
 	private void showQuestion(int operand1, int operand2, Operator operator){
 		String question = "Solve: <br><br>";
 		testPanel.showEquation(question, (currentQuestionNum), operand1, operand2, operator);
+		questionShownNanos = System.nanoTime();
 		currentQuestionNum++;
 	}
 	
@@ -283,13 +310,18 @@ public class PreKTestArithmetic implements TestableObserver, Questionable{
 	 * @return A boolean indicating true if the user's answer was correct; false otherwise.
 	 */
 	private boolean checkAnswer(String answer){
-		if(answer.equals(new Integer(currentAnswer).toString())){
+		FlightEvents.AnswerGrade event = new FlightEvents.AnswerGrade(TEST_BUTTON, difficulty, currentQuestionNum - 1);
+		boolean isCorrect = answer.equals(new Integer(currentAnswer).toString());
+		if(!isPractice)
+			manager.recordAnswer(TEST_BUTTON, difficulty, currentQuestionNum - 1, currentOperand1, currentOperand2,
+					currentAnswer, AnswerLog.parseAnswer(answer), isCorrect, System.nanoTime() - questionShownNanos);
+		if(isCorrect)
 			numCorrect++;
-			return true;
-		}else{
+		else
 			logWrongAnswer(answer);
-			return false;
-		}
+		MathHelperMetrics.answerGraded();
+		event.commit(isCorrect);
+		return isCorrect;
 	}
 	
 	/**
@@ -353,7 +385,7 @@ public class PreKTestArithmetic implements TestableObserver, Questionable{
 			if(isPractice)
 				showAnswer(answer);
 			else{
-				testPanel.tearDown();
+				testPanel.hide();
 				observer.answered(this, checkAnswer(answer), wrongAnswerLogEntry);
 			}
 		}
@@ -367,6 +399,8 @@ public class PreKTestArithmetic implements TestableObserver, Questionable{
 				clip.stop();
 			try{
 				int grade = getGrade();
+				manager.recordAttempt(TEST_BUTTON, difficulty, numCorrect, maxNumberOfQuestions,
+						System.currentTimeMillis() - startTime);
 				boolean isBetter = isBetterGrade(numCorrect);
 				if(isBetter)
 					manager.setGrade(TEST_BUTTON, difficulty, numCorrect, maxNumberOfQuestions);
@@ -382,7 +416,7 @@ public class PreKTestArithmetic implements TestableObserver, Questionable{
 	public void nextClicked() {
 		if(isPractice){
 			if(isFinalTest){
-				testPanel.tearDown();
+				testPanel.hide();
 				observer.answered(this, checkAnswer(userAnswer), null);
 			}else if(currentQuestionNum <= maxNumberOfQuestions){
 				makeAndShowQuestion();
@@ -433,8 +467,17 @@ public class PreKTestArithmetic implements TestableObserver, Questionable{
 	
 	@Override
 	public void showQuestion(int questionNum) throws IOException{
-		testPanel = new QuestionPanelText(mainWindow, maxNumberOfQuestions);
-		testPanel.registerObserver(this);
+		//Allocate this test's question state when a final exam asks its first question.
+		if(isNumberSetUsed == null)
+			initArrays();
+		//Re-use this test's panel for each of the final exam's questions; only create it once.
+		if(testPanel == null){
+			testPanel = new QuestionPanelText(mainWindow, maxNumberOfQuestions);
+			testPanel.registerObserver(this);
+			if(!isPractice)
+				testPanel.setTimedTest(TEST_BUTTON, difficulty);
+		}else
+			testPanel.show();
 		playTutorial();
 		currentQuestionNum = questionNum;
 		userAnswer = "";
@@ -446,4 +489,14 @@ public class PreKTestArithmetic implements TestableObserver, Questionable{
 	public int getMaxQuestions(){
 		return HARD_MAX_QUESTIONS;
 	}
+	
+	@Override
+	public void tearDown(){
+		if(testPanel != null){
+			testPanel.tearDown();
+			testPanel = null;
+		}
+		if(clip != null)
+			clip.close();
+	}
 }
@@ -36,9 +36,12 @@ import project.interfaces.Questionable;
 import project.interfaces.QuestionableObserver;
 import project.interfaces.TestableObserver;
 import project.run.GUIManager;
+import project.run.MathHelperMetrics;
 import project.screens.RewardScreen;
+import project.tools.FlightEvents;
 import project.tools.MainWindow;
 import project.tools.QuestionPanelSelect;
+import project.tools.ScreenLifecycle;
 import project.tools.TextFileMaker;
 
 /**
@@ -70,7 +73,7 @@ public class PreKTestCoins implements TestableObserver, Questionable{
 	
 	private int currentQuestionNum = 1;   //The current question number.
 
-	private boolean[][][] isNumberSetUsed = new boolean[Coin.values().length][Coin.values().length][NUM_QUESTION_TYPES];
+	private boolean[][][] isNumberSetUsed; //Allocated by initArrays().
 	private String correctAnswer;   //The name or value of the correct answer's coin.
 	private String wrongAnswer;     //The name or value of the wrong answer's coin.
 	private int correctAnswerIndex; //The Coin.values() index of the correct answer's coin.
@@ -78,6 +81,8 @@ public class PreKTestCoins implements TestableObserver, Questionable{
 	private int questionType;       //Used to indicate a name (0) or value (1) question type.
 	private String answerString;    //The correct answer's panel String ("left" or "right").
 	private int numCorrect = 0;     //The number of correct answers obtained from the user.
+	private long startTime = System.currentTimeMillis(); //The time this test was created, in milliseconds.
+	private long questionShownNanos;                     //The System.nanoTime() when the current question was shown.
 	private ArrayList<String> wrongAnswers = new ArrayList<String>(); //Used to track incorrect answers.
 	
 	private QuestionableObserver observer; //The QuestionableObserver that want's to be notified of a user's answer.
@@ -107,6 +112,8 @@ public class PreKTestCoins implements TestableObserver, Questionable{
 		setDifficulty();
 		testPanel = new QuestionPanelSelect(mainWindow, maxNumberOfQuestions);
 		testPanel.registerObserver(this);
+		if(!isPractice)
+			testPanel.setTimedTest(TEST_BUTTON, difficulty);
 		
 		initArrays();
 		playTutorial();
@@ -135,7 +142,6 @@ public class PreKTestCoins implements TestableObserver, Questionable{
 		this.difficulty = difficulty;
 		
 		setDifficulty();
-		initArrays();
 		
 		maxNumberOfQuestions = maxQuestions;
 		observer = finalTest;
@@ -151,6 +157,8 @@ public class PreKTestCoins implements TestableObserver, Questionable{
 	    	String filePath = "audio\\Test Tutorials\\Coins.wav";
 	        AudioInputStream audioInputStream = AudioSystem.getAudioInputStream(new File(filePath).getAbsoluteFile());
 	        clip = AudioSystem.getClip();
+	        MathHelperMetrics.trackClip(clip);
+	        ScreenLifecycle.trackClip(clip);
 	        clip.open(audioInputStream);
 	        clip.start();
 	    }catch(Exception e) {
@@ -162,9 +170,13 @@ public class PreKTestCoins implements TestableObserver, Questionable{
 	 * Used to create and display the next question.
 	 */
 	private void askQuestion(){
+		FlightEvents.QuestionGenerate event = new FlightEvents.QuestionGenerate(TEST_BUTTON, difficulty, currentQuestionNum);
 		getValues();
 		makeQuestion();
+		questionShownNanos = System.nanoTime();
 		currentQuestionNum++;
+		MathHelperMetrics.questionServed();
+		event.commit();
 	}
 	
 	/**
@@ -252,6 +264,7 @@ public class PreKTestCoins implements TestableObserver, Questionable{
 	 *  in a single question (asked to choose dime, but both panels would show dimes).
 	 */
 	private void initArrays(){
+		isNumberSetUsed = new boolean[Coin.values().length][Coin.values().length][NUM_QUESTION_TYPES];
 		for(int i = 0; i < Coin.values().length; i++){
 			isNumberSetUsed[i][i][0] = true;
 			isNumberSetUsed[i][i][1] = true;
@@ -295,13 +308,19 @@ public class PreKTestCoins implements TestableObserver, Questionable{
 	 * @return A boolean indicating true if the user's answer was correct; false otherwise.
 	 */
 	private boolean checkAnswer(String answer){
-		if(answer.equals(answerString)){
+		FlightEvents.AnswerGrade event = new FlightEvents.AnswerGrade(TEST_BUTTON, difficulty, currentQuestionNum - 1);
+		boolean isCorrect = answer.equals(answerString);
+		if(!isPractice)
+			manager.recordAnswer(TEST_BUTTON, difficulty, currentQuestionNum - 1, 0, 0,
+					QuestionPanelSelect.Answer.getOrdinal(answerString), QuestionPanelSelect.Answer.getOrdinal(answer),
+					isCorrect, System.nanoTime() - questionShownNanos);
+		if(isCorrect)
 			numCorrect++;
-			return true;
-		}else{
+		else
 			logWrongAnswer();
-			return false;
-		}
+		MathHelperMetrics.answerGraded();
+		event.commit(isCorrect);
+		return isCorrect;
 	}
 	
 	/**
@@ -374,7 +393,7 @@ public class PreKTestCoins implements TestableObserver, Questionable{
 				if(isPractice)
 					showAnswer(answer);
 				else{
-					testPanel.tearDown();
+					testPanel.hide();
 					observer.answered(this, checkAnswer(answer), wrongAnswerLogEntry);
 				}
 			}else{
@@ -387,6 +406,8 @@ public class PreKTestCoins implements TestableObserver, Questionable{
 						clip.stop();
 					try {
 						int grade = getGrade();
+						manager.recordAttempt(TEST_BUTTON, difficulty, numCorrect, maxNumberOfQuestions,
+								System.currentTimeMillis() - startTime);
 						boolean isBetter = isBetterGrade(numCorrect);
 						if(isBetter)
 							manager.setGrade(TEST_BUTTON, difficulty, numCorrect, maxNumberOfQuestions);
@@ -404,7 +425,7 @@ public class PreKTestCoins implements TestableObserver, Questionable{
 	public void nextClicked() {
 		if(isPractice){
 			if(isFinalTest){
-				testPanel.tearDown();
+				testPanel.hide();
 				observer.answered(this, checkAnswer(userAnswer), null);
 			}else if(currentQuestionNum <= maxNumberOfQuestions){
 				askQuestion();
@@ -455,8 +476,17 @@ public class PreKTestCoins implements TestableObserver, Questionable{
 	
 	@Override
 	public void showQuestion(int questionNum) throws IOException{
-		testPanel = new QuestionPanelSelect(mainWindow, maxNumberOfQuestions);
-		testPanel.registerObserver(this);
+		//Allocate this test's question state when a final exam asks its first question.
+		if(isNumberSetUsed == null)
+			initArrays();
+		//Re-use this test's panel for each of the final exam's questions; only create it once.
+		if(testPanel == null){
+			testPanel = new QuestionPanelSelect(mainWindow, maxNumberOfQuestions);
+			testPanel.registerObserver(this);
+			if(!isPractice)
+				testPanel.setTimedTest(TEST_BUTTON, difficulty);
+		}else
+			testPanel.show();
 		playTutorial();
 		currentQuestionNum = questionNum;
 		userAnswer = "";
@@ -469,6 +499,16 @@ public class PreKTestCoins implements TestableObserver, Questionable{
 		return HARD_MAX_QUESTIONS;
 	}
 	
+	@Override
+	public void tearDown(){
+		if(testPanel != null){
+			testPanel.tearDown();
+			testPanel = null;
+		}
+		if(clip != null)
+			clip.close();
+	}
+	
 	/**
 	 * This enum is used to define different US coins. Each coin is associated with a name, cent value,
 	 *  and image file name.
@@ -37,9 +37,12 @@ import project.interfaces.Questionable;
 import project.interfaces.QuestionableObserver;
 import project.interfaces.TestableObserver;
 import project.run.GUIManager;
+import project.run.MathHelperMetrics;
 import project.screens.RewardScreen;
+import project.tools.FlightEvents;
 import project.tools.MainWindow;
 import project.tools.QuestionPanelSelect;
+import project.tools.ScreenLifecycle;
 import project.tools.TextFileMaker;
 
 /**
@@ -77,13 +80,15 @@ public class PreKTestComparison implements TestableObserver, Questionable{
 	private ArrayList<String> imagePaths; //The file paths of all AppleBoard images, in the order of the enum.
 	//The set (comparisonPoint, correctAnswer, wrongAnswer, questionType). Used to determine if a correct answer's panel was used
 	//  with a wrongAnswer's panel for the specified questionType & comparisonPoint.
-	private static boolean[][][][] isNumberSetUsed = new boolean[HIGHEST_INT + 2][(HIGHEST_INT + 2)][(HIGHEST_INT + 2)][Comparison.values().length];
+	private static boolean[][][][] isNumberSetUsed; //Allocated by initArrays().
 	private static int comparisonPoint; //The value that correctAnswer and wrongAnswer are compared to. Used to develop a question.
 	private static int correctAnswer;   //The value and index of the panel that is correct.
 	private static int wrongAnswer;     //The value and index of the panel that is incorrect.
 	private int questionType;    //The index of Comparison.values() that describes this question's type.
 	private String answerString; //The correct answer's panel String ("left" or "right").
 	private int numCorrect = 0;  //The number of correct answers obtained from the user.
+	private long startTime = System.currentTimeMillis(); //The time this test was created, in milliseconds.
+	private long questionShownNanos;                     //The System.nanoTime() when the current question was shown.
 	private ArrayList<String> wrongAnswers = new ArrayList<String>(); //Used to track incorrect answers.
 	
 	private QuestionableObserver observer; //The QuestionableObserver that want's to be notified of a user's answer.
@@ -113,6 +118,8 @@ public class PreKTestComparison implements TestableObserver, Questionable{
 		setDifficulty();
 		testPanel = new QuestionPanelSelect(mainWindow, maxNumberOfQuestions);
 		testPanel.registerObserver(this);
+		if(!isPractice)
+			testPanel.setTimedTest(TEST_BUTTON, difficulty);
 		
 		initArrays();
 		playTutorial();
@@ -141,7 +148,6 @@ public class PreKTestComparison implements TestableObserver, Questionable{
 		this.difficulty = difficulty;
 		
 		setDifficulty();
-		initArrays();
 		
 		maxNumberOfQuestions = maxQuestions;
 		observer = finalTest;
@@ -157,6 +163,8 @@ public class PreKTestComparison implements TestableObserver, Questionable{
 	    	String filePath = "audio\\Test Tutorials\\Comparison.wav";
 	        AudioInputStream audioInputStream = AudioSystem.getAudioInputStream(new File(filePath).getAbsoluteFile());
 	        clip = AudioSystem.getClip();
+	        MathHelperMetrics.trackClip(clip);
+	        ScreenLifecycle.trackClip(clip);
 	        clip.open(audioInputStream);
 	        clip.start();
 	    }catch(Exception e) {
@@ -168,9 +176,13 @@ public class PreKTestComparison implements TestableObserver, Questionable{
 	 * Used to create and display the next question.
 	 */
 	private void askQuestion(){
+		FlightEvents.QuestionGenerate event = new FlightEvents.QuestionGenerate(TEST_BUTTON, difficulty, currentQuestionNum);
 		getValues();
 		makeQuestion();
+		questionShownNanos = System.nanoTime();
 		currentQuestionNum++;
+		MathHelperMetrics.questionServed();
+		event.commit();
 	}
 	
 	/**
@@ -253,6 +265,8 @@ public class PreKTestComparison implements TestableObserver, Questionable{
 	 *  by each individual Comparison enum.
 	 */
 	private void initArrays(){
+		if(isNumberSetUsed == null)
+			isNumberSetUsed = new boolean[HIGHEST_INT + 2][(HIGHEST_INT + 2)][(HIGHEST_INT + 2)][Comparison.values().length];
 		imagePaths       = new ArrayList<String>();
 		AppleBoard[] board = AppleBoard.values();
 		for(int i = 0; i < board.length; i++){
@@ -300,13 +314,19 @@ public class PreKTestComparison implements TestableObserver, Questionable{
 	 * @return A boolean indicating true if the user's answer was correct; false otherwise.
 	 */
 	private boolean checkAnswer(String answer){
-		if(answer.equals(answerString)){
+		FlightEvents.AnswerGrade event = new FlightEvents.AnswerGrade(TEST_BUTTON, difficulty, currentQuestionNum - 1);
+		boolean isCorrect = answer.equals(answerString);
+		if(!isPractice)
+			manager.recordAnswer(TEST_BUTTON, difficulty, currentQuestionNum - 1, 0, 0,
+					QuestionPanelSelect.Answer.getOrdinal(answerString), QuestionPanelSelect.Answer.getOrdinal(answer),
+					isCorrect, System.nanoTime() - questionShownNanos);
+		if(isCorrect)
 			numCorrect++;
-			return true;
-		}else{
+		else
 			logWrongAnswer();
-			return false;
-		}
+		MathHelperMetrics.answerGraded();
+		event.commit(isCorrect);
+		return isCorrect;
 	}
 	
 	/**
@@ -370,7 +390,7 @@ public class PreKTestComparison implements TestableObserver, Questionable{
 				if(isPractice)
 					showAnswer(answer);
 				else{
-					testPanel.tearDown();
+					testPanel.hide();
 					observer.answered(this, checkAnswer(answer), wrongAnswerLogEntry);
 				}
 			}else{
@@ -383,6 +403,8 @@ public class PreKTestComparison implements TestableObserver, Questionable{
 						clip.stop();
 					try {
 						int grade = getGrade();
+						manager.recordAttempt(TEST_BUTTON, difficulty, numCorrect, maxNumberOfQuestions,
+								System.currentTimeMillis() - startTime);
 						boolean isBetter = isBetterGrade(numCorrect);
 						if(isBetter)
 							manager.setGrade(TEST_BUTTON, difficulty, numCorrect, maxNumberOfQuestions);
@@ -400,7 +422,7 @@ public class PreKTestComparison implements TestableObserver, Questionable{
 	public void nextClicked() {
 		if(isPractice){
 			if(isFinalTest){
-				testPanel.tearDown();
+				testPanel.hide();
 				observer.answered(this, checkAnswer(userAnswer), null);
 			}else if(currentQuestionNum <= maxNumberOfQuestions){
 				askQuestion();
@@ -451,8 +473,17 @@ public class PreKTestComparison implements TestableObserver, Questionable{
 	
 	@Override
 	public void showQuestion(int questionNum) throws IOException{
-		testPanel = new QuestionPanelSelect(mainWindow, maxNumberOfQuestions);
-		testPanel.registerObserver(this);
+		//Allocate this test's question state when a final exam asks its first question.
+		if(imagePaths == null)
+			initArrays();
+		//Re-use this test's panel for each of the final exam's questions; only create it once.
+		if(testPanel == null){
+			testPanel = new QuestionPanelSelect(mainWindow, maxNumberOfQuestions);
+			testPanel.registerObserver(this);
+			if(!isPractice)
+				testPanel.setTimedTest(TEST_BUTTON, difficulty);
+		}else
+			testPanel.show();
 		playTutorial();
 		currentQuestionNum = questionNum;
 		userAnswer = "";
@@ -465,6 +496,16 @@ public class PreKTestComparison implements TestableObserver, Questionable{
 		return HARD_MAX_QUESTIONS;
 	}
 	
+	@Override
+	public void tearDown(){
+		if(testPanel != null){
+			testPanel.tearDown();
+			testPanel = null;
+		}
+		if(clip != null)
+			clip.close();
+	}
+	
 	/**
 	 * This enum is used as the implementation of the state pattern for PreKTestComparison.
 	 * This enum is used to differentiate question types and their functions. Each question type
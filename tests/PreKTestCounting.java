@@ -31,14 +31,18 @@ import javax.swing.JOptionPane;
 
 import project.buttons.PreKModuleSelectTestButtons;
 import project.constants.DifficultyLevel;
+import project.database.AnswerLog;
 import project.interfaces.ModuleSelectButtonInterface;
 import project.interfaces.Questionable;
 import project.interfaces.QuestionableObserver;
 import project.interfaces.TestableObserver;
 import project.run.GUIManager;
+import project.run.MathHelperMetrics;
 import project.screens.RewardScreen;
+import project.tools.FlightEvents;
 import project.tools.MainWindow;
 import project.tools.QuestionPanelText;
+import project.tools.ScreenLifecycle;
 import project.tools.TextFileMaker;
 
 /**
@@ -74,10 +78,14 @@ public class PreKTestCounting implements TestableObserver, Questionable{
 	
 	private int currentQuestionNum      = 1; //The current question number.
 	//The set of all possible questions that may be asked, associated with a boolean indicating
-	// if the question has been asked. Must be set at instantiation after sequenceSize is set.
+	// if the question has been asked. Set by initArrays(), after sequenceSize is set.
 	private boolean[][] isNumberSetUsed;
 	private int currentAnswer;  //The answer to the current question.
 	private int numCorrect = 0; //The number of correct answers received from the user.
+	private long startTime = System.currentTimeMillis(); //The time this test was created, in milliseconds.
+	private long questionShownNanos;                     //The System.nanoTime() when the current question was shown.
+	private int currentOperand1;                         //The first operand of the current question.
+	private int currentOperand2;                         //The second operand of the current question.
 	private ArrayList<String> wrongAnswers = new ArrayList<String>(); //Used to track incorrect answers.
 	private String currentQuestion; //The current question in String form.
 	
@@ -106,9 +114,11 @@ public class PreKTestCounting implements TestableObserver, Questionable{
 		this.difficulty = difficulty;
 		setDifficulty();
 		
-		isNumberSetUsed = new boolean[(HIGHEST_INT - sequenceSize) + 2][sequenceSize];
+		initArrays();
 		testPanel = new QuestionPanelText(mainWindow, maxNumberOfQuestions);
 		testPanel.registerObserver(this);
+		if(!isPractice)
+			testPanel.setTimedTest(TEST_BUTTON, difficulty);
 		playTutorial();
 		askQuestion();
 	}
@@ -135,7 +145,6 @@ public class PreKTestCounting implements TestableObserver, Questionable{
 		this.difficulty = difficulty;
 		setDifficulty();
 		
-		isNumberSetUsed = new boolean[(HIGHEST_INT - sequenceSize) + 2][sequenceSize];
 		maxNumberOfQuestions = maxQuestions;
 		
 		observer = finalTest;
@@ -143,6 +152,14 @@ public class PreKTestCounting implements TestableObserver, Questionable{
 	}
 	
 	
+	/**
+	 * Used to allocate the isNumberSetUsed array. A final exam calls this when its first question is
+	 *  asked, rather than when this test is created.
+	 */
+	private void initArrays(){
+		isNumberSetUsed = new boolean[(HIGHEST_INT - sequenceSize) + 2][sequenceSize];
+	}
+	
 	/**
 	 * Used to play an audio tutorial, describing how to use this test.
 	 */
@@ -151,6 +168,8 @@ public class PreKTestCounting implements TestableObserver, Questionable{
 	    	String filePath = "audio\\Test Tutorials\\Counting.wav";
 	        AudioInputStream audioInputStream = AudioSystem.getAudioInputStream(new File(filePath).getAbsoluteFile());
 	        clip = AudioSystem.getClip();
+	        MathHelperMetrics.trackClip(clip);
+	        ScreenLifecycle.trackClip(clip);
 	        clip.open(audioInputStream);
 	        clip.start();
 	    }catch(Exception e) {
@@ -183,11 +202,15 @@ public class PreKTestCounting implements TestableObserver, Questionable{
 	 * Used to create and display the next question.
 	 */
 	private void askQuestion(){
+		FlightEvents.QuestionGenerate event = new FlightEvents.QuestionGenerate(TEST_BUTTON, difficulty, currentQuestionNum);
 		String question = "What number is missing?<br><br>";
 		currentQuestion = makeQuestion();
 		question += currentQuestion;
 		testPanel.showQuestion(question, (currentQuestionNum));
+		questionShownNanos = System.nanoTime();
 		currentQuestionNum++;
+		MathHelperMetrics.questionServed();
+		event.commit();
 	}
 	
 	/**
@@ -249,6 +272,9 @@ public class PreKTestCounting implements TestableObserver, Questionable{
 		}while(isUsedQuestion(startInt, missingNumIndex));
 		int missingNum = startInt + missingNumIndex;
 		currentAnswer  = missingNum;
+		//Log the question as its first number and the position of its missing number.
+		currentOperand1 = startInt;
+		currentOperand2 = missingNumIndex;
 		isNumberSetUsed[startInt][missingNumIndex] = true;
 		return getSequenceString(startInt, missingNum);
 	}
@@ -280,13 +306,18 @@ public class PreKTestCounting implements TestableObserver, Questionable{
 	 * @return A boolean indicating true if the user's answer was correct; false otherwise.
 	 */
 	private boolean checkAnswer(String answer){
-		if(answer.equals(new Integer(currentAnswer).toString())){
+		FlightEvents.AnswerGrade event = new FlightEvents.AnswerGrade(TEST_BUTTON, difficulty, currentQuestionNum - 1);
+		boolean isCorrect = answer.equals(new Integer(currentAnswer).toString());
+		if(!isPractice)
+			manager.recordAnswer(TEST_BUTTON, difficulty, currentQuestionNum - 1, currentOperand1, currentOperand2,
+					currentAnswer, AnswerLog.parseAnswer(answer), isCorrect, System.nanoTime() - questionShownNanos);
+		if(isCorrect)
 			numCorrect++;
-			return true;
-		}else{
+		else
 			logWrongAnswer(answer);
-			return false;
-		}
+		MathHelperMetrics.answerGraded();
+		event.commit(isCorrect);
+		return isCorrect;
 	}
 	
 	/**
@@ -347,7 +378,7 @@ public class PreKTestCounting implements TestableObserver, Questionable{
 			if(isPractice)
 				showAnswer(answer);
 			else{
-				testPanel.tearDown();
+				testPanel.hide();
 				observer.answered(this, checkAnswer(answer), wrongAnswerLogEntry);
 			}
 		}
@@ -364,6 +395,8 @@ public class PreKTestCounting implements TestableObserver, Questionable{
 				clip.stop();
 			try{
 				int grade = getGrade();
+				manager.recordAttempt(TEST_BUTTON, difficulty, numCorrect, maxNumberOfQuestions,
+						System.currentTimeMillis() - startTime);
 				boolean isBetter = isBetterGrade(numCorrect);
 				if(isBetter)
 					manager.setGrade(TEST_BUTTON, difficulty, numCorrect, maxNumberOfQuestions);
@@ -379,7 +412,7 @@ public class PreKTestCounting implements TestableObserver, Questionable{
 	public void nextClicked() {
 		if(isPractice){
 			if(isFinalTest){
-				testPanel.tearDown();
+				testPanel.hide();
 				observer.answered(this, checkAnswer(userAnswer), null);
 			}else if(currentQuestionNum <= maxNumberOfQuestions){
 				askQuestion();
@@ -430,8 +463,17 @@ public class PreKTestCounting implements TestableObserver, Questionable{
 	
 	@Override
 	public void showQuestion(int questionNum) throws IOException{
-		testPanel = new QuestionPanelText(mainWindow, maxNumberOfQuestions);
-		testPanel.registerObserver(this);
+		//Allocate this test's question state when a final exam asks its first question.
+		if(isNumberSetUsed == null)
+			initArrays();
+		//Re-use this test's panel for each of the final exam's questions; only create it once.
+		if(testPanel == null){
+			testPanel = new QuestionPanelText(mainWindow, maxNumberOfQuestions);
+			testPanel.registerObserver(this);
+			if(!isPractice)
+				testPanel.setTimedTest(TEST_BUTTON, difficulty);
+		}else
+			testPanel.show();
 		playTutorial();
 		currentQuestionNum = questionNum;
 		userAnswer = "";
@@ -443,4 +485,14 @@ public class PreKTestCounting implements TestableObserver, Questionable{
 	public int getMaxQuestions(){
 		return HARD_MAX_QUESTIONS;
 	}
+	
+	@Override
+	public void tearDown(){
+		if(testPanel != null){
+			testPanel.tearDown();
+			testPanel = null;
+		}
+		if(clip != null)
+			clip.close();
+	}
 }
@@ -36,9 +36,12 @@ import project.interfaces.Questionable;
 import project.interfaces.QuestionableObserver;
 import project.interfaces.TestableObserver;
 import project.run.GUIManager;
+import project.run.MathHelperMetrics;
 import project.screens.RewardScreen;
+import project.tools.FlightEvents;
 import project.tools.MainWindow;
 import project.tools.QuestionPanelSelect;
+import project.tools.ScreenLifecycle;
 import project.tools.TextFileMaker;
 
 /**
@@ -68,12 +71,14 @@ public class PreKTestEstimate implements TestableObserver, Questionable{
 	private int currentQuestionNum = 1;   //The current question number.
 
 	//The set of all questions; comparisonPoint, correctAnswer, wrongAnswer
-	private boolean[][][] isNumberSetUsed = new boolean[Value.values().length][Value.values().length][Value.values().length];
+	private boolean[][][] isNumberSetUsed; //Allocated by initArrays().
 	private int correctAnswer;      //The value of the correct answer.
 	private int wrongAnswer;        //The value of the wrong answer.
 	private int comparisonPoint;    //The value that whose estimate is to be compared to.
 	private String answerString;    //The correct answer's panel String ("left" or "right").
 	private int numCorrect = 0;     //The number of correct answers obtained from the user.
+	private long startTime = System.currentTimeMillis(); //The time this test was created, in milliseconds.
+	private long questionShownNanos;                     //The System.nanoTime() when the current question was shown.
 	private ArrayList<String> wrongAnswers = new ArrayList<String>(); //Used to track incorrect answers.
 	
 	private QuestionableObserver observer; //The QuestionableObserver that want's to be notified of a user's answer.
@@ -103,6 +108,8 @@ public class PreKTestEstimate implements TestableObserver, Questionable{
 		setDifficulty();
 		testPanel = new QuestionPanelSelect(mainWindow, maxNumberOfQuestions);
 		testPanel.registerObserver(this);
+		if(!isPractice)
+			testPanel.setTimedTest(TEST_BUTTON, difficulty);
 		
 		initArrays();
 		playTutorial();
@@ -131,7 +138,6 @@ public class PreKTestEstimate implements TestableObserver, Questionable{
 		this.difficulty = difficulty;
 		
 		setDifficulty();
-		initArrays();
 		
 		maxNumberOfQuestions = maxQuestions;
 		observer = finalTest;
@@ -147,6 +153,8 @@ public class PreKTestEstimate implements TestableObserver, Questionable{
 	    	String filePath = "audio\\Test Tutorials\\Estimate.wav";
 	        AudioInputStream audioInputStream = AudioSystem.getAudioInputStream(new File(filePath).getAbsoluteFile());
 	        clip = AudioSystem.getClip();
+	        MathHelperMetrics.trackClip(clip);
+	        ScreenLifecycle.trackClip(clip);
 	        clip.open(audioInputStream);
 	        clip.start();
 	    }catch(Exception e) {
@@ -158,9 +166,13 @@ public class PreKTestEstimate implements TestableObserver, Questionable{
 	 * Used to create and display the next question.
 	 */
 	private void askQuestion(){
+		FlightEvents.QuestionGenerate event = new FlightEvents.QuestionGenerate(TEST_BUTTON, difficulty, currentQuestionNum);
 		getValues();
 		makeQuestion();
+		questionShownNanos = System.nanoTime();
 		currentQuestionNum++;
+		MathHelperMetrics.questionServed();
+		event.commit();
 	}
 	
 	/**
@@ -257,6 +269,7 @@ public class PreKTestEstimate implements TestableObserver, Questionable{
 	 *   IE. "Estimate 10". correctAnswer = 3, wrongAnswer = 7 Should not be allowed.
 	 */
 	private void initArrays(){
+		isNumberSetUsed = new boolean[Value.values().length][Value.values().length][Value.values().length];
 		int size = Value.values().length;
 		for(int i = 0; i < size; i++){
 			for(int rightAnswer = 0; rightAnswer < size; rightAnswer++){
@@ -309,13 +322,19 @@ public class PreKTestEstimate implements TestableObserver, Questionable{
 	 * @return A boolean indicating true if the user's answer was correct; false otherwise.
 	 */
 	private boolean checkAnswer(String answer){
-		if(answer.equals(answerString)){
+		FlightEvents.AnswerGrade event = new FlightEvents.AnswerGrade(TEST_BUTTON, difficulty, currentQuestionNum - 1);
+		boolean isCorrect = answer.equals(answerString);
+		if(!isPractice)
+			manager.recordAnswer(TEST_BUTTON, difficulty, currentQuestionNum - 1, 0, 0,
+					QuestionPanelSelect.Answer.getOrdinal(answerString), QuestionPanelSelect.Answer.getOrdinal(answer),
+					isCorrect, System.nanoTime() - questionShownNanos);
+		if(isCorrect)
 			numCorrect++;
-			return true;
-		}else{
+		else
 			logWrongAnswer();
-			return false;
-		}
+		MathHelperMetrics.answerGraded();
+		event.commit(isCorrect);
+		return isCorrect;
 	}
 	
 	/**
@@ -382,7 +401,7 @@ public class PreKTestEstimate implements TestableObserver, Questionable{
 				if(isPractice)
 					showAnswer(answer);
 				else{
-					testPanel.tearDown();
+					testPanel.hide();
 					observer.answered(this, checkAnswer(answer), wrongAnswerLogEntry);
 				}
 			}else{
@@ -395,6 +414,8 @@ public class PreKTestEstimate implements TestableObserver, Questionable{
 						clip.stop();
 					try {
 						int grade = getGrade();
+						manager.recordAttempt(TEST_BUTTON, difficulty, numCorrect, maxNumberOfQuestions,
+								System.currentTimeMillis() - startTime);
 						boolean isBetter = isBetterGrade(numCorrect);
 						if(isBetter)
 							manager.setGrade(TEST_BUTTON, difficulty, numCorrect, maxNumberOfQuestions);
@@ -412,7 +433,7 @@ public class PreKTestEstimate implements TestableObserver, Questionable{
 	public void nextClicked() {
 		if(isPractice){
 			if(isFinalTest){
-				testPanel.tearDown();
+				testPanel.hide();
 				observer.answered(this, checkAnswer(userAnswer), null);
 			}else if(currentQuestionNum <= maxNumberOfQuestions){
 				askQuestion();
@@ -463,8 +484,17 @@ public class PreKTestEstimate implements TestableObserver, Questionable{
 	
 	@Override
 	public void showQuestion(int questionNum) throws IOException{
-		testPanel = new QuestionPanelSelect(mainWindow, maxNumberOfQuestions);
-		testPanel.registerObserver(this);
+		//Allocate this test's question state when a final exam asks its first question.
+		if(isNumberSetUsed == null)
+			initArrays();
+		//Re-use this test's panel for each of the final exam's questions; only create it once.
+		if(testPanel == null){
+			testPanel = new QuestionPanelSelect(mainWindow, maxNumberOfQuestions);
+			testPanel.registerObserver(this);
+			if(!isPractice)
+				testPanel.setTimedTest(TEST_BUTTON, difficulty);
+		}else
+			testPanel.show();
 		playTutorial();
 		currentQuestionNum = questionNum;
 		userAnswer = "";
@@ -477,6 +507,16 @@ public class PreKTestEstimate implements TestableObserver, Questionable{
 		return HARD_MAX_QUESTIONS;
 	}
 	
+	@Override
+	public void tearDown(){
+		if(testPanel != null){
+			testPanel.tearDown();
+			testPanel = null;
+		}
+		if(clip != null)
+			clip.close();
+	}
+	
 	/**
 	 * This enum is used to define different values that may be used for comparison. Each value is 
 	 *  associated with a name, int value, and image file name.
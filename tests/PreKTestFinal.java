@@ -38,13 +38,20 @@ public class PreKTestFinal implements QuestionableObserver{
 	//The ModuleSelectButtonInterface that describes this test.
 	private static final ModuleSelectButtonInterface TEST_BUTTON = PreKModuleSelectTestButtons.Button.FINAL;
 	
+	//Every Question, in enum order. Kept so that Question.values() does not copy the array for each question.
+	private static final Question[] QUESTIONS = Question.values();
+	
 	//Difficulty settings. Note: MUST be less than the maximum number of question permutations.
 	private static final int EASY_MAX_QUESTIONS = 20;   //The maximum number of questions for the "Easy" difficulty.
 	private static final int NORM_MAX_QUESTIONS = 30;   //The maximum number of questions for the "Normal" difficulty.
 	private static final int HARD_MAX_QUESTIONS = 40;   //The maximum number of questions for the "Hard" difficulty.
 	private int maxNumberOfQuestions = EASY_MAX_QUESTIONS; //The actual maximum number of questions for this test.
 	
-	private Random rng = new Random(System.currentTimeMillis()); //A random number generator.
+	//The system property that may hold a seed from a previous test's detail file, to replay its question plan.
+	private static final String SEED_PROPERTY = "mathhelper.finalSeed";
+	
+	private long   seed; //The seed that was used to shuffle questionPlan.
+	private int[]  questionPlan; //The index in QUESTIONS of the test that asks each question, in question order.
 	
 	private boolean isPractice = false;   //Used to indicate that this test is a practice test.
 	private DifficultyLevel difficulty;   //The current DifficultyLevel of this test.
@@ -53,26 +60,44 @@ public class PreKTestFinal implements QuestionableObserver{
 	private int currentQuestionNum = 1;   //The current question number.
 	
 	private int numCorrect = 0;     //The number of correct answers obtained from the user.
+	private long startTime = System.currentTimeMillis(); //The time this test was created, in milliseconds.
 	private ArrayList<String> wrongAnswers = new ArrayList<String>(); //Used to track incorrect answers.
 	
 	private GUIManager manager;    //The GUIManager that manages mainWindow & all GUI screens.
 	
 	/**
 	 * This class is used to test PreK-K students on a random sampling of skills taught and tested
-	 *  by the system. It is a "Cumulative" or "Final" exam, but no guarantees are made that an
-	 *  even distribution of skills will be tested.
+	 *  by the system. It is a "Cumulative" or "Final" exam. Every skill is asked an even number of
+	 *  times (differing by at most one), in a shuffled order.
+	 * The order is shuffled using a new seed, unless the program was started with
+	 *  "-Dmathhelper.finalSeed=&lt;seed&gt;". The seed is written to the first line of every test's
+	 *  detail file, so starting the program with it replays that test's question plan.
 	 * @param manager The GUIManager that manages the primary MainWindow and all GUI screens.
 	 * @param isPractice A boolean indicating true if this test is a practice test, false otherwise.
 	 * @param difficulty The DifficultyLevel of this test.
 	 */
 	public PreKTestFinal(GUIManager manager, boolean isPractice, DifficultyLevel difficulty){
+		this(manager, isPractice, difficulty, Long.getLong(SEED_PROPERTY, System.nanoTime()));
+	}
+	
+	/**
+	 * Creates a PreKTestFinal who's order of skills is shuffled using the specified seed. Using the
+	 *  seed recorded in a previous test's detail file will ask skills in the same order.
+	 * @param manager The GUIManager that manages the primary MainWindow and all GUI screens.
+	 * @param isPractice A boolean indicating true if this test is a practice test, false otherwise.
+	 * @param difficulty The DifficultyLevel of this test.
+	 * @param seed A long used to shuffle the order of skills.
+	 */
+	public PreKTestFinal(GUIManager manager, boolean isPractice, DifficultyLevel difficulty, long seed){
 		this.manager    = manager;
 		this.isPractice = isPractice;
 		this.difficulty = difficulty;
+		this.seed       = seed;
 		
 		setDifficulty();
+		makeQuestionPlan();
 		
-		initTests();
+		resetTests();
 		askQuestion();
 	}
 	
@@ -90,45 +115,71 @@ public class PreKTestFinal implements QuestionableObserver{
 	}
 	
 	/**
-	 * Used to initialize all PreK-K tests so they may be accessed. Each test is instantiated
-	 *  using a "do nothing" constructor. Tests must have their showQuestion(int) method called
-	 *  before they display anything.
+	 * Used to clear every PreK-K test left by a previous PreKTestFinal. Tests are not instantiated
+	 *  here; each test is instantiated by getTest(Question) the first time it is chosen, so a final
+	 *  exam only creates the tests it asks questions from.
 	 */
-	private void initTests(){
-		for(int i = 0; i < Question.values().length; i++){
-			Question test = Question.values()[i];
-			test.initTest(manager, isPractice, difficulty, maxNumberOfQuestions, this);
-		}
+	private void resetTests(){
+		for(Question question: QUESTIONS)
+			question.tearDown();
 	}
 	
 	/**
-	 * A helper method, used to obtain a random int between lowestValue and highestValue
-	 *  (inclusive).
-	 * @param lowestValue The lowest int value that the random number generator may return.
-	 * @param highestValue The highest int value that the random number generator may return.
-	 * @return A random int between lowestValue and highestValue (inclusive).
+	 * Used to obtain a PreK-K test, instantiating it if it has not been instantiated by this PreKTestFinal.
+	 *  Each test is instantiated using a "do nothing" constructor. Tests must have their showQuestion(int)
+	 *  method called before they display anything.
+	 * @param question The Question that describes the test.
+	 * @return The Questionable test, or null if the test could not be instantiated.
 	 */
-	private int getRandomInt(int lowestValue, int highestValue) {
-		if(lowestValue > highestValue){
-			int temp     = highestValue;
-			highestValue = lowestValue;
-			lowestValue  = temp;
+	private Questionable getTest(Question question){
+		if(question.getTest() == null)
+			question.initTest(manager, isPractice, difficulty, maxNumberOfQuestions, this);
+		return question.getTest();
+	}
+	
+	/**
+	 * Used to create questionPlan. Each test is given an equal share of the questions, with the
+	 *  first (maxNumberOfQuestions % QUESTIONS.length) tests given one extra question. The shares
+	 *  are then shuffled using seed (Fisher-Yates), so the whole test is decided before the first
+	 *  question is asked.
+	 */
+	private void makeQuestionPlan(){
+		Random rng = new Random(seed);
+		questionPlan = new int[maxNumberOfQuestions];
+		for(int i = 0; i < questionPlan.length; i++)
+			questionPlan[i] = i % QUESTIONS.length;
+		for(int i = questionPlan.length - 1; i > 0; i--){
+			int j = rng.nextInt(i + 1);
+			int temp        = questionPlan[i];
+			questionPlan[i] = questionPlan[j];
+			questionPlan[j] = temp;
 		}
-	    return rng.nextInt((highestValue - lowestValue) + 1) + lowestValue;
 	}
 	
 	/**
-	 * Used to choose a psudo-random PreK-K test and have it display a question.
+	 * Used to obtain a description of this test's question plan, so it may be logged and replayed.
+	 * @return A String containing the seed, and the name of the test that asks each question, in order.
+	 */
+	public String getQuestionPlan(){
+		StringBuilder plan = new StringBuilder("Question plan (seed " + seed + "):");
+		for(int i = 0; i < questionPlan.length; i++)
+			plan.append(' ').append(i + 1).append('=').append(QUESTIONS[questionPlan[i]].name());
+		return plan.toString();
+	}
+	
+	/**
+	 * Used to have the PreK-K test chosen by questionPlan display the current question.
+	 * NOTE: Each test's share of questions is far below its getMaxQuestions(), so no test runs
+	 *  out of questions.
 	 */
 	private void askQuestion(){
-		Questionable test = null;
-		do{
-			currentTestIndex  = getRandomInt(0, (Question.values().length - 1));
-			test = Question.values()[currentTestIndex].getTest();
-		}while(Question.values()[currentTestIndex].getNumQuestionsAsked() > test.getMaxQuestions());
+		currentTestIndex  = questionPlan[currentQuestionNum - 1];
+		Questionable test = getTest(QUESTIONS[currentTestIndex]);
+		if(test == null)
+			return;
 		try {
 			test.showQuestion(currentQuestionNum);
-			Question.values()[currentTestIndex].incrementNumQuestionsAsked();
+			QUESTIONS[currentTestIndex].incrementNumQuestionsAsked();
 		} catch (IOException e) {
 			manager.handleException(e);
 		}
@@ -146,18 +197,18 @@ public class PreKTestFinal implements QuestionableObserver{
 	}
 	
 	/**
-	 * Used to create a text file containing all questions, user answers, and correct answers
-	 *  for all questions that the user answered incorrectly. If the user did not answer any
-	 *  question incorrectly, no file is created.
+	 * Used to create a text file containing the question plan, followed by all questions, user answers,
+	 *  and correct answers for all questions that the user answered incorrectly. The file is always
+	 *  created, so that every test's question plan can be replayed.
 	 * @throws IOException Thrown if there is a problem writing the file.
 	 */
 	private void makeTestDetailFile() throws IOException{
-		if(wrongAnswers.size() > 0){
-			String filePath = manager.getTestFolderPath() + "\\Final\\";
-			String fileName = TextFileMaker.getTimeStamp() + "_(" + difficulty.getName() + ")";
-			String[] textArray = wrongAnswers.toArray(new String[wrongAnswers.size()]);
-			TextFileMaker.writeArray(filePath, fileName, textArray);
-		}
+		String filePath = manager.getTestFolderPath() + "\\Final\\";
+		String fileName = TextFileMaker.getTimeStamp() + "_(" + difficulty.getName() + ")";
+		//The question plan is written first, so this test can be replayed.
+		wrongAnswers.add(0, getQuestionPlan());
+		String[] textArray = wrongAnswers.toArray(new String[wrongAnswers.size()]);
+		TextFileMaker.writeArray(filePath, fileName, textArray);
 	}
 	
 	/**
@@ -201,13 +252,13 @@ public class PreKTestFinal implements QuestionableObserver{
 	 *  instance must be created if another PreKTestFinal is to be used.
 	 */
 	private void tearDown(){
-		for(int i = 0; i < Question.values().length; i++)
-			Question.values()[i].tearDown();
+		for(Question question: QUESTIONS)
+			question.tearDown();
 	}
 	
 	@Override
 	public void answered(Questionable object, boolean correct, String wrongAnswerLogEntry) {
-		if(object == Question.values()[currentTestIndex].getTest()){
+		if(object == QUESTIONS[currentTestIndex].getTest()){
 			if(correct)
 				numCorrect++;
 			if(!isPractice && !correct)
@@ -215,11 +266,14 @@ public class PreKTestFinal implements QuestionableObserver{
 			if(currentQuestionNum <= maxNumberOfQuestions){
 				askQuestion();
 			}else if(isPractice){
+				tearDown();
 				practiceComplete();
 			}else{
 				tearDown();
 				try {
 					int grade = getGrade();
+					manager.recordAttempt(TEST_BUTTON, difficulty, numCorrect, maxNumberOfQuestions,
+							System.currentTimeMillis() - startTime);
 					boolean isBetter = isBetterGrade(numCorrect);
 					if(isBetter)
 						manager.setGrade(TEST_BUTTON, difficulty, numCorrect, maxNumberOfQuestions);
@@ -377,8 +431,8 @@ public class PreKTestFinal implements QuestionableObserver{
 		
 		/**
 		 * Used to obtain the instance of this test.
-		 * Note: This method should not be called before initTest(), or after tearDown().
-		 * @return The instance of this Questionable test.
+		 * @return The instance of this Questionable test, or null if initTest() has not been called
+		 *  since the last tearDown().
 		 */
 		protected Questionable getTest(){
 			return test;
@@ -402,11 +456,15 @@ public class PreKTestFinal implements QuestionableObserver{
 		}
 		
 		/**
-		 * Used to set this Questionable test to null. This helps ensure garbage collection.
-		 * Note: Once this method is called, this test will no longer be accessible.
+		 * Used to tear down this Questionable test's question panel, set the test to null, and reset its
+		 *  number of questions asked. This helps ensure garbage collection.
+		 * Note: Once this method is called, this test will no longer be accessible until initTest() is called.
 		 */
 		protected void tearDown(){
+			if(test != null)
+				test.tearDown();
 			test = null;
+			numQuestionsAsked = 0;
 		}
 	}
 }
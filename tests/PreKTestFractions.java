@@ -36,9 +36,12 @@ import project.interfaces.Questionable;
 import project.interfaces.QuestionableObserver;
 import project.interfaces.TestableObserver;
 import project.run.GUIManager;
+import project.run.MathHelperMetrics;
 import project.screens.RewardScreen;
+import project.tools.FlightEvents;
 import project.tools.MainWindow;
 import project.tools.QuestionPanelSelect;
+import project.tools.ScreenLifecycle;
 import project.tools.TextFileMaker;
 
 /**
@@ -82,6 +85,8 @@ public class PreKTestFractions implements TestableObserver, Questionable{
 	private int questionType;    //Used to indicate this question's type; WHOLE or HALF.
 
 	private int numCorrect = 0;  //The number of correct answers obtained from the user.
+	private long startTime = System.currentTimeMillis(); //The time this test was created, in milliseconds.
+	private long questionShownNanos;                     //The System.nanoTime() when the current question was shown.
 	private ArrayList<String> wrongAnswers = new ArrayList<String>(); //Used to track incorrect answers.
 	
 	private QuestionableObserver observer; //The QuestionableObserver that want's to be notified of a user's answer.
@@ -111,6 +116,8 @@ public class PreKTestFractions implements TestableObserver, Questionable{
 		setDifficulty();
 		testPanel = new QuestionPanelSelect(mainWindow, maxNumberOfQuestions);
 		testPanel.registerObserver(this);
+		if(!isPractice)
+			testPanel.setTimedTest(TEST_BUTTON, difficulty);
 		
 		initArrays();
 		playTutorial();
@@ -139,7 +146,6 @@ public class PreKTestFractions implements TestableObserver, Questionable{
 		this.difficulty = difficulty;
 		
 		setDifficulty();
-		initArrays();
 		
 		maxNumberOfQuestions = maxQuestions;
 		observer = finalTest;
@@ -155,6 +161,8 @@ public class PreKTestFractions implements TestableObserver, Questionable{
 	    	String filePath = "audio\\Test Tutorials\\Fractions.wav";
 	        AudioInputStream audioInputStream = AudioSystem.getAudioInputStream(new File(filePath).getAbsoluteFile());
 	        clip = AudioSystem.getClip();
+	        MathHelperMetrics.trackClip(clip);
+	        ScreenLifecycle.trackClip(clip);
 	        clip.open(audioInputStream);
 	        clip.start();
 	    }catch(Exception e) {
@@ -166,9 +174,13 @@ public class PreKTestFractions implements TestableObserver, Questionable{
 	 * Used to create and display the next question.
 	 */
 	private void askQuestion(){
+		FlightEvents.QuestionGenerate event = new FlightEvents.QuestionGenerate(TEST_BUTTON, difficulty, currentQuestionNum);
 		getValues();
 		makeQuestion();
+		questionShownNanos = System.nanoTime();
 		currentQuestionNum++;
+		MathHelperMetrics.questionServed();
+		event.commit();
 	}
 	
 	/**
@@ -344,13 +356,19 @@ public class PreKTestFractions implements TestableObserver, Questionable{
 	 * @return A boolean indicating true if the user's answer was correct; false otherwise.
 	 */
 	private boolean checkAnswer(String answer){
-		if(answer.equals(answerString)){
+		FlightEvents.AnswerGrade event = new FlightEvents.AnswerGrade(TEST_BUTTON, difficulty, currentQuestionNum - 1);
+		boolean isCorrect = answer.equals(answerString);
+		if(!isPractice)
+			manager.recordAnswer(TEST_BUTTON, difficulty, currentQuestionNum - 1, 0, 0,
+					QuestionPanelSelect.Answer.getOrdinal(answerString), QuestionPanelSelect.Answer.getOrdinal(answer),
+					isCorrect, System.nanoTime() - questionShownNanos);
+		if(isCorrect)
 			numCorrect++;
-			return true;
-		}else{
+		else
 			logWrongAnswer();
-			return false;
-		}
+		MathHelperMetrics.answerGraded();
+		event.commit(isCorrect);
+		return isCorrect;
 	}
 	
 	/**
@@ -425,7 +443,7 @@ public class PreKTestFractions implements TestableObserver, Questionable{
 				if(isPractice)
 					showAnswer(answer);
 				else{
-					testPanel.tearDown();
+					testPanel.hide();
 					observer.answered(this, checkAnswer(answer), wrongAnswerLogEntry);
 				}
 			}else{
@@ -438,6 +456,8 @@ public class PreKTestFractions implements TestableObserver, Questionable{
 						clip.stop();
 					try {
 						int grade = getGrade();
+						manager.recordAttempt(TEST_BUTTON, difficulty, numCorrect, maxNumberOfQuestions,
+								System.currentTimeMillis() - startTime);
 						boolean isBetter = isBetterGrade(numCorrect);
 						if(isBetter)
 							manager.setGrade(TEST_BUTTON, difficulty, numCorrect, maxNumberOfQuestions);
@@ -455,7 +475,7 @@ public class PreKTestFractions implements TestableObserver, Questionable{
 	public void nextClicked() {
 		if(isPractice){
 			if(isFinalTest){
-				testPanel.tearDown();
+				testPanel.hide();
 				observer.answered(this, checkAnswer(userAnswer), null);
 			}else if(currentQuestionNum <= maxNumberOfQuestions){
 				askQuestion();
@@ -506,8 +526,17 @@ public class PreKTestFractions implements TestableObserver, Questionable{
 	
 	@Override
 	public void showQuestion(int questionNum) throws IOException{
-		testPanel = new QuestionPanelSelect(mainWindow, maxNumberOfQuestions);
-		testPanel.registerObserver(this);
+		//Allocate this test's question state when a final exam asks its first question.
+		if(halfPaths == null)
+			initArrays();
+		//Re-use this test's panel for each of the final exam's questions; only create it once.
+		if(testPanel == null){
+			testPanel = new QuestionPanelSelect(mainWindow, maxNumberOfQuestions);
+			testPanel.registerObserver(this);
+			if(!isPractice)
+				testPanel.setTimedTest(TEST_BUTTON, difficulty);
+		}else
+			testPanel.show();
 		playTutorial();
 		currentQuestionNum = questionNum;
 		userAnswer = "";
@@ -520,6 +549,16 @@ public class PreKTestFractions implements TestableObserver, Questionable{
 		return HARD_MAX_QUESTIONS;
 	}
 	
+	@Override
+	public void tearDown(){
+		if(testPanel != null){
+			testPanel.tearDown();
+			testPanel = null;
+		}
+		if(clip != null)
+			clip.close();
+	}
+	
 	/**
 	 * This enum is used to associate and store image file names and image names to a constant.
 	 * @author Kenneth Chin
@@ -37,9 +37,12 @@ import project.interfaces.Questionable;
 import project.interfaces.QuestionableObserver;
 import project.interfaces.TestableObserver;
 import project.run.GUIManager;
+import project.run.MathHelperMetrics;
 import project.screens.RewardScreen;
+import project.tools.FlightEvents;
 import project.tools.MainWindow;
 import project.tools.QuestionPanelSelect;
+import project.tools.ScreenLifecycle;
 import project.tools.TextFileMaker;
 
 /**
@@ -73,11 +76,13 @@ public class PreKTestMatching implements TestableObserver, Questionable{
 	private ArrayList<String> imagePaths; //The file paths of all AppleBoard images, in the order of the enum.
 	//The set (correctAnswer, wrongAnswer). Used to determine if a correct answer's panel was used
 	//  with a wrongAnswer's panel.
-	private boolean[][] isNumberSetUsed = new boolean[(HIGHEST_INT + 2)][(HIGHEST_INT + 2)];
+	private boolean[][] isNumberSetUsed; //Allocated by initArrays().
 	private int correctAnswer;   //The value and index of the panel that is correct.
 	private int wrongAnswer;     //The value and index of the panel that is incorrect.
 	private String answerString; //The correct answer's panel String ("left" or "right").
 	private int numCorrect = 0;  //The number of correct answers obtained from the user.
+	private long startTime = System.currentTimeMillis(); //The time this test was created, in milliseconds.
+	private long questionShownNanos;                     //The System.nanoTime() when the current question was shown.
 	private ArrayList<String> wrongAnswers = new ArrayList<String>(); //Used to track incorrect answers.
 	
 	private QuestionableObserver observer; //The QuestionableObserver that want's to be notified of a user's answer.
@@ -107,6 +112,8 @@ public class PreKTestMatching implements TestableObserver, Questionable{
 		setDifficulty();
 		testPanel = new QuestionPanelSelect(mainWindow, maxNumberOfQuestions);
 		testPanel.registerObserver(this);
+		if(!isPractice)
+			testPanel.setTimedTest(TEST_BUTTON, difficulty);
 		
 		initArrays();
 		playTutorial();
@@ -135,7 +142,6 @@ public class PreKTestMatching implements TestableObserver, Questionable{
 		this.difficulty = difficulty;
 		
 		setDifficulty();
-		initArrays();
 		
 		maxNumberOfQuestions = maxQuestions;
 		observer = finalTest;
@@ -151,6 +157,8 @@ public class PreKTestMatching implements TestableObserver, Questionable{
 	    	String filePath = "audio\\Test Tutorials\\Matching.wav";
 	        AudioInputStream audioInputStream = AudioSystem.getAudioInputStream(new File(filePath).getAbsoluteFile());
 	        clip = AudioSystem.getClip();
+	        MathHelperMetrics.trackClip(clip);
+	        ScreenLifecycle.trackClip(clip);
 	        clip.open(audioInputStream);
 	        clip.start();
 	    }catch(Exception e) {
@@ -162,9 +170,13 @@ public class PreKTestMatching implements TestableObserver, Questionable{
 	 * Used to create and display the next question.
 	 */
 	private void askQuestion(){
+		FlightEvents.QuestionGenerate event = new FlightEvents.QuestionGenerate(TEST_BUTTON, difficulty, currentQuestionNum);
 		getValues();
 		makeQuestion();
+		questionShownNanos = System.nanoTime();
 		currentQuestionNum++;
+		MathHelperMetrics.questionServed();
+		event.commit();
 	}
 	
 	/**
@@ -255,6 +267,7 @@ public class PreKTestMatching implements TestableObserver, Questionable{
 	 *  would show 5 objects).
 	 */
 	private void initArrays(){
+		isNumberSetUsed = new boolean[(HIGHEST_INT + 2)][(HIGHEST_INT + 2)];
 		imagePaths       = new ArrayList<String>();
 		AppleBoard[] board = AppleBoard.values();
 		for(int i = 0; i < board.length; i++){
@@ -300,13 +313,19 @@ public class PreKTestMatching implements TestableObserver, Questionable{
 	 * @return A boolean indicating true if the user's answer was correct; false otherwise.
 	 */
 	private boolean checkAnswer(String answer){
-		if(answer.equals(answerString)){
+		FlightEvents.AnswerGrade event = new FlightEvents.AnswerGrade(TEST_BUTTON, difficulty, currentQuestionNum - 1);
+		boolean isCorrect = answer.equals(answerString);
+		if(!isPractice)
+			manager.recordAnswer(TEST_BUTTON, difficulty, currentQuestionNum - 1, 0, 0,
+					QuestionPanelSelect.Answer.getOrdinal(answerString), QuestionPanelSelect.Answer.getOrdinal(answer),
+					isCorrect, System.nanoTime() - questionShownNanos);
+		if(isCorrect)
 			numCorrect++;
-			return true;
-		}else{
+		else
 			logWrongAnswer();
-			return false;
-		}
+		MathHelperMetrics.answerGraded();
+		event.commit(isCorrect);
+		return isCorrect;
 	}
 	
 	/**
@@ -371,7 +390,7 @@ public class PreKTestMatching implements TestableObserver, Questionable{
 				if(isPractice)
 					showAnswer(answer);
 				else{
-					testPanel.tearDown();
+					testPanel.hide();
 					observer.answered(this, checkAnswer(answer), wrongAnswerLogEntry);
 				}
 			}else{
@@ -384,6 +403,8 @@ public class PreKTestMatching implements TestableObserver, Questionable{
 						clip.stop();
 					try {
 						int grade = getGrade();
+						manager.recordAttempt(TEST_BUTTON, difficulty, numCorrect, maxNumberOfQuestions,
+								System.currentTimeMillis() - startTime);
 						boolean isBetter = isBetterGrade(numCorrect);
 						if(isBetter)
 							manager.setGrade(TEST_BUTTON, difficulty, numCorrect, maxNumberOfQuestions);
@@ -401,7 +422,7 @@ public class PreKTestMatching implements TestableObserver, Questionable{
 	public void nextClicked() {
 		if(isPractice){
 			if(isFinalTest){
-				testPanel.tearDown();
+				testPanel.hide();
 				observer.answered(this, checkAnswer(userAnswer), null);
 			}else if(currentQuestionNum <= maxNumberOfQuestions){
 				askQuestion();
@@ -452,8 +473,17 @@ public class PreKTestMatching implements TestableObserver, Questionable{
 	
 	@Override
 	public void showQuestion(int questionNum) throws IOException{
-		testPanel = new QuestionPanelSelect(mainWindow, maxNumberOfQuestions);
-		testPanel.registerObserver(this);
+		//Allocate this test's question state when a final exam asks its first question.
+		if(isNumberSetUsed == null)
+			initArrays();
+		//Re-use this test's panel for each of the final exam's questions; only create it once.
+		if(testPanel == null){
+			testPanel = new QuestionPanelSelect(mainWindow, maxNumberOfQuestions);
+			testPanel.registerObserver(this);
+			if(!isPractice)
+				testPanel.setTimedTest(TEST_BUTTON, difficulty);
+		}else
+			testPanel.show();
 		playTutorial();
 		currentQuestionNum = questionNum;
 		userAnswer = "";
@@ -465,4 +495,14 @@ public class PreKTestMatching implements TestableObserver, Questionable{
 	public int getMaxQuestions(){
 		return HARD_MAX_QUESTIONS;
 	}
+	
+	@Override
+	public void tearDown(){
+		if(testPanel != null){
+			testPanel.tearDown();
+			testPanel = null;
+		}
+		if(clip != null)
+			clip.close();
+	}
 }
\ No newline at end of file
@@ -50,6 +50,13 @@ import project.interfaces.ClickableObserver;
 import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
 import java.io.IOException;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * This class is a convenience class, used to simplify the construction of Swing containers for this project.
@@ -86,6 +93,16 @@ public class ContentPane extends JPanel implements Clickable{
 	private Timer   timer;                    //The Timer object used to flash the border.
 	private ActionListener flashBorder;       //The ActionListener that listens for Timer events.
 	
+	//Repaint cost, summed over every ContentPane. Only updated on the Event Dispatch Thread.
+	private static volatile long paintCount = 0; //The number of times any ContentPane has been painted.
+	private static volatile long paintNanos = 0; //The total time spent painting ContentPane backgrounds.
+	
+	//Instance counts. Each ContentPane is weakly referenced; its reference is queued once it is garbage collected.
+	private static final AtomicLong createdCount = new AtomicLong(); //The number of ContentPanes ever created.
+	private static final ReferenceQueue<ContentPane> collected = new ReferenceQueue<ContentPane>();
+	private static final Set<Reference<ContentPane>> liveInstances =
+			Collections.newSetFromMap(new ConcurrentHashMap<Reference<ContentPane>, Boolean>());
+	
 	
 /*****************************
  * ContentPane Constructors	 *
@@ -103,7 +120,8 @@ public class ContentPane extends JPanel implements Clickable{
 	 *  panel will not have any borders.
 	 */
 	public ContentPane(BufferedImage backgroundImage, boolean clickable, boolean borders){
-		background = backgroundImage;
+		trackInstance();
+		background = ImageLoader.toCompatibleImage(backgroundImage);
 		hasBorders = borders;
 		
 		setLayout(null);
@@ -132,6 +150,7 @@ public class ContentPane extends JPanel implements Clickable{
 	 *  panel will not have any borders.
 	 */
 	public ContentPane(int width, int height, boolean clickable, boolean borders){
+		trackInstance();
 		background = null;
 		setLayout(null);
 		setSize(width, height);
@@ -166,7 +185,8 @@ public class ContentPane extends JPanel implements Clickable{
 	 *  panel will not have any borders.
 	 */
 	public ContentPane(BufferedImage backgroundImage, boolean clickable, boolean selectable, boolean borders){
-		background   = backgroundImage;
+		trackInstance();
+		background   = ImageLoader.toCompatibleImage(backgroundImage);
 		hasBorders   = borders;
 		isSelectable = selectable;
 		
@@ -208,12 +228,13 @@ public class ContentPane extends JPanel implements Clickable{
 	
 	/**
 	 * Used to change this JPanel's background image. This function forces this JPanel to repaint().
+	 *  The image is converted to the screen's native format once, here, rather than on every repaint.
 	 * WARNING: Changing the background's image will change this JPanel's dimensions to be
 	 *  equal to the that of the new image's dimensions.
 	 * @param backgroundImage The BufferedImage that is to be used as this ContentPane's new background image.
 	 */
 	public void changeBackground(BufferedImage backgroundImage){
-		background = backgroundImage;
+		background = ImageLoader.toCompatibleImage(backgroundImage);
 		repaint();
 	}
 	
@@ -364,6 +385,7 @@ public class ContentPane extends JPanel implements Clickable{
 		timer = new Timer(100, flashBorder);
 		timer.setRepeats(true);
 		timer.start();
+		ScreenLifecycle.trackTimer(timer);
 	}
 	
 	/**
@@ -418,6 +440,7 @@ public class ContentPane extends JPanel implements Clickable{
 	 */
 	@Override
     public void paintComponent(Graphics g) {
+		long start = System.nanoTime();
 		super.paintComponent(g);
 
         if(background != null) {
@@ -425,7 +448,67 @@ public class ContentPane extends JPanel implements Clickable{
             int y = (getHeight() - background.getHeight()) / 2;
             g.drawImage(background, x, y, this);
         }
+        paintCount++;
+        paintNanos += System.nanoTime() - start;
     }
+	
+	/**
+	 * Used to obtain the number of times any ContentPane has been painted since the program started,
+	 *  or since resetPaintCost() was last called.
+	 * @return A long indicating the number of ContentPane paints.
+	 */
+	public static long getPaintCount(){
+		return paintCount;
+	}
+	
+	/**
+	 * Used to obtain the total time spent painting ContentPanes since the program started,
+	 *  or since resetPaintCost() was last called. Divide by getPaintCount() for the average cost of a repaint.
+	 * @return A long indicating the total paint time, in nanoseconds.
+	 */
+	public static long getPaintNanos(){
+		return paintNanos;
+	}
+	
+	/**
+	 * Used to reset the repaint-cost counters returned by getPaintCount() and getPaintNanos().
+	 */
+	public static void resetPaintCost(){
+		paintCount = 0;
+		paintNanos = 0;
+	}
+	
+	/**
+	 * Used to obtain the number of ContentPanes that have not been garbage collected. A ContentPane is
+	 *  only counted as collected once the garbage collector has queued its reference, so this count may
+	 *  lag behind the ContentPanes that are actually unreachable.
+	 * @return An int indicating the number of live ContentPanes.
+	 */
+	public static int getLiveCount(){
+		Reference<? extends ContentPane> reference;
+		while((reference = collected.poll()) != null)
+			liveInstances.remove(reference);
+		return liveInstances.size();
+	}
+	
+	/**
+	 * Used to obtain the number of ContentPanes created since the program started.
+	 * @return A long indicating the number of ContentPanes created.
+	 */
+	public static long getCreatedCount(){
+		return createdCount.get();
+	}
+	
+	/**
+	 * Used to count this ContentPane, until it is garbage collected. Called by every constructor.
+	 */
+	private void trackInstance(){
+		createdCount.incrementAndGet();
+		liveInstances.add(new WeakReference<ContentPane>(this, collected));
+		//Remove the references of collected ContentPanes, so they do not accumulate between reads.
+		if((createdCount.get() & 255) == 0)
+			getLiveCount();
+	}
 
 	/**
 	 * Registers ClickableObservers that wish to be notified when this JPanel is clicked.
@@ -434,6 +517,7 @@ public class ContentPane extends JPanel implements Clickable{
 	@Override
 	public void registerObserver(ClickableObserver obs) {
 		observers.add(obs);
+		ScreenLifecycle.observerAdded(this, obs);
 	}
 	
 	/**
@@ -445,6 +529,7 @@ public class ContentPane extends JPanel implements Clickable{
 		int index = observers.indexOf(obs);
 		if(index >= 0)
 			observers.remove(index);
+		ScreenLifecycle.observerRemoved(this, obs);
 	}
 
 	/**
@@ -0,0 +1,408 @@
+/**
+ * Name:         Math Helper
+ * Version:      1.0.0
+ * Version Date: 04/30/2015
+ * Team:         "Cool Math" - Consists of Kenneth Chin, Chris Moraal, Elena Eroshkina, and Austin Clark
+ * Purpose:      The "Math Helper" software is used to aid parents and teachers with the teaching and testing
+ *                 of students, grades PreK through Grade 4, in the subject of Mathematics. The lessons and
+ *                 tests provided cover a subset of skills as specified by the Massachusetts Department of
+ *                 Education's (DOE) website, found at:
+ *                              http://www.doe.mass.edu/frameworks/math/2000/toc.html
+ *                 The DOE category, Number Sense and Operations for Grades Pre-K through Grade 4,
+ *                 is the subset that the "Math Helper" software covers.
+ *                 
+ *               Features and services of the "Math Helper" software include, Login/Logout mechanics,
+ *                 practice and formal testing, and tutorials of the above-specified skills. Additional
+ *                 features include test completion results, test completion summaries, and test
+ *                 completion rewards.
+ */
+package project.tools;
+
+import java.awt.BasicStroke;
+import java.awt.Color;
+import java.awt.Dimension;
+import java.awt.Font;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.font.FontRenderContext;
+import java.awt.font.GlyphVector;
+import java.awt.font.LineMetrics;
+import java.awt.geom.Line2D;
+import java.util.HashMap;
+
+import javax.swing.JComponent;
+
+import project.constants.Operator;
+
+/**
+ * This class is used to draw an arithmetic equation with any number of operands. A vertical equation
+ *  has each operand right-aligned on its own row, the Operator's symbol to the left of the last operand,
+ *  an optional row of carry digits above the first operand, and an answer line below the last operand.
+ *  A horizontal equation is drawn on one line, as "operand symbol operand ... =".
+ * Each character is drawn from a cached GlyphVector, so no text is parsed or laid out when an equation
+ *  is changed. The position of every character is calculated once for each equation "shape" (the
+ *  orientation, and the number of characters in each operand), and is shared by every equation with the
+ *  same shape. Changing to an equation with a known shape only repaints its digits.
+ * @author Kenneth Chin
+ *
+ */
+public class EquationView extends JComponent{
+	
+	/**
+	 * The serialVersionUID for this Serializable class.
+	 */
+	private static final long serialVersionUID = 1L;
+	
+	private static final float CARRY_SCALE   = 0.6f; //The size of carry digits, relative to the equation's Font.
+	private static final int   PADDING       = 4;    //The space around the equation.
+	private static final int   LINE_GAP      = 2;    //The space between the last operand and the answer line.
+	private static final float LINE_WIDTH    = 3;    //The thickness of the answer line.
+	private static final String EQUALS       = "=";  //The symbol at the end of a horizontal equation.
+	
+	//The FontRenderContext used to create every GlyphVector. Anti-aliased, with fractional metrics.
+	private static final FontRenderContext FRC = new FontRenderContext(null, true, true);
+	
+	private Font font;       //The Font of operands and symbols.
+	private Font carryFont;  //The Font of carry digits.
+	
+	//Each character's cached GlyphVector, and its advance, for font and carryFont.
+	private HashMap<Character, GlyphVector> glyphs      = new HashMap<Character, GlyphVector>();
+	private HashMap<Character, GlyphVector> carryGlyphs = new HashMap<Character, GlyphVector>();
+	
+	//The cached Layout of each equation shape.
+	private HashMap<String, Layout> layouts = new HashMap<String, Layout>();
+	
+	private float cellWidth;      //The width of one digit column; the widest digit.
+	private float symbolWidth;    //The width of a symbol column; the widest Operator symbol.
+	private float ascent;         //The ascent of font.
+	private float rowHeight;      //The height of one operand row.
+	private float carryAscent;    //The ascent of carryFont.
+	private float carryHeight;    //The height of the carry row.
+	
+	private Layout layout;        //The Layout of the current equation, or null if there is none.
+	private char[] characters;    //The characters of the current equation, in the order of layout's positions.
+	
+	/**
+	 * Creates an EquationView that displays no equation.
+	 * @param font The Font of the equation's operands and symbols. Carry digits are drawn in a smaller
+	 *  version of this Font.
+	 * @param textColor The Color of the equation, and its answer line.
+	 */
+	public EquationView(Font font, Color textColor){
+		this.font      = font;
+		this.carryFont = font.deriveFont(font.getSize2D() * CARRY_SCALE);
+		
+		LineMetrics metrics = font.getLineMetrics("0123456789", FRC);
+		ascent    = metrics.getAscent();
+		rowHeight = metrics.getAscent() + metrics.getDescent();
+		LineMetrics carryMetrics = carryFont.getLineMetrics("0123456789", FRC);
+		carryAscent = carryMetrics.getAscent();
+		carryHeight = carryMetrics.getAscent() + carryMetrics.getDescent();
+		
+		for(char c = '0'; c <= '9'; c++)
+			cellWidth = Math.max(cellWidth, getAdvance(getGlyph(c, false)));
+		symbolWidth = getAdvance(getGlyph(EQUALS.charAt(0), false));
+		for(Operator operator: Operator.values())
+			symbolWidth = Math.max(symbolWidth, getAdvance(getGlyph(operator.getSymbol().charAt(0), false)));
+		
+		setForeground(textColor);
+		setOpaque(false);
+		setPreferredSize(new Dimension(0, 0));
+	}
+	
+	/**
+	 * Used to display a vertical equation. Each operand is right-aligned on its own row, and the
+	 *  Operator's symbol is drawn to the left of the last operand. An answer line is drawn beneath
+	 *  the last operand. This EquationView's size is changed to fit the equation.
+	 * @param operands An int array of the equation's operands, from top to bottom.
+	 * @param operator The Operator between each operand.
+	 * @param carries A String of carry digits, right-aligned above the first operand. Spaces are left
+	 *  blank. May be null if there are no carry digits.
+	 */
+	public void setVerticalEquation(int[] operands, Operator operator, String carries){
+		String[] texts = toStrings(operands);
+		int columns = 0;
+		StringBuilder shape = new StringBuilder("V");
+		for(String text: texts){
+			columns = Math.max(columns, text.length());
+			shape.append(',').append(text.length());
+		}
+		boolean hasCarry = (carries != null);
+		if(hasCarry){
+			columns = Math.max(columns, carries.length());
+			shape.append(",C").append(columns);
+		}
+		
+		//Characters are listed as: carry columns, each operand's characters, then the operator's symbol.
+		StringBuilder chars = new StringBuilder();
+		if(hasCarry){
+			for(int i = carries.length(); i < columns; i++)
+				chars.append(' ');
+			chars.append(carries);
+		}
+		for(String text: texts)
+			chars.append(text);
+		chars.append(operator.getSymbol().charAt(0));
+		
+		Layout shapeLayout = layouts.get(shape.toString());
+		if(shapeLayout == null){
+			shapeLayout = makeVerticalLayout(texts, columns, hasCarry);
+			layouts.put(shape.toString(), shapeLayout);
+		}
+		setEquation(shapeLayout, chars.toString().toCharArray());
+	}
+	
+	/**
+	 * Used to display a horizontal equation, as "operand symbol operand ... =". This EquationView's
+	 *  size is changed to fit the equation.
+	 * @param operands An int array of the equation's operands, from left to right.
+	 * @param operator The Operator between each operand.
+	 */
+	public void setHorizontalEquation(int[] operands, Operator operator){
+		String[] texts = toStrings(operands);
+		StringBuilder shape = new StringBuilder("H");
+		
+		//Characters are listed in reading order: operand, symbol, operand, ..., equals.
+		StringBuilder chars = new StringBuilder();
+		for(int i = 0; i < texts.length; i++){
+			shape.append(',').append(texts[i].length());
+			if(i > 0)
+				chars.append(operator.getSymbol().charAt(0));
+			chars.append(texts[i]);
+		}
+		chars.append(EQUALS);
+		
+		Layout shapeLayout = layouts.get(shape.toString());
+		if(shapeLayout == null){
+			shapeLayout = makeHorizontalLayout(texts);
+			layouts.put(shape.toString(), shapeLayout);
+		}
+		setEquation(shapeLayout, chars.toString().toCharArray());
+	}
+	
+	/**
+	 * Used to remove the displayed equation.
+	 */
+	public void clear(){
+		layout     = null;
+		characters = null;
+		setPreferredSize(new Dimension(0, 0));
+		setSize(0, 0);
+	}
+	
+	/**
+	 * Used to obtain the y-coordinate of the answer line of a vertical equation, relative to this EquationView.
+	 * @return An int indicating the answer line's y-coordinate, or the bottom of this EquationView if
+	 *  the equation is horizontal, or no equation is displayed.
+	 */
+	public int getLineY(){
+		if(layout == null || !layout.hasLine)
+			return getHeight();
+		return (int)layout.lineY;
+	}
+	
+	/**
+	 * Used to obtain the number of equation shapes that have had their Layout calculated.
+	 * @return An int indicating the number of cached Layouts.
+	 */
+	public int getLayoutCount(){
+		return layouts.size();
+	}
+	
+	@Override
+	protected void paintComponent(Graphics g){
+		if(layout == null)
+			return;
+		Graphics2D g2 = (Graphics2D) g.create();
+		g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+		g2.setColor(getForeground());
+		
+		for(int i = 0; i < characters.length; i++){
+			char c = characters[i];
+			if(c == ' ')
+				continue;
+			GlyphVector glyph = getGlyph(c, layout.isCarry[i]);
+			//Center each character in its column.
+			float x = layout.x[i] + ((layout.width[i] - getAdvance(glyph)) / 2);
+			g2.drawGlyphVector(glyph, x, layout.y[i]);
+		}
+		
+		if(layout.hasLine){
+			g2.setStroke(new BasicStroke(LINE_WIDTH));
+			g2.draw(new Line2D.Float(PADDING, layout.lineY, layout.shapeWidth - PADDING, layout.lineY));
+		}
+		g2.dispose();
+	}
+	
+	/**
+	 * A helper method used to display an equation.
+	 * @param layout The Layout of the equation's shape.
+	 * @param characters The equation's characters, in the order of layout's positions.
+	 */
+	private void setEquation(Layout layout, char[] characters){
+		this.layout     = layout;
+		this.characters = characters;
+		Dimension size = new Dimension(layout.shapeWidth, layout.shapeHeight);
+		if(!size.equals(getSize())){
+			setPreferredSize(size);
+			setSize(size);
+		}
+		repaint();
+	}
+	
+	/**
+	 * A helper method used to calculate the Layout of a vertical equation shape.
+	 * @param texts A String array of each operand's characters.
+	 * @param columns An int indicating the number of digit columns.
+	 * @param hasCarry A boolean indicating true if the equation has a carry row.
+	 * @return The Layout of the vertical equation shape.
+	 */
+	private Layout makeVerticalLayout(String[] texts, int columns, boolean hasCarry){
+		//One column for the operator's symbol, and one blank column before the digits.
+		float digitsX = PADDING + symbolWidth + cellWidth;
+		float right   = digitsX + (columns * cellWidth);
+		float top     = PADDING + (hasCarry ? carryHeight : 0);
+		
+		int count = (hasCarry ? columns : 0) + 1;
+		for(String text: texts)
+			count += text.length();
+		Layout shape = new Layout(count);
+		
+		int i = 0;
+		if(hasCarry){
+			//Carry digits are centered above their digit column.
+			for(int column = 0; column < columns; column++, i++){
+				shape.x[i] = digitsX + (column * cellWidth);
+				shape.y[i] = PADDING + carryAscent;
+				shape.width[i] = cellWidth;
+				shape.isCarry[i] = true;
+			}
+		}
+		for(int row = 0; row < texts.length; row++){
+			int length = texts[row].length();
+			for(int column = 0; column < length; column++, i++){
+				shape.x[i] = right - ((length - column) * cellWidth);
+				shape.y[i] = top + (row * rowHeight) + ascent;
+				shape.width[i] = cellWidth;
+			}
+		}
+		//The operator's symbol is beside the last operand.
+		shape.x[i] = PADDING;
+		shape.y[i] = top + ((texts.length - 1) * rowHeight) + ascent;
+		shape.width[i] = symbolWidth;
+		
+		shape.hasLine = true;
+		shape.lineY   = top + (texts.length * rowHeight) + LINE_GAP + (LINE_WIDTH / 2);
+		shape.shapeWidth  = (int)Math.ceil(right + PADDING);
+		shape.shapeHeight = (int)Math.ceil(shape.lineY + LINE_WIDTH + PADDING);
+		return shape;
+	}
+	
+	/**
+	 * A helper method used to calculate the Layout of a horizontal equation shape.
+	 * @param texts A String array of each operand's characters.
+	 * @return The Layout of the horizontal equation shape.
+	 */
+	private Layout makeHorizontalLayout(String[] texts){
+		int count = texts.length;  //One symbol between each operand, and the equals sign.
+		for(String text: texts)
+			count += text.length();
+		Layout shape = new Layout(count);
+		
+		//Symbols have a third of a digit column blank on either side.
+		float gap = cellWidth / 3;
+		float x = PADDING;
+		float y = PADDING + ascent;
+		int i = 0;
+		for(int operand = 0; operand < texts.length; operand++){
+			if(operand > 0){
+				x += gap;
+				shape.x[i] = x;
+				shape.y[i] = y;
+				shape.width[i++] = symbolWidth;
+				x += symbolWidth + gap;
+			}
+			for(int column = 0; column < texts[operand].length(); column++, i++){
+				shape.x[i] = x;
+				shape.y[i] = y;
+				shape.width[i] = cellWidth;
+				x += cellWidth;
+			}
+		}
+		x += gap;
+		shape.x[i] = x;
+		shape.y[i] = y;
+		shape.width[i] = symbolWidth;
+		x += symbolWidth;
+		
+		shape.shapeWidth  = (int)Math.ceil(x + PADDING);
+		shape.shapeHeight = (int)Math.ceil(rowHeight + (2 * PADDING));
+		return shape;
+	}
+	
+	/**
+	 * A helper method used to obtain a character's cached GlyphVector. The GlyphVector is created the
+	 *  first time it is needed.
+	 * @param c The character.
+	 * @param isCarry A boolean indicating true if the character is drawn in carryFont; false for font.
+	 * @return The character's GlyphVector.
+	 */
+	private GlyphVector getGlyph(char c, boolean isCarry){
+		HashMap<Character, GlyphVector> cache = isCarry ? carryGlyphs : glyphs;
+		GlyphVector glyph = cache.get(c);
+		if(glyph == null){
+			glyph = (isCarry ? carryFont : font).createGlyphVector(FRC, new char[]{c});
+			cache.put(c, glyph);
+		}
+		return glyph;
+	}
+	
+	/**
+	 * A helper method used to obtain the horizontal advance of a single-character GlyphVector.
+	 * @param glyph The GlyphVector.
+	 * @return A float indicating the GlyphVector's advance.
+	 */
+	private static float getAdvance(GlyphVector glyph){
+		return glyph.getGlyphMetrics(0).getAdvance();
+	}
+	
+	/**
+	 * A helper method used to convert each operand to a String.
+	 * @param operands An int array of operands.
+	 * @return A String array of the operands.
+	 */
+	private static String[] toStrings(int[] operands){
+		String[] texts = new String[operands.length];
+		for(int i = 0; i < operands.length; i++)
+			texts[i] = Integer.toString(operands[i]);
+		return texts;
+	}
+	
+	/**
+	 * A data class that stores the position of every character of an equation shape, and the shape's size.
+	 * @author Kenneth Chin
+	 *
+	 */
+	private static final class Layout{
+		private float[]   x;           //The x-origin of each character's column.
+		private float[]   y;           //The baseline of each character.
+		private float[]   width;       //The width of each character's column.
+		private boolean[] isCarry;     //True for each character that is a carry digit.
+		private boolean   hasLine;     //True if the shape has an answer line.
+		private float     lineY;       //The y-coordinate of the answer line.
+		private int       shapeWidth;  //The width of the shape.
+		private int       shapeHeight; //The height of the shape.
+		
+		/**
+		 * Creates an empty Layout.
+		 * @param count An int indicating the number of characters in the shape.
+		 */
+		private Layout(int count){
+			x       = new float[count];
+			y       = new float[count];
+			width   = new float[count];
+			isCarry = new boolean[count];
+		}
+	}
+}
@@ -0,0 +1,383 @@
+/**
+ * Name:         Math Helper
+ * Version:      1.0.0
+ * Version Date: 04/30/2015
+ * Team:         "Cool Math" - Consists of Kenneth Chin, Chris Moraal, Elena Eroshkina, and Austin Clark
+ * Purpose:      The "Math Helper" software is used to aid parents and teachers with the teaching and testing
+ *                 of students, grades PreK through Grade 4, in the subject of Mathematics. The lessons and
+ *                 tests provided cover a subset of skills as specified by the Massachusetts Department of
+ *                 Education's (DOE) website, found at:
+ *                              http://www.doe.mass.edu/frameworks/math/2000/toc.html
+ *                 The DOE category, Number Sense and Operations for Grades Pre-K through Grade 4,
+ *                 is the subset that the "Math Helper" software covers.
+ *                 
+ *               Features and services of the "Math Helper" software include, Login/Logout mechanics,
+ *                 practice and formal testing, and tutorials of the above-specified skills. Additional
+ *                 features include test completion results, test completion summaries, and test
+ *                 completion rewards.
+ */
+package project.tools;
+
+import java.awt.image.BufferedImage;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import project.constants.DifficultyLevel;
+import project.interfaces.ModuleSelectButtonInterface;
+
+/**
+ * An uninstantiable class, used to hold the JDK Flight Recorder events emitted by the program. Each event
+ *  times one operation: its constructor begins the event, and its commit method fills in the event's
+ *  results and commits it. For example:
+ * <pre>
+ *     FlightEvents.ImageLoad event = new FlightEvents.ImageLoad(path);
+ *     BufferedImage image = ImageIO.read(file);
+ *     event.commit(file.length(), image);
+ * </pre>
+ * Events cost almost nothing unless a recording is running. To record a session, start the program with
+ *  "-XX:StartFlightRecording=filename=session.jfr", and open the file with JDK Mission Control or
+ *  "jfr print --categories "Math Helper" session.jfr".
+ * @author Kenneth Chin
+ */
+public final class FlightEvents {
+	
+	private static final String CATEGORY = "Math Helper"; //The top-level category of every event.
+	
+	/**
+	 * Private constructor prevents instantiation.
+	 */
+	private FlightEvents(){}
+	
+	/**
+	 * Used to obtain the name of a test, for an event field.
+	 * @param test The ModuleSelectButtonInterface of the test, or null.
+	 * @return A String describing the test's name, or null if test is null.
+	 */
+	private static String nameOf(ModuleSelectButtonInterface test){
+		return (test == null) ? null : test.getName();
+	}
+	
+	/**
+	 * Used to obtain the name of a DifficultyLevel, for an event field.
+	 * @param difficulty The DifficultyLevel, or null.
+	 * @return A String describing the DifficultyLevel's name, or null if difficulty is null.
+	 */
+	private static String nameOf(DifficultyLevel difficulty){
+		return (difficulty == null) ? null : difficulty.getName();
+	}
+	
+	/**
+	 * An image file read by ImageLoader.
+	 * @author Kenneth Chin
+	 */
+	@Name("project.ImageLoad")
+	@Label("Image Load")
+	@Category({CATEGORY, "Resources"})
+	@Description("An image file read from disk.")
+	public static final class ImageLoad extends Event{
+		@Label("Path")
+		private final String path;
+		@Label("File Size") @DataAmount
+		private long bytes;
+		@Label("Width")
+		private int width;
+		@Label("Height")
+		private int height;
+		
+		/**
+		 * Begins an ImageLoad event.
+		 * @param path A String describing the image's path, from the program's root directory.
+		 */
+		public ImageLoad(String path){
+			this.path = path;
+			begin();
+		}
+		
+		/**
+		 * Used to end and commit this event.
+		 * @param bytes A long indicating the size of the image file, in bytes.
+		 * @param image The BufferedImage that was read, or null if the file was not an image.
+		 */
+		public void commit(long bytes, BufferedImage image){
+			end();
+			if(!shouldCommit())
+				return;
+			this.bytes = bytes;
+			if(image != null){
+				this.width  = image.getWidth();
+				this.height = image.getHeight();
+			}
+			commit();
+		}
+	}
+	
+	/**
+	 * A Font created from a .ttf file by FontMaker.
+	 * @author Kenneth Chin
+	 */
+	@Name("project.FontCreate")
+	@Label("Font Creation")
+	@Category({CATEGORY, "Resources"})
+	@Description("A Font read from its .ttf file, sized, and registered.")
+	public static final class FontCreate extends Event{
+		@Label("Path")
+		private final String path;
+		@Label("Font Type")
+		private final int fontType;
+		@Label("Font Size")
+		private final int fontSize;
+		
+		/**
+		 * Begins a FontCreate event. Call commit() once the Font is registered.
+		 * @param path A String describing the path of the font's .ttf file.
+		 * @param fontType An int indicating the font type, as defined by the FontMaker field constants.
+		 * @param fontSize An int indicating the font's point size.
+		 */
+		public FontCreate(String path, int fontType, int fontSize){
+			this.path     = path;
+			this.fontType = fontType;
+			this.fontSize = fontSize;
+			begin();
+		}
+	}
+	
+	/**
+	 * The user database being read from disk.
+	 * @author Kenneth Chin
+	 */
+	@Name("project.DatabaseRead")
+	@Label("Database Read")
+	@Category({CATEGORY, "Database"})
+	@Description("The user database read from disk, or converted from the previous file format.")
+	public static final class DatabaseRead extends Event{
+		@Label("Path")
+		private final String path;
+		@Label("File Size") @DataAmount
+		private long bytes;
+		@Label("Users")
+		private int users;
+		
+		/**
+		 * Begins a DatabaseRead event.
+		 * @param path A String describing the path of the database file.
+		 */
+		public DatabaseRead(String path){
+			this.path = path;
+			begin();
+		}
+		
+		/**
+		 * Used to end and commit this event.
+		 * @param bytes A long indicating the size of the database file, in bytes.
+		 * @param users An int indicating the number of users read.
+		 */
+		public void commit(long bytes, int users){
+			end();
+			if(!shouldCommit())
+				return;
+			this.bytes = bytes;
+			this.users = users;
+			commit();
+		}
+	}
+	
+	/**
+	 * The user database being written to disk.
+	 * @author Kenneth Chin
+	 */
+	@Name("project.DatabaseWrite")
+	@Label("Database Write")
+	@Category({CATEGORY, "Database"})
+	@Description("The user database written to disk.")
+	public static final class DatabaseWrite extends Event{
+		@Label("Path")
+		private final String path;
+		@Label("File Size") @DataAmount
+		private long bytes;
+		@Label("Users")
+		private int users;
+		
+		/**
+		 * Begins a DatabaseWrite event.
+		 * @param path A String describing the path of the database file.
+		 */
+		public DatabaseWrite(String path){
+			this.path = path;
+			begin();
+		}
+		
+		/**
+		 * Used to end and commit this event.
+		 * @param bytes A long indicating the size of the written database file, in bytes.
+		 * @param users An int indicating the number of users written.
+		 */
+		public void commit(long bytes, int users){
+			end();
+			if(!shouldCommit())
+				return;
+			this.bytes = bytes;
+			this.users = users;
+			commit();
+		}
+	}
+	
+	/**
+	 * A test generating and displaying its next question.
+	 * @author Kenneth Chin
+	 */
+	@Name("project.QuestionGenerate")
+	@Label("Question Generation")
+	@Category({CATEGORY, "Tests"})
+	@Description("A test choosing its next question, and displaying it.")
+	public static final class QuestionGenerate extends Event{
+		@Label("Module")
+		private final String module;
+		@Label("Difficulty")
+		private final String difficulty;
+		@Label("Question Number")
+		private final int question;
+		
+		/**
+		 * Begins a QuestionGenerate event. Call commit() once the question is displayed.
+		 * @param test The ModuleSelectButtonInterface of the test asking the question.
+		 * @param difficulty The DifficultyLevel of the test.
+		 * @param question An int indicating the question's number, starting at 1.
+		 */
+		public QuestionGenerate(ModuleSelectButtonInterface test, DifficultyLevel difficulty, int question){
+			this.module     = nameOf(test);
+			this.difficulty = nameOf(difficulty);
+			this.question   = question;
+			begin();
+		}
+	}
+	
+	/**
+	 * A test grading a student's answer.
+	 * @author Kenneth Chin
+	 */
+	@Name("project.AnswerGrade")
+	@Label("Answer Grading")
+	@Category({CATEGORY, "Tests"})
+	@Description("A test checking a student's answer, and logging it.")
+	public static final class AnswerGrade extends Event{
+		@Label("Module")
+		private final String module;
+		@Label("Difficulty")
+		private final String difficulty;
+		@Label("Question Number")
+		private final int question;
+		@Label("Correct")
+		private boolean correct;
+		
+		/**
+		 * Begins an AnswerGrade event.
+		 * @param test The ModuleSelectButtonInterface of the test grading the answer.
+		 * @param difficulty The DifficultyLevel of the test.
+		 * @param question An int indicating the question's number, starting at 1.
+		 */
+		public AnswerGrade(ModuleSelectButtonInterface test, DifficultyLevel difficulty, int question){
+			this.module     = nameOf(test);
+			this.difficulty = nameOf(difficulty);
+			this.question   = question;
+			begin();
+		}
+		
+		/**
+		 * Used to end and commit this event.
+		 * @param correct A boolean indicating true if the answer was correct.
+		 */
+		public void commit(boolean correct){
+			this.correct = correct;
+			commit();
+		}
+	}
+	
+	/**
+	 * A screen being built on mainWindow.
+	 * @author Kenneth Chin
+	 */
+	@Name("project.ScreenBuild")
+	@Label("Screen Build")
+	@Category({CATEGORY, "Screens"})
+	@Description("A screen creating its components and adding them to the Main Window.")
+	public static final class ScreenBuild extends Event{
+		@Label("Screen")
+		private final String screen;
+		
+		/**
+		 * Begins a ScreenBuild event. Call commit() once the screen is displayed.
+		 * @param screen The Class of the screen being built.
+		 */
+		public ScreenBuild(Class<?> screen){
+			this.screen = screen.getSimpleName();
+			begin();
+		}
+	}
+	
+	/**
+	 * A screen being removed from mainWindow.
+	 * @author Kenneth Chin
+	 */
+	@Name("project.ScreenTeardown")
+	@Label("Screen Teardown")
+	@Category({CATEGORY, "Screens"})
+	@Description("A screen removing its components from the Main Window.")
+	public static final class ScreenTeardown extends Event{
+		@Label("Screen")
+		private final String screen;
+		
+		/**
+		 * Begins a ScreenTeardown event. Call commit() once the screen is removed.
+		 * @param screen The Class of the screen being removed.
+		 */
+		public ScreenTeardown(Class<?> screen){
+			this.screen = screen.getSimpleName();
+			begin();
+		}
+	}
+	
+	/**
+	 * A reward being saved, as a descriptor, or rendered to an image file.
+	 * @author Kenneth Chin
+	 */
+	@Name("project.Reward")
+	@Label("Reward")
+	@Category({CATEGORY, "Rewards"})
+	@Description("A reward descriptor being saved, or a reward image being rendered and encoded.")
+	public static final class Reward extends Event{
+		@Label("Path")
+		private final String path;
+		@Label("Rendered")
+		private final boolean isRendered;
+		@Label("File Size") @DataAmount
+		private long bytes;
+		
+		/**
+		 * Begins a Reward event.
+		 * @param path A String describing the path of the file being written.
+		 * @param isRendered A boolean indicating true if an image is being rendered, false if a descriptor
+		 *  is being saved.
+		 */
+		public Reward(String path, boolean isRendered){
+			this.path       = path;
+			this.isRendered = isRendered;
+			begin();
+		}
+		
+		/**
+		 * Used to end and commit this event.
+		 * @param bytes A long indicating the size of the written file, in bytes.
+		 */
+		public void commit(long bytes){
+			end();
+			if(!shouldCommit())
+				return;
+			this.bytes = bytes;
+			commit();
+		}
+	}
+}
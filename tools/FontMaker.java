@@ -22,9 +22,15 @@ import java.awt.Font;
 import java.awt.FontFormatException;
 import java.awt.FontMetrics;
 import java.awt.Graphics;
+import java.awt.Graphics2D;
 import java.awt.GraphicsEnvironment;
+import java.awt.RenderingHints;
+import java.awt.font.FontRenderContext;
+import java.awt.image.BufferedImage;
 import java.io.File;
 import java.io.IOException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 import javax.swing.UIManager;
 
@@ -44,6 +50,15 @@ public final class FontMaker{
 	public final static int TITLE  = 2;
 	/** Indicates the DK Crayon Crumble font */
 	public final static int CHALK  = 3;
+	
+	//The FontMetrics of each measured Font. Every FontMetrics uses the same FontRenderContext; an
+	// identity transform, without anti-aliasing or fractional metrics, like an on-screen Graphics.
+	private static final ConcurrentHashMap<Font, FontMetrics> metricsCache = new ConcurrentHashMap<Font, FontMetrics>();
+	private static Graphics2D measureGraphics; //The off-screen Graphics used to create FontMetrics. Never drawn to.
+	
+	private static final AtomicLong metricsHits   = new AtomicLong(); //The number of cached FontMetrics returned.
+	private static final AtomicLong metricsMisses = new AtomicLong(); //The number of FontMetrics created.
+	private static final AtomicLong fontReads     = new AtomicLong(); //The number of .ttf files read by getFont().
 
 	/**
 	 * Private constructor prevents instantiation.
@@ -63,12 +78,16 @@ public final class FontMaker{
 			throws IOException, FontFormatException, IndexOutOfBoundsException{
 		if(fontType == SYSTEM)
 			return getDefaultFont(fontSize);
-		Font newFont = Font.createFont(Font.TRUETYPE_FONT, new File(getFontPath(fontType)));
+		String fontPath = getFontPath(fontType);
+		FlightEvents.FontCreate event = new FlightEvents.FontCreate(fontPath, fontType, fontSize);
+		Font newFont = Font.createFont(Font.TRUETYPE_FONT, new File(fontPath));
+		fontReads.incrementAndGet();
 		newFont = newFont.deriveFont((float)fontSize);
 		
 		//Register the font with the GraphicsEnvironment.
 		GraphicsEnvironment ge = GraphicsEnvironment.getLocalGraphicsEnvironment();
 		ge.registerFont(newFont);
+		event.commit();
 
 		return newFont;
 	}
@@ -84,8 +103,93 @@ public final class FontMaker{
 		return newFont.deriveFont((float)fontSize);
 	}
 	
+	/**
+	 * Used to obtain the cached FontMetrics of a Font. The FontMetrics is created the first time
+	 *  the Font is measured. No on-screen Graphics is needed, so this method may be called by any
+	 *  thread, including when the program is headless.
+	 * @param font The java.awt.Font that is to be measured.
+	 * @return The FontMetrics of the specified Font.
+	 */
+	public static FontMetrics getFontMetrics(Font font){
+		FontMetrics metrics = metricsCache.get(font);
+		if(metrics != null){
+			metricsHits.incrementAndGet();
+		}else{
+			metricsMisses.incrementAndGet();
+			synchronized(metricsCache){
+				if(measureGraphics == null){
+					measureGraphics = new BufferedImage(1, 1, BufferedImage.TYPE_INT_ARGB).createGraphics();
+					measureGraphics.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING,
+							RenderingHints.VALUE_TEXT_ANTIALIAS_OFF);
+					measureGraphics.setRenderingHint(RenderingHints.KEY_FRACTIONALMETRICS,
+							RenderingHints.VALUE_FRACTIONALMETRICS_OFF);
+				}
+				metrics = measureGraphics.getFontMetrics(font);
+			}
+			FontMetrics existing = metricsCache.putIfAbsent(font, metrics);
+			if(existing != null)
+				metrics = existing;
+		}
+		return metrics;
+	}
+	
+	/**
+	 * Used to obtain the number of times getFontMetrics(Font) returned a cached FontMetrics.
+	 * @return A long indicating the number of FontMetrics cache hits.
+	 */
+	public static long getMetricsHitCount(){
+		return metricsHits.get();
+	}
+	
+	/**
+	 * Used to obtain the number of times getFontMetrics(Font) created a FontMetrics.
+	 * @return A long indicating the number of FontMetrics cache misses.
+	 */
+	public static long getMetricsMissCount(){
+		return metricsMisses.get();
+	}
+	
+	/**
+	 * Used to obtain the number of font files read by getFont(int, int) since the program started.
+	 * @return A long indicating the number of font files read.
+	 */
+	public static long getFontReadCount(){
+		return fontReads.get();
+	}
+	
+	/**
+	 * Used to obtain the FontRenderContext that is used by every FontMetrics returned by getFontMetrics(Font).
+	 * @return The shared FontRenderContext.
+	 */
+	public static FontRenderContext getFontRenderContext(){
+		return getFontMetrics(getDefaultFont(12)).getFontRenderContext();
+	}
+	
+	/**
+	 * A convenience method used to determine a Font's pixel height, using the cached FontMetrics
+	 *  returned by getFontMetrics(Font).
+	 * @param font A java.awt.Font object that is to have its height measured.
+	 * @return An int indicating the pixel height of the specified Font object.
+	 */
+	public static int getFontHeight(Font font){
+		return getFontMetrics(font).getHeight();
+	}
+	
+	/**
+	 * A convenience method used to determine a String's pixel width in the specified Font, using
+	 *  the cached FontMetrics returned by getFontMetrics(Font).
+	 * @param font The java.awt.Font that will be used to draw the given String.
+	 * @param text The String that is to be measured.
+	 * @return An int indicating the specified String's pixel width, using the specified Font.
+	 */
+	public static int getStringWidth(Font font, String text){
+		return getFontMetrics(font).stringWidth(text);
+	}
+	
 	/**
 	 * A convenience method used to determine a Font's pixel height.
+	 * NOTE: Use getFontHeight(Font) unless "g" has a transform or rendering hints that change the
+	 *  Font's size. Do not pass a Graphics obtained from Component.getGraphics(); it is never disposed.
 	 * @param font A java.awt.Font object that is to have its height measured.
 	 * @param g The java.awt.Graphics object that will draw "font".
 	 * @return An int indicating the pixel height of the specified Font object.
@@ -97,6 +201,8 @@ public final class FontMaker{
 	
 	/**
 	 * A convenience method used to determine a String's pixel width in the specified Font.
+	 * NOTE: Use getStringWidth(Font, String) unless "g" has a transform or rendering hints that change
+	 *  the Font's size. Do not pass a Graphics obtained from Component.getGraphics(); it is never disposed.
 	 * @param font The java.awt.Font that will be used to draw the given String.
 	 * @param g The java.awt.Graphics object that will draw the given String in the specified font. 
 	 * @param text The String that is to be measured.
@@ -0,0 +1,410 @@
+/**
+ * Name:         Math Helper
+ * Version:      1.0.0
+ * Version Date: 04/30/2015
+ * Team:         "Cool Math" - Consists of Kenneth Chin, Chris Moraal, Elena Eroshkina, and Austin Clark
+ * Purpose:      The "Math Helper" software is used to aid parents and teachers with the teaching and testing
+ *                 of students, grades PreK through Grade 4, in the subject of Mathematics. The lessons and
+ *                 tests provided cover a subset of skills as specified by the Massachusetts Department of
+ *                 Education's (DOE) website, found at:
+ *                              http://www.doe.mass.edu/frameworks/math/2000/toc.html
+ *                 The DOE category, Number Sense and Operations for Grades Pre-K through Grade 4,
+ *                 is the subset that the "Math Helper" software covers.
+ *                 
+ *               Features and services of the "Math Helper" software include, Login/Logout mechanics,
+ *                 practice and formal testing, and tutorials of the above-specified skills. Additional
+ *                 features include test completion results, test completion summaries, and test
+ *                 completion rewards.
+ */
+package project.tools;
+
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+import javax.imageio.ImageIO;
+
+/**
+ * An uninstantiable class, used to obtain small user interface images (buttons, arrows, icons, etc.)
+ *  from a shared set of large "atlas" images, instead of reading each image file on its own.
+ *  On the first run, every small image in ATLAS_DIRECTORIES is packed into one or more atlas pages.
+ *  The pages and an index of each image's location are written to the CACHE_DIRECTORY. On all later
+ *  runs, the index is compared with the image files' names and last modified times, and the atlas
+ *  pages are read if they match. If an image file was added, removed, or changed, the atlas is
+ *  re-packed first. Images are handed out as BufferedImage.getSubimage() views,
+ *  so every ContentPane that uses an atlas image draws from the same shared page. Pages are converted
+ *  to the screen's native format when they are read, so their views need no further conversion.
+ * If an image is not in the atlas, such as an image that is too large to pack, the image is read
+ *  using ImageLoader. Deleting the CACHE_DIRECTORY forces the atlas to be re-packed.
+ * @author Kenneth Chin
+ */
+public final class ImageAtlas {
+	
+	//The directories, from the program's root directory, who's images may be packed. Sub-directories are included.
+	private static final String[] ATLAS_DIRECTORIES = {"\\images\\global",     "\\images\\welcome",
+													   "\\images\\report",     "\\images\\moduleSelect",
+													   "\\images\\difficulty", "\\images\\tutorial",
+													   "\\images\\test"};
+	private static final String[] SKIPPED_DIRECTORIES = {"\\images\\test\\"}; //Only the top level of these is packed.
+	
+	private static final String CACHE_DIRECTORY  = "\\cache";    //The directory of the atlas pages and index.
+	private static final String INDEX_FILE_NAME  = "atlas.idx";  //The file name of the atlas index.
+	private static final String PAGE_FILE_PREFIX = "atlas_";     //The file name prefix of each atlas page.
+	private static final String PAGE_COUNT_KEY   = "pageCount";  //The index key of the number of atlas pages.
+	private static final String IMAGE_FILE_TYPE  = "png";        //The atlas page file format.
+	
+	private static final int PAGE_SIZE       = 2048; //The pixel width and height of an atlas page.
+	private static final int MAX_SPRITE_SIZE = 512;  //Images wider or taller than this are not packed.
+	private static final int PADDING         = 1;    //The pixel spacing between packed images.
+	
+	private static boolean isLoaded = false;     //Used to determine if the atlas has been loaded.
+	private static BufferedImage[] pages = null; //The atlas pages.
+	private static HashMap<String, Sprite> sprites = new HashMap<String, Sprite>(); //The location of each packed image.
+	
+	private static volatile long hitCount  = 0; //The number of images returned from the atlas.
+	private static volatile long missCount = 0; //The number of images that were read using ImageLoader instead.
+
+	/**
+	 * Private constructor prevents instantiation.
+	 */
+	private ImageAtlas(){}
+	
+	/**
+	 * Returns a BufferedImage of the image file found at the specified path. If the image was packed into
+	 *  the atlas, the returned image is a view of the shared atlas page. Otherwise, the image is read
+	 *  using ImageLoader.
+	 * NOTE: The returned image may share its pixels with other images. It must not be drawn on.
+	 * @param pathFromParent A String describing the path of an image file, from the program's root directory.
+	 * @return A BufferedImage of the specified file.
+	 * @throws IOException Thrown if the specified file is not in the atlas and can not be read.
+	 */
+	public static BufferedImage getBufferedImage(String pathFromParent) throws IOException{
+		if(!isLoaded)
+			load();
+		Sprite sprite = sprites.get(pathFromParent);
+		if(sprite == null){
+			missCount++;
+			return ImageLoader.getBufferedImage(pathFromParent);
+		}
+		hitCount++;
+		return pages[sprite.page].getSubimage(sprite.x, sprite.y, sprite.width, sprite.height);
+	}
+	
+	/**
+	 * Used to obtain the number of images that getBufferedImage(String) returned from the atlas.
+	 * @return A long indicating the number of atlas hits.
+	 */
+	public static long getHitCount(){
+		return hitCount;
+	}
+	
+	/**
+	 * Used to obtain the number of images that getBufferedImage(String) could not return from the atlas,
+	 *  and read using ImageLoader instead.
+	 * @return A long indicating the number of atlas misses.
+	 */
+	public static long getMissCount(){
+		return missCount;
+	}
+	
+	/**
+	 * Used to load the atlas pages and index. If no index exists, or the index does not match the
+	 *  image files, the atlas is packed first. The atlas is a cache; if it can not be read or written,
+	 *  all images are simply read using ImageLoader.
+	 */
+	private static synchronized void load(){
+		if(isLoaded)
+			return;
+		isLoaded = true;
+		try{
+			HashMap<String, Long> files = new HashMap<String, Long>();
+			for(String directory: ATLAS_DIRECTORIES)
+				collectFiles(directory, files);
+			Properties index = readIndex();
+			if(index == null || !isCurrent(index, files)){
+				pack(files);
+				index = readIndex();
+			}
+			readPages(index);
+		}catch(IOException | RuntimeException e){
+			sprites.clear();
+			pages = null;
+		}
+	}
+	
+	/**
+	 * A helper method used to read the atlas index.
+	 * @return The Properties of the atlas index, or null if there is no index.
+	 * @throws IOException Thrown if the index can not be read.
+	 */
+	private static Properties readIndex() throws IOException{
+		File indexFile = new File(getCachePath(), INDEX_FILE_NAME);
+		if(!indexFile.exists())
+			return null;
+		Properties index = new Properties();
+		InputStream in = new FileInputStream(indexFile);
+		try{
+			index.load(in);
+		}finally{
+			in.close();
+		}
+		return index;
+	}
+	
+	/**
+	 * A helper method used to determine if the atlas index describes exactly the specified image files.
+	 * @param index The Properties of the atlas index.
+	 * @param files The last modified time of every image file that may be packed, keyed by its path
+	 *  from the program's root directory.
+	 * @return A boolean indicating true if the index has an entry for each file, with the same last
+	 *  modified time, and no other entries; false otherwise.
+	 */
+	private static boolean isCurrent(Properties index, HashMap<String, Long> files){
+		if(index.getProperty(PAGE_COUNT_KEY) == null || index.size() != files.size() + 1)
+			return false;
+		for(Map.Entry<String, Long> file: files.entrySet()){
+			String entry = index.getProperty(file.getKey());
+			if(entry == null || Sprite.parse(entry).lastModified != file.getValue())
+				return false;
+		}
+		return true;
+	}
+	
+	/**
+	 * A helper method used to read every atlas page, and the location of each packed image.
+	 * @param index The Properties of the atlas index.
+	 * @throws IOException Thrown if any page can not be read.
+	 */
+	private static void readPages(Properties index) throws IOException{
+		int pageCount = Integer.parseInt(index.getProperty(PAGE_COUNT_KEY));
+		pages = new BufferedImage[pageCount];
+		for(int i = 0; i < pageCount; i++){
+			BufferedImage page = ImageIO.read(new File(getCachePath(), PAGE_FILE_PREFIX + i + "." + IMAGE_FILE_TYPE));
+			if(page == null)
+				throw new IOException("Atlas page " + i + " could not be read.");
+			pages[i] = ImageLoader.toCompatibleImage(page);
+		}
+		
+		for(String path: index.stringPropertyNames()){
+			if(path.equals(PAGE_COUNT_KEY))
+				continue;
+			Sprite sprite = Sprite.parse(index.getProperty(path));
+			if(sprite.isPacked())
+				sprites.put(path, sprite);
+		}
+	}
+	
+	/**
+	 * Used to pack every small image in ATLAS_DIRECTORIES into atlas pages. Images are placed onto
+	 *  "shelves", from tallest to shortest. A new shelf is started when an image does not fit onto
+	 *  the current shelf, and a new page is started when a shelf does not fit onto the current page.
+	 *  The pages and index are written to the CACHE_DIRECTORY. Files that are not packed are also
+	 *  listed in the index, so that they are not mistaken for new files by the next run.
+	 * @param files The last modified time of every image file that may be packed, keyed by its path
+	 *  from the program's root directory.
+	 * @throws IOException Thrown if any page or the index can not be written.
+	 */
+	private static void pack(HashMap<String, Long> files) throws IOException{
+		final HashMap<String, BufferedImage> images = new HashMap<String, BufferedImage>();
+		Properties index = new Properties();
+		for(Map.Entry<String, Long> file: files.entrySet()){
+			BufferedImage image = readSmallImage(file.getKey());
+			if(image != null)
+				images.put(file.getKey(), image);
+			else
+				index.setProperty(file.getKey(), Sprite.unpacked(file.getValue()).toString());
+		}
+		
+		List<String> paths = new ArrayList<String>(images.keySet());
+		Collections.sort(paths, new Comparator<String>(){
+			@Override
+			public int compare(String path1, String path2){
+				return images.get(path2).getHeight() - images.get(path1).getHeight();
+			}
+		});
+		
+		List<BufferedImage> pageList = new ArrayList<BufferedImage>();
+		BufferedImage page = null;
+		Graphics2D g = null;
+		int shelfX = PAGE_SIZE;
+		int shelfY = 0;
+		int shelfHeight = 0;
+		try{
+			for(String path: paths){
+				BufferedImage image = images.get(path);
+				//Start a new shelf.
+				if(shelfX + image.getWidth() > PAGE_SIZE){
+					shelfY     += shelfHeight + PADDING;
+					shelfX      = 0;
+					shelfHeight = image.getHeight();
+				}
+				//Start a new page.
+				if(page == null || shelfY + image.getHeight() > PAGE_SIZE){
+					if(g != null)
+						g.dispose();
+					page = new BufferedImage(PAGE_SIZE, PAGE_SIZE, BufferedImage.TYPE_INT_ARGB);
+					g = page.createGraphics();
+					pageList.add(page);
+					shelfY      = 0;
+					shelfHeight = image.getHeight();
+				}
+				g.drawImage(image, shelfX, shelfY, null);
+				index.setProperty(path, new Sprite(pageList.size() - 1, shelfX, shelfY,
+						image.getWidth(), image.getHeight(), files.get(path)).toString());
+				shelfX += image.getWidth() + PADDING;
+			}
+		}finally{
+			if(g != null)
+				g.dispose();
+		}
+		
+		File cache = new File(getCachePath());
+		cache.mkdirs();
+		for(int i = 0; i < pageList.size(); i++)
+			ImageIO.write(pageList.get(i), IMAGE_FILE_TYPE, new File(cache, PAGE_FILE_PREFIX + i + "." + IMAGE_FILE_TYPE));
+		index.setProperty(PAGE_COUNT_KEY, Integer.toString(pageList.size()));
+		
+		//The index is written last, so a partially written atlas is never used.
+		OutputStream out = new FileOutputStream(new File(cache, INDEX_FILE_NAME));
+		try{
+			index.store(out, "Math Helper image atlas");
+		}finally{
+			out.close();
+		}
+	}
+	
+	/**
+	 * A helper method used to find every image file in the specified directory, and its sub-directories,
+	 *  that may be packed.
+	 * @param directory A String describing a directory path, from the program's root directory.
+	 * @param files The HashMap that each file's last modified time is added to, keyed by its path from
+	 *  the program's root directory.
+	 */
+	private static void collectFiles(String directory, HashMap<String, Long> files){
+		File[] list = new File(System.getProperty("user.dir") + directory).listFiles();
+		if(list == null)
+			return;
+		for(File file: list){
+			String path = directory + "\\" + file.getName();
+			if(file.isDirectory()){
+				if(!isSkipped(path))
+					collectFiles(path, files);
+			}else if(file.getName().toLowerCase().endsWith("." + IMAGE_FILE_TYPE) && !files.containsKey(path)){
+				files.put(path, file.lastModified());
+			}
+		}
+	}
+	
+	/**
+	 * A helper method used to read an image file that is small enough to be packed.
+	 * @param path A String describing the image's path from the program's root directory.
+	 * @return The BufferedImage of the file, or null if the file can not be read or is too large.
+	 */
+	private static BufferedImage readSmallImage(String path){
+		try{
+			BufferedImage image = ImageIO.read(new File(System.getProperty("user.dir") + path));
+			if(image != null && image.getWidth() <= MAX_SPRITE_SIZE && image.getHeight() <= MAX_SPRITE_SIZE)
+				return image;
+		}catch(IOException e){
+			//Unreadable images are left out of the atlas; ImageLoader will report them when used.
+		}
+		return null;
+	}
+	
+	/**
+	 * A helper method used to determine if the specified sub-directory is excluded from packing.
+	 * @param path A String describing a sub-directory path, from the program's root directory.
+	 * @return A boolean indicating true if the sub-directory should not be packed; false otherwise.
+	 */
+	private static boolean isSkipped(String path){
+		for(String skipped: SKIPPED_DIRECTORIES){
+			if(path.startsWith(skipped))
+				return true;
+		}
+		return false;
+	}
+	
+	/**
+	 * A helper method used to obtain the cache directory's full path.
+	 * @return A String describing the cache directory's full path.
+	 */
+	private static String getCachePath(){
+		return System.getProperty("user.dir") + CACHE_DIRECTORY;
+	}
+	
+	/**
+	 * A data class that describes where a single image is stored in the atlas. An image that was not
+	 *  packed has a page of -1.
+	 */
+	private static final class Sprite{
+		private final int page;          //The index of the atlas page that holds this image, or -1.
+		private final int x;             //The image's x-origin on its page.
+		private final int y;             //The image's y-origin on its page.
+		private final int width;         //The image's width.
+		private final int height;        //The image's height.
+		private final long lastModified; //The image file's last modified time when it was packed.
+		
+		/**
+		 * The Sprite constructor.
+		 * @param page The index of the atlas page that holds this image.
+		 * @param x The image's x-origin on its page.
+		 * @param y The image's y-origin on its page.
+		 * @param width The image's width.
+		 * @param height The image's height.
+		 * @param lastModified The image file's last modified time when it was packed.
+		 */
+		private Sprite(int page, int x, int y, int width, int height, long lastModified){
+			this.page         = page;
+			this.x            = x;
+			this.y            = y;
+			this.width        = width;
+			this.height       = height;
+			this.lastModified = lastModified;
+		}
+		
+		/**
+		 * Used to create the Sprite of an image file that was not packed.
+		 * @param lastModified The image file's last modified time when the atlas was packed.
+		 * @return A Sprite who's isPacked() is false.
+		 */
+		private static Sprite unpacked(long lastModified){
+			return new Sprite(-1, 0, 0, 0, 0, lastModified);
+		}
+		
+		/**
+		 * Used to create a Sprite from its index entry.
+		 * @param entry A String created by Sprite.toString().
+		 * @return The Sprite described by entry.
+		 */
+		private static Sprite parse(String entry){
+			String[] fields = entry.split(",");
+			return new Sprite(Integer.parseInt(fields[0]), Integer.parseInt(fields[1]), Integer.parseInt(fields[2]),
+					Integer.parseInt(fields[3]), Integer.parseInt(fields[4]), Long.parseLong(fields[5]));
+		}
+		
+		/**
+		 * Used to determine if the image is stored on an atlas page.
+		 * @return A boolean indicating true if the image was packed; false otherwise.
+		 */
+		private boolean isPacked(){
+			return page >= 0;
+		}
+		
+		@Override
+		public String toString(){
+			return page + "," + x + "," + y + "," + width + "," + height + "," + lastModified;
+		}
+	}
+}
@@ -21,6 +21,9 @@ package project.tools;
 import java.io.File;
 import java.io.IOException;
 import javax.imageio.ImageIO;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.GraphicsEnvironment;
 import java.awt.image.BufferedImage;
 
 /**
@@ -33,6 +36,7 @@ import java.awt.image.BufferedImage;
 public final class ImageLoader {
 	
 	private static BufferedImage image; //The image that is to be created and returned.
+	private static volatile long readCount = 0; //The number of image files read.
 
 	/**
 	 * Private constructor prevents instantiation.
@@ -47,7 +51,11 @@ public final class ImageLoader {
 	private static void createBufferedImage(String path) throws IOException{
         String parentDir = System.getProperty("user.dir");
     	String filePath  = parentDir + path;
-    	image = ImageIO.read(new File(filePath));
+    	File   file      = new File(filePath);
+    	FlightEvents.ImageLoad event = new FlightEvents.ImageLoad(path);
+    	image = ImageIO.read(file);
+    	readCount++;
+    	event.commit(file.length(), image);
 	}
 	
 	/**
@@ -60,4 +68,41 @@ public final class ImageLoader {
 		createBufferedImage(pathFromParent);
 		return image;
 	}
+	
+	/**
+	 * Used to obtain the number of image files that have been read since the program started.
+	 * @return A long indicating the number of image files read.
+	 */
+	public static long getReadCount(){
+		return readCount;
+	}
+	
+	/**
+	 * Returns a copy of the specified image in the screen's native ("compatible") format. ImageIO
+	 *  often returns formats, such as TYPE_4BYTE_ABGR or indexed color, that Java2D must convert
+	 *  every time they are drawn. A compatible image is converted once, here, and can be cached
+	 *  in video memory by Java2D. If the image is already compatible, or there is no screen, the
+	 *  specified image is returned unchanged.
+	 * NOTE: Sub-images of a compatible image are also compatible, and are returned unchanged.
+	 * @param source The BufferedImage to be converted.
+	 * @return A BufferedImage in the screen's native format.
+	 */
+	public static BufferedImage toCompatibleImage(BufferedImage source){
+		if(source == null || GraphicsEnvironment.isHeadless())
+			return source;
+		GraphicsConfiguration config = GraphicsEnvironment.getLocalGraphicsEnvironment()
+				.getDefaultScreenDevice().getDefaultConfiguration();
+		int transparency = source.getTransparency();
+		if(source.getColorModel().equals(config.getColorModel(transparency)))
+			return source;
+		
+		BufferedImage compatible = config.createCompatibleImage(source.getWidth(), source.getHeight(), transparency);
+		Graphics2D g = compatible.createGraphics();
+		try{
+			g.drawImage(source, 0, 0, null);
+		}finally{
+			g.dispose();
+		}
+		return compatible;
+	}
 }
@@ -0,0 +1,220 @@
+/**
+ * Name:         Math Helper
+ * Version:      1.0.0
+ * Version Date: 04/30/2015
+ * Team:         "Cool Math" - Consists of Kenneth Chin, Chris Moraal, Elena Eroshkina, and Austin Clark
+ * Purpose:      The "Math Helper" software is used to aid parents and teachers with the teaching and testing
+ *                 of students, grades PreK through Grade 4, in the subject of Mathematics. The lessons and
+ *                 tests provided cover a subset of skills as specified by the Massachusetts Department of
+ *                 Education's (DOE) website, found at:
+ *                              http://www.doe.mass.edu/frameworks/math/2000/toc.html
+ *                 The DOE category, Number Sense and Operations for Grades Pre-K through Grade 4,
+ *                 is the subset that the "Math Helper" software covers.
+ *                 
+ *               Features and services of the "Math Helper" software include, Login/Logout mechanics,
+ *                 practice and formal testing, and tutorials of the above-specified skills. Additional
+ *                 features include test completion results, test completion summaries, and test
+ *                 completion rewards.
+ */
+package project.tools;
+
+import java.util.Arrays;
+
+/**
+ * This class is a fixed-size histogram of time intervals, such as the time a student took to answer a
+ *  question. Like an HDR histogram, its buckets grow logarithmically: each power of two is divided into
+ *  SUB_BUCKETS buckets of equal width, so every recorded value is kept to within about 3% of its true
+ *  value, from one microsecond to over an hour, in a few kilobytes.
+ * Values are recorded in nanoseconds, and are stored in microseconds. Values larger than
+ *  getHighestTrackableNanos() are recorded as that value. record(long) does not allocate.
+ * @author Kenneth Chin
+ */
+public final class LatencyHistogram {
+	
+	/**
+	 * The number of buckets each power of two is divided into.
+	 */
+	public static final int SUB_BUCKETS = 32;
+	
+	private static final int  SUB_BUCKET_BITS = 5;  //log2(SUB_BUCKETS).
+	private static final int  MAX_BITS        = 32; //Values are stored in fewer than this many bits.
+	private static final long MAX_MICROS      = (1L << MAX_BITS) - 1; //The largest stored value.
+	
+	//The number of buckets. Values below 2*SUB_BUCKETS have one bucket each.
+	private static final int BUCKET_COUNT = bucketIndex(MAX_MICROS) + 1;
+	
+	private final int[] counts = new int[BUCKET_COUNT]; //The number of values recorded in each bucket.
+	private long totalCount = 0;                         //The number of values recorded.
+	private long totalNanos = 0;                         //The sum of every recorded value, in nanoseconds.
+	private long minNanos   = Long.MAX_VALUE;            //The smallest recorded value, in nanoseconds.
+	private long maxNanos   = 0;                         //The largest recorded value, in nanoseconds.
+	
+	/**
+	 * Used to record a time interval.
+	 * @param nanos A long describing the interval, in nanoseconds. Negative values are recorded as 0.
+	 */
+	public synchronized void record(long nanos){
+		if(nanos < 0)
+			nanos = 0;
+		long micros = nanos / 1000;
+		if(micros > MAX_MICROS)
+			micros = MAX_MICROS;
+		counts[bucketIndex(micros)]++;
+		totalCount++;
+		totalNanos += nanos;
+		if(nanos < minNanos)
+			minNanos = nanos;
+		if(nanos > maxNanos)
+			maxNanos = nanos;
+	}
+	
+	/**
+	 * Used to add every value recorded by another LatencyHistogram to this LatencyHistogram.
+	 * @param other The LatencyHistogram whose values are to be added.
+	 */
+	public void add(LatencyHistogram other){
+		int[] otherCounts;
+		long count, total, min, max;
+		synchronized(other){
+			otherCounts = other.counts.clone();
+			count       = other.totalCount;
+			total       = other.totalNanos;
+			min         = other.minNanos;
+			max         = other.maxNanos;
+		}
+		synchronized(this){
+			for(int i = 0; i < BUCKET_COUNT; i++)
+				counts[i] += otherCounts[i];
+			totalCount += count;
+			totalNanos += total;
+			minNanos    = Math.min(minNanos, min);
+			maxNanos    = Math.max(maxNanos, max);
+		}
+	}
+	
+	/**
+	 * Used to discard every recorded value.
+	 */
+	public synchronized void reset(){
+		Arrays.fill(counts, 0);
+		totalCount = 0;
+		totalNanos = 0;
+		minNanos   = Long.MAX_VALUE;
+		maxNanos   = 0;
+	}
+	
+	/**
+	 * Used to obtain the number of recorded values.
+	 * @return A long indicating the number of recorded values.
+	 */
+	public synchronized long getCount(){
+		return totalCount;
+	}
+	
+	/**
+	 * Used to obtain the smallest recorded value.
+	 * @return A long describing the smallest recorded value in nanoseconds, or 0 if none were recorded.
+	 */
+	public synchronized long getMinNanos(){
+		return (totalCount == 0) ? 0 : minNanos;
+	}
+	
+	/**
+	 * Used to obtain the largest recorded value.
+	 * @return A long describing the largest recorded value in nanoseconds, or 0 if none were recorded.
+	 */
+	public synchronized long getMaxNanos(){
+		return maxNanos;
+	}
+	
+	/**
+	 * Used to obtain the mean of the recorded values.
+	 * @return A long describing the mean recorded value in nanoseconds, or 0 if none were recorded.
+	 */
+	public synchronized long getMeanNanos(){
+		return (totalCount == 0) ? 0 : totalNanos / totalCount;
+	}
+	
+	/**
+	 * Used to obtain the value that the specified percentage of recorded values are less than or equal to.
+	 *  The returned value is the upper bound of the bucket that holds the percentile, so it is at most
+	 *  about 3% larger than the true value, and never larger than getMaxNanos().
+	 * @param percentile A double between 0 and 100, such as 50 for the median, or 99.
+	 * @return A long describing the value at the percentile in nanoseconds, or 0 if none were recorded.
+	 */
+	public synchronized long getValueAtPercentile(double percentile){
+		if(totalCount == 0)
+			return 0;
+		percentile = Math.max(0, Math.min(100, percentile));
+		long target = Math.max(1, (long)Math.ceil((percentile / 100) * totalCount));
+		long seen   = 0;
+		for(int i = 0; i < BUCKET_COUNT; i++){
+			seen += counts[i];
+			if(seen >= target)
+				return Math.max(minNanos, Math.min(maxNanos, (highestMicros(i) * 1000) + 999));
+		}
+		return maxNanos;
+	}
+	
+	/**
+	 * Used to obtain the largest value this LatencyHistogram can record without clamping it.
+	 * @return A long describing the largest trackable value, in nanoseconds.
+	 */
+	public static long getHighestTrackableNanos(){
+		return (MAX_MICROS * 1000) + 999;
+	}
+	
+	/**
+	 * Used to describe each non-empty bucket, for export. Each element is "lowestMicros,highestMicros,count".
+	 * @return A String array with one element per non-empty bucket, in increasing order.
+	 */
+	public synchronized String[] getBuckets(){
+		int used = 0;
+		for(int i = 0; i < BUCKET_COUNT; i++)
+			if(counts[i] != 0)
+				used++;
+		String[] buckets = new String[used];
+		used = 0;
+		for(int i = 0; i < BUCKET_COUNT; i++)
+			if(counts[i] != 0)
+				buckets[used++] = lowestMicros(i) + "," + highestMicros(i) + "," + counts[i];
+		return buckets;
+	}
+	
+	/**
+	 * Used to find the bucket that holds the specified value.
+	 * @param micros A non-negative long, no larger than MAX_MICROS.
+	 * @return An int indicating the bucket's index.
+	 */
+	private static int bucketIndex(long micros){
+		int highestBit = 63 - Long.numberOfLeadingZeros(micros);
+		if(highestBit <= SUB_BUCKET_BITS)
+			return (int)micros;
+		int shift = highestBit - SUB_BUCKET_BITS;
+		return (shift * SUB_BUCKETS) + (int)(micros >>> shift);
+	}
+	
+	/**
+	 * Used to obtain the smallest value held by the specified bucket.
+	 * @param index An int indicating the bucket's index.
+	 * @return A long describing the bucket's smallest value, in microseconds.
+	 */
+	private static long lowestMicros(int index){
+		if(index < 2 * SUB_BUCKETS)
+			return index;
+		int shift = (index / SUB_BUCKETS) - 1;
+		return ((long)((index % SUB_BUCKETS) + SUB_BUCKETS)) << shift;
+	}
+	
+	/**
+	 * Used to obtain the largest value held by the specified bucket.
+	 * @param index An int indicating the bucket's index.
+	 * @return A long describing the bucket's largest value, in microseconds.
+	 */
+	private static long highestMicros(int index){
+		if(index < 2 * SUB_BUCKETS)
+			return index;
+		int shift = (index / SUB_BUCKETS) - 1;
+		return lowestMicros(index) + (1L << shift) - 1;
+	}
+}
@@ -28,6 +28,7 @@ import javax.swing.UIManager;
 import project.run.GUIManager;
 
 import java.awt.BorderLayout;
+import java.awt.Rectangle;
 import java.awt.image.BufferedImage;
 import java.io.IOException;
 import java.util.ArrayList;
@@ -59,6 +60,9 @@ public final class MainWindow extends JFrame{
 	
 	private final Integer BG_DEPTH = new Integer(1); //The layer depth of the backgroundPanel.
 	
+	private int transactionDepth = 0;    //The number of open layer transactions. Repaints are deferred while > 0.
+	private Rectangle dirtyRegion = null; //The union of the bounds changed during the current layer transaction.
+	
 	private static MainWindow mainWindow = null; //The singleton instance of MainWindow.
 	
 	private GUIManager manager; //The GUIManager that is managing MainWindow.
@@ -219,8 +223,8 @@ public final class MainWindow extends JFrame{
 		contentPane.add(component, depth);
 		component.setOpaque(false);
 		component.setVisible(true);
-		contentPane.revalidate();
-		contentPane.repaint();
+		markDirty(component.getBounds());
+		ScreenLifecycle.layerAdded(this, component);
 	}
 	
 	/**
@@ -229,9 +233,56 @@ public final class MainWindow extends JFrame{
 	* is a JPanel, but may be a any sub-class of JComponent.
 	*/
 	public void removeLayer(JComponent component) {
+		Rectangle bounds = component.getBounds();
 		contentPane.remove(component);
+		markDirty(bounds);
+		ScreenLifecycle.layerRemoved(component);
+	}
+	
+	/**
+	 * Used to begin a layer transaction. Until the matching commitLayerTransaction() is called,
+	 *  addLayer() and removeLayer() do not revalidate or repaint the content pane. Instead, the bounds
+	 *  of every changed component are collected, and only that region is repainted when the transaction
+	 *  is committed. Transactions may be nested; only the outermost commit repaints.
+	 * NOTE: Every call to this method must be matched by a call to commitLayerTransaction(). It is
+	 *  recommended that the commit is made in a finally block.
+	 */
+	public void beginLayerTransaction(){
+		transactionDepth++;
+	}
+	
+	/**
+	 * Used to end a layer transaction that was started with beginLayerTransaction(). If this is the
+	 *  outermost transaction, the content pane is revalidated once, and the union of all changed
+	 *  component bounds is repainted.
+	 */
+	public void commitLayerTransaction(){
+		if(transactionDepth == 0)
+			return;
+		transactionDepth--;
+		if(transactionDepth == 0 && dirtyRegion != null){
+			Rectangle region = dirtyRegion;
+			dirtyRegion = null;
+			contentPane.revalidate();
+			contentPane.repaint(region.x, region.y, region.width, region.height);
+		}
+	}
+	
+	/**
+	 * A helper method used to repaint the specified region of the content pane. If a layer transaction
+	 *  is open, the region is added to dirtyRegion and repainted when the transaction is committed.
+	 * @param bounds A Rectangle describing the changed region, relative to the content pane's origin.
+	 */
+	private void markDirty(Rectangle bounds){
+		if(transactionDepth > 0){
+			if(dirtyRegion == null)
+				dirtyRegion = new Rectangle(bounds);
+			else
+				dirtyRegion.add(bounds);
+			return;
+		}
 		contentPane.revalidate();
-		contentPane.repaint();
+		contentPane.repaint(bounds.x, bounds.y, bounds.width, bounds.height);
 	}
 	
 	/**
@@ -38,7 +38,9 @@ import javax.swing.JLabel;
 import javax.swing.SwingConstants;
 
 import project.buttons.HomeButtonMaker;
+import project.constants.DifficultyLevel;
 import project.interfaces.ClickableObserver;
+import project.interfaces.ModuleSelectButtonInterface;
 import project.interfaces.Testable;
 import project.interfaces.TestableObserver;
 
@@ -77,22 +79,38 @@ public class QuestionPanelSelect implements Testable, ClickableObserver{
 	private static final String  HOME   = "home";   //Used to identify a "Home" button event.
 	private static final String  NEXT   = "next";   //Used to identify a "Next" button event.
 	
+	//Templates of every displayed text. Compiled once, and shared by every instance.
+	private static final TextCache.Template QUESTION_TEMPLATE = TextCache.compile("<HTML><div>{0}</div><HTML>");
+	private static final TextCache.Template NOTE_TEMPLATE     = TextCache.compile("<HTML>{0}</HTML>");
+	//The counter is plain text, so counting questions never parses HTML.
+	private static final TextCache.Template COUNTER_TEMPLATE  = TextCache.compile("Question: {0} / {1}");
+	
 	//The list of registered TestableObservers.
 	private CopyOnWriteArrayList<TestableObserver> observers = new CopyOnWriteArrayList<TestableObserver>();
 	
 	private ContentPane nextButton   = null; //The ContentPane used to display the practice test's "Next" button.
 	private ContentPane answerNote   = null; //The ContentPane used to display a question's answer note.
-	private ContentPane answerIcon   = null; //The ContentPane used to display the icon indicating correct/incorrect.
+	private JLabel      noteLabel    = null; //The JLabel that displays answerNote's text.
+	private ContentPane answerIcon   = null; //The displayed icon indicating correct/incorrect; correctIcon or wrongIcon.
+	private ContentPane correctIcon  = null; //The ContentPane used to display the "correct" icon.
+	private ContentPane wrongIcon    = null; //The ContentPane used to display the "incorrect" icon.
 	private ContentPane questionCounter;     //The ContentPane used to display the number of remaining questions.
+	private JLabel      counterLabel;        //The JLabel that displays questionCounter's text.
 	private ContentPane questionBox;         //The ContentPane where questions are asked.
 	private JLabel      questionText = null; //The JLable used to write question text.
-	private ContentPane leftPanel    = null; //The ContentPane used to display the left  answer panel.
-	private ContentPane rightPanel   = null; //The ContentPane used to display the right answer panel.
+	private AnswerPanel leftPanel    = null; //The ContentPane used to display the left  answer panel.
+	private AnswerPanel rightPanel   = null; //The ContentPane used to display the right answer panel.
 	private ContentPane submitBtn;           //The ContentPane used to display the "Submit" button.
 	private ContentPane homeBtn;             //The ContentPane used to display the "Home" button.
 	
 	private int maxNumQuestions     = 0;     //The maximum number of questions to be displayed in questionCounter.
 	private Font counterFont;                //The Font used for questionCounter's text.
+	private Font textFont;                   //The Font used for question and answer note text.
+	private BufferedImage backgroundImage;   //The background image, kept so show() need not read it again.
+	private boolean isShown = true;          //Used to determine if this QuestionPanelSelect is on mainWindow.
+	
+	//Times each question, from being shown until the answer is handled. See setTimedTest().
+	private final ResponseTimes.QuestionClock clock = new ResponseTimes.QuestionClock();
 	
 	private boolean isLeftSelected  = false; //Used to determine if the left  ContentPane is selected.
 	private boolean isRightSelected = false; //Used to determine if the right ContentPane is selected.
@@ -112,9 +130,12 @@ public class QuestionPanelSelect implements Testable, ClickableObserver{
 	 * @throws IOException Thrown if any image file is missing.
 	 */
 	public QuestionPanelSelect(MainWindow mainWindow, int maxNumQuestions) throws IOException{
+		FlightEvents.ScreenBuild event = new FlightEvents.ScreenBuild(getClass());
+		ScreenLifecycle.begin(this, false);
 		this.mainWindow      = mainWindow;
 		this.maxNumQuestions = maxNumQuestions;
 		init();
+		event.commit();
 	}
 	
 	/**
@@ -122,12 +143,25 @@ public class QuestionPanelSelect implements Testable, ClickableObserver{
 	 * @throws IOException Thrown if any image file is missing.
 	 */
 	private void init() throws IOException{
-		initBackground();
-		initCounter();
-		initQuestionBox();
-		initSubmitBtn();
-		initHomeBtn();
-		initNextBtn();
+		try{
+			textFont = FontMaker.getFont(PREFERRED_FONT, 24);
+		}catch(IndexOutOfBoundsException | IOException | FontFormatException e){
+			textFont = FontMaker.getDefaultFont(24);
+		}
+		
+		//Add every layer in one transaction, so the window is repainted once.
+		mainWindow.beginLayerTransaction();
+		try{
+			initBackground();
+			initCounter();
+			initQuestionBox();
+			initSubmitBtn();
+			initHomeBtn();
+			initNextBtn();
+			initAnswerNote();
+		}finally{
+			mainWindow.commitLayerTransaction();
+		}
 	}
 	
 	/**
@@ -135,7 +169,7 @@ public class QuestionPanelSelect implements Testable, ClickableObserver{
 	 * @throws IOException Thrown if the background image file is missing.
 	 */
 	private void initBackground() throws IOException{
-		BufferedImage backgroundImage = ImageLoader.getBufferedImage(BACKGROUND_IMAGE_PATH);
+		backgroundImage = ImageLoader.getBufferedImage(BACKGROUND_IMAGE_PATH);
 		mainWindow.setBackgroundImage(backgroundImage);
 	}
 	
@@ -155,7 +189,7 @@ public class QuestionPanelSelect implements Testable, ClickableObserver{
 	 * @throws IOException Thrown if the "Submit" button image file is missing.
 	 */
 	private void initSubmitBtn() throws IOException{
-		BufferedImage submitBtnImage = ImageLoader.getBufferedImage(SUBMIT_BTN_IMAGE_PATH);
+		BufferedImage submitBtnImage = ImageAtlas.getBufferedImage(SUBMIT_BTN_IMAGE_PATH);
 		submitBtn = new ContentPane(submitBtnImage, true, false);
 		submitBtn.setName(SUBMIT_BTN_NAME);
 		
@@ -186,10 +220,20 @@ public class QuestionPanelSelect implements Testable, ClickableObserver{
 	 * @throws IOException Thrown if the "Next" button image file can not be read.
 	 */
 	private void initNextBtn() throws IOException{
-		nextButton = new ContentPane(ImageLoader.getBufferedImage("\\images\\test\\Next.png"), true, false);
+		nextButton = new ContentPane(ImageAtlas.getBufferedImage("\\images\\test\\Next.png"), true, false);
 		nextButton.registerObserver(this);
 	}
 	
+	/**
+	 * Used to create the answerNote container and its JLabel. Both are re-used for every answer.
+	 */
+	private void initAnswerNote(){
+		noteLabel = new JLabel();
+		noteLabel.setFont(textFont);
+		answerNote = new ContentPane(0, 0, false, false);
+		answerNote.addComponent(noteLabel, 0, 0);
+	}
+	
 	/**
 	 * Used to create an empty questionCounter.
 	 */
@@ -202,12 +246,12 @@ public class QuestionPanelSelect implements Testable, ClickableObserver{
 		}
 		//Get the width of the largest possible String width.
 		String biggestString = " Question: " + maxNumQuestions + " / " + maxNumQuestions + " ";
-		int stringWidth = FontMaker.getStringWidth(counterFont, mainWindow.getGraphics(), biggestString);
+		int stringWidth = FontMaker.getStringWidth(counterFont, biggestString);
 		int padding     = 20;
 		
 		//Make and display the questionCounter.
 		questionCounter = new ContentPane(stringWidth,
-				(FontMaker.getFontHeight(counterFont, mainWindow.getGraphics()) + padding), false, false){
+				(FontMaker.getFontHeight(counterFont) + padding), false, false){
 					@Override
 					public void paintComponent(Graphics g) {
 						super.paintComponent(g);
@@ -224,76 +268,34 @@ public class QuestionPanelSelect implements Testable, ClickableObserver{
 		int xOrigin     = mainWindow.getPreferredSize().width - (stringWidth + padding);
 		int yOrigin     = mainWindow.getPreferredSize().height - (questionCounter.getPreferredSize().height + 50);
 		mainWindow.addLayer(questionCounter, TEXT_LAYER, xOrigin, yOrigin);
+		
+		counterLabel = new JLabel();
+		counterLabel.setForeground(Color.BLACK);
+		counterLabel.setFont(counterFont);
+		counterLabel.setAlignmentX(Component.RIGHT_ALIGNMENT);
+		questionCounter.add(counterLabel);
 	}
 	
 	/**
-	 * Used to create and display two answer panels.
+	 * Used to display two answer panels. The panels are created the first time this method is called.
+	 *  Afterwards, the same panels are re-used, and only their images are changed.
 	 * @param image1 The background BufferedImage for the left answer panel.
 	 * @param image2 The background BufferedImage for the right answer panel.
 	 */
 	private void makePanels(BufferedImage image1, BufferedImage image2){
-		final int image1Width  = image1.getWidth();
-		final int image1Height = image1.getHeight();
-		final int image2Width  = image2.getWidth();
-		final int image2Height = image2.getHeight();
-		final int padding      = 20;
-		
-		//Make the panels.
-		leftPanel = new ContentPane(image1, true, true, false){
-			@Override
-		    public void paintComponent(Graphics g) {
-				super.paintComponent(g);
-				if(isLeftWrong){
-					//Draw a red "X" mark over the panel, if isLeftWrong == true.
-		            Graphics2D g2 = (Graphics2D) g;
-		            Color  oldColor = g2.getColor();
-		            Stroke oldStroke = g2.getStroke();
-		            
-		            g2.setColor(Color.BLACK);
-		            g2.setStroke(new BasicStroke(7));
-		            g2.draw(new Line2D.Double(padding, padding, image1Width - padding, image1Height - padding));
-		            g2.draw(new Line2D.Double(image1Width - padding, padding, padding, image1Height - padding));
-		            
-		            g2.setColor(Color.RED);
-		            g2.setStroke(new BasicStroke(5));
-		            g2.draw(new Line2D.Double(padding, padding, image1Width - padding, image1Height - padding));
-		            g2.draw(new Line2D.Double(image1Width - padding, padding, padding, image1Height - padding));
-		            
-		            g2.setColor(oldColor);
-		            g2.setStroke(oldStroke);
-		        }
-			}
-		};
-		leftPanel.setName("Left Panel");
-		leftPanel.registerObserver(this);
-		
-		rightPanel = new ContentPane(image2, true, true, false){
-			@Override
-		    public void paintComponent(Graphics g) {
-				super.paintComponent(g);
-				if(isRightWrong){
-					//Draw a red "X" mark over the panel, if isLeftWrong == true.
-		            Graphics2D g2 = (Graphics2D) g;
-		            Color  oldColor = g2.getColor();
-		            Stroke oldStroke = g2.getStroke();
-		            
-		            g2.setColor(Color.BLACK);
-		            g2.setStroke(new BasicStroke(7));
-		            g2.draw(new Line2D.Double(padding, padding, image1Width - padding, image1Height - padding));
-		            g2.draw(new Line2D.Double(image1Width - padding, padding, padding, image1Height - padding));
-		            
-		            g2.setColor(Color.RED);
-		            g2.setStroke(new BasicStroke(5));
-		            g2.draw(new Line2D.Double(padding, padding, image2Width - padding, image2Height - padding));
-		            g2.draw(new Line2D.Double(image2Width - padding, padding, padding, image2Height - padding));
-		            
-		            g2.setColor(oldColor);
-		            g2.setStroke(oldStroke);
-		        }
-			}
-		};
-		rightPanel.setName("Right Panel");
-		rightPanel.registerObserver(this);
+		//Make the panels, or reset the existing panels for a new question.
+		if(leftPanel == null){
+			leftPanel = new AnswerPanel(image1, true);
+			leftPanel.setName("Left Panel");
+			leftPanel.registerObserver(this);
+			
+			rightPanel = new AnswerPanel(image2, false);
+			rightPanel.setName("Right Panel");
+			rightPanel.registerObserver(this);
+		}else{
+			leftPanel.reset(image1);
+			rightPanel.reset(image2);
+		}
 		
 		//Find where to put the panels.
 		int leftX;
@@ -331,8 +333,24 @@ public class QuestionPanelSelect implements Testable, ClickableObserver{
 		}
 		
 		//Add the panels to mainWindow.
-		mainWindow.addLayer(leftPanel,  BUTTON_LAYER, leftX,  yOrigin);
-		mainWindow.addLayer(rightPanel, BUTTON_LAYER, rightX, yOrigin);
+		mainWindow.beginLayerTransaction();
+		try{
+			mainWindow.addLayer(leftPanel,  BUTTON_LAYER, leftX,  yOrigin);
+			mainWindow.addLayer(rightPanel, BUTTON_LAYER, rightX, yOrigin);
+		}finally{
+			mainWindow.commitLayerTransaction();
+		}
+	}
+	
+	/**
+	 * Used to time each following question in ResponseTimes, under the specified test and DifficultyLevel.
+	 *  Questions are not timed until this method is called.
+	 * @param test The ModuleSelectButtonInterface that describes the test asking the questions, or null
+	 *  to stop timing.
+	 * @param difficulty The DifficultyLevel of the test.
+	 */
+	public void setTimedTest(ModuleSelectButtonInterface test, DifficultyLevel difficulty){
+		clock.setTest(test, difficulty);
 	}
 	
 	/**
@@ -364,27 +382,25 @@ public class QuestionPanelSelect implements Testable, ClickableObserver{
 		questionBox.addComponent(questionText, textX, 20);
 		
 		makePanels(ImageLoader.getBufferedImage(leftImagePath), ImageLoader.getBufferedImage(rightImagePath));
+		clock.questionShown();
 	}
 	
 	/**
-	 * Used to create a JLabel containing the specified text.
+	 * Used to set the question JLabel's text. The same JLabel is re-used for every question.
 	 * @param question A String representing the text to be displayed on the JPanel.
 	 * @return A JLabel containing the specified text.
 	 */
 	private JLabel makeQuestionText(String question){
 		int textPadding = 4;
-		JLabel label = new JLabel("<HTML><div>" + question + "</div><HTML>", SwingConstants.CENTER);
-		Font font;
-		try{
-			font = FontMaker.getFont(PREFERRED_FONT, 24);
-		}catch(IndexOutOfBoundsException | IOException | FontFormatException e){
-			font = FontMaker.getDefaultFont(24);
+		if(questionText == null){
+			questionText = new JLabel("", SwingConstants.CENTER);
+			questionText.setFont(textFont);
+			questionText.setForeground(Color.WHITE);
 		}
-		label.setFont(font);
-		label.setForeground(Color.WHITE);
-		int textWidth = FontMaker.getStringWidth(label.getFont(), questionBox.getGraphics(), question);
-		label.setSize(new Dimension((textWidth + textPadding), questionBox.getHeight()));
-		return label;
+		TextCache.setText(questionText, QUESTION_TEMPLATE.fill(question));
+		int textWidth = FontMaker.getStringWidth(questionText.getFont(), question);
+		questionText.setSize(new Dimension((textWidth + textPadding), questionBox.getHeight()));
+		return questionText;
 	}
 	
 	/**
@@ -420,14 +436,20 @@ public class QuestionPanelSelect implements Testable, ClickableObserver{
 	
 	/**
 	 * Used to set answerIcon & display the correct/incorrect icon in the bottom-left of questionBox.
+	 *  Each icon is created the first time it is needed, and re-used afterwards.
 	 * @param correct A boolean indicating true if the question was answered correctly; false otherwise.
 	 * @throws IOException Thrown if the icon's image can not be read.
 	 */
 	private void showAnswerIcon(boolean correct) throws IOException{
-		if(correct)
-			answerIcon = new ContentPane(ImageLoader.getBufferedImage(CORRECT_ICON_PATH), false, false);
-		else
-			answerIcon = new ContentPane(ImageLoader.getBufferedImage(WRONG_ICON_PATH), false, false);
+		if(correct){
+			if(correctIcon == null)
+				correctIcon = new ContentPane(ImageAtlas.getBufferedImage(CORRECT_ICON_PATH), false, false);
+			answerIcon = correctIcon;
+		}else{
+			if(wrongIcon == null)
+				wrongIcon = new ContentPane(ImageAtlas.getBufferedImage(WRONG_ICON_PATH), false, false);
+			answerIcon = wrongIcon;
+		}
 		
 		int padding = 10;
 		int xOrigin = padding;
@@ -447,23 +469,16 @@ public class QuestionPanelSelect implements Testable, ClickableObserver{
 	 */
 	private void showAnswerNote(String note, boolean isCorrect){
 		if(note != null){
-			Font font;
-			try {
-				font = FontMaker.getFont(PREFERRED_FONT, 24);
-			} catch (IndexOutOfBoundsException | IOException | FontFormatException e) {
-				font = FontMaker.getDefaultFont(24);
-			}
-		
-			JLabel answerLabel = new JLabel("<HTML>" + note + "</HTML>");
-			answerLabel.setFont(font);
-			
 			//Change the default text color, depending on if the user was correct or not.
+			//The color is set first, so the cached text is drawn in the right color.
 			if(isCorrect)
-				answerLabel.setForeground(Color.GREEN);
+				noteLabel.setForeground(Color.GREEN);
 			else
-				answerLabel.setForeground(Color.RED);
-			answerNote = new ContentPane(answerLabel.getPreferredSize().width,
-							answerLabel.getPreferredSize().height, false, false);
+				noteLabel.setForeground(Color.RED);
+			TextCache.setText(noteLabel, NOTE_TEMPLATE.fill(note));
+			Dimension noteSize = noteLabel.getPreferredSize();
+			noteLabel.setSize(noteSize);
+			answerNote.setSize(noteSize);
 			
 			//Find the coordinates for answerNote.
 			int xOrigin;
@@ -473,14 +488,13 @@ public class QuestionPanelSelect implements Testable, ClickableObserver{
 				xOrigin = answerIcon.getX() + answerIcon.getWidth() + padding;
 			
 				int baseLine = answerIcon.getY() + answerIcon.getHeight();
-				yOrigin  = baseLine - answerLabel.getPreferredSize().height - padding;
+				yOrigin  = baseLine - noteSize.height - padding;
 			}else{
 				xOrigin = padding;
-				yOrigin = questionBox.getHeight() - answerLabel.getPreferredSize().height - padding;
+				yOrigin = questionBox.getHeight() - noteSize.height - padding;
 			}
 			
 			//Add answerNote to questionBox.
-			answerNote.addComponent(answerLabel, 0, 0);
 			questionBox.addComponent(answerNote, xOrigin, yOrigin);
 		}
 	}
@@ -500,7 +514,7 @@ public class QuestionPanelSelect implements Testable, ClickableObserver{
 	 */
 	private void hideNextButton(){
 		if(nextButton != null){
-			mainWindow.getContainer().remove(nextButton);
+			mainWindow.removeLayer(nextButton);
 			showSubmitBtn();
 		}
 	}
@@ -516,7 +530,7 @@ public class QuestionPanelSelect implements Testable, ClickableObserver{
 	 * Helper method called by showNextButton() to hide the "Submit" button.
 	 */
 	private void hideSubmitBtn(){
-		mainWindow.getContainer().remove(submitBtn);
+		mainWindow.removeLayer(submitBtn);
 	}
 	
 	/**
@@ -531,18 +545,17 @@ public class QuestionPanelSelect implements Testable, ClickableObserver{
 	}
 	
 	/**
-	 * Used to remove leftPanel and rightPanel from mainWindow.
+	 * Used to remove leftPanel and rightPanel from mainWindow. The panels are kept for the next question.
 	 */
 	private void removePanels(){
 		if(leftPanel != null){
-			leftPanel.removeObserver(this);
-			mainWindow.getContainer().remove(leftPanel);
-			leftPanel = null;
-		}
-		if(rightPanel != null){
-			rightPanel.removeObserver(this);
-			mainWindow.getContainer().remove(rightPanel);
-			rightPanel = null;
+			mainWindow.beginLayerTransaction();
+			try{
+				mainWindow.removeLayer(leftPanel);
+				mainWindow.removeLayer(rightPanel);
+			}finally{
+				mainWindow.commitLayerTransaction();
+			}
 		}
 	}
 	
@@ -560,7 +573,6 @@ public class QuestionPanelSelect implements Testable, ClickableObserver{
 			questionBox.remove(answerNote);
 		
 		answerIcon = null;
-		answerNote = null;
 		
 		isLeftWrong  = false;
 		isRightWrong = false;
@@ -588,18 +600,60 @@ public class QuestionPanelSelect implements Testable, ClickableObserver{
 	 *  specified by this QuestionPanelSelect's constructor.
 	 */
 	private void updateCounter(int currentQuestionNumber){
-		String labelText = "Question: " + currentQuestionNumber + " / " + maxNumQuestions;
-		JLabel label = new JLabel("<HTML><div align=\"right\">" + labelText + "</div><HTML>");
-		label.setForeground(Color.BLACK);
-		label.setFont(counterFont);
-		label.setAlignmentX(Component.RIGHT_ALIGNMENT);
-		int xOrigin = ((questionCounter.getSize().width - label.getPreferredSize().width) / 2);
-		int yOrigin = ((questionCounter.getSize().height - label.getPreferredSize().height) / 2);
-		questionCounter.removeAll();
-		questionCounter.addComponent(label, xOrigin, yOrigin);
+		counterLabel.setText(COUNTER_TEMPLATE.fill(currentQuestionNumber, maxNumQuestions));
+		Dimension labelSize = counterLabel.getPreferredSize();
+		int xOrigin = ((questionCounter.getSize().width - labelSize.width) / 2);
+		int yOrigin = ((questionCounter.getSize().height - labelSize.height) / 2);
+		counterLabel.setBounds(xOrigin, yOrigin, labelSize.width, labelSize.height);
 		questionCounter.reDraw();
 	}
 	
+	/**
+	 * Used to temporarily remove this QuestionPanelSelect from mainWindow, without destroying its components.
+	 *  Any displayed question and answer are cleared. Use show() to display this QuestionPanelSelect again.
+	 *  This allows one QuestionPanelSelect to be re-used for many questions, such as those of a final exam.
+	 */
+	public void hide(){
+		if(!isShown)
+			return;
+		isShown = false;
+		resetSelections();
+		
+		mainWindow.beginLayerTransaction();
+		try{
+			removeAnswer();
+			removeQuestion();
+			mainWindow.removeLayer(questionCounter);
+			mainWindow.removeLayer(questionBox);
+			mainWindow.removeLayer(submitBtn);
+			mainWindow.removeLayer(homeBtn);
+		}finally{
+			mainWindow.commitLayerTransaction();
+		}
+	}
+	
+	/**
+	 * Used to display a QuestionPanelSelect that was hidden using hide(). No question or answer panels
+	 *  are displayed. Use showQuestion() to display a question and two answer panels.
+	 */
+	public void show(){
+		if(isShown)
+			return;
+		isShown = true;
+		ScreenLifecycle.activate(this);
+		
+		mainWindow.beginLayerTransaction();
+		try{
+			mainWindow.setBackgroundImage(backgroundImage);
+			mainWindow.addLayer(questionCounter, TEXT_LAYER, questionCounter.getX(), questionCounter.getY());
+			mainWindow.addLayer(questionBox,     TEXT_LAYER, questionBox.getX(),     questionBox.getY());
+			mainWindow.addLayer(submitBtn,       BUTTON_LAYER, submitBtnX, submitBtnY);
+			mainWindow.addLayer(homeBtn,         BUTTON_LAYER, homeBtn.getX(),         homeBtn.getY());
+		}finally{
+			mainWindow.commitLayerTransaction();
+		}
+	}
+	
 	/**
 	 * Used to remove all components that were created by this QuestionPanelSelect from mainWindow.
 	 * WARNING: This method renders this instance of QuestionPanelSelect inoperable. All references
@@ -607,6 +661,10 @@ public class QuestionPanelSelect implements Testable, ClickableObserver{
 	 *  screen is needed, a new instance should be created.
 	 */
 	public void tearDown(){
+		//A panel may be torn down by its test, and again by the final exam that owns the test.
+		if(homeBtn == null)
+			return;
+		FlightEvents.ScreenTeardown event = new FlightEvents.ScreenTeardown(getClass());
 		homeBtn.removeObserver(this);
 		submitBtn.removeObserver(this);
 		if(leftPanel != null)
@@ -615,28 +673,103 @@ public class QuestionPanelSelect implements Testable, ClickableObserver{
 			rightPanel.removeObserver(this);
 		if(nextButton != null){
 			nextButton.removeObserver(this);
-			mainWindow.getContainer().remove(nextButton);
+			mainWindow.removeLayer(nextButton);
 			nextButton = null;
 		}
 		
-		removeAnswer();
-		
-		questionBox.remove(questionText);
-		
-		mainWindow.getContainer().remove(questionCounter);
-		mainWindow.getContainer().remove(questionBox);
-		mainWindow.getContainer().remove(leftPanel);
-		mainWindow.getContainer().remove(rightPanel);
-		mainWindow.getContainer().remove(submitBtn);
-		mainWindow.getContainer().remove(homeBtn);
+		//Remove every layer in one transaction, so the window is repainted once.
+		mainWindow.beginLayerTransaction();
+		try{
+			removeAnswer();
+			removeQuestion();
+			
+			mainWindow.removeLayer(questionCounter);
+			mainWindow.removeLayer(questionBox);
+			mainWindow.removeLayer(submitBtn);
+			mainWindow.removeLayer(homeBtn);
+		}finally{
+			mainWindow.commitLayerTransaction();
+		}
 		
 		questionCounter = null;
+		counterLabel    = null;
 		questionText    = null;
+		answerNote      = null;
+		noteLabel       = null;
+		correctIcon     = null;
+		wrongIcon       = null;
 		questionBox     = null;
 		leftPanel       = null;
 		rightPanel      = null;
 		submitBtn       = null;
 		homeBtn         = null;
+		ScreenLifecycle.end(this);
+		event.commit();
+	}
+	
+	/**
+	 * A selectable answer panel that draws a red "X" over its image when its answer is wrong. Each
+	 *  QuestionPanelSelect creates one left and one right AnswerPanel, and re-uses them for every question.
+	 * @author Kenneth Chin
+	 */
+	private class AnswerPanel extends ContentPane{
+		
+		/**
+		 * The serialVersionUID for this Serializable class.
+		 */
+		private static final long serialVersionUID = 1L;
+		
+		private static final int PADDING = 20; //The distance between the "X" mark and the panel's edges.
+		private final boolean isLeft;          //Used to determine if this is the left answer panel.
+		
+		/**
+		 * The AnswerPanel constructor.
+		 * @param image The BufferedImage to display on this panel.
+		 * @param isLeft A boolean indicating true if this is the left answer panel; false if it is the right.
+		 */
+		private AnswerPanel(BufferedImage image, boolean isLeft){
+			super(image, true, true, false);
+			this.isLeft = isLeft;
+		}
+		
+		/**
+		 * Used to prepare this panel for a new question. Changes its image, de-selects it, and removes
+		 *  any border left over from the previous question.
+		 * @param image The BufferedImage to display on this panel.
+		 */
+		private void reset(BufferedImage image){
+			if(isSelected())
+				toggleSelection();
+			removeBorder();
+			changeBackground(image);
+			setSize(getPreferredSize());
+		}
+		
+		@Override
+	    public void paintComponent(Graphics g) {
+			super.paintComponent(g);
+			if(isLeft ? isLeftWrong : isRightWrong){
+				//Draw a red "X" mark over the panel, if its answer is wrong.
+				int width  = getPreferredSize().width;
+				int height = getPreferredSize().height;
+	            Graphics2D g2 = (Graphics2D) g;
+	            Color  oldColor = g2.getColor();
+	            Stroke oldStroke = g2.getStroke();
+	            
+	            g2.setColor(Color.BLACK);
+	            g2.setStroke(new BasicStroke(7));
+	            g2.draw(new Line2D.Double(PADDING, PADDING, width - PADDING, height - PADDING));
+	            g2.draw(new Line2D.Double(width - PADDING, PADDING, PADDING, height - PADDING));
+	            
+	            g2.setColor(Color.RED);
+	            g2.setStroke(new BasicStroke(5));
+	            g2.draw(new Line2D.Double(PADDING, PADDING, width - PADDING, height - PADDING));
+	            g2.draw(new Line2D.Double(width - PADDING, PADDING, PADDING, height - PADDING));
+	            
+	            g2.setColor(oldColor);
+	            g2.setStroke(oldStroke);
+	        }
+		}
 	}
 	
 	/**
@@ -657,6 +790,8 @@ public class QuestionPanelSelect implements Testable, ClickableObserver{
 		 */
 		NONE ("none");
 		
+		private static final Answer[] ANSWERS = values(); //Every Answer, so getOrdinal() does not allocate.
+		
 		private String value;
 		
 		/**
@@ -675,6 +810,19 @@ public class QuestionPanelSelect implements Testable, ClickableObserver{
 		public String getStringValue(){
 			return value;
 		}
+		
+		/**
+		 * Used to find the Answer represented by the specified String, without allocating.
+		 * @param value A String obtained from getStringValue().
+		 * @return An int indicating the ordinal of the matching Answer, or -1 if there is none.
+		 */
+		public static int getOrdinal(String value){
+			for(int i = 0; i < ANSWERS.length; i++){
+				if(ANSWERS[i].value.equals(value))
+					return i;
+			}
+			return -1;
+		}
 	}
 	
 	@Override
@@ -683,6 +831,7 @@ public class QuestionPanelSelect implements Testable, ClickableObserver{
 		//If the left answer panel is selected, set it as selected & ensure the right answer panel
 		// is no longer selected.
 		if(pane == leftPanel){
+			clock.inputReceived();
 			isLeftSelected = pane.isSelected();
 			if(isRightSelected && pane.isSelected()){
 				rightPanel.toggleSelection();
@@ -691,6 +840,7 @@ public class QuestionPanelSelect implements Testable, ClickableObserver{
 		//If the right answer panel is selected, set it as selected & ensure the left answer panel
 		// is no longer selected.
 		}else if(pane == rightPanel){
+			clock.inputReceived();
 			isRightSelected = pane.isSelected();
 			if(isLeftSelected && pane.isSelected()){
 				leftPanel.toggleSelection();
@@ -698,7 +848,9 @@ public class QuestionPanelSelect implements Testable, ClickableObserver{
 			}
 		//The "Submit" button was clicked. Notify all observers of the user's answer.
 		}else if(pane == submitBtn){
+			clock.answerSubmitted();
 			notifiyObserver(ANSWER);
+			clock.answerHandled();
 		//The "Next" button was clicked. Notify all observers.
 		}else if(pane == nextButton){
 			notifiyObserver(NEXT);
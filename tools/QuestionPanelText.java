@@ -18,16 +18,14 @@
  */
 package project.tools;
 
-import java.awt.BasicStroke;
 import java.awt.Color;
 import java.awt.Component;
 import java.awt.Dimension;
 import java.awt.Font;
 import java.awt.FontFormatException;
 import java.awt.Graphics;
-import java.awt.Graphics2D;
-import java.awt.Stroke;
-import java.awt.geom.Line2D;
+import java.awt.event.KeyAdapter;
+import java.awt.event.KeyEvent;
 import java.awt.image.BufferedImage;
 import java.io.IOException;
 import java.util.concurrent.CopyOnWriteArrayList;
@@ -40,8 +38,10 @@ import javax.swing.SwingConstants;
 import javax.swing.text.View;
 
 import project.buttons.HomeButtonMaker;
+import project.constants.DifficultyLevel;
 import project.constants.Operator;
 import project.interfaces.ClickableObserver;
+import project.interfaces.ModuleSelectButtonInterface;
 import project.interfaces.Testable;
 import project.interfaces.TestableObserver;
 
@@ -90,34 +90,48 @@ public class QuestionPanelText implements Testable, ClickableObserver{
 	private static final String  HOME   = "home";   //Used to identify a "Home" button event.
 	private static final String  NEXT   = "next";   //Used to identify a "Next" button event.
 	
+	//Templates of every displayed text. Compiled once, and shared by every instance.
+	private static final TextCache.Template QUESTION_TEMPLATE = TextCache.compile("<HTML><div>{0}</div><HTML>");
+	private static final TextCache.Template NOTE_TEMPLATE     = TextCache.compile("<HTML>{0}</HTML>");
+	//The counter is plain text, so counting questions never parses HTML.
+	private static final TextCache.Template COUNTER_TEMPLATE  = TextCache.compile("Question: {0} / {1}");
+	
 	//An array of all registered TestableObservers.
 	private CopyOnWriteArrayList<TestableObserver> observers = new CopyOnWriteArrayList<TestableObserver>();
 	
 	private String currentAnswer = "";  //The text in answerBox when the user clicks the "Submit" button.
 	private int maxNumQuestions  = 0;   //The maximum number of questions to be displayed in questionCounter.
 	
-	private boolean isEquation = false; //Used to determine if the current question is an equation.
-	private int lineXStart = 0;         //The starting x-origin of the equation line.
-	private int lineXEnd   = 0;         //The ending x-coordinate of the equation line.
-	private int lineY      = 0;         //The y-coordinate of the equation line.
+	private int lineY      = 0;         //The y-coordinate of the equation line, in questionBox.
 	
 	private int submitBtnX; //Used to identify the X origin for submitBtn & nextButton.
 	private int submitBtnY; //Used to identify the Y origin for submitBtn & nextButton.
 	
 	private ContentPane nextButton = null;   //The ContentPane used to display the practice test's "Next" button.
 	private ContentPane answerText = null;   //The ContentPane used to display an equation question's answer.
+	private JLabel      answerLabel = null;  //The JLabel that displays answerText's text.
 	private ContentPane answerNote = null;   //The ContentPane used to display a question's answer or answer's note.
-	private ContentPane answerIcon = null;   //The ContentPane used to display the icon indicating correct/incorrect.
+	private JLabel      noteLabel  = null;   //The JLabel that displays answerNote's text.
+	private ContentPane answerIcon = null;   //The displayed icon indicating correct/incorrect; correctIcon or wrongIcon.
+	private ContentPane correctIcon = null;  //The ContentPane used to display the "correct" icon.
+	private ContentPane wrongIcon   = null;  //The ContentPane used to display the "incorrect" icon.
 	private JTextField  answerBox;           //The JTextField where a user enters their text answer.
 	private ContentPane answerBoxContainer;  //The ContentPane used as a container for answerBox.
 	private ContentPane questionBox;         //The ContentPane used to display a question.
 	private ContentPane questionCounter;     //The ContentPane used to display the number of remaining questions.
+	private JLabel      counterLabel;        //The JLabel that displays questionCounter's text.
 	private JLabel      questionText = null; //The JLabel used to display a question in questionBox.
-	private JLabel      equationText = null; //The JLabel used to display an equation in questionBox.
+	private EquationView equationText = null; //The EquationView used to display an equation in questionBox.
 	private ContentPane submitBtn;           //The "Submit" button.
 	private ContentPane homeBtn;             //The "Home" button.
 	
 	private Font counterFont;                //The Font used for questionCounter's text.
+	private Font textFont;                   //The Font used for question, equation, and answer text.
+	private BufferedImage backgroundImage;   //The background image, kept so show() need not read it again.
+	private boolean isShown = true;          //Used to determine if this QuestionPanelText is on mainWindow.
+	
+	//Times each question, from being shown until the answer is handled. See setTimedTest().
+	private final ResponseTimes.QuestionClock clock = new ResponseTimes.QuestionClock();
 	
 	private MainWindow mainWindow; //The MainWindow that is to have QuestionPanelText components added to.
 	
@@ -129,9 +143,12 @@ public class QuestionPanelText implements Testable, ClickableObserver{
 	 * @throws IOException Thrown if any image file can not be read or is missing.
 	 */
 	public QuestionPanelText(MainWindow mainWindow, int maxNumQuestions) throws IOException{
+		FlightEvents.ScreenBuild event = new FlightEvents.ScreenBuild(getClass());
+		ScreenLifecycle.begin(this, false);
 		this.mainWindow      = mainWindow;
 		this.maxNumQuestions = maxNumQuestions;
 		init();
+		event.commit();
 	}
 	
 	/**
@@ -139,13 +156,26 @@ public class QuestionPanelText implements Testable, ClickableObserver{
 	 * @throws IOException Thrown if any image file can not be read or is missing.
 	 */
 	private void init() throws IOException{
-		initBackground();
-		initAnswerBox();
-		initQuestionBox();
-		initCounter();
-		initSubmitBtn();
-		initNextBtn();
-		initHomeBtn();
+		try{
+			textFont = FontMaker.getFont(PREFERRED_FONT, 24);
+		}catch(IndexOutOfBoundsException | IOException | FontFormatException e){
+			textFont = FontMaker.getDefaultFont(24);
+		}
+		
+		//Add every layer in one transaction, so the window is repainted once.
+		mainWindow.beginLayerTransaction();
+		try{
+			initBackground();
+			initAnswerBox();
+			initQuestionBox();
+			initCounter();
+			initSubmitBtn();
+			initNextBtn();
+			initHomeBtn();
+			initAnswerText();
+		}finally{
+			mainWindow.commitLayerTransaction();
+		}
 	}
 	
 	/**
@@ -153,7 +183,7 @@ public class QuestionPanelText implements Testable, ClickableObserver{
 	 * @throws IOException Thrown if the background image file can not be read or is missing.
 	 */
 	private void initBackground() throws IOException{
-		BufferedImage backgroundImage = ImageLoader.getBufferedImage(BACKGROUND_IMAGE_PATH);
+		backgroundImage = ImageLoader.getBufferedImage(BACKGROUND_IMAGE_PATH);
 		mainWindow.setBackgroundImage(backgroundImage);
 	}
 	
@@ -165,6 +195,13 @@ public class QuestionPanelText implements Testable, ClickableObserver{
 		answerBox.setBackground(Color.WHITE);
 		answerBox.setFont(FontMaker.getDefaultFont(32));
 		answerBox.setOpaque(true);
+		//The first key typed for each question ends the student's think time.
+		answerBox.addKeyListener(new KeyAdapter(){
+			@Override
+			public void keyTyped(KeyEvent e){
+				clock.inputReceived();
+			}
+		});
 		
 		//answerBox had to be placed into a container, because its background color was falling
 		// through to mainWindow's background layer(answerBox was transparent).
@@ -184,31 +221,11 @@ public class QuestionPanelText implements Testable, ClickableObserver{
 	
 	/**
 	 * Used to create the ContentPane that is used as a container for question text.
-	 * If the question is an equation, an equals line is drawn beneath the equation.
 	 * @throws IOException Thrown if the questionBox's image file can not be read, or is missing.
 	 */
 	private void initQuestionBox() throws IOException{
 		BufferedImage questionBoxImage = ImageLoader.getBufferedImage(QUESTION_BOX_IMAGE_PATH);
-		questionBox = new ContentPane(questionBoxImage, false, false){
-			@Override
-		    public void paintComponent(Graphics g) {
-				super.paintComponent(g);
-				
-				//Paint the equation line, if the current question is an equation.
-		        if(isEquation) {
-		            Graphics2D g2 = (Graphics2D) g;
-		            Color  oldColor = g2.getColor();
-		            Stroke oldStroke = g2.getStroke();
-		            
-		            g2.setColor(Color.WHITE);
-		            g2.setStroke(new BasicStroke(3));
-		            g2.draw(new Line2D.Double(lineXStart, lineY, lineXEnd, lineY));
-		            
-		            g2.setColor(oldColor);
-		            g2.setStroke(oldStroke);
-		        }
-		    }
-		};
+		questionBox = new ContentPane(questionBoxImage, false, false);
 		questionBox.setName(QUESTION_BOX_NAME);
 		mainWindow.addLayer(questionBox, TEXT_LAYER, 80, 300);
 	}
@@ -218,7 +235,7 @@ public class QuestionPanelText implements Testable, ClickableObserver{
 	 * @throws IOException Thrown if the "Submit" button's image file can not be read, or is missing.
 	 */
 	private void initSubmitBtn() throws IOException{
-		BufferedImage submitBtnImage = ImageLoader.getBufferedImage(SUBMIT_BTN_IMAGE_PATH);
+		BufferedImage submitBtnImage = ImageAtlas.getBufferedImage(SUBMIT_BTN_IMAGE_PATH);
 		submitBtn = new ContentPane(submitBtnImage, true, false);
 		submitBtn.setName(SUBMIT_BTN_NAME);
 		
@@ -238,7 +255,7 @@ public class QuestionPanelText implements Testable, ClickableObserver{
 	 * @throws IOException Thrown if the "Next" button image file can not be read.
 	 */
 	private void initNextBtn() throws IOException{
-		nextButton = new ContentPane(ImageLoader.getBufferedImage("\\images\\test\\Next.png"), true, false);
+		nextButton = new ContentPane(ImageAtlas.getBufferedImage("\\images\\test\\Next.png"), true, false);
 		nextButton.registerObserver(this);
 	}
 	
@@ -252,6 +269,22 @@ public class QuestionPanelText implements Testable, ClickableObserver{
 		homeBtn.registerObserver(this);
 	}
 	
+	/**
+	 * Used to create the answerText and answerNote containers and their JLabels. They are re-used
+	 *  for every answer.
+	 */
+	private void initAnswerText(){
+		answerLabel = new JLabel();
+		answerLabel.setFont(textFont);
+		answerText = new ContentPane(0, 0, false, false);
+		answerText.addComponent(answerLabel, 0, 0);
+		
+		noteLabel = new JLabel();
+		noteLabel.setFont(textFont);
+		answerNote = new ContentPane(0, 0, false, false);
+		answerNote.addComponent(noteLabel, 0, 0);
+	}
+	
 	/**
 	 * Used to create an empty questionCounter.
 	 */
@@ -264,12 +297,12 @@ public class QuestionPanelText implements Testable, ClickableObserver{
 		}
 		//Get the width of the largest possible String width.
 		String biggestString = " Question: " + maxNumQuestions + " / " + maxNumQuestions + " ";
-		int stringWidth = FontMaker.getStringWidth(counterFont, mainWindow.getGraphics(), biggestString);
+		int stringWidth = FontMaker.getStringWidth(counterFont, biggestString);
 		int padding     = 20;
 		
 		//Make and display the questionCounter.
 		questionCounter = new ContentPane(stringWidth,
-				(FontMaker.getFontHeight(counterFont, mainWindow.getGraphics()) + padding), false, false){
+				(FontMaker.getFontHeight(counterFont) + padding), false, false){
 					@Override
 					public void paintComponent(Graphics g) {
 						super.paintComponent(g);
@@ -286,6 +319,23 @@ public class QuestionPanelText implements Testable, ClickableObserver{
 		int xOrigin     = mainWindow.getPreferredSize().width - (stringWidth + padding);
 		int yOrigin     = mainWindow.getPreferredSize().height - (questionCounter.getPreferredSize().height + 50);
 		mainWindow.addLayer(questionCounter, TEXT_LAYER, xOrigin, yOrigin);
+		
+		counterLabel = new JLabel();
+		counterLabel.setForeground(Color.BLACK);
+		counterLabel.setFont(counterFont);
+		counterLabel.setAlignmentX(Component.RIGHT_ALIGNMENT);
+		questionCounter.add(counterLabel);
+	}
+	
+	/**
+	 * Used to time each following question in ResponseTimes, under the specified test and DifficultyLevel.
+	 *  Questions are not timed until this method is called.
+	 * @param test The ModuleSelectButtonInterface that describes the test asking the questions, or null
+	 *  to stop timing.
+	 * @param difficulty The DifficultyLevel of the test.
+	 */
+	public void setTimedTest(ModuleSelectButtonInterface test, DifficultyLevel difficulty){
+		clock.setTest(test, difficulty);
 	}
 	
 	/**
@@ -296,7 +346,6 @@ public class QuestionPanelText implements Testable, ClickableObserver{
 	 *  as set by QuestionPanelText's constructor.
 	 */
 	public void showQuestion(String question, int questionNumber){
-		isEquation  = false;
 		removeAnswer();
 		removeQuestion();
 		removeEquationText();
@@ -310,6 +359,7 @@ public class QuestionPanelText implements Testable, ClickableObserver{
 		int textX      = boxCenter - textCenter;
 		
 		questionBox.addComponent(questionText, textX, 20);
+		clock.questionShown();
 	}
 	
 	/**
@@ -331,6 +381,24 @@ public class QuestionPanelText implements Testable, ClickableObserver{
 	 *  NOTE: Operator.DIVIDE is not supported.
 	 */
 	public void showEquation(String question, int questionNumber, int firstOperand, int secondOperand, Operator operator){
+		showEquation(question, questionNumber, new int[]{firstOperand, secondOperand}, operator, null);
+	}
+	
+	/**
+	 * Used to display a question that is a vertical equation with any number of operands. The
+	 *  specified question will be displayed to the left of the equation. Each operand is right-aligned
+	 *  on its own row, with the Operator's getSymbol() to the left of the last operand, and an equals
+	 *  line is drawn below the last operand. The equation is centered in the Question Box.
+	 *  NOTE: removeAnswer() is called automatically when a new question is displayed.
+	 * @param question A String representing the question text.
+	 * @param questionNumber An int indicating the this question number out of the maxNumQuestions,
+	 *  as set by QuestionPanelText's constructor.
+	 * @param operands An int array of the equation's operands, from top to bottom.
+	 * @param operator An Operator indicating the arithmetic operation to be performed.
+	 * @param carries A String of carry digits to be displayed above the first operand, right-aligned.
+	 *  Spaces are left blank. May be null if there are no carry digits.
+	 */
+	public void showEquation(String question, int questionNumber, int[] operands, Operator operator, String carries){
 		int topPadding = 20;
 		removeAnswer();
 		removeQuestion();
@@ -338,17 +406,15 @@ public class QuestionPanelText implements Testable, ClickableObserver{
 		updateCounter(questionNumber);
 		questionText = makeQuestionText(question);
 		
-		//TODO if(!(operator == Operator.DIVIDE)){
-		
-		equationText = makeVerticalEquation(firstOperand, secondOperand, operator);
+		equationText = makeVerticalEquation(operands, operator, carries);
 		
 		//Find the questionBox's center and offset for the question and equation.
 		int boxCenter      = (int)(questionBox.getPreferredSize().getWidth()  / 2);
-		int equationCenter = (int)(equationText.getPreferredSize().getWidth() / 2);
+		int equationCenter = equationText.getWidth() / 2;
 		int equationX      = boxCenter - equationCenter;
 		
 		int questionCenter = (int)(questionText.getPreferredSize().getWidth() / 2);
-		int questionX      = boxCenter - questionCenter - (2*(int)(equationText.getPreferredSize().getWidth()));
+		int questionX      = boxCenter - questionCenter - (2 * equationText.getWidth());
 		//Prevent the question text from leaving the left box border (with padding).
 		if(questionX < 3)
 			questionX = 2;
@@ -358,12 +424,9 @@ public class QuestionPanelText implements Testable, ClickableObserver{
 		questionBox.addComponent(questionText, questionX, topPadding);
 		questionBox.addComponent(equationText, equationX, equationY);
 		
-		//Set the equation line coordinates.
-		lineY = equationY + equationText.getHeight() + 2;
-		lineXStart = equationX;
-		lineXEnd   = equationText.getWidth() + equationX;
-		
-		isEquation = true;
+		//The equation line is drawn by equationText. Answers are displayed beneath it.
+		lineY = equationY + equationText.getLineY();
+		clock.questionShown();
 	}
 	
 	/**
@@ -408,26 +471,20 @@ public class QuestionPanelText implements Testable, ClickableObserver{
 			showAnswerNote(note, isCorrect);
 		
 		if(answer != null){
-			Font font;
-			try {
-				font = FontMaker.getFont(PREFERRED_FONT, 24);
-			} catch (IndexOutOfBoundsException | IOException | FontFormatException e) {
-				font = FontMaker.getDefaultFont(24);
-			}
-			
-			JLabel answerLabel = new JLabel("<HTML>" + answer + "</HTML>");
-			answerLabel.setFont(font);
 			//Set the default text color depending on if the user was correct or not.
+			//The color is set first, so the cached text is drawn in the right color.
 			if(isCorrect)
 				answerLabel.setForeground(Color.GREEN);
 			else
 				answerLabel.setForeground(Color.RED);
+			TextCache.setText(answerLabel, NOTE_TEMPLATE.fill(answer));
 			
 			//Find answerText's coordinates.
 			int textWidth  = answerLabel.getPreferredSize().width;
 			int textHeight = answerLabel.getPreferredSize().height;
 			
-			answerText = new ContentPane(textWidth, textHeight, false, false);
+			answerLabel.setSize(textWidth, textHeight);
+			answerText.setSize(textWidth, textHeight);
 			
 			//If answerText wider than questionText, offset is negative; moves left.
 			//If questionText wider than answerText, offset is positive; moves right.
@@ -437,7 +494,6 @@ public class QuestionPanelText implements Testable, ClickableObserver{
 			int yPadding = 5;
 			int answerYOrigin = lineY + yPadding;
 			
-			answerText.addComponent(answerLabel, 0, 0);
 			questionBox.addComponent(answerText, answerXOrigin, answerYOrigin);
 		}
 	}
@@ -453,22 +509,16 @@ public class QuestionPanelText implements Testable, ClickableObserver{
 	 */
 	private void showAnswerNote(String note, boolean isCorrect){
 		if(note != null){
-			Font font;
-			try {
-				font = FontMaker.getFont(PREFERRED_FONT, 24);
-			} catch (IndexOutOfBoundsException | IOException | FontFormatException e) {
-				font = FontMaker.getDefaultFont(24);
-			}
-		
-			JLabel answerLabel = new JLabel("<HTML>" + note + "</HTML>");
-			answerLabel.setFont(font);
 			//Set the default text color depending on if the user was correct or not.
+			//The color is set first, so the cached text is drawn in the right color.
 			if(isCorrect)
-				answerLabel.setForeground(Color.GREEN);
+				noteLabel.setForeground(Color.GREEN);
 			else
-				answerLabel.setForeground(Color.RED);
-			answerNote = new ContentPane(answerLabel.getPreferredSize().width,
-							answerLabel.getPreferredSize().height, false, false);
+				noteLabel.setForeground(Color.RED);
+			TextCache.setText(noteLabel, NOTE_TEMPLATE.fill(note));
+			Dimension noteSize = noteLabel.getPreferredSize();
+			noteLabel.setSize(noteSize);
+			answerNote.setSize(noteSize);
 			
 			//Find answerText's coordinates.
 			int xOrigin;
@@ -478,27 +528,32 @@ public class QuestionPanelText implements Testable, ClickableObserver{
 				xOrigin = answerIcon.getX() + answerIcon.getWidth() + padding;
 			
 				int baseLine = answerIcon.getY() + answerIcon.getHeight();
-				yOrigin  = baseLine - answerLabel.getPreferredSize().height - padding;
+				yOrigin  = baseLine - noteSize.height - padding;
 			}else{
 				xOrigin = padding;
-				yOrigin = questionBox.getHeight() - answerLabel.getPreferredSize().height - padding;
+				yOrigin = questionBox.getHeight() - noteSize.height - padding;
 			}
 					
-			answerNote.addComponent(answerLabel, 0, 0);
 			questionBox.addComponent(answerNote, xOrigin, yOrigin);
 		}
 	}
 	
 	/**
 	 * Used to set answerIcon and display the correct/incorrect icon in the bottom-left of questionBox.
+	 *  Each icon is created the first time it is needed, and re-used afterwards.
 	 * @param correct A boolean indicating true if the question was answered correctly; false otherwise.
 	 * @throws IOException Thrown if the icon's image can not be read.
 	 */
 	private void showAnswerIcon(boolean correct) throws IOException{
-		if(correct)
-			answerIcon = new ContentPane(ImageLoader.getBufferedImage(CORRECT_ICON_PATH), false, false);
-		else
-			answerIcon = new ContentPane(ImageLoader.getBufferedImage(WRONG_ICON_PATH), false, false);
+		if(correct){
+			if(correctIcon == null)
+				correctIcon = new ContentPane(ImageAtlas.getBufferedImage(CORRECT_ICON_PATH), false, false);
+			answerIcon = correctIcon;
+		}else{
+			if(wrongIcon == null)
+				wrongIcon = new ContentPane(ImageAtlas.getBufferedImage(WRONG_ICON_PATH), false, false);
+			answerIcon = wrongIcon;
+		}
 		
 		int padding = 10;
 		int xOrigin = padding;
@@ -513,15 +568,11 @@ public class QuestionPanelText implements Testable, ClickableObserver{
 	 *  specified by this QuestionPanelText's constructor.
 	 */
 	private void updateCounter(int currentQuestionNumber){
-		String labelText = "Question: " + currentQuestionNumber + " / " + maxNumQuestions;
-		JLabel label = new JLabel("<HTML><div align=\"right\">" + labelText + "</div><HTML>");
-		label.setForeground(Color.BLACK);
-		label.setFont(counterFont);
-		label.setAlignmentX(Component.RIGHT_ALIGNMENT);
-		int xOrigin = ((questionCounter.getSize().width - label.getPreferredSize().width) / 2);
-		int yOrigin = ((questionCounter.getSize().height - label.getPreferredSize().height) / 2);
-		questionCounter.removeAll();
-		questionCounter.addComponent(label, xOrigin, yOrigin);
+		counterLabel.setText(COUNTER_TEMPLATE.fill(currentQuestionNumber, maxNumQuestions));
+		Dimension labelSize = counterLabel.getPreferredSize();
+		int xOrigin = ((questionCounter.getSize().width - labelSize.width) / 2);
+		int yOrigin = ((questionCounter.getSize().height - labelSize.height) / 2);
+		counterLabel.setBounds(xOrigin, yOrigin, labelSize.width, labelSize.height);
 		questionCounter.reDraw();
 	}
 	
@@ -547,8 +598,14 @@ public class QuestionPanelText implements Testable, ClickableObserver{
 	 */
 	private void showNextButton(){
 		if(nextButton != null){
-			hideSubmitBtn();
-			mainWindow.addLayer(nextButton, BUTTON_LAYER, submitBtnX, submitBtnY);
+			//Swap the buttons in one transaction, so their region is repainted once.
+			mainWindow.beginLayerTransaction();
+			try{
+				hideSubmitBtn();
+				mainWindow.addLayer(nextButton, BUTTON_LAYER, submitBtnX, submitBtnY);
+			}finally{
+				mainWindow.commitLayerTransaction();
+			}
 		}
 	}
 	
@@ -557,8 +614,14 @@ public class QuestionPanelText implements Testable, ClickableObserver{
 	 */
 	private void hideNextButton(){
 		if(nextButton != null){
-			mainWindow.getContainer().remove(nextButton);
-			showSubmitBtn();
+			//Swap the buttons in one transaction, so their region is repainted once.
+			mainWindow.beginLayerTransaction();
+			try{
+				mainWindow.removeLayer(nextButton);
+				showSubmitBtn();
+			}finally{
+				mainWindow.commitLayerTransaction();
+			}
 		}
 	}
 	
@@ -573,7 +636,7 @@ public class QuestionPanelText implements Testable, ClickableObserver{
 	 * Helper method called by showNextButton() to hide the "Submit" button.
 	 */
 	private void hideSubmitBtn(){
-		mainWindow.getContainer().remove(submitBtn);
+		mainWindow.removeLayer(submitBtn);
 	}
 	
 	/**
@@ -610,61 +673,94 @@ public class QuestionPanelText implements Testable, ClickableObserver{
 		if(answerNote != null)
 			questionBox.remove(answerNote);
 		
-		answerText = null;
 		answerIcon = null;
-		answerNote = null;
 		
 		questionBox.reDraw();
 	}
 	
 	/**
-	 * Used to create a JPanel with the specified text.
+	 * Used to set the question JLabel's text. The same JLabel is re-used for every question.
 	 * @param question A String representing the text to be displayed.
 	 * @return A JPanel with the specified text.
 	 */
 	private JLabel makeQuestionText(String question){
 		int textPadding = 4;
-		JLabel label = new JLabel("<HTML><div>" + question + "</div><HTML>", SwingConstants.CENTER);
-		Font font;
-		try{
-			font = FontMaker.getFont(PREFERRED_FONT, 24);
-		}catch(IndexOutOfBoundsException | IOException | FontFormatException e){
-			font = FontMaker.getDefaultFont(24);
+		if(questionText == null){
+			questionText = new JLabel("", SwingConstants.CENTER);
+			questionText.setFont(textFont);
+			questionText.setForeground(Color.WHITE);
 		}
-		label.setFont(font);
-		label.setForeground(Color.WHITE);
-
-		int textWidth = FontMaker.getStringWidth(label.getFont(), questionBox.getGraphics(), question);
-		label.setSize(new Dimension((textWidth + textPadding), questionBox.getHeight()));
-		return label;
+		TextCache.setText(questionText, QUESTION_TEMPLATE.fill(question));
+		int textWidth = FontMaker.getStringWidth(questionText.getFont(), question);
+		questionText.setSize(new Dimension((textWidth + textPadding), questionBox.getHeight()));
+		return questionText;
 	}
 	
 	/**
-	 * Used to create a JPanel with a vertical equation as text. The text is right-aligned, with
-	 *  secondOperand directly below firstOperand. The Operator getSymbol() String occupies the
-	 *  third space to the left of secondOperand.
-	 * @param firstOperand An int representing the first (top) operand.
-	 * @param secondOperand An int representing the second (bottom) operand).
+	 * Used to set the equation EquationView to a vertical equation. The operands are right-aligned, with
+	 *  each operand directly below the previous operand. The Operator getSymbol() String occupies the
+	 *  column to the left of the widest operand, on the last operand's row. The same EquationView is
+	 *  re-used for every equation.
+	 * @param operands An int array of the equation's operands, from top to bottom.
 	 * @param operator An Operator that is ADD, SUBTRACT, or MULTIPLY and indicates the operation
 	 *  that should be performed on the operands.
-	 * @return A JPanel with the specified vertical equation as text.
+	 * @param carries A String of carry digits, or null if there are none.
+	 * @return An EquationView with the specified vertical equation.
 	 */
-	private JLabel makeVerticalEquation(int firstOperand, int secondOperand, Operator operator){
-		String symbol = operator.getSymbol();
-		String question = firstOperand + "<br>" + symbol + "&nbsp;&nbsp;" + secondOperand;
-		int textPadding = 4;
-		JLabel label = new JLabel("<HTML><div align=\"right\">" + question + "</div><HTML>", SwingConstants.CENTER);
-		Font font;
+	private EquationView makeVerticalEquation(int[] operands, Operator operator, String carries){
+		if(equationText == null)
+			equationText = new EquationView(textFont, Color.WHITE);
+		equationText.setVerticalEquation(operands, operator, carries);
+		return equationText;
+	}
+	
+	/**
+	 * Used to temporarily remove this QuestionPanelText from mainWindow, without destroying its components.
+	 *  Any displayed question and answer are cleared. Use show() to display this QuestionPanelText again.
+	 *  This allows one QuestionPanelText to be re-used for many questions, such as those of a final exam.
+	 */
+	public void hide(){
+		if(!isShown)
+			return;
+		isShown = false;
+		
+		mainWindow.beginLayerTransaction();
 		try{
-			font = FontMaker.getFont(PREFERRED_FONT, 24);
-		}catch(IndexOutOfBoundsException | IOException | FontFormatException e){
-			font = FontMaker.getDefaultFont(24);
+			removeAnswer();
+			removeQuestion();
+			removeEquationText();
+			answerBox.setText("");
+			mainWindow.removeLayer(answerBoxContainer);
+			mainWindow.removeLayer(questionCounter);
+			mainWindow.removeLayer(questionBox);
+			mainWindow.removeLayer(submitBtn);
+			mainWindow.removeLayer(homeBtn);
+		}finally{
+			mainWindow.commitLayerTransaction();
+		}
+	}
+	
+	/**
+	 * Used to display a QuestionPanelText that was hidden using hide(). No question is displayed.
+	 *  Use showQuestion(String, int) or showEquation(String, int, int, int, Operator) to display a question.
+	 */
+	public void show(){
+		if(isShown)
+			return;
+		isShown = true;
+		ScreenLifecycle.activate(this);
+		
+		mainWindow.beginLayerTransaction();
+		try{
+			mainWindow.setBackgroundImage(backgroundImage);
+			mainWindow.addLayer(answerBoxContainer, ANSWER_BOX_LAYER, answerBoxContainer.getX(), answerBoxContainer.getY());
+			mainWindow.addLayer(questionCounter,    TEXT_LAYER,   questionCounter.getX(), questionCounter.getY());
+			mainWindow.addLayer(questionBox,        TEXT_LAYER,   questionBox.getX(),     questionBox.getY());
+			mainWindow.addLayer(submitBtn,          BUTTON_LAYER, submitBtnX,             submitBtnY);
+			mainWindow.addLayer(homeBtn,            BUTTON_LAYER, homeBtn.getX(),         homeBtn.getY());
+		}finally{
+			mainWindow.commitLayerTransaction();
 		}
-		label.setFont(font);
-		label.setForeground(Color.WHITE);
-		int textWidth = FontMaker.getStringWidth(label.getFont(), questionBox.getGraphics(), question);
-		label.setSize(new Dimension((textWidth + textPadding), questionBox.getHeight()));
-		return label;
 	}
 	
 	/**
@@ -674,29 +770,48 @@ public class QuestionPanelText implements Testable, ClickableObserver{
 	 *  screen is needed, a new instance should be created.
 	 */
 	public void tearDown(){
-		removeAnswer();
-		if(nextButton != null){
-			nextButton.removeObserver(this);
-			nextButton = null;
+		//A panel may be torn down by its test, and again by the final exam that owns the test.
+		if(homeBtn == null)
+			return;
+		FlightEvents.ScreenTeardown event = new FlightEvents.ScreenTeardown(getClass());
+		//Remove every layer in one transaction, so the window is repainted once.
+		mainWindow.beginLayerTransaction();
+		try{
+			removeAnswer();
+			if(nextButton != null){
+				nextButton.removeObserver(this);
+				nextButton = null;
+			}
+			
+			submitBtn.removeObserver(this);
+			homeBtn.removeObserver(this);
+			mainWindow.removeLayer(answerBoxContainer);
+			mainWindow.removeLayer(questionCounter);
+			mainWindow.removeLayer(questionBox);
+			mainWindow.removeLayer(submitBtn);
+			mainWindow.removeLayer(homeBtn);
+		}finally{
+			mainWindow.commitLayerTransaction();
 		}
 		
-		submitBtn.removeObserver(this);
-		homeBtn.removeObserver(this);
-		mainWindow.getContainer().remove(answerBoxContainer);
-		mainWindow.getContainer().remove(questionCounter);
-		mainWindow.getContainer().remove(questionBox);
-		mainWindow.getContainer().remove(submitBtn);
-		mainWindow.getContainer().remove(homeBtn);
-		
 		questionText = null;
 		equationText = null;
 		answerBox    = null;
+		answerText   = null;
+		answerLabel  = null;
+		answerNote   = null;
+		noteLabel    = null;
+		correctIcon  = null;
+		wrongIcon    = null;
+		counterLabel = null;
 		
 		answerBoxContainer = null;
 		questionCounter    = null;
 		questionBox        = null;
 		submitBtn          = null;
 		homeBtn            = null;
+		ScreenLifecycle.end(this);
+		event.commit();
 	}
 	
 	@Override
@@ -708,7 +823,9 @@ public class QuestionPanelText implements Testable, ClickableObserver{
 			}else{
 				currentAnswer = answer;
 				answerBox.setText("");
+				clock.answerSubmitted();
 				notifiyObserver(ANSWER);
+				clock.answerHandled();
 			}
 		}else if(component == nextButton){
 			notifiyObserver(NEXT);
@@ -0,0 +1,318 @@
+/**
+ * Name:         Math Helper
+ * Version:      1.0.0
+ * Version Date: 04/30/2015
+ * Team:         "Cool Math" - Consists of Kenneth Chin, Chris Moraal, Elena Eroshkina, and Austin Clark
+ * Purpose:      The "Math Helper" software is used to aid parents and teachers with the teaching and testing
+ *                 of students, grades PreK through Grade 4, in the subject of Mathematics. The lessons and
+ *                 tests provided cover a subset of skills as specified by the Massachusetts Department of
+ *                 Education's (DOE) website, found at:
+ *                              http://www.doe.mass.edu/frameworks/math/2000/toc.html
+ *                 The DOE category, Number Sense and Operations for Grades Pre-K through Grade 4,
+ *                 is the subset that the "Math Helper" software covers.
+ *                 
+ *               Features and services of the "Math Helper" software include, Login/Logout mechanics,
+ *                 practice and formal testing, and tutorials of the above-specified skills. Additional
+ *                 features include test completion results, test completion summaries, and test
+ *                 completion rewards.
+ */
+package project.tools;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javax.swing.SwingUtilities;
+
+import project.constants.DifficultyLevel;
+import project.database.ReportCard;
+import project.interfaces.ModuleSelectButtonInterface;
+
+/**
+ * An uninstantiable class, used to keep a LatencyHistogram of each Phase of answering a question, for
+ *  each Test Module and DifficultyLevel. The program's own latency (RENDER and RESPONSE) is kept apart
+ *  from the student's think time (THINK and ENTRY), so a slow screen can not be mistaken for a slow
+ *  student, nor the reverse.
+ * Times are measured by a QuestionClock, owned by each question panel. The histograms are kept in memory
+ *  until reset(), and may be exported with export().
+ * @author Kenneth Chin
+ */
+public final class ResponseTimes {
+	
+	/**
+	 * Each timed part of answering a question, in the order they occur.
+	 */
+	public enum Phase{
+		/**
+		 * From the question being shown, until it has been painted. Program latency.
+		 */
+		RENDER  ("Render",   true),
+		/**
+		 * From the question being painted, until the student's first keystroke or selection. Think time.
+		 */
+		THINK   ("Think",    false),
+		/**
+		 * From the student's first keystroke or selection, until the "Submit" button is clicked. Think time.
+		 */
+		ENTRY   ("Entry",    false),
+		/**
+		 * From the "Submit" button being clicked, until the answer or next question has been painted.
+		 *  Program latency.
+		 */
+		RESPONSE("Response", true);
+		
+		private final String  name;         //The name of this Phase.
+		private final boolean isAppLatency; //True if this Phase is time spent by the program.
+		
+		/**
+		 * The Phase constructor.
+		 * @param name A String indicating the name of this Phase.
+		 * @param isAppLatency A boolean indicating true if this Phase is time spent by the program.
+		 */
+		private Phase(String name, boolean isAppLatency){
+			this.name         = name;
+			this.isAppLatency = isAppLatency;
+		}
+		
+		/**
+		 * Used to obtain the name of this Phase.
+		 * @return A String describing the name of this Phase.
+		 */
+		public String getName(){
+			return name;
+		}
+		
+		/**
+		 * Used to determine if this Phase is time spent by the program, rather than the student.
+		 * @return A boolean indicating true if this Phase is program latency, false if it is think time.
+		 */
+		public boolean isAppLatency(){
+			return isAppLatency;
+		}
+	}
+	
+	private static final Phase[]           PHASES       = Phase.values();
+	private static final DifficultyLevel[] DIFFICULTIES = DifficultyLevel.values();
+	
+	//The histograms of each Test Module, indexed by (DifficultyLevel.ordinal() * PHASES.length) + Phase.ordinal().
+	private static final Map<ModuleSelectButtonInterface, LatencyHistogram[]> histograms =
+			new LinkedHashMap<ModuleSelectButtonInterface, LatencyHistogram[]>();
+	
+	/**
+	 * Private constructor prevents instantiation.
+	 */
+	private ResponseTimes(){}
+	
+	/**
+	 * Used to record the time taken by a Phase of answering a question.
+	 * @param test The ModuleSelectButtonInterface that describes the test that asked the question.
+	 * @param difficulty The DifficultyLevel of the test.
+	 * @param phase The Phase that was timed.
+	 * @param nanos A long describing the time taken, in nanoseconds.
+	 */
+	public static void record(ModuleSelectButtonInterface test, DifficultyLevel difficulty, Phase phase, long nanos){
+		getHistogram(test, difficulty, phase).record(nanos);
+	}
+	
+	/**
+	 * Used to obtain the LatencyHistogram of a Phase, for the specified test and DifficultyLevel.
+	 *  The histogram is created if nothing has been recorded for the test before.
+	 * @param test The ModuleSelectButtonInterface that describes the test.
+	 * @param difficulty The DifficultyLevel of the test.
+	 * @param phase The Phase whose histogram is to be returned.
+	 * @return The LatencyHistogram of the specified Phase.
+	 */
+	public static synchronized LatencyHistogram getHistogram(ModuleSelectButtonInterface test,
+			DifficultyLevel difficulty, Phase phase){
+		LatencyHistogram[] testHistograms = histograms.get(test);
+		if(testHistograms == null){
+			testHistograms = new LatencyHistogram[DIFFICULTIES.length * PHASES.length];
+			for(int i = 0; i < testHistograms.length; i++)
+				testHistograms[i] = new LatencyHistogram();
+			histograms.put(test, testHistograms);
+		}
+		return testHistograms[(difficulty.ordinal() * PHASES.length) + phase.ordinal()];
+	}
+	
+	/**
+	 * Used to obtain a LatencyHistogram of a Phase, combining every test and DifficultyLevel.
+	 * @param phase The Phase whose values are to be combined.
+	 * @return A new LatencyHistogram holding every value recorded for the specified Phase.
+	 */
+	public static synchronized LatencyHistogram getCombined(Phase phase){
+		LatencyHistogram combined = new LatencyHistogram();
+		for(LatencyHistogram[] testHistograms : histograms.values())
+			for(int i = phase.ordinal(); i < testHistograms.length; i += PHASES.length)
+				combined.add(testHistograms[i]);
+		return combined;
+	}
+	
+	/**
+	 * Used to obtain the number of values recorded, for every test, DifficultyLevel, and Phase.
+	 * @return A long indicating the total number of recorded values.
+	 */
+	public static synchronized long getCount(){
+		long count = 0;
+		for(LatencyHistogram[] testHistograms : histograms.values())
+			for(LatencyHistogram histogram : testHistograms)
+				count += histogram.getCount();
+		return count;
+	}
+	
+	/**
+	 * Used to discard every recorded value.
+	 */
+	public static synchronized void reset(){
+		histograms.clear();
+	}
+	
+	/**
+	 * Used to describe every non-empty histogram as comma-separated lines of text, suitable for
+	 *  TextFileMaker.writeArray(String, String, String[]). The first section has one line of percentiles
+	 *  per histogram, in milliseconds. The second section has one line per non-empty bucket, in microseconds.
+	 * @return A String array of the exported lines.
+	 */
+	public static synchronized String[] export(){
+		ArrayList<String> summary = new ArrayList<String>();
+		ArrayList<String> buckets = new ArrayList<String>();
+		summary.add("Grade,Module,Difficulty,Phase,Source,Count,Min(ms),P50(ms),P90(ms),P99(ms),Max(ms),Mean(ms)");
+		buckets.add("Grade,Module,Difficulty,Phase,Lowest(us),Highest(us),Count");
+		for(Map.Entry<ModuleSelectButtonInterface, LatencyHistogram[]> entry : histograms.entrySet()){
+			ModuleSelectButtonInterface test = entry.getKey();
+			LatencyHistogram[] testHistograms = entry.getValue();
+			for(DifficultyLevel difficulty : DIFFICULTIES){
+				for(Phase phase : PHASES){
+					LatencyHistogram histogram = testHistograms[(difficulty.ordinal() * PHASES.length) + phase.ordinal()];
+					if(histogram.getCount() == 0)
+						continue;
+					String key = ReportCard.getGradeLevel(test) + "," + test.getName() + "," + difficulty.getName()
+									+ "," + phase.getName();
+					summary.add(key + "," + (phase.isAppLatency() ? "Program" : "Student") + ","
+							+ histogram.getCount()                      + ","
+							+ millis(histogram.getMinNanos())           + ","
+							+ millis(histogram.getValueAtPercentile(50)) + ","
+							+ millis(histogram.getValueAtPercentile(90)) + ","
+							+ millis(histogram.getValueAtPercentile(99)) + ","
+							+ millis(histogram.getMaxNanos())           + ","
+							+ millis(histogram.getMeanNanos()));
+					for(String bucket : histogram.getBuckets())
+						buckets.add(key + "," + bucket);
+				}
+			}
+		}
+		summary.add("");
+		summary.addAll(buckets);
+		return summary.toArray(new String[summary.size()]);
+	}
+	
+	/**
+	 * Used to express nanoseconds as milliseconds, to three decimal places.
+	 * @param nanos A long describing a time, in nanoseconds.
+	 * @return A String describing the time, in milliseconds.
+	 */
+	private static String millis(long nanos){
+		return String.format("%.3f", nanos / 1000000.0);
+	}
+	
+	/**
+	 * This class times the Phases of answering each question shown by one question panel, and records them
+	 *  in ResponseTimes. Nothing is recorded until setTest(ModuleSelectButtonInterface, DifficultyLevel) is
+	 *  called with a non-null test.
+	 * A question is considered painted when an event queued after it was shown has run. Swing queues the
+	 *  repaint of the changed components before that event, so this includes the time taken to paint them.
+	 * NOTE: Every method must only be called on the Event Dispatch Thread.
+	 * @author Kenneth Chin
+	 */
+	public static final class QuestionClock{
+		
+		private ModuleSelectButtonInterface test = null; //The test whose questions are timed, or null.
+		private DifficultyLevel difficulty = null;       //The DifficultyLevel of the test.
+		
+		private long showNanos       = 0; //The System.nanoTime() when the question was shown, or 0.
+		private long paintedNanos    = 0; //The System.nanoTime() when the question was painted, or 0.
+		private long firstInputNanos = 0; //The System.nanoTime() of the first input, or 0.
+		private long submitNanos     = 0; //The System.nanoTime() when the answer was submitted, or 0.
+		
+		//Queued after a question is shown. Records the RENDER Phase.
+		private final Runnable questionPainted = new Runnable(){
+			@Override
+			public void run(){
+				if(showNanos == 0)
+					return;
+				paintedNanos = System.nanoTime();
+				ResponseTimes.record(test, difficulty, Phase.RENDER, paintedNanos - showNanos);
+				showNanos = 0;
+			}
+		};
+		
+		//Queued after an answer is handled. Records the RESPONSE Phase.
+		private final Runnable answerPainted = new Runnable(){
+			@Override
+			public void run(){
+				if(submitNanos == 0)
+					return;
+				ResponseTimes.record(test, difficulty, Phase.RESPONSE, System.nanoTime() - submitNanos);
+				submitNanos = 0;
+			}
+		};
+		
+		/**
+		 * Used to set the test and DifficultyLevel that following questions are recorded under.
+		 * @param test The ModuleSelectButtonInterface that describes the test, or null to stop timing.
+		 * @param difficulty The DifficultyLevel of the test.
+		 */
+		public void setTest(ModuleSelectButtonInterface test, DifficultyLevel difficulty){
+			this.test       = test;
+			this.difficulty = difficulty;
+			showNanos       = 0;
+			paintedNanos    = 0;
+			firstInputNanos = 0;
+			submitNanos     = 0;
+		}
+		
+		/**
+		 * Used to indicate that a question has just been shown.
+		 */
+		public void questionShown(){
+			if(test == null)
+				return;
+			showNanos       = System.nanoTime();
+			paintedNanos    = 0;
+			firstInputNanos = 0;
+			SwingUtilities.invokeLater(questionPainted);
+		}
+		
+		/**
+		 * Used to indicate that the student has typed or selected something. Only the first input after
+		 *  a question is painted is timed.
+		 */
+		public void inputReceived(){
+			if(test == null || paintedNanos == 0 || firstInputNanos != 0)
+				return;
+			firstInputNanos = System.nanoTime();
+			ResponseTimes.record(test, difficulty, Phase.THINK, firstInputNanos - paintedNanos);
+		}
+		
+		/**
+		 * Used to indicate that the student has clicked the "Submit" button, before the answer is handled.
+		 */
+		public void answerSubmitted(){
+			if(test == null)
+				return;
+			submitNanos = System.nanoTime();
+			if(firstInputNanos != 0)
+				ResponseTimes.record(test, difficulty, Phase.ENTRY, submitNanos - firstInputNanos);
+			paintedNanos    = 0;
+			firstInputNanos = 0;
+		}
+		
+		/**
+		 * Used to indicate that every observer has handled the submitted answer.
+		 */
+		public void answerHandled(){
+			if(test == null || submitNanos == 0)
+				return;
+			SwingUtilities.invokeLater(answerPainted);
+		}
+	}
+}
@@ -0,0 +1,174 @@
+/**
+ * Name:         Math Helper
+ * Version:      1.0.0
+ * Version Date: 04/30/2015
+ * Team:         "Cool Math" - Consists of Kenneth Chin, Chris Moraal, Elena Eroshkina, and Austin Clark
+ * Purpose:      The "Math Helper" software is used to aid parents and teachers with the teaching and testing
+ *                 of students, grades PreK through Grade 4, in the subject of Mathematics. The lessons and
+ *                 tests provided cover a subset of skills as specified by the Massachusetts Department of
+ *                 Education's (DOE) website, found at:
+ *                              http://www.doe.mass.edu/frameworks/math/2000/toc.html
+ *                 The DOE category, Number Sense and Operations for Grades Pre-K through Grade 4,
+ *                 is the subset that the "Math Helper" software covers.
+ *                 
+ *               Features and services of the "Math Helper" software include, Login/Logout mechanics,
+ *                 practice and formal testing, and tutorials of the above-specified skills. Additional
+ *                 features include test completion results, test completion summaries, and test
+ *                 completion rewards.
+ */
+package project.tools;
+
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.FontFormatException;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Properties;
+
+import javax.imageio.ImageIO;
+
+/**
+ * This class is used to store a student's rewards as compact descriptors, instead of full screen-captures.
+ *  A descriptor records the reward's background image, grade text, and grade text origin; the items that
+ *  RewardScreen draws on top of mainWindow. Each call to saveReward() writes a small text file to the
+ *  student's "Rewards" folder. The full reward image is only drawn when it is needed, by calling
+ *  renderPending() on the "Rewards" folder (ex. when the "View Rewards" button is clicked). A descriptor
+ *  and its rendered image share the same file name; only their suffixes differ.
+ * @author Kenneth Chin
+ */
+public final class RewardStore {
+	
+	private static final String DESCRIPTOR_SUFFIX = ".reward"; //The file name suffix of a reward descriptor.
+	private static final String IMAGE_FILE_TYPE   = "png";     //The rendered image file format.
+	private static final int    IMAGE_WIDTH       = 1024;      //The width of a rendered reward image.
+	private static final int    IMAGE_HEIGHT      = 768;       //The height of a rendered reward image.
+	private static final int    GRADE_FONT        = FontMaker.ARIAL; //The font used to draw the grade text.
+	private static final int    GRADE_FONT_SIZE   = 100;       //The point size of the grade text.
+	
+	//Descriptor property keys.
+	private static final String BACKGROUND_KEY = "background";
+	private static final String GRADE_KEY      = "grade";
+	private static final String MODULE_KEY     = "module";
+	private static final String DIFFICULTY_KEY = "difficulty";
+	private static final String GRADE_X_KEY    = "gradeX";
+	private static final String GRADE_Y_KEY    = "gradeY";
+
+	/**
+	 * Private constructor prevents instantiation.
+	 */
+	private RewardStore(){}
+	
+	/**
+	 * Writes a reward descriptor into the specified directory. Any previously rendered image with the
+	 *  same name is considered stale, and will be re-drawn by the next call to renderPending().
+	 * @param pathFromRoot A String indicating the directory, from the program's directory, in which the
+	 *  descriptor is to be stored.
+	 * @param backgroundPath A String describing the reward's background image path, from the program's
+	 *  root directory.
+	 * @param grade An int indicating the percentage of correct answers drawn onto the reward.
+	 * @param moduleName A String describing the Test module's name.
+	 * @param difficultyName A String describing the Test module's difficulty level.
+	 * @param gradeX An int indicating the x-origin of the grade text, relative to mainWindow.
+	 * @param gradeY An int indicating the y-origin of the grade text, relative to mainWindow.
+	 * @throws IOException Thrown if the descriptor file can not be written.
+	 */
+	public static void saveReward(String pathFromRoot, String backgroundPath, int grade, String moduleName,
+			String difficultyName, int gradeX, int gradeY) throws IOException{
+		Properties descriptor = new Properties();
+		descriptor.setProperty(BACKGROUND_KEY, backgroundPath);
+		descriptor.setProperty(GRADE_KEY,      Integer.toString(grade));
+		descriptor.setProperty(MODULE_KEY,     moduleName);
+		descriptor.setProperty(DIFFICULTY_KEY, difficultyName);
+		descriptor.setProperty(GRADE_X_KEY,    Integer.toString(gradeX));
+		descriptor.setProperty(GRADE_Y_KEY,    Integer.toString(gradeY));
+		
+		TextFileMaker.makeFolder(pathFromRoot);
+		String fileName = moduleName + "(" + difficultyName + ")" + DESCRIPTOR_SUFFIX;
+		File file = new File(pathFromRoot, fileName);
+		FlightEvents.Reward event = new FlightEvents.Reward(file.getPath(), false);
+		OutputStream out = new FileOutputStream(file);
+		try{
+			descriptor.store(out, null);
+		}finally{
+			out.close();
+		}
+		event.commit(file.length());
+	}
+	
+	/**
+	 * Renders the full reward image of every descriptor in the specified directory that has no image,
+	 *  or who's image is older than the descriptor.
+	 * @param pathFromRoot A String indicating the directory, from the program's directory, that contains
+	 *  reward descriptors.
+	 * @return An int indicating the number of reward images that were rendered.
+	 * @throws IOException Thrown if a descriptor, background image, or rendered image can not be read or written.
+	 */
+	public static int renderPending(String pathFromRoot) throws IOException{
+		File[] files = new File(pathFromRoot).listFiles();
+		if(files == null)
+			return 0;
+		int rendered = 0;
+		for(File file: files){
+			String name = file.getName();
+			if(!name.endsWith(DESCRIPTOR_SUFFIX))
+				continue;
+			String baseName = name.substring(0, name.length() - DESCRIPTOR_SUFFIX.length());
+			File image = new File(pathFromRoot, baseName + "." + IMAGE_FILE_TYPE);
+			if(!image.exists() || image.lastModified() < file.lastModified()){
+				FlightEvents.Reward event = new FlightEvents.Reward(image.getPath(), true);
+				ImageIO.write(render(file), IMAGE_FILE_TYPE, image);
+				event.commit(image.length());
+				rendered++;
+			}
+		}
+		return rendered;
+	}
+	
+	/**
+	 * Draws the full reward image described by the specified descriptor file.
+	 * @param descriptorFile The File of the descriptor that is to be drawn.
+	 * @return A BufferedImage of the reward, as it was displayed by RewardScreen.
+	 * @throws IOException Thrown if the descriptor or its background image can not be read.
+	 */
+	public static BufferedImage render(File descriptorFile) throws IOException{
+		Properties descriptor = new Properties();
+		InputStream in = new FileInputStream(descriptorFile);
+		try{
+			descriptor.load(in);
+		}finally{
+			in.close();
+		}
+		
+		BufferedImage background = ImageLoader.getBufferedImage(descriptor.getProperty(BACKGROUND_KEY));
+		BufferedImage image = new BufferedImage(IMAGE_WIDTH, IMAGE_HEIGHT, BufferedImage.TYPE_INT_RGB);
+		Graphics2D g = image.createGraphics();
+		try{
+			g.drawImage(background, 0, 0, null);
+			
+			Font font;
+			try {
+				font = FontMaker.getFont(GRADE_FONT, GRADE_FONT_SIZE);
+			} catch (IndexOutOfBoundsException | IOException | FontFormatException e) {
+				font = FontMaker.getDefaultFont(GRADE_FONT_SIZE);
+			}
+			font = FontMaker.getBoldFont(font);
+			
+			int gradeX = Integer.parseInt(descriptor.getProperty(GRADE_X_KEY));
+			int gradeY = Integer.parseInt(descriptor.getProperty(GRADE_Y_KEY));
+			g.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+			g.setFont(font);
+			g.setColor(Color.BLACK);
+			g.drawString(descriptor.getProperty(GRADE_KEY) + "%", gradeX, gradeY + g.getFontMetrics().getAscent());
+		}finally{
+			g.dispose();
+		}
+		return image;
+	}
+}
@@ -0,0 +1,459 @@
+/**
+ * Name:         Math Helper
+ * Version:      1.0.0
+ * Version Date: 04/30/2015
+ * Team:         "Cool Math" - Consists of Kenneth Chin, Chris Moraal, Elena Eroshkina, and Austin Clark
+ * Purpose:      The "Math Helper" software is used to aid parents and teachers with the teaching and testing
+ *                 of students, grades PreK through Grade 4, in the subject of Mathematics. The lessons and
+ *                 tests provided cover a subset of skills as specified by the Massachusetts Department of
+ *                 Education's (DOE) website, found at:
+ *                              http://www.doe.mass.edu/frameworks/math/2000/toc.html
+ *                 The DOE category, Number Sense and Operations for Grades Pre-K through Grade 4,
+ *                 is the subset that the "Math Helper" software covers.
+ *                 
+ *               Features and services of the "Math Helper" software include, Login/Logout mechanics,
+ *                 practice and formal testing, and tutorials of the above-specified skills. Additional
+ *                 features include test completion results, test completion summaries, and test
+ *                 completion rewards.
+ */
+package project.tools;
+
+import java.awt.event.ActionEvent;
+import java.awt.event.ActionListener;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import javax.sound.sampled.Clip;
+import javax.swing.JComponent;
+import javax.swing.Timer;
+
+import project.interfaces.ClickableObserver;
+
+/**
+ * An uninstantiable class, used to track the layers, ClickableObservers, Timers and Clips that each
+ *  screen acquires, and to release any that the screen did not release itself.
+ * A screen opens a Scope by calling begin() in its constructor, and closes it by calling end() in its
+ *  tearDown() method. Layers added to the MainWindow, and Timers and Clips that are tracked, belong to
+ *  the most recently begun (or activated) screen. Observers belong to the screen that registered them.
+ *  Beginning a navigation screen closes every other open Scope, so a screen that was never torn down is
+ *  released when the student leaves it. Everything released this way is reported as a leak.
+ * Once closed, each screen is weakly held. While telemetry is running, the number of closed screens that
+ *  have not been garbage collected is sampled for each screen class, and a class is flagged when that
+ *  number grows for GROWTH_SAMPLES samples in a row.
+ * NOTE: Except for the getters, these methods must only be called on the Event Dispatch Thread.
+ * @author Kenneth Chin
+ */
+public final class ScreenLifecycle {
+	
+	/**
+	 * The default time between telemetry samples, in milliseconds.
+	 */
+	public static final int TELEMETRY_MILLIS = 60000;
+	
+	/**
+	 * The number of growing samples in a row before a class is flagged.
+	 */
+	public static final int GROWTH_SAMPLES   = 3;
+	
+	/**
+	 * The maximum number of lines kept by getReport(). The oldest lines are dropped first.
+	 */
+	public static final int MAX_REPORT_LINES = 1000;
+	
+	//Every open Scope, in the order they were begun or activated. The last Scope is the active Scope.
+	private static final ArrayList<Scope> openScopes = new ArrayList<Scope>();
+	//The Scope that owns each layer that is in the MainWindow.
+	private static final Map<JComponent, Scope> layerOwners = new IdentityHashMap<JComponent, Scope>();
+	
+	//Closed screens that have not been garbage collected, and the name of their class. A screen that is
+	// closed many times, such as a cached screen, is only counted once.
+	private static final Map<Object, String> retained = new WeakHashMap<Object, String>();
+	//The telemetry of each screen class (and of ContentPane), by name.
+	private static final Map<String, Growth> growth = new LinkedHashMap<String, Growth>();
+	
+	private static final ArrayList<String> report = new ArrayList<String>(); //Leaks and flagged classes.
+	
+	private static Timer telemetry;                    //The Timer that takes telemetry samples.
+	private static volatile int  openCount     = 0;    //The number of open Scopes.
+	private static volatile int  retainedCount = 0;    //The number of closed screens not yet collected.
+	private static volatile long leakCount     = 0;    //The number of resources released by end().
+	private static volatile int  flaggedCount  = 0;    //The number of classes flagged as growing.
+	
+	/**
+	 * Private constructor prevents instantiation.
+	 */
+	private ScreenLifecycle(){}
+	
+	/**
+	 * Used to open a Scope for the specified screen, and make it the active Scope.
+	 * @param screen The screen that is being constructed. Usually "this".
+	 * @param isNavigation A boolean indicating true if the screen replaces every other screen, such as
+	 *  a WelcomeScreen or RewardScreen. Every other open Scope is closed first.
+	 */
+	public static synchronized void begin(Object screen, boolean isNavigation){
+		if(isNavigation){
+			while(!openScopes.isEmpty())
+				close(openScopes.get(openScopes.size() - 1), "left open by navigation to " + nameOf(screen));
+		}
+		Scope scope = find(screen);
+		if(scope != null)
+			close(scope, "begun again");
+		openScopes.add(new Scope(screen));
+		openCount = openScopes.size();
+		//A cached screen that is shown again is no longer retained.
+		if(retained.remove(screen) != null)
+			retainedCount = retained.size();
+	}
+	
+	/**
+	 * Used to make the specified screen's Scope the active Scope, such as when a hidden panel is shown again.
+	 *  Does nothing if the screen has no open Scope.
+	 * @param screen The screen that is being shown.
+	 */
+	public static synchronized void activate(Object screen){
+		Scope scope = find(screen);
+		if(scope == null)
+			return;
+		openScopes.remove(scope);
+		openScopes.add(scope);
+	}
+	
+	/**
+	 * Used to close the specified screen's Scope. Any layer, observer, Timer or Clip that the screen did not
+	 *  release is released, and reported as a leak. Should be called at the end of the screen's tearDown().
+	 * @param screen The screen that has been torn down.
+	 */
+	public static synchronized void end(Object screen){
+		Scope scope = find(screen);
+		if(scope != null)
+			close(scope, "not released by tearDown()");
+	}
+	
+	/**
+	 * Used to record that a layer was added to the MainWindow. Called by MainWindow.addLayer().
+	 * @param window The MainWindow that the layer was added to.
+	 * @param component The JComponent that was added.
+	 */
+	static synchronized void layerAdded(MainWindow window, JComponent component){
+		Scope owner = layerOwners.remove(component);
+		if(owner != null)
+			owner.layers.remove(component);
+		Scope scope = getActive();
+		//Layers added before any screen (such as the media panel) belong to no screen, and are never released.
+		if(scope == null)
+			return;
+		scope.window = window;
+		scope.layers.put(component, Boolean.TRUE);
+		layerOwners.put(component, scope);
+	}
+	
+	/**
+	 * Used to record that a layer was removed from the MainWindow. Called by MainWindow.removeLayer().
+	 * @param component The JComponent that was removed.
+	 */
+	static synchronized void layerRemoved(JComponent component){
+		Scope owner = layerOwners.remove(component);
+		if(owner != null)
+			owner.layers.remove(component);
+	}
+	
+	/**
+	 * Used to record that a ClickableObserver was registered with a ContentPane. The observer belongs to its
+	 *  own Scope if it is an open screen, or the active Scope otherwise. Called by ContentPane.registerObserver().
+	 * @param pane The ContentPane that the observer was registered with.
+	 * @param obs The ClickableObserver that was registered.
+	 */
+	static synchronized void observerAdded(ContentPane pane, ClickableObserver obs){
+		Scope scope = find(obs);
+		if(scope == null)
+			scope = getActive();
+		if(scope != null)
+			scope.observers.add(new Object[]{pane, obs});
+	}
+	
+	/**
+	 * Used to record that a ClickableObserver was removed from a ContentPane. Called by ContentPane.removeObserver().
+	 * @param pane The ContentPane that the observer was removed from.
+	 * @param obs The ClickableObserver that was removed.
+	 */
+	static synchronized void observerRemoved(ContentPane pane, ClickableObserver obs){
+		for(int i = openScopes.size() - 1; i >= 0; i--){
+			Iterator<Object[]> it = openScopes.get(i).observers.iterator();
+			while(it.hasNext()){
+				Object[] pair = it.next();
+				if(pair[0] == pane && pair[1] == obs){
+					it.remove();
+					return;
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Used to give the specified Timer to the active Scope. The Timer is stopped if it is still running
+	 *  when the Scope is closed.
+	 * @param timer The Timer to be tracked.
+	 */
+	public static synchronized void trackTimer(Timer timer){
+		Scope scope = getActive();
+		if(scope != null && !scope.timers.contains(timer))
+			scope.timers.add(timer);
+	}
+	
+	/**
+	 * Used to give the specified Clip to the active Scope. The Clip is stopped and closed if it is still
+	 *  open when the Scope is closed.
+	 * @param clip The Clip to be tracked.
+	 */
+	public static synchronized void trackClip(Clip clip){
+		Scope scope = getActive();
+		if(scope != null)
+			scope.clips.add(clip);
+	}
+	
+	/**
+	 * Used to begin taking telemetry samples, every TELEMETRY_MILLIS milliseconds.
+	 */
+	public static synchronized void startTelemetry(){
+		startTelemetry(TELEMETRY_MILLIS);
+	}
+	
+	/**
+	 * Used to begin taking telemetry samples at the specified interval. Does nothing if telemetry is running.
+	 * @param millis An int indicating the number of milliseconds between samples.
+	 */
+	public static synchronized void startTelemetry(int millis){
+		if(telemetry != null)
+			return;
+		telemetry = new Timer(millis, new ActionListener(){
+			@Override
+			public void actionPerformed(ActionEvent e){
+				sample();
+			}
+		});
+		telemetry.setRepeats(true);
+		telemetry.start();
+	}
+	
+	/**
+	 * Used to stop taking telemetry samples.
+	 */
+	public static synchronized void stopTelemetry(){
+		if(telemetry == null)
+			return;
+		telemetry.stop();
+		telemetry = null;
+	}
+	
+	/**
+	 * Used to take one telemetry sample. The number of closed, but uncollected, screens of each class,
+	 *  and the number of live ContentPanes, are compared to the previous sample.
+	 */
+	public static synchronized void sample(){
+		retainedCount = retained.size();
+		Map<String, Integer> counts = new LinkedHashMap<String, Integer>();
+		for(String name:growth.keySet())
+			counts.put(name, 0);
+		for(String name:retained.values()){
+			Integer count = counts.get(name);
+			counts.put(name, (count == null) ? 1 : count + 1);
+		}
+		counts.put("ContentPane", ContentPane.getLiveCount());
+		
+		Runtime runtime = Runtime.getRuntime();
+		long usedKB = (runtime.totalMemory() - runtime.freeMemory()) / 1024;
+		for(Map.Entry<String, Integer> entry:counts.entrySet()){
+			Growth classGrowth = growth.get(entry.getKey());
+			if(classGrowth == null){
+				classGrowth = new Growth();
+				growth.put(entry.getKey(), classGrowth);
+			}
+			if(classGrowth.update(entry.getValue())){
+				flaggedCount++;
+				addLine("Growing: " + entry.getKey() + " retained " + entry.getValue() + " after "
+						+ GROWTH_SAMPLES + " growing samples (heap used: " + usedKB + " KB)");
+			}
+		}
+	}
+	
+	/**
+	 * Used to obtain every leak and growing class that has been reported.
+	 * @return A String[] containing one line per report, oldest first.
+	 */
+	public static synchronized String[] getReport(){
+		return report.toArray(new String[report.size()]);
+	}
+	
+	/**
+	 * Used to obtain the number of screens that have been begun, but not ended.
+	 * @return An int indicating the number of open Scopes.
+	 */
+	public static int getOpenCount(){
+		return openCount;
+	}
+	
+	/**
+	 * Used to obtain the number of screens that have been ended, but not yet garbage collected.
+	 *  Updated by each telemetry sample.
+	 * @return An int indicating the number of retained screens.
+	 */
+	public static int getRetainedCount(){
+		return retainedCount;
+	}
+	
+	/**
+	 * Used to obtain the number of layers, observers, Timers and Clips that were released for a screen,
+	 *  because the screen did not release them itself.
+	 * @return A long indicating the number of leaked resources.
+	 */
+	public static long getLeakCount(){
+		return leakCount;
+	}
+	
+	/**
+	 * Used to obtain the number of times a class has been flagged for retaining more instances in each sample.
+	 * @return An int indicating the number of growth flags.
+	 */
+	public static int getFlaggedCount(){
+		return flaggedCount;
+	}
+	
+	/**
+	 * A helper method, used to release everything still held by a Scope, and remove it from openScopes.
+	 * @param scope The Scope to be closed.
+	 * @param reason A String describing why any remaining resources are being released.
+	 */
+	private static void close(Scope scope, String reason){
+		openScopes.remove(scope);
+		openCount = openScopes.size();
+		
+		int layers    = scope.layers.size();
+		int observers = scope.observers.size();
+		int timers    = 0;
+		int clips     = 0;
+		if(layers > 0){
+			scope.window.beginLayerTransaction();
+			try{
+				for(JComponent component:new ArrayList<JComponent>(scope.layers.keySet()))
+					scope.window.removeLayer(component);
+			}finally{
+				scope.window.commitLayerTransaction();
+			}
+		}
+		for(Object[] pair:new ArrayList<Object[]>(scope.observers))
+			((ContentPane)pair[0]).removeObserver((ClickableObserver)pair[1]);
+		for(Timer timer:scope.timers){
+			if(timer.isRunning()){
+				timer.stop();
+				timers++;
+			}
+		}
+		for(Clip clip:scope.clips){
+			if(clip.isOpen()){
+				clip.stop();
+				clip.close();
+				clips++;
+			}
+		}
+		
+		int leaks = layers + observers + timers + clips;
+		if(leaks > 0){
+			leakCount += leaks;
+			addLine("Leak: " + nameOf(scope.screen.get()) + " " + reason + ": " + layers + " layer(s), "
+					+ observers + " observer(s), " + timers + " Timer(s), " + clips + " Clip(s)");
+		}
+		Object screen = scope.screen.get();
+		if(screen != null){
+			retained.put(screen, nameOf(screen));
+			retainedCount = retained.size();
+		}
+	}
+	
+	/**
+	 * A helper method, used to find the open Scope of the specified screen.
+	 * @param screen The screen whose Scope is needed.
+	 * @return The screen's open Scope, or null if the screen has no open Scope.
+	 */
+	private static Scope find(Object screen){
+		for(int i = openScopes.size() - 1; i >= 0; i--){
+			if(openScopes.get(i).screen.get() == screen)
+				return openScopes.get(i);
+		}
+		return null;
+	}
+	
+	/**
+	 * A helper method, used to obtain the active Scope.
+	 * @return The most recently begun or activated Scope, or null if no Scope is open.
+	 */
+	private static Scope getActive(){
+		return openScopes.isEmpty() ? null : openScopes.get(openScopes.size() - 1);
+	}
+	
+	/**
+	 * A helper method, used to obtain a short name for a screen.
+	 * @param screen The screen to be named.
+	 * @return A String describing the simple name of the screen's class.
+	 */
+	private static String nameOf(Object screen){
+		return (screen == null) ? "(collected)" : screen.getClass().getSimpleName();
+	}
+	
+	/**
+	 * A helper method, used to add a line to report. The oldest line is dropped once MAX_REPORT_LINES is reached.
+	 * @param line The line to be added.
+	 */
+	private static void addLine(String line){
+		if(report.size() >= MAX_REPORT_LINES)
+			report.remove(0);
+		report.add(line);
+	}
+	
+	/**
+	 * The layers, observers, Timers and Clips that belong to one screen. The screen is weakly held, so
+	 *  that an open Scope does not prevent a discarded screen from being collected.
+	 * @author Kenneth Chin
+	 */
+	private static final class Scope{
+		private final WeakReference<Object> screen;                    //The screen that owns this Scope.
+		private final Map<JComponent, Boolean> layers =
+				new IdentityHashMap<JComponent, Boolean>();            //The layers added while active.
+		private final ArrayList<Object[]> observers = new ArrayList<Object[]>(); //{ContentPane, ClickableObserver} pairs.
+		private final ArrayList<Timer> timers = new ArrayList<Timer>();//The Timers started while active.
+		private final ArrayList<Clip>  clips  = new ArrayList<Clip>(); //The Clips created while active.
+		private MainWindow window;                                     //The MainWindow the layers were added to.
+		
+		/**
+		 * The Scope constructor.
+		 * @param screen The screen that owns this Scope.
+		 */
+		private Scope(Object screen){
+			this.screen = new WeakReference<Object>(screen);
+		}
+	}
+	
+	/**
+	 * The samples of one class, used to detect a retained count that keeps growing.
+	 * @author Kenneth Chin
+	 */
+	private static final class Growth{
+		private int last  = 0; //The count in the previous sample.
+		private int run   = 0; //The number of samples in a row that the count has grown.
+		
+		/**
+		 * Used to add a sample.
+		 * @param count An int indicating the number of retained instances in this sample.
+		 * @return A boolean indicating true if this sample completes GROWTH_SAMPLES growing samples in a row.
+		 */
+		private boolean update(int count){
+			run  = (count > last) ? run + 1 : 0;
+			last = count;
+			return run == GROWTH_SAMPLES;
+		}
+	}
+}
@@ -0,0 +1,337 @@
+/**
+ * Name:         Math Helper
+ * Version:      1.0.0
+ * Version Date: 04/30/2015
+ * Team:         "Cool Math" - Consists of Kenneth Chin, Chris Moraal, Elena Eroshkina, and Austin Clark
+ * Purpose:      The "Math Helper" software is used to aid parents and teachers with the teaching and testing
+ *                 of students, grades PreK through Grade 4, in the subject of Mathematics. The lessons and
+ *                 tests provided cover a subset of skills as specified by the Massachusetts Department of
+ *                 Education's (DOE) website, found at:
+ *                              http://www.doe.mass.edu/frameworks/math/2000/toc.html
+ *                 The DOE category, Number Sense and Operations for Grades Pre-K through Grade 4,
+ *                 is the subset that the "Math Helper" software covers.
+ *                 
+ *               Features and services of the "Math Helper" software include, Login/Logout mechanics,
+ *                 practice and formal testing, and tutorials of the above-specified skills. Additional
+ *                 features include test completion results, test completion summaries, and test
+ *                 completion rewards.
+ */
+package project.tools;
+
+import java.awt.EventQueue;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.Map;
+
+/**
+ * This class watches the Event Dispatch Thread for stalls. A background thread posts a heartbeat event to
+ *  the EventQueue, and waits for it to run. If the heartbeat has not run within the stall threshold, the
+ *  Event Dispatch Thread is considered stalled, and its stack is sampled every SAMPLE_MILLIS until the
+ *  heartbeat runs.
+ * Each sample is attributed to a blocking site: the innermost "project." method on the stack, and the
+ *  innermost method of all. Sites are aggregated across stalls, and written to the report file, longest
+ *  first, after every stall. The report file is only created once a stall occurs.
+ * @author Kenneth Chin
+ */
+public final class StallWatchdog {
+	
+	/**
+	 * The time between stack samples, and between heartbeats, in milliseconds.
+	 */
+	public static final int SAMPLE_MILLIS = 20;
+	
+	private static final String APP_PACKAGE   = "project."; //The package prefix of the program's own classes.
+	private static final int    STACK_DEPTH   = 24;         //The number of frames reported for each site.
+	private static final int    RECENT_STALLS = 50;         //The number of individual stalls reported.
+	
+	private final long   thresholdNanos; //The heartbeat delay that is considered a stall, in nanoseconds.
+	private final File   reportFile;     //The file the aggregated report is written to.
+	private final Thread watcher;        //The thread that posts heartbeats and samples the stack.
+	
+	private volatile boolean running     = false; //False once stop() has been called.
+	private volatile boolean beatPending = false; //True while a heartbeat is waiting to run.
+	private volatile long    postedNanos = 0;     //The System.nanoTime() when the pending heartbeat was posted.
+	private volatile long    ranNanos    = 0;     //The System.nanoTime() when the last heartbeat ran.
+	private volatile Thread  dispatchThread;      //The Event Dispatch Thread, as seen by the last heartbeat.
+	
+	//Aggregated samples by blocking site, and the most recent stalls. Guarded by this StallWatchdog.
+	private final Map<String, Site> sites        = new HashMap<String, Site>();
+	private final LinkedList<String> recent      = new LinkedList<String>();
+	private long stallCount        = 0; //The number of stalls that have ended.
+	private long totalStalledNanos = 0; //The sum of every stall's duration.
+	private long longestStallNanos = 0; //The duration of the longest stall.
+	
+	//The stall in progress, only used by watcher. Null when the Event Dispatch Thread is not stalled.
+	private Map<String, Site> currentSites = null;
+	private long currentSamples = 0;   //The number of samples taken during the stall in progress.
+	private long currentStart   = 0;   //The System.currentTimeMillis() when the heartbeat was posted.
+	
+	private IOException error = null;  //The first error that occurred while writing reportFile. Reported by stop().
+	
+	//Posted to the EventQueue. Records that the Event Dispatch Thread is dispatching again.
+	private final Runnable heartbeat = new Runnable(){
+		@Override
+		public void run(){
+			dispatchThread = Thread.currentThread();
+			ranNanos       = System.nanoTime();
+			beatPending    = false;
+		}
+	};
+	
+	/**
+	 * Creates a StallWatchdog. Call start() to begin watching.
+	 * @param thresholdMillis An int indicating how long a heartbeat may wait before the Event Dispatch Thread
+	 *  is considered stalled, in milliseconds. Must be at least SAMPLE_MILLIS.
+	 * @param reportFile The File that the aggregated stall report is written to.
+	 * @throws IllegalArgumentException Thrown if thresholdMillis is less than SAMPLE_MILLIS.
+	 */
+	public StallWatchdog(int thresholdMillis, File reportFile){
+		if(thresholdMillis < SAMPLE_MILLIS)
+			throw new IllegalArgumentException("The stall threshold must be at least " + SAMPLE_MILLIS + " ms.");
+		this.thresholdNanos = thresholdMillis * 1000000L;
+		this.reportFile     = reportFile;
+		this.watcher        = new Thread(new Runnable(){
+			@Override
+			public void run(){
+				watch();
+			}
+		}, "StallWatchdog");
+		watcher.setDaemon(true);
+	}
+	
+	/**
+	 * Used to start watching the Event Dispatch Thread. If called on the Event Dispatch Thread, the
+	 *  rest of the calling event is watched as well.
+	 */
+	public void start(){
+		if(EventQueue.isDispatchThread())
+			dispatchThread = Thread.currentThread();
+		running = true;
+		watcher.start();
+	}
+	
+	/**
+	 * Used to stop watching the Event Dispatch Thread, and write the final report if any stall occurred.
+	 *  Any stall in progress is reported as having ended.
+	 * @throws IOException Thrown if the report file could not be written.
+	 */
+	public void stop() throws IOException{
+		running = false;
+		watcher.interrupt();
+		try{
+			watcher.join(1000);
+		}catch(InterruptedException e){
+			Thread.currentThread().interrupt();
+		}
+		synchronized(this){
+			//A stall still in progress is reported as ending now.
+			if(currentSites != null)
+				endStall(System.nanoTime() - postedNanos);
+			else if(stallCount > 0)
+				writeReport();
+			if(error != null)
+				throw error;
+		}
+	}
+	
+	/**
+	 * Used to obtain the number of stalls that have ended.
+	 * @return A long indicating the number of stalls detected.
+	 */
+	public synchronized long getStallCount(){
+		return stallCount;
+	}
+	
+	/**
+	 * Used to obtain the sum of every stall's duration.
+	 * @return A long describing the total time the Event Dispatch Thread was stalled, in nanoseconds.
+	 */
+	public synchronized long getTotalStalledNanos(){
+		return totalStalledNanos;
+	}
+	
+	/**
+	 * Used to describe every stall detected so far, as lines of text. Blocking sites are listed by the
+	 *  number of samples taken in them, largest first, followed by the most recent stalls.
+	 * @return A String array of the report's lines.
+	 */
+	public synchronized String[] getReport(){
+		ArrayList<String> lines = new ArrayList<String>();
+		lines.add("Event Dispatch Thread stall report. Threshold: " + (thresholdNanos / 1000000) + " ms. Sampled every "
+				+ SAMPLE_MILLIS + " ms.");
+		lines.add("Stalls: " + stallCount + ". Total stalled: " + (totalStalledNanos / 1000000) + " ms. Longest: "
+				+ (longestStallNanos / 1000000) + " ms.");
+		lines.add("");
+		lines.add("Blocking sites, by samples:");
+		ArrayList<Site> sorted = new ArrayList<Site>(sites.values());
+		Collections.sort(sorted, new Comparator<Site>(){
+			@Override
+			public int compare(Site a, Site b){
+				return Long.compare(b.samples, a.samples);
+			}
+		});
+		for(Site site : sorted){
+			lines.add("  " + site.samples + " samples (~" + (site.samples * SAMPLE_MILLIS) + " ms) in " + site.stalls
+					+ " stalls: " + site.key);
+			for(StackTraceElement frame : site.stack)
+				lines.add("        at " + frame);
+		}
+		lines.add("");
+		lines.add("Most recent stalls:");
+		for(String stall : recent)
+			lines.add("  " + stall);
+		return lines.toArray(new String[lines.size()]);
+	}
+	
+	/**
+	 * The body of the watcher thread. Posts a heartbeat whenever the previous one has run, and samples
+	 *  the Event Dispatch Thread's stack while a heartbeat is overdue.
+	 */
+	private void watch(){
+		while(running){
+			if(!beatPending){
+				if(currentSites != null)
+					endStall(ranNanos - postedNanos);
+				postedNanos = System.nanoTime();
+				beatPending = true;
+				EventQueue.invokeLater(heartbeat);
+			}
+			try{
+				Thread.sleep(SAMPLE_MILLIS);
+			}catch(InterruptedException e){
+				return;
+			}
+			if(beatPending && System.nanoTime() - postedNanos >= thresholdNanos)
+				sample();
+		}
+	}
+	
+	/**
+	 * Used to sample the stalled Event Dispatch Thread's stack, and attribute the sample to a blocking site.
+	 */
+	private void sample(){
+		if(currentSites == null){
+			currentSites   = new HashMap<String, Site>();
+			currentSamples = 0;
+			currentStart   = System.currentTimeMillis() - ((System.nanoTime() - postedNanos) / 1000000);
+		}
+		currentSamples++;
+		Thread thread = dispatchThread;
+		StackTraceElement[] stack = (thread == null) ? new StackTraceElement[0] : thread.getStackTrace();
+		String key = getSiteKey(stack);
+		Site site = currentSites.get(key);
+		if(site == null){
+			site = new Site(key, stack);
+			currentSites.put(key, site);
+		}
+		site.samples++;
+	}
+	
+	/**
+	 * Used to add the stall that just ended to the aggregated sites, and write the report.
+	 * @param stalledNanos A long describing how long the heartbeat waited, in nanoseconds.
+	 */
+	private synchronized void endStall(long stalledNanos){
+		stallCount++;
+		totalStalledNanos += stalledNanos;
+		longestStallNanos  = Math.max(longestStallNanos, stalledNanos);
+		
+		Site longest = null;
+		for(Site stallSite : currentSites.values()){
+			Site site = sites.get(stallSite.key);
+			if(site == null){
+				site = new Site(stallSite.key, stallSite.stack);
+				sites.put(site.key, site);
+			}
+			site.samples += stallSite.samples;
+			site.stalls++;
+			if(longest == null || stallSite.samples > longest.samples)
+				longest = stallSite;
+		}
+		String time = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss.SSS").format(new Date(currentStart));
+		recent.addFirst(time + "  " + (stalledNanos / 1000000) + " ms, " + currentSamples + " samples, mostly in "
+				+ ((longest == null) ? "an unknown site" : longest.key));
+		if(recent.size() > RECENT_STALLS)
+			recent.removeLast();
+		currentSites = null;
+		writeReport();
+	}
+	
+	/**
+	 * Used to write getReport() to reportFile, replacing the previous report. The first error is kept,
+	 *  and reported by stop().
+	 */
+	private synchronized void writeReport(){
+		File folder = reportFile.getAbsoluteFile().getParentFile();
+		if(folder != null)
+			folder.mkdirs();
+		PrintWriter writer = null;
+		try{
+			writer = new PrintWriter(new BufferedWriter(new FileWriter(reportFile)));
+			for(String line : getReport())
+				writer.write(line + "\r\n");
+			writer.flush();
+			if(writer.checkError() && error == null)
+				error = new IOException("The stall report \"" + reportFile + "\" could not be written.");
+		}catch(IOException e){
+			if(error == null)
+				error = e;
+		}finally{
+			if(writer != null)
+				writer.close();
+		}
+	}
+	
+	/**
+	 * Used to describe where a stack is blocked: its innermost "project." method, and its innermost method.
+	 * @param stack The sampled stack, innermost frame first.
+	 * @return A String identifying the blocking site.
+	 */
+	private static String getSiteKey(StackTraceElement[] stack){
+		if(stack.length == 0)
+			return "(Event Dispatch Thread not yet seen)";
+		for(StackTraceElement frame : stack){
+			if(frame.getClassName().startsWith(APP_PACKAGE)){
+				if(frame == stack[0])
+					return frame.toString();
+				return frame + " -> " + stack[0];
+			}
+		}
+		return "(outside the program) " + stack[0];
+	}
+	
+	/**
+	 * This class holds the samples attributed to one blocking site.
+	 * @author Kenneth Chin
+	 */
+	private static final class Site{
+		private final String key;                 //The site's description. See getSiteKey().
+		private final StackTraceElement[] stack;  //The first sampled stack, trimmed to STACK_DEPTH frames.
+		private long samples = 0;                 //The number of samples attributed to this site.
+		private long stalls  = 0;                 //The number of stalls that sampled this site.
+		
+		/**
+		 * Creates a Site with no samples.
+		 * @param key A String describing the site.
+		 * @param stack The first stack sampled in the site.
+		 */
+		private Site(String key, StackTraceElement[] stack){
+			this.key = key;
+			if(stack.length > STACK_DEPTH){
+				this.stack = new StackTraceElement[STACK_DEPTH];
+				System.arraycopy(stack, 0, this.stack, 0, STACK_DEPTH);
+			}else
+				this.stack = stack;
+		}
+	}
+}
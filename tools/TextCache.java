@@ -0,0 +1,374 @@
+/**
+ * Name:         Math Helper
+ * Version:      1.0.0
+ * Version Date: 04/30/2015
+ * Team:         "Cool Math" - Consists of Kenneth Chin, Chris Moraal, Elena Eroshkina, and Austin Clark
+ * Purpose:      The "Math Helper" software is used to aid parents and teachers with the teaching and testing
+ *                 of students, grades PreK through Grade 4, in the subject of Mathematics. The lessons and
+ *                 tests provided cover a subset of skills as specified by the Massachusetts Department of
+ *                 Education's (DOE) website, found at:
+ *                              http://www.doe.mass.edu/frameworks/math/2000/toc.html
+ *                 The DOE category, Number Sense and Operations for Grades Pre-K through Grade 4,
+ *                 is the subset that the "Math Helper" software covers.
+ *                 
+ *               Features and services of the "Math Helper" software include, Login/Logout mechanics,
+ *                 practice and formal testing, and tutorials of the above-specified skills. Additional
+ *                 features include test completion results, test completion summaries, and test
+ *                 completion rewards.
+ */
+package project.tools;
+
+import java.awt.Color;
+import java.awt.Container;
+import java.awt.Font;
+import java.awt.Graphics;
+import java.awt.Rectangle;
+import java.awt.Shape;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javax.swing.JLabel;
+import javax.swing.plaf.basic.BasicHTML;
+import javax.swing.text.AttributeSet;
+import javax.swing.text.BadLocationException;
+import javax.swing.text.Document;
+import javax.swing.text.Element;
+import javax.swing.text.Position;
+import javax.swing.text.View;
+import javax.swing.text.ViewFactory;
+
+/**
+ * An uninstantiable class, used to avoid parsing the same HTML text more than once. Swing parses a
+ *  JLabel's HTML text every time the JLabel's text, font, or foreground color is changed. Instead,
+ *  setText(JLabel, String) parses each distinct text (in each font and color) into a Document once, and
+ *  gives each JLabel its own View of the cached Document. The cache holds no reference to any JLabel,
+ *  and a JLabel's own font or color changes are still handled by Swing. Prompt templates, such as "&lt;HTML&gt;{0}&lt;/HTML&gt;", are compiled once by
+ *  compile(String) and filled without searching for their placeholders again.
+ * The counters returned by getParseCount(), getHitCount(), and getTemplateCount() can be used to confirm
+ *  that the number of HTML parses grows with the number of distinct prompts, rather than the number of
+ *  questions asked.
+ * NOTE: Like all Swing methods, setText(JLabel, String) must only be called on the Event Dispatch Thread.
+ * @author Kenneth Chin
+ */
+public final class TextCache {
+	
+	//The maximum number of parsed texts that are kept. The least recently used text is discarded first.
+	private static final int MAX_CACHED_TEXTS = 256;
+	
+	//The client property that stops a JLabel from parsing its own HTML text.
+	private static final String HTML_DISABLE = "html.disable";
+	
+	//The parsed HTML of each distinct text, font, and color, in least recently used order.
+	private static final LinkedHashMap<String, ParsedText> texts = new LinkedHashMap<String, ParsedText>(64, 0.75f, true){
+		private static final long serialVersionUID = 1L;
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, ParsedText> eldest){
+			return size() > MAX_CACHED_TEXTS;
+		}
+	};
+	
+	private static long parseCount    = 0; //The number of times HTML text has been parsed.
+	private static long hitCount      = 0; //The number of times a parsed text was re-used.
+	private static int  templateCount = 0; //The number of Templates that have been compiled.
+
+	/**
+	 * Private constructor prevents instantiation.
+	 */
+	private TextCache(){}
+	
+	/**
+	 * Used to set a JLabel's text. If the text is HTML, and the same text has been displayed before
+	 *  in the JLabel's font and foreground color, the previously parsed HTML is re-used. Otherwise the
+	 *  text is parsed once, and cached. Either way, the JLabel is given a View of its own.
+	 * NOTE: The JLabel's font and foreground color should be set before calling this method. Changing
+	 *  either afterwards causes Swing to parse the text again, in the new font or color.
+	 * @param label The JLabel who's text is to be set.
+	 * @param text A String describing the JLabel's new text.
+	 */
+	public static void setText(JLabel label, String text){
+		if(!BasicHTML.isHTMLString(text) || label.getClientProperty(BasicHTML.documentBaseKey) != null){
+			label.setText(text);
+			return;
+		}
+		Font  font  = label.getFont();
+		Color color = label.getForeground();
+		String key  = font.getName() + '|' + font.getStyle() + '|' + font.getSize2D() + '|'
+						+ ((color == null) ? 0 : color.getRGB()) + '|' + text;
+		ParsedText parsed = texts.get(key);
+		if(parsed == null){
+			//Only the Document and ViewFactory are kept. The parsing View belongs to label, and is discarded.
+			View view = BasicHTML.createHTMLView(label, text);
+			parsed = new ParsedText(view.getDocument(), view.getViewFactory());
+			texts.put(key, parsed);
+			parseCount++;
+		}else{
+			hitCount++;
+		}
+		//Prevent the JLabel from parsing the text itself, then give it a View of the cached Document.
+		label.putClientProperty(HTML_DISABLE, Boolean.TRUE);
+		try{
+			label.setText(text);
+		}finally{
+			label.putClientProperty(HTML_DISABLE, null);
+		}
+		label.putClientProperty(BasicHTML.propertyKey, new LabelView(label, parsed));
+		label.revalidate();
+		label.repaint();
+	}
+	
+	/**
+	 * Used to compile a prompt template. Placeholders are written as {0}, {1}, and so on, and may
+	 *  appear in any order, or more than once.
+	 * @param pattern A String describing the template.
+	 * @return The compiled Template.
+	 * @throws IllegalArgumentException Thrown if a placeholder is not closed, or is not a number.
+	 */
+	public static synchronized Template compile(String pattern){
+		templateCount++;
+		return new Template(pattern);
+	}
+	
+	/**
+	 * Used to obtain the number of times HTML text has been parsed by setText(JLabel, String).
+	 * @return A long indicating the number of HTML parses.
+	 */
+	public static long getParseCount(){
+		return parseCount;
+	}
+	
+	/**
+	 * Used to obtain the number of times setText(JLabel, String) re-used previously parsed HTML text.
+	 * @return A long indicating the number of cache hits.
+	 */
+	public static long getHitCount(){
+		return hitCount;
+	}
+	
+	/**
+	 * Used to obtain the number of Templates that have been compiled.
+	 * @return An int indicating the number of compiled Templates.
+	 */
+	public static synchronized int getTemplateCount(){
+		return templateCount;
+	}
+	
+	/**
+	 * Used to reset the counters returned by getParseCount() and getHitCount(). The cached HTML is kept.
+	 */
+	public static void resetCounters(){
+		parseCount = 0;
+		hitCount   = 0;
+	}
+	
+	/**
+	 * A data class that holds a parsed HTML text. A Document may be shown by any number of Views, so one
+	 *  ParsedText is shared by every JLabel that displays its text.
+	 * @author Kenneth Chin
+	 */
+	private static final class ParsedText{
+		private final Document    document; //The parsed HTML text.
+		private final ViewFactory factory;  //Creates the Views of document's Elements.
+		
+		/**
+		 * Creates a ParsedText.
+		 * @param document The parsed HTML text.
+		 * @param factory The ViewFactory that creates the Views of document's Elements.
+		 */
+		private ParsedText(Document document, ViewFactory factory){
+			this.document = document;
+			this.factory  = factory;
+		}
+	}
+	
+	/**
+	 * The root View given to a JLabel by setText(JLabel, String). It lays out and paints the JLabel's
+	 *  own Views of a cached Document, in the same way as the View Swing creates for HTML text.
+	 *  Because each JLabel has its own LabelView, sizing one JLabel's text does not affect another's.
+	 * @author Kenneth Chin
+	 */
+	private static final class LabelView extends View{
+		
+		private JLabel      host;    //The JLabel that displays this View.
+		private ViewFactory factory; //Creates the Views of the Document's Elements.
+		private View        view;    //The View of the Document's root Element.
+		private int         width;   //The width that view is currently laid out to.
+		
+		/**
+		 * Creates a LabelView of a parsed text, laid out to its preferred size.
+		 * @param host The JLabel that displays this View.
+		 * @param parsed The ParsedText to be displayed.
+		 */
+		private LabelView(JLabel host, ParsedText parsed){
+			super(null);
+			this.host    = host;
+			this.factory = parsed.factory;
+			this.view    = factory.create(parsed.document.getDefaultRootElement());
+			view.setParent(this);
+			setSize(view.getPreferredSpan(X_AXIS), view.getPreferredSpan(Y_AXIS));
+		}
+		
+		@Override
+		public AttributeSet getAttributes(){
+			return null;
+		}
+		
+		@Override
+		public float getPreferredSpan(int axis){
+			if(axis == X_AXIS)
+				return width;
+			return view.getPreferredSpan(axis);
+		}
+		
+		@Override
+		public float getMinimumSpan(int axis){
+			return view.getMinimumSpan(axis);
+		}
+		
+		@Override
+		public float getMaximumSpan(int axis){
+			return Integer.MAX_VALUE;
+		}
+		
+		@Override
+		public void preferenceChanged(View child, boolean width, boolean height){
+			host.revalidate();
+			host.repaint();
+		}
+		
+		@Override
+		public float getAlignment(int axis){
+			return view.getAlignment(axis);
+		}
+		
+		@Override
+		public void paint(Graphics g, Shape allocation){
+			Rectangle bounds = allocation.getBounds();
+			view.setSize(bounds.width, bounds.height);
+			view.paint(g, allocation);
+		}
+		
+		@Override
+		public int getViewCount(){
+			return 1;
+		}
+		
+		@Override
+		public View getView(int n){
+			return view;
+		}
+		
+		@Override
+		public Shape modelToView(int pos, Shape a, Position.Bias b) throws BadLocationException{
+			return view.modelToView(pos, a, b);
+		}
+		
+		@Override
+		public Shape modelToView(int p0, Position.Bias b0, int p1, Position.Bias b1, Shape a) throws BadLocationException{
+			return view.modelToView(p0, b0, p1, b1, a);
+		}
+		
+		@Override
+		public int viewToModel(float x, float y, Shape a, Position.Bias[] bias){
+			return view.viewToModel(x, y, a, bias);
+		}
+		
+		@Override
+		public Document getDocument(){
+			return view.getDocument();
+		}
+		
+		@Override
+		public int getStartOffset(){
+			return view.getStartOffset();
+		}
+		
+		@Override
+		public int getEndOffset(){
+			return view.getEndOffset();
+		}
+		
+		@Override
+		public Element getElement(){
+			return view.getElement();
+		}
+		
+		@Override
+		public void setSize(float width, float height){
+			this.width = (int) width;
+			view.setSize(width, height);
+		}
+		
+		@Override
+		public Container getContainer(){
+			return host;
+		}
+		
+		@Override
+		public ViewFactory getViewFactory(){
+			return factory;
+		}
+	}
+	
+	/**
+	 * A prompt template that has been split into its literal text and placeholders. Filling a Template
+	 *  only joins its parts; the pattern is not searched again.
+	 * @author Kenneth Chin
+	 *
+	 */
+	public static final class Template{
+		
+		private String[] literals;     //The literal text before each placeholder, and after the last.
+		private int[]    placeholders; //The argument index of each placeholder.
+		private int      length;       //The total length of the literal text.
+		
+		/**
+		 * Creates a Template from a pattern.
+		 * @param pattern A String describing the template.
+		 * @throws IllegalArgumentException Thrown if a placeholder is not closed, or is not a number.
+		 */
+		private Template(String pattern){
+			ArrayList<String>  literalList     = new ArrayList<String>();
+			ArrayList<Integer> placeholderList = new ArrayList<Integer>();
+			int start = 0;
+			int open  = pattern.indexOf('{');
+			while(open >= 0){
+				int close = pattern.indexOf('}', open);
+				if(close < 0)
+					throw new IllegalArgumentException("The placeholder at " + open + " of \"" + pattern + "\" is not closed.");
+				try{
+					placeholderList.add(Integer.parseInt(pattern.substring(open + 1, close)));
+				}catch(NumberFormatException e){
+					throw new IllegalArgumentException("The placeholder at " + open + " of \"" + pattern + "\" is not a number.");
+				}
+				literalList.add(pattern.substring(start, open));
+				start = close + 1;
+				open  = pattern.indexOf('{', start);
+			}
+			literalList.add(pattern.substring(start));
+			
+			literals     = literalList.toArray(new String[literalList.size()]);
+			placeholders = new int[placeholderList.size()];
+			for(int i = 0; i < placeholders.length; i++)
+				placeholders[i] = placeholderList.get(i);
+			for(String literal: literals)
+				length += literal.length();
+		}
+		
+		/**
+		 * Used to fill this Template's placeholders.
+		 * @param values The value of each placeholder, by index. Each value is converted by String.valueOf(Object).
+		 * @return A String of this Template, with each placeholder replaced by its value.
+		 * @throws IndexOutOfBoundsException Thrown if a placeholder's index has no value.
+		 */
+		public String fill(Object... values){
+			StringBuilder text = new StringBuilder(length + (16 * placeholders.length));
+			for(int i = 0; i < placeholders.length; i++){
+				text.append(literals[i]);
+				text.append(String.valueOf(values[placeholders[i]]));
+			}
+			text.append(literals[literals.length - 1]);
+			return text.toString();
+		}
+	}
+}
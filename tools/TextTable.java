@@ -0,0 +1,230 @@
+/**
+ * Name:         Math Helper
+ * Version:      1.0.0
+ * Version Date: 04/30/2015
+ * Team:         "Cool Math" - Consists of Kenneth Chin, Chris Moraal, Elena Eroshkina, and Austin Clark
+ * Purpose:      The "Math Helper" software is used to aid parents and teachers with the teaching and testing
+ *                 of students, grades PreK through Grade 4, in the subject of Mathematics. The lessons and
+ *                 tests provided cover a subset of skills as specified by the Massachusetts Department of
+ *                 Education's (DOE) website, found at:
+ *                              http://www.doe.mass.edu/frameworks/math/2000/toc.html
+ *                 The DOE category, Number Sense and Operations for Grades Pre-K through Grade 4,
+ *                 is the subset that the "Math Helper" software covers.
+ *                 
+ *               Features and services of the "Math Helper" software include, Login/Logout mechanics,
+ *                 practice and formal testing, and tutorials of the above-specified skills. Additional
+ *                 features include test completion results, test completion summaries, and test
+ *                 completion rewards.
+ */
+package project.tools;
+
+import java.awt.Color;
+import java.awt.Dimension;
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+
+import javax.swing.JComponent;
+
+/**
+ * This class is a lightweight, custom-painted table of text. Each cell is drawn directly with a single
+ *  Font, so no JLabels or HTML views are created. Text widths are measured once, with the cached
+ *  FontMetrics of FontMaker.getFontMetrics(Font), and separator images are drawn beneath each row by
+ *  the table itself.
+ * Only the rows that intersect the current clip are painted, so a TextTable may also be placed in a
+ *  JScrollPane to show hundreds of rows.
+ * NOTE: Like ContentPane, this class does not use a Layout Manager. Its preferred width is set by its
+ *  constructor, and its preferred height is the height of all of its rows.
+ * @author Kenneth Chin
+ *
+ */
+public class TextTable extends JComponent{
+	
+	/**
+	 * The serialVersionUID for this Serializable class.
+	 */
+	private static final long serialVersionUID = 1L;
+	
+	private Font        font;        //The Font used to draw every cell.
+	private FontMetrics metrics;     //The cached FontMetrics of font.
+	private int         ascent;      //The cached ascent of font.
+	private int         rowHeight;   //The distance between the top of one row and the next.
+	private int         topPadding;  //The distance from the top of this table to the top of the first row.
+	
+	//Column x-origins, widths, and alignment flags, in column order.
+	private ArrayList<int[]>  columns  = new ArrayList<int[]>();
+	private ArrayList<Boolean> centered = new ArrayList<Boolean>();
+	
+	private RowSource rowSource;     //The source of every cell's text.
+	private int[][]   cellWidths;    //The measured pixel width of each cell, by row. Filled as rows are painted.
+	
+	private BufferedImage separator; //The image drawn beneath each row except the last, or null for none.
+	private int separatorX;          //The separator's x-origin.
+	private int separatorOffset;     //The separator's y-origin relative to the top of its row.
+	
+	/**
+	 * Creates an empty TextTable.
+	 * @param width An int indicating the preferred width of this table.
+	 * @param font The Font used to draw every cell.
+	 * @param textColor The Color used to draw every cell.
+	 * @param topPadding An int indicating the distance from the top of this table to the top of the first row.
+	 * @param rowPadding An int indicating the vertical space between rows.
+	 */
+	public TextTable(int width, Font font, Color textColor, int topPadding, int rowPadding){
+		this.font       = font;
+		this.metrics    = FontMaker.getFontMetrics(font);
+		this.ascent     = metrics.getAscent();
+		this.rowHeight  = metrics.getHeight() + rowPadding;
+		this.topPadding = topPadding;
+		setForeground(textColor);
+		setFont(font);
+		setOpaque(false);
+		setPreferredSize(new Dimension(width, topPadding));
+	}
+	
+	/**
+	 * Used to add a column to the right of all existing columns.
+	 * @param xOrigin An int indicating the column's x-origin.
+	 * @param width An int indicating the column's width. Used to center text.
+	 * @param isCentered A boolean indicating whether text is centered in the column (true), or
+	 *  left-aligned to xOrigin (false).
+	 */
+	public void addColumn(int xOrigin, int width, boolean isCentered){
+		columns.add(new int[]{xOrigin, width});
+		centered.add(isCentered);
+	}
+	
+	/**
+	 * Used to set the image that is drawn beneath each row, except the last row.
+	 * @param separator A BufferedImage of the separator, or null for no separators.
+	 * @param xOrigin An int indicating the separator's x-origin.
+	 * @param rowOffset An int indicating the separator's y-origin, relative to the top of its row.
+	 */
+	public void setSeparator(BufferedImage separator, int xOrigin, int rowOffset){
+		this.separator       = separator;
+		this.separatorX      = xOrigin;
+		this.separatorOffset = rowOffset;
+		repaint();
+	}
+	
+	/**
+	 * Used to set the rows of this table. The preferred height of this table is changed to fit every row.
+	 * @param rows A String array of rows, where each row is a String array of cells, in column order.
+	 */
+	public void setRows(final String[][] rows){
+		setRowSource(new RowSource(){
+			@Override
+			public int getRowCount(){
+				return rows.length;
+			}
+			@Override
+			public String getCell(int row, int column){
+				return (column < rows[row].length) ? rows[row][column] : null;
+			}
+		});
+	}
+	
+	/**
+	 * Used to set the source of this table's rows. Cells are only requested when their row is painted.
+	 *  The preferred height of this table is changed to fit every row.
+	 * @param rowSource The RowSource of this table's cells.
+	 */
+	public void setRowSource(RowSource rowSource){
+		this.rowSource  = rowSource;
+		this.cellWidths = new int[rowSource.getRowCount()][];
+		setPreferredSize(new Dimension(getPreferredSize().width, topPadding + (cellWidths.length * rowHeight)));
+		revalidate();
+		repaint();
+	}
+	
+	/**
+	 * Used to obtain the distance between the top of one row and the next.
+	 * @return An int indicating the height of each row, including padding.
+	 */
+	public int getRowHeight(){
+		return rowHeight;
+	}
+	
+	@Override
+	protected void paintComponent(Graphics g){
+		if(rowSource == null || cellWidths.length == 0)
+			return;
+		Graphics2D g2 = (Graphics2D) g.create();
+		g2.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+		g2.setFont(font);
+		g2.setColor(getForeground());
+		
+		//Only paint the rows that intersect the clip.
+		Rectangle clip = g2.getClipBounds();
+		if(clip == null)
+			clip = new Rectangle(0, 0, getWidth(), getHeight());
+		int extra    = (separator == null) ? 0 : Math.max(0, separatorOffset + separator.getHeight() - rowHeight);
+		int firstRow = Math.max(0, (clip.y - topPadding - extra) / rowHeight);
+		int lastRow  = Math.min(cellWidths.length - 1, (clip.y + clip.height - topPadding) / rowHeight);
+		
+		for(int row = firstRow; row <= lastRow; row++){
+			int rowTop = topPadding + (row * rowHeight);
+			if(separator != null && row < cellWidths.length - 1)
+				g2.drawImage(separator, separatorX, rowTop + separatorOffset, null);
+			int[] widths = getCellWidths(row);
+			for(int column = 0; column < widths.length; column++){
+				String text = rowSource.getCell(row, column);
+				if(text == null)
+					continue;
+				int[] bounds = columns.get(column);
+				int x = bounds[0];
+				if(centered.get(column))
+					x += (bounds[1] - widths[column]) / 2;
+				g2.drawString(text, x, rowTop + ascent);
+			}
+		}
+		g2.dispose();
+	}
+	
+	/**
+	 * A helper method used to obtain the measured width of each cell in a row. Cells are measured
+	 *  the first time their row is painted.
+	 * @param row An int indicating the row.
+	 * @return An int array of cell widths, in column order.
+	 */
+	private int[] getCellWidths(int row){
+		int[] widths = cellWidths[row];
+		if(widths == null){
+			widths = new int[columns.size()];
+			for(int column = 0; column < widths.length; column++){
+				String text = rowSource.getCell(row, column);
+				widths[column] = (text == null) ? 0 : metrics.stringWidth(text);
+			}
+			cellWidths[row] = widths;
+		}
+		return widths;
+	}
+	
+	/**
+	 * An interface used to supply a TextTable's cells on demand. This allows very large tables to be
+	 *  shown without creating every String up front.
+	 * @author Kenneth Chin
+	 *
+	 */
+	public interface RowSource{
+		
+		/**
+		 * Used to obtain the number of rows in the table.
+		 * @return An int indicating the number of rows.
+		 */
+		public int getRowCount();
+		
+		/**
+		 * Used to obtain the text of a single cell.
+		 * @param row An int indicating the cell's row.
+		 * @param column An int indicating the cell's column.
+		 * @return A String of the cell's text, or null for an empty cell.
+		 */
+		public String getCell(int row, int column);
+	}
+}